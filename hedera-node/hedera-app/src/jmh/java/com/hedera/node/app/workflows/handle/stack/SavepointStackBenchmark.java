@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.stack;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
+import com.hedera.node.app.blocks.impl.KVStateChangeListener;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.metrics.StoreMetricsServiceImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.node.config.types.StreamMode;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.state.spi.WritableKVState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link SavepointStackImpl#createSavepoint()}, {@link SavepointStackImpl#commit()}, and
+ * {@link SavepointStackImpl#rollback()} for chains of nested savepoints, like the ones created by child dispatches of
+ * contract calls to system contracts. Every savepoint reads and writes a few accounts. Run with {@code -prof gc} to
+ * compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SavepointStackBenchmark {
+    private static final String SERVICE_NAME = "BenchmarkService";
+    private static final String STATE_KEY = "ACCOUNTS";
+    private static final int NUM_ACCOUNTS = 100_000;
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.workflows.handle.stack.SavepointStackBenchmark"});
+    }
+
+    @Param({"1", "8", "32"})
+    private int depth;
+
+    @Param({"4"})
+    private int writesPerSavepoint;
+
+    private final SplittableRandom random = new SplittableRandom(1_234_567L);
+
+    private AccountID[] accountIds;
+    private SavepointStackImpl stack;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Map<AccountID, Account> accounts = new HashMap<>();
+        accountIds = new AccountID[NUM_ACCOUNTS];
+        for (int i = 0; i < NUM_ACCOUNTS; i++) {
+            accountIds[i] = AccountID.newBuilder().accountNum(1001L + i).build();
+            accounts.put(
+                    accountIds[i],
+                    Account.newBuilder().accountId(accountIds[i]).tinybarBalance(i).build());
+        }
+        final var state = new FakeState().addService(SERVICE_NAME, Map.of(STATE_KEY, accounts));
+        final var config = HederaTestConfigBuilder.createConfig();
+        final var boundaryStateChangeListener =
+                new BoundaryStateChangeListener(new StoreMetricsServiceImpl(new NoOpMetrics()), () -> config);
+        stack = SavepointStackImpl.newRootStack(
+                state, 10, 50, boundaryStateChangeListener, new KVStateChangeListener(), StreamMode.RECORDS);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void nestedCommit(@NonNull final Blackhole blackhole) {
+        for (int i = 0; i < depth; i++) {
+            stack.createSavepoint();
+            modifyAccounts(blackhole);
+        }
+        for (int i = 0; i < depth; i++) {
+            stack.commit();
+        }
+        // Discard the changes committed to the root savepoint, so the base state never changes
+        stack.rollbackFullStack();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void nestedRollback(@NonNull final Blackhole blackhole) {
+        for (int i = 0; i < depth; i++) {
+            stack.createSavepoint();
+            modifyAccounts(blackhole);
+        }
+        for (int i = 0; i < depth; i++) {
+            stack.rollback();
+        }
+        stack.rollbackFullStack();
+    }
+
+    private void modifyAccounts(@NonNull final Blackhole blackhole) {
+        final WritableKVState<AccountID, Account> accounts =
+                stack.getWritableStates(SERVICE_NAME).get(STATE_KEY);
+        for (int i = 0; i < writesPerSavepoint; i++) {
+            final var accountId = accountIds[random.nextInt(NUM_ACCOUNTS)];
+            final var account = accounts.get(accountId);
+            blackhole.consume(account);
+            accounts.put(
+                    accountId,
+                    account.copyBuilder()
+                            .tinybarBalance(account.tinybarBalance() + 1)
+                            .build());
+        }
+    }
+}
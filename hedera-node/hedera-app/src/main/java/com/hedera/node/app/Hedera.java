@@ -922,6 +922,8 @@ public final class Hedera
                         creator.accountId(),
                         transactions.stream(),
                         simplifiedStateSignatureTxnCallback);
+        // Pre-handle usually runs several rounds ahead of handle, so this is a good time to prefetch
+        daggerApp.cacheWarmer().prefetch(transactions);
     }
 
     public void onNewRecoveredState() {
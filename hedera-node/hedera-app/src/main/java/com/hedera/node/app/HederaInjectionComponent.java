@@ -56,6 +56,7 @@ import com.hedera.node.app.throttle.ThrottleServiceModule;
 import com.hedera.node.app.workflows.FacilityInitModule;
 import com.hedera.node.app.workflows.WorkflowsInjectionModule;
 import com.hedera.node.app.workflows.handle.HandleWorkflow;
+import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
 import com.hedera.node.app.workflows.ingest.SubmissionManager;
 import com.hedera.node.app.workflows.prehandle.PreHandleWorkflow;
@@ -124,6 +125,8 @@ public interface HederaInjectionComponent {
 
     HandleWorkflow handleWorkflow();
 
+    CacheWarmer cacheWarmer();
+
     IngestWorkflow ingestWorkflow();
 
     @UserQueries
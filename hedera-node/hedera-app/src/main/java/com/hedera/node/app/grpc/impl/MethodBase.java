@@ -128,7 +128,8 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
             final var responseBuffer = BUFFER_THREAD_LOCAL.get();
             responseBuffer.reset();
 
-            // Convert the request BufferedData to a Bytes instance without copying the bytes
+            // Copy the request out of the reused thread-local buffer. This is the only copy of the request bytes,
+            // the resulting Bytes is immutable and passed on to the platform as it is
             final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
 
             // Call the workflow
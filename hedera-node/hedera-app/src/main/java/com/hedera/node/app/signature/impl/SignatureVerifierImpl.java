@@ -32,6 +32,7 @@ import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -82,8 +83,11 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             ecPreparer = createPreparerForEC(signedBytes, messageType);
         }
 
-        // Gather each TransactionSignature to send to the platform and the resulting SignatureVerificationFutures
+        // Gather each TransactionSignature to send to the platform and the resulting SignatureVerificationFutures.
+        // All signatures are sent to the platform in a single call, which saves per-signature dispatch overhead. The
+        // platform still verifies them one by one
         final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
+        final var txSigs = new ArrayList<TransactionSignature>(sigs.size());
         for (ExpandedSignaturePair sigPair : sigs) {
             final var kind = sigPair.sigPair().signature().kind();
             final var preparer =
@@ -100,12 +104,16 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             preparer.addSignature(sigPair.signature());
             preparer.addKey(sigPair.keyBytes());
             final TransactionSignature txSig = preparer.prepareTransactionSignature();
-            cryptoEngine.verifySync(txSig);
+            txSigs.add(txSig);
             final SignatureVerificationFuture future =
                     new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
             futures.put(sigPair.key(), future);
         }
 
+        if (!txSigs.isEmpty()) {
+            cryptoEngine.verifySync(txSigs);
+        }
+
         return futures;
     }
 
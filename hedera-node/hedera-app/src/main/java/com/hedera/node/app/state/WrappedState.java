@@ -95,4 +95,15 @@ public class WrappedState implements State {
             writableStates.commit();
         }
     }
+
+    /**
+     * Releases the buffers holding modifications to the underlying {@link State}, so they can be reused by other
+     * wrapped states. Must only be called once this {@link WrappedState} was committed, or to discard its
+     * modifications. Afterward, it behaves as if it was never modified.
+     */
+    public void release() {
+        for (final var writableStates : writableStatesMap.values()) {
+            writableStates.release();
+        }
+    }
 }
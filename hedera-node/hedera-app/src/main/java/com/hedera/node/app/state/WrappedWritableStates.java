@@ -129,4 +129,14 @@ public class WrappedWritableStates implements WritableStates {
             terminalStates.commit();
         }
     }
+
+    /**
+     * Returns the modification buffers of all wrapped key/value states to their pool. Must only be called once all
+     * modifications have been committed or are to be discarded.
+     */
+    void release() {
+        for (WrappedWritableKVState<?, ?> kvState : writableKVStateMap.values()) {
+            kvState.releaseModifications();
+        }
+    }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.throttle;
+
+import static com.hedera.node.app.throttle.ThrottleAccumulator.isGasThrottled;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.state.throttles.ThrottleUsageSnapshot;
+import com.hedera.hapi.node.transaction.Query;
+import com.hedera.hapi.node.transaction.ThrottleDefinitions;
+import com.hedera.node.app.hapi.utils.throttles.DeterministicThrottle;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.swirlds.state.State;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The frontend throttle of a node, split into shards, so ingest threads don't all contend for a single lock. Every
+ * shard is a {@link ThrottleAccumulator} with an equal slice of the node's capacity, guarded by its own lock. A
+ * transaction or query is checked against the shard of the calling thread first, and only if that shard throttles it,
+ * against the other shards in turn. Since the capacity of all shards sums up to the capacity of the node, the
+ * configured limits are preserved, except that throttle buckets may round a slice up to fit at least one transaction.
+ *
+ * <p>Shards used by busy threads fill up faster than others. To let a single busy thread use the capacity of the
+ * whole node, the used capacity of every throttle is periodically spread evenly across all shards. As a result, the
+ * usage of every shard is close to the usage of the node, and the metrics of the first shard represent the node.
+ *
+ * <p>Gas is not split. Functions throttled by gas are always checked against the first shard, the only one whose gas
+ * throttle is used, so a single contract call may still use the whole gas capacity of the node.
+ */
+public class ShardedThrottleAccumulator {
+
+    private final InstantSource instantSource;
+    private final Shard[] shards;
+    private final long rebalanceIntervalMillis;
+
+    private final ReentrantLock rebalanceLock = new ReentrantLock();
+    private final AtomicLong nextRebalanceMillis = new AtomicLong();
+
+    /**
+     * Constructor of {@code ShardedThrottleAccumulator}.
+     *
+     * @param instantSource the source of the current time
+     * @param shards the throttle accumulators of all shards, each configured with the same slice of the capacity
+     * @param rebalanceInterval how often to spread used capacity evenly across shards
+     * @throws IllegalArgumentException if no shards are given
+     */
+    public ShardedThrottleAccumulator(
+            @NonNull final InstantSource instantSource,
+            @NonNull final List<ThrottleAccumulator> shards,
+            @NonNull final Duration rebalanceInterval) {
+        this.instantSource = requireNonNull(instantSource);
+        requireNonNull(shards);
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one throttle shard is required");
+        }
+        this.shards = shards.stream().map(Shard::new).toArray(Shard[]::new);
+        this.rebalanceIntervalMillis = Math.max(1, requireNonNull(rebalanceInterval).toMillis());
+    }
+
+    /**
+     * Updates the throttle requirements for the given transaction and returns whether the transaction should be
+     * throttled for the current time.
+     *
+     * @param txnInfo the transaction to update the throttle requirements for
+     * @param state the current state of the node
+     * @return whether the transaction should be throttled
+     */
+    public boolean shouldThrottle(@NonNull final TransactionInfo txnInfo, @NonNull final State state) {
+        requireNonNull(txnInfo);
+        return shouldThrottle(
+                txnInfo.functionality(), (throttle, now) -> throttle.checkAndEnforceThrottle(txnInfo, now, state));
+    }
+
+    /**
+     * Updates the throttle requirements for the given query and returns whether the query should be throttled for
+     * the current time.
+     *
+     * @param queryFunction the functionality of the query
+     * @param query the query to update the throttle requirements for
+     * @param state the current state of the node
+     * @param queryPayerId the payer id of the query
+     * @return whether the query should be throttled
+     */
+    public boolean shouldThrottle(
+            @NonNull final HederaFunctionality queryFunction,
+            @NonNull final Query query,
+            @NonNull final State state,
+            @Nullable final AccountID queryPayerId) {
+        requireNonNull(queryFunction);
+        requireNonNull(query);
+        return shouldThrottle(
+                queryFunction,
+                (throttle, now) -> throttle.checkAndEnforceThrottle(queryFunction, now, query, state, queryPayerId));
+    }
+
+    /**
+     * Rebuilds the throttles of all shards based on the given throttle definitions.
+     *
+     * @param defs the throttle definitions
+     */
+    public void rebuildFor(@NonNull final ThrottleDefinitions defs) {
+        for (final var shard : shards) {
+            shard.throttle.rebuildFor(defs);
+        }
+    }
+
+    /**
+     * Rebuilds the gas throttles of all shards based on the current configuration.
+     */
+    public void applyGasConfig() {
+        for (final var shard : shards) {
+            shard.throttle.applyGasConfig();
+        }
+    }
+
+    /**
+     * Updates the throttle metrics, which are only registered for the first shard.
+     */
+    public void updateAllMetrics() {
+        shards[0].throttle.updateAllMetrics();
+    }
+
+    /**
+     * Undoes the claimed capacity for a number of transactions of the same functionality. The capacity is returned
+     * to the first shard, and spread across all shards with the next rebalance.
+     *
+     * @param n the number of transactions to consider
+     * @param function the functionality type of the transactions
+     */
+    public void leakCapacityForNOfUnscaled(final int n, @NonNull final HederaFunctionality function) {
+        final var shard = shards[0];
+        shard.lock.lock();
+        try {
+            shard.throttle.leakCapacityForNOfUnscaled(n, function);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of shards.
+     *
+     * @return the number of shards
+     */
+    public int numShards() {
+        return shards.length;
+    }
+
+    private boolean shouldThrottle(@NonNull final HederaFunctionality function, @NonNull final ThrottleCheck check) {
+        maybeRebalance();
+        if (shards.length == 1 || isGasThrottled(function)) {
+            return shards[0].shouldThrottle(check, instantSource);
+        }
+        final int home = (int) (Thread.currentThread().threadId() % shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            if (!shards[(home + i) % shards.length].shouldThrottle(check, instantSource)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void maybeRebalance() {
+        if (shards.length == 1) {
+            return;
+        }
+        final long nowMillis = instantSource.millis();
+        final long next = nextRebalanceMillis.get();
+        if (nowMillis < next
+                || !nextRebalanceMillis.compareAndSet(next, nowMillis + rebalanceIntervalMillis)
+                || !rebalanceLock.tryLock()) {
+            return;
+        }
+        try {
+            rebalance();
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    /**
+     * Spreads the used capacity of every throttle evenly across all shards. All shards are locked in order, which
+     * can't deadlock, as other threads never hold more than one shard lock.
+     */
+    void rebalance() {
+        for (final var shard : shards) {
+            shard.lock.lock();
+        }
+        try {
+            final var throttles = shards[0].throttle.allActiveThrottles();
+            for (final var shard : shards) {
+                if (shard.throttle.allActiveThrottles().size() != throttles.size()) {
+                    // The throttles are being rebuilt
+                    return;
+                }
+            }
+            // Leak all throttles until the same time, so their usage is comparable
+            Instant now = instantSource.instant();
+            for (final var shard : shards) {
+                now = now.isBefore(shard.lastDecisionTime) ? shard.lastDecisionTime : now;
+            }
+            for (final var shard : shards) {
+                shard.lastDecisionTime = now;
+                for (final var throttle : shard.throttle.allActiveThrottles()) {
+                    throttle.allow(0, now);
+                }
+            }
+            final var timestamp = new Timestamp(now.getEpochSecond(), now.getNano());
+            for (int i = 0; i < throttles.size(); i++) {
+                long totalUsed = 0;
+                for (final var shard : shards) {
+                    totalUsed += shard.throttle.allActiveThrottles().get(i).used();
+                }
+                final long share = totalUsed / shards.length;
+                final long remainder = totalUsed % shards.length;
+                for (int s = 0; s < shards.length; s++) {
+                    final DeterministicThrottle throttle =
+                            shards[s].throttle.allActiveThrottles().get(i);
+                    throttle.resetUsageTo(new ThrottleUsageSnapshot(share + (s < remainder ? 1 : 0), timestamp));
+                }
+            }
+        } finally {
+            for (int s = shards.length - 1; s >= 0; s--) {
+                shards[s].lock.unlock();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrottleCheck {
+        boolean shouldThrottle(@NonNull ThrottleAccumulator throttle, @NonNull Instant now);
+    }
+
+    private static final class Shard {
+        private final ThrottleAccumulator throttle;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        @NonNull
+        private Instant lastDecisionTime = Instant.EPOCH;
+
+        private Shard(@NonNull final ThrottleAccumulator throttle) {
+            this.throttle = requireNonNull(throttle);
+        }
+
+        private boolean shouldThrottle(@NonNull final ThrottleCheck check, @NonNull final InstantSource instantSource) {
+            lock.lock();
+            try {
+                // Decision times must never go backward, even if the clock does
+                final var now = instantSource.instant();
+                lastDecisionTime = now.isBefore(lastDecisionTime) ? lastDecisionTime : now;
+                return check.shouldThrottle(throttle, lastDecisionTime);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -21,38 +21,46 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.transaction.Query;
-import com.hedera.node.app.throttle.annotations.IngestThrottle;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.time.Instant;
+import java.time.Duration;
 import java.time.InstantSource;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 /**
  * Keeps track of the amount of usage of different TPS throttle categories and gas, and returns whether a given
  * transaction or query should be throttled based on that.
- * Meant to be used in multithreaded context
+ * Meant to be used in multithreaded context, the frontend throttle is split into shards with separate locks, see
+ * {@link ShardedThrottleAccumulator}.
  */
 @Singleton
 public class SynchronizedThrottleAccumulator {
 
-    private final InstantSource instantSource;
-    private final ThrottleAccumulator frontendThrottle;
-
-    @NonNull
-    private Instant lastDecisionTime = Instant.EPOCH;
+    private final ShardedThrottleAccumulator frontendThrottle;
 
     @Inject
-    public SynchronizedThrottleAccumulator(
-            @NonNull final InstantSource instantSource,
-            @NonNull @IngestThrottle final ThrottleAccumulator frontendThrottle) {
-        this.instantSource = requireNonNull(instantSource);
+    public SynchronizedThrottleAccumulator(@NonNull final ShardedThrottleAccumulator frontendThrottle) {
         this.frontendThrottle = requireNonNull(frontendThrottle, "frontendThrottle must not be null");
     }
 
+    /**
+     * Creates a {@code SynchronizedThrottleAccumulator} with a single frontend throttle shard.
+     *
+     * @param instantSource the source of the current time
+     * @param frontendThrottle the frontend throttle
+     */
+    public SynchronizedThrottleAccumulator(
+            @NonNull final InstantSource instantSource, @NonNull final ThrottleAccumulator frontendThrottle) {
+        this(new ShardedThrottleAccumulator(
+                instantSource,
+                List.of(requireNonNull(frontendThrottle, "frontendThrottle must not be null")),
+                Duration.ZERO));
+    }
+
     /**
      * Updates the throttle requirements for the given transaction and returns whether the transaction
      * should be throttled for the current time(Instant.now).
@@ -61,9 +69,8 @@ public class SynchronizedThrottleAccumulator {
      * @param state the current state of the node
      * @return whether the transaction should be throttled
      */
-    public synchronized boolean shouldThrottle(@NonNull TransactionInfo txnInfo, State state) {
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state);
+    public boolean shouldThrottle(@NonNull TransactionInfo txnInfo, State state) {
+        return frontendThrottle.shouldThrottle(txnInfo, state);
     }
 
     /**
@@ -76,18 +83,11 @@ public class SynchronizedThrottleAccumulator {
      * @param queryPayerId the payer id of the query
      * @return whether the query should be throttled
      */
-    public synchronized boolean shouldThrottle(
+    public boolean shouldThrottle(
             @NonNull final HederaFunctionality queryFunction,
             @NonNull final Query query,
             @NonNull final State state,
             @Nullable AccountID queryPayerId) {
-        requireNonNull(query);
-        requireNonNull(queryFunction);
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(queryFunction, lastDecisionTime, query, state, queryPayerId);
-    }
-
-    private void setDecisionTime(@NonNull final Instant time) {
-        lastDecisionTime = time.isBefore(lastDecisionTime) ? lastDecisionTime : time;
+        return frontendThrottle.shouldThrottle(queryFunction, query, state, queryPayerId);
     }
 }
@@ -29,6 +29,7 @@ import com.hedera.node.app.throttle.annotations.GasThrottleMultiplier;
 import com.hedera.node.app.throttle.annotations.IngestThrottle;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.FeesConfig;
+import com.hedera.node.config.data.HederaConfig;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.system.SoftwareVersion;
 import com.swirlds.state.lifecycle.info.NetworkInfo;
@@ -36,6 +37,9 @@ import dagger.Binds;
 import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
@@ -76,8 +80,9 @@ public interface ThrottleServiceModule {
             @NonNull final Metrics metrics,
             @NonNull Function<SemanticVersion, SoftwareVersion> softwareVersionFactory) {
         final var throttleMetrics = new ThrottleMetrics(metrics, FRONTEND_THROTTLE);
+        final int numShards = ingestThrottleShards(configProvider);
         final IntSupplier frontendThrottleSplit =
-                () -> networkInfo.addressBook().size();
+                () -> networkInfo.addressBook().size() * numShards;
         return new ThrottleAccumulator(
                 frontendThrottleSplit,
                 configProvider::getConfiguration,
@@ -87,6 +92,43 @@ public interface ThrottleServiceModule {
                 softwareVersionFactory);
     }
 
+    @Provides
+    @Singleton
+    static ShardedThrottleAccumulator provideShardedIngestThrottleAccumulator(
+            @NonNull final NetworkInfo networkInfo,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final InstantSource instantSource,
+            @NonNull @IngestThrottle final ThrottleAccumulator ingestThrottle,
+            @NonNull Function<SemanticVersion, SoftwareVersion> softwareVersionFactory) {
+        final int numShards = ingestThrottleShards(configProvider);
+        final IntSupplier frontendThrottleSplit =
+                () -> networkInfo.addressBook().size() * numShards;
+        // Only the first shard reports metrics, the others are kept at the same usage by rebalancing
+        final List<ThrottleAccumulator> shards = new ArrayList<>(numShards);
+        shards.add(ingestThrottle);
+        for (int i = 1; i < numShards; i++) {
+            shards.add(new ThrottleAccumulator(
+                    configProvider::getConfiguration,
+                    frontendThrottleSplit,
+                    FRONTEND_THROTTLE,
+                    softwareVersionFactory));
+        }
+        final var rebalanceMs = configProvider
+                .getConfiguration()
+                .getConfigData(HederaConfig.class)
+                .workflowIngestThrottleRebalanceMs();
+        return new ShardedThrottleAccumulator(instantSource, shards, Duration.ofMillis(rebalanceMs));
+    }
+
+    private static int ingestThrottleShards(@NonNull final ConfigProvider configProvider) {
+        return Math.max(
+                1,
+                configProvider
+                        .getConfiguration()
+                        .getConfigData(HederaConfig.class)
+                        .workflowIngestThrottleShards());
+    }
+
     @Provides
     @Singleton
     @CryptoTransferThrottleMultiplier
@@ -18,6 +18,7 @@ package com.hedera.node.app.workflows.handle;
 
 import static com.hedera.node.app.info.DiskStartupNetworks.tryToExport;
 
+import com.hedera.hapi.node.base.SemanticVersion;
 import com.hedera.hapi.node.state.roster.Roster;
 import com.hedera.node.app.hints.HintsService;
 import com.hedera.node.app.hints.handlers.HintsHandlers;
@@ -32,13 +33,17 @@ import com.hedera.node.app.service.schedule.impl.handlers.ScheduleHandlers;
 import com.hedera.node.app.service.token.impl.handlers.TokenHandlers;
 import com.hedera.node.app.service.util.impl.handlers.UtilHandlers;
 import com.hedera.node.app.state.WorkingStateAccessor;
+import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.workflows.dispatcher.TransactionHandlers;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.CacheConfig;
 import com.hedera.node.internal.network.Network;
 import com.hedera.node.internal.network.NodeMetadata;
 import com.swirlds.common.utility.AutoCloseableWrapper;
+import com.swirlds.platform.system.Platform;
+import com.swirlds.platform.system.SoftwareVersion;
 import com.swirlds.state.State;
+import com.swirlds.state.merkle.MerkleStateRoot;
 import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -46,6 +51,7 @@ import java.nio.file.Path;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -92,6 +98,20 @@ public interface HandleWorkflowModule {
         return () -> new AutoCloseableWrapper<>(workingStateAccessor.getState(), NO_OP);
     }
 
+    @Provides
+    @Named("LatestImmutableStoreFactory")
+    static Supplier<AutoCloseableWrapper<ReadableStoreFactory>> provideLatestImmutableStoreFactory(
+            @NonNull final Platform platform,
+            @NonNull final Function<SemanticVersion, SoftwareVersion> softwareVersionFactory) {
+        return () -> {
+            final AutoCloseableWrapper<MerkleStateRoot<?>> wrapper =
+                    platform.getLatestImmutableState("CacheWarmer prefetch");
+            final State state = wrapper.get();
+            final var storeFactory = state == null ? null : new ReadableStoreFactory(state, softwareVersionFactory);
+            return new AutoCloseableWrapper<>(storeFactory, wrapper::close);
+        };
+    }
+
     @Provides
     @Named("CacheWarmer")
     static Executor provideCacheWarmerExecutor(@NonNull final ConfigProvider configProvider) {
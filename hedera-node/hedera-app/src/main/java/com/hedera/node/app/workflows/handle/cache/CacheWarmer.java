@@ -19,9 +19,13 @@ package com.hedera.node.app.workflows.handle.cache;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.SemanticVersion;
 import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
@@ -31,7 +35,14 @@ import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.prehandle.PreHandleResult;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.node.config.data.StatsConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.utility.AutoCloseableWrapper;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.system.Round;
 import com.swirlds.platform.system.SoftwareVersion;
 import com.swirlds.platform.system.events.ConsensusEvent;
@@ -39,8 +50,14 @@ import com.swirlds.platform.system.transaction.Transaction;
 import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -49,27 +66,141 @@ import javax.inject.Singleton;
  * This class is used to warm up the cache. It is called at the beginning of a round with the current state
  * and the round. It will start a background thread which iterates through all transactions and calls the
  * {@link TransactionHandler#warm} method.
+ * <p>
+ * If lookahead is enabled, transactions are also prefetched right after they are pre-handled, which usually happens
+ * several rounds before they reach consensus. Prefetches read the latest immutable state, which is reserved until
+ * the prefetch is complete. At most {@link CacheConfig#warmMaxInFlight()} transactions are
+ * prefetched at the same time, further transactions are left to be warmed at the start of their round. When a round
+ * is handled, every transaction, whose prefetch is complete, is counted as a warm hit and is not warmed again.
+ * Prefetched transactions, which are not handled within {@link CacheConfig#warmLookaheadRounds()} rounds, for
+ * example, because their events became stale, are counted as wasted prefetches.
  */
 @Singleton
 public class CacheWarmer {
 
+    private static final RunningAverageMetric.Config WARM_HIT_PERCENT_CONFIG = new RunningAverageMetric.Config(
+                    "app", "cacheWarmHitPercent")
+            .withDescription("percentage of handled transactions per round, which were prefetched before the round")
+            .withFormat("%,13.2f");
+
+    private static final Counter.Config WASTED_PREFETCHES_CONFIG = new Counter.Config(
+                    "app", "cacheWarmWastedPrefetches")
+            .withDescription("number of prefetched transactions, which were not handled within the lookahead window");
+
+    private static final Counter.Config DROPPED_PREFETCHES_CONFIG = new Counter.Config(
+                    "app", "cacheWarmDroppedPrefetches")
+            .withDescription("number of transactions not prefetched, because too many prefetches were in flight");
+
     private final TransactionChecker checker;
     private final TransactionDispatcher dispatcher;
     private final Executor executor;
+    private final ConfigProvider configProvider;
+    private final Supplier<AutoCloseableWrapper<ReadableStoreFactory>> latestImmutableStoreFactory;
 
     @NonNull
     private final Function<SemanticVersion, SoftwareVersion> softwareVersionFactory;
 
+    private final RunningAverageMetric warmHitPercent;
+    private final Counter wastedPrefetches;
+    private final Counter droppedPrefetches;
+
+    /**
+     * Prefetches of transactions, which have been pre-handled, but not handled yet
+     */
+    private final Map<TransactionID, Prefetch> prefetches = new ConcurrentHashMap<>();
+    /**
+     * Bounds the number of transactions being prefetched at the same time
+     */
+    private final Semaphore inFlightPermits;
+    /**
+     * The number of the last round passed to {@link #warm(State, Round)}
+     */
+    private volatile long lastRound;
+
     @Inject
     public CacheWarmer(
             @NonNull final TransactionChecker checker,
             @NonNull final TransactionDispatcher dispatcher,
             @NonNull @Named("CacheWarmer") final Executor executor,
-            @NonNull final Function<SemanticVersion, SoftwareVersion> softwareVersionFactory) {
+            @NonNull final Function<SemanticVersion, SoftwareVersion> softwareVersionFactory,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull @Named("LatestImmutableStoreFactory")
+                    final Supplier<AutoCloseableWrapper<ReadableStoreFactory>> latestImmutableStoreFactory,
+            @NonNull final Metrics metrics) {
         this.checker = checker;
         this.dispatcher = requireNonNull(dispatcher);
         this.executor = requireNonNull(executor);
         this.softwareVersionFactory = softwareVersionFactory;
+        this.configProvider = requireNonNull(configProvider);
+        this.latestImmutableStoreFactory = requireNonNull(latestImmutableStoreFactory);
+        requireNonNull(metrics);
+
+        final var config = configProvider.getConfiguration();
+        final var halfLife = config.getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+        this.warmHitPercent = metrics.getOrCreate(WARM_HIT_PERCENT_CONFIG.withHalfLife(halfLife));
+        this.wastedPrefetches = metrics.getOrCreate(WASTED_PREFETCHES_CONFIG);
+        this.droppedPrefetches = metrics.getOrCreate(DROPPED_PREFETCHES_CONFIG);
+        this.inFlightPermits =
+                new Semaphore(Math.max(1, config.getConfigData(CacheConfig.class).warmMaxInFlight()));
+    }
+
+    /**
+     * Prefetches the state read by the given pre-handled transactions, if lookahead is enabled. Only transactions
+     * with a {@link PreHandleResult} are prefetched. This method never blocks, if too many prefetches are in flight,
+     * the remaining transactions are warmed when their round is handled.
+     *
+     * @param transactions the pre-handled transactions
+     */
+    public void prefetch(@NonNull final List<Transaction> transactions) {
+        requireNonNull(transactions);
+        if (!isLookaheadEnabled()) {
+            return;
+        }
+        final long round = lastRound;
+        final List<TransactionInfo> accepted = new ArrayList<>();
+        final List<Prefetch> acceptedPrefetches = new ArrayList<>();
+        for (final Transaction platformTransaction : transactions) {
+            final TransactionInfo txInfo = preHandledTransactionInfo(platformTransaction);
+            if (txInfo == null) {
+                continue;
+            }
+            final var prefetch = new Prefetch(round);
+            if (prefetches.putIfAbsent(txInfo.transactionID(), prefetch) != null) {
+                // The same transaction was submitted to more than one node
+                continue;
+            }
+            if (!inFlightPermits.tryAcquire()) {
+                prefetches.remove(txInfo.transactionID(), prefetch);
+                droppedPrefetches.increment();
+                continue;
+            }
+            accepted.add(txInfo);
+            acceptedPrefetches.add(prefetch);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            int completed = 0;
+            // The state used for pre-handle may be released as soon as pre-handle is done, so the latest
+            // immutable state is reserved for as long as the transactions are prefetched
+            try (final var wrappedStoreFactory = latestImmutableStoreFactory.get()) {
+                final ReadableStoreFactory storeFactory = wrappedStoreFactory.get();
+                if (storeFactory != null) {
+                    final var accountStore = storeFactory.getStore(ReadableAccountStore.class);
+                    for (; completed < accepted.size(); completed++) {
+                        warmTransaction(storeFactory, accountStore, accepted.get(completed).txBody());
+                        acceptedPrefetches.get(completed).done = true;
+                        inFlightPermits.release();
+                    }
+                }
+            } finally {
+                for (int i = completed; i < accepted.size(); i++) {
+                    acceptedPrefetches.get(i).done = true;
+                    inFlightPermits.release();
+                }
+            }
+        });
     }
 
     /**
@@ -79,26 +210,158 @@ public class CacheWarmer {
      * @param round the current round
      */
     public void warm(@NonNull final State state, @NonNull final Round round) {
-        executor.execute(() -> {
-            final ReadableStoreFactory storeFactory = new ReadableStoreFactory(state, softwareVersionFactory);
-            final ReadableAccountStore accountStore = storeFactory.getStore(ReadableAccountStore.class);
-            for (final ConsensusEvent event : round) {
-                event.forEachTransaction(platformTransaction -> executor.execute(() -> {
-                    final TransactionBody txBody = extractTransactionBody(platformTransaction);
-                    if (txBody != null) {
-                        final AccountID payerID = txBody.transactionIDOrElse(TransactionID.DEFAULT)
-                                .accountID();
-                        if (payerID != null) {
-                            accountStore.warm(payerID);
-                        }
-                        final var context = new WarmupContextImpl(txBody, storeFactory);
-                        dispatcher.dispatchWarmup(context);
-                    }
-                }));
+        lastRound = round.getRoundNum();
+        if (!isLookaheadEnabled()) {
+            // Without lookahead, there is nothing to account for on the handle thread
+            executor.execute(() -> {
+                evictStalePrefetches();
+                warmAll(state, allTransactions(round));
+            });
+            return;
+        }
+        final List<Transaction> remaining = collectNotPrefetched(round);
+        evictStalePrefetches();
+        if (!remaining.isEmpty()) {
+            executor.execute(() -> warmAll(state, remaining));
+        }
+    }
+
+    private void warmAll(@NonNull final State state, @NonNull final List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        final ReadableStoreFactory storeFactory = new ReadableStoreFactory(state, softwareVersionFactory);
+        final ReadableAccountStore accountStore = storeFactory.getStore(ReadableAccountStore.class);
+        for (final Transaction platformTransaction : transactions) {
+            executor.execute(() -> {
+                final TransactionBody txBody = extractTransactionBody(platformTransaction);
+                if (txBody != null) {
+                    warmTransaction(storeFactory, accountStore, txBody);
+                }
+            });
+        }
+    }
+
+    private static List<Transaction> allTransactions(@NonNull final Round round) {
+        final List<Transaction> transactions = new ArrayList<>();
+        for (final ConsensusEvent event : round) {
+            event.forEachTransaction(transactions::add);
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns all transactions of the round, which were not prefetched, and updates the warm-hit metric. Transactions
+     * with a prefetch still in flight are not returned, warming them again would only compete for the same reads.
+     */
+    private List<Transaction> collectNotPrefetched(@NonNull final Round round) {
+        final List<Transaction> remaining = new ArrayList<>();
+        final int[] counts = new int[2];
+        for (final ConsensusEvent event : round) {
+            event.forEachTransaction(platformTransaction -> {
+                final TransactionInfo txInfo = preHandledTransactionInfo(platformTransaction);
+                if (txInfo == null) {
+                    remaining.add(platformTransaction);
+                    return;
+                }
+                counts[0]++;
+                final Prefetch prefetch = prefetches.remove(txInfo.transactionID());
+                if (prefetch == null) {
+                    remaining.add(platformTransaction);
+                } else if (prefetch.done) {
+                    counts[1]++;
+                }
+            });
+        }
+        if (counts[0] > 0) {
+            warmHitPercent.update(100.0 * counts[1] / counts[0]);
+        }
+        return remaining;
+    }
+
+    private void evictStalePrefetches() {
+        if (prefetches.isEmpty()) {
+            return;
+        }
+        final int lookaheadRounds =
+                configProvider.getConfiguration().getConfigData(CacheConfig.class).warmLookaheadRounds();
+        final long oldestRound = lastRound - lookaheadRounds;
+        prefetches.values().removeIf(prefetch -> {
+            if (prefetch.round < oldestRound) {
+                wastedPrefetches.increment();
+                return true;
             }
+            return false;
         });
     }
 
+    private boolean isLookaheadEnabled() {
+        return configProvider.getConfiguration().getConfigData(CacheConfig.class).warmLookaheadEnabled();
+    }
+
+    /**
+     * Warms the state a transaction is expected to read: the payer and node accounts, the contract called, if any, and
+     * whatever the {@link TransactionHandler#warm} method of the transaction's handler warms.
+     */
+    private void warmTransaction(
+            @NonNull final ReadableStoreFactory storeFactory,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final TransactionBody txBody) {
+        final AccountID payerID =
+                txBody.transactionIDOrElse(TransactionID.DEFAULT).accountID();
+        if (payerID != null) {
+            accountStore.warm(payerID);
+        }
+        final AccountID nodeAccountID = txBody.nodeAccountID();
+        if (nodeAccountID != null) {
+            accountStore.warm(nodeAccountID);
+        }
+        if (txBody.hasContractCall()) {
+            final ContractID contractID = txBody.contractCallOrThrow().contractID();
+            if (contractID != null) {
+                warmContract(storeFactory, accountStore, contractID);
+            }
+        }
+        final var context = new WarmupContextImpl(txBody, storeFactory);
+        dispatcher.dispatchWarmup(context);
+    }
+
+    /**
+     * Warms the contract account, its bytecode, and the first slot of its storage, which is read whenever the
+     * contract adds or removes a storage slot. Other slots are not known before the contract is executed.
+     */
+    private static void warmContract(
+            @NonNull final ReadableStoreFactory storeFactory,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final ContractID contractID) {
+        final var contract = accountStore.getContractById(contractID);
+        if (contract == null || contract.accountId() == null) {
+            return;
+        }
+        final var contractStore = storeFactory.getStore(ContractStateStore.class);
+        final var numericID = ContractID.newBuilder()
+                .shardNum(contract.accountIdOrThrow().shardNum())
+                .realmNum(contract.accountIdOrThrow().realmNum())
+                .contractNum(contract.accountIdOrThrow().accountNumOrElse(0L))
+                .build();
+        contractStore.getBytecode(numericID);
+        final Bytes firstKey = contract.firstContractStorageKey();
+        if (firstKey.length() > 0) {
+            contractStore.getSlotValue(new SlotKey(numericID, firstKey));
+        }
+    }
+
+    @Nullable
+    private static TransactionInfo preHandledTransactionInfo(@NonNull final Transaction platformTransaction) {
+        if (platformTransaction.isSystem()
+                || !(platformTransaction.getMetadata() instanceof PreHandleResult result)
+                || result.txInfo() == null
+                || result.txInfo().functionality() == HederaFunctionality.STATE_SIGNATURE_TRANSACTION) {
+            return null;
+        }
+        return result.txInfo();
+    }
+
     @Nullable
     private TransactionBody extractTransactionBody(@NonNull final Transaction platformTransaction) {
         // First we check if the transaction was already parsed during pre-handle (should be almost always the case)
@@ -118,6 +381,20 @@ public class CacheWarmer {
         }
     }
 
+    /**
+     * A prefetch of a single transaction.
+     */
+    private static final class Prefetch {
+        /** The last round handled when the prefetch was started */
+        private final long round;
+        /** Whether the prefetch is complete */
+        private volatile boolean done;
+
+        private Prefetch(final long round) {
+            this.round = round;
+        }
+    }
+
     /**
      * The default implementation of {@link WarmupContext}.
      */
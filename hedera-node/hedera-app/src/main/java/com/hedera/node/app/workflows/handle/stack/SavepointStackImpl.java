@@ -214,7 +214,9 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         if (stack.size() <= 1) {
             throw new IllegalStateException("The savepoint stack is empty");
         }
-        stack.pop().commit();
+        final var savepoint = stack.pop();
+        savepoint.commit();
+        release(savepoint);
     }
 
     @Override
@@ -222,7 +224,9 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         if (stack.size() <= 1) {
             throw new IllegalStateException("The savepoint stack is empty");
         }
-        stack.pop().rollback();
+        final var savepoint = stack.pop();
+        savepoint.rollback();
+        release(savepoint);
     }
 
     @Override
@@ -268,7 +272,9 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
             kvStateChangeListener.reset();
         }
         while (!stack.isEmpty()) {
-            stack.pop().commit();
+            final var savepoint = stack.pop();
+            savepoint.commit();
+            release(savepoint);
         }
         if (streamMode != RECORDS && kvStateChangeListener != null) {
             builder.stateChanges(kvStateChangeListener.getStateChanges());
@@ -281,7 +287,9 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
      */
     public void rollbackFullStack() {
         while (!stack.isEmpty()) {
-            stack.pop().rollback();
+            final var savepoint = stack.pop();
+            savepoint.rollback();
+            release(savepoint);
         }
         setupFirstSavepoint(baseBuilder.category());
     }
@@ -597,6 +605,16 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         return new HandleOutput(blockRecordSource, recordSource, firstAssignedConsensusTime);
     }
 
+    /**
+     * Returns the modification buffers of a committed or rolled back savepoint to their pool, so the next savepoints,
+     * in this or following transactions, don't need to allocate new ones.
+     */
+    private static void release(@NonNull final Savepoint savepoint) {
+        if (savepoint.state() instanceof WrappedState wrappedState) {
+            wrappedState.release();
+        }
+    }
+
     private void setupFirstSavepoint(@NonNull final TransactionCategory category) {
         if (state instanceof SavepointStackImpl parent) {
             stack.push(new FirstChildSavepoint(new WrappedState(state), parent.peek(), category));
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.ingest;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.common.metrics.IntegerPairAccumulator;
+import com.swirlds.metrics.api.IntegerAccumulator;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Metrics of the ingest workflow: durations of every ingest stage, measured on the gRPC threads.
+ */
+@Singleton
+public class IngestMetrics {
+
+    private static final String CATEGORY = "app";
+
+    private static final BinaryOperator<Integer> AVERAGE = (sum, count) -> count == 0 ? 0 : sum / count;
+
+    /**
+     * Stages of ingesting a single transaction.
+     */
+    public enum Stage {
+        /** Parsing the transaction */
+        PARSE("Parse"),
+        /** Running all ingest checks, including signature verification of the payer */
+        CHECKS("Checks"),
+        /** Submitting the transaction to the platform */
+        SUBMIT("Submit");
+
+        private final String metricName;
+
+        Stage(@NonNull final String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private final Map<Stage, StageMetric> stageMetrics = new EnumMap<>(Stage.class);
+
+    /**
+     * Constructor for the IngestMetrics
+     *
+     * @param metrics the {@link Metrics} object where all metrics will be registered
+     */
+    @Inject
+    public IngestMetrics(@NonNull final Metrics metrics) {
+        requireNonNull(metrics, "metrics must not be null");
+
+        for (final var stage : Stage.values()) {
+            final var name = "ingest" + stage.metricName;
+            final var description = "the ingest " + stage.metricName + " stage";
+            final var maxConfig = new IntegerAccumulator.Config(CATEGORY, name + "DurationMax")
+                    .withDescription("The maximum duration of " + description + " in nanoseconds")
+                    .withUnit("ns");
+            final var avgConfig = new IntegerPairAccumulator.Config<>(
+                            CATEGORY, name + "DurationAvg", Integer.class, AVERAGE)
+                    .withDescription("The average duration of " + description + " in nanoseconds")
+                    .withUnit("ns");
+            stageMetrics.put(stage, new StageMetric(metrics.getOrCreate(maxConfig), metrics.getOrCreate(avgConfig)));
+        }
+    }
+
+    /**
+     * Update the duration metrics of the given ingest stage.
+     *
+     * @param stage the ingest stage
+     * @param durationNanos the duration of the stage in {@code ns}
+     */
+    public void updateDuration(@NonNull final Stage stage, final long durationNanos) {
+        requireNonNull(stage, "stage must not be null");
+        stageMetrics.get(stage).update(durationNanos);
+    }
+
+    private record StageMetric(IntegerAccumulator max, IntegerPairAccumulator<Integer> avg) {
+        void update(final long durationNanos) {
+            // We do not synchronize the update of the metrics, see OpWorkflowMetrics for details
+            final int duration = (int) Math.min(durationNanos, Integer.MAX_VALUE);
+            max.update(duration);
+            avg.update(duration, 1);
+        }
+    }
+}
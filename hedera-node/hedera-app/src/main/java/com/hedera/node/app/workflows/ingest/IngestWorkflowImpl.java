@@ -47,6 +47,7 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
     private final IngestChecker ingestChecker;
     private final SubmissionManager submissionManager;
     private final ConfigProvider configProvider;
+    private final IngestMetrics ingestMetrics;
 
     /**
      * Constructor of {@code IngestWorkflowImpl}
@@ -56,6 +57,7 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
      * @param ingestChecker the {@link IngestChecker} with specific checks of an ingest-workflow
      * @param submissionManager the {@link SubmissionManager} to submit transactions to the platform
      * @param configProvider the {@link ConfigProvider} to provide the configuration
+     * @param ingestMetrics the {@link IngestMetrics} to record the duration of every ingest stage
      * @throws NullPointerException if one of the arguments is {@code null}
      */
     @Inject
@@ -64,12 +66,14 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
             @NonNull final TransactionChecker transactionChecker,
             @NonNull final IngestChecker ingestChecker,
             @NonNull final SubmissionManager submissionManager,
-            @NonNull final ConfigProvider configProvider) {
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final IngestMetrics ingestMetrics) {
         this.stateAccessor = requireNonNull(stateAccessor);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.ingestChecker = requireNonNull(ingestChecker);
         this.submissionManager = requireNonNull(submissionManager);
         this.configProvider = requireNonNull(configProvider);
+        this.ingestMetrics = requireNonNull(ingestMetrics);
     }
 
     @Override
@@ -86,13 +90,19 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
             ingestChecker.verifyReadyForTransactions();
 
             // 1.-6. Parse and check the transaction
+            final long parseStart = System.nanoTime();
             final var tx = transactionChecker.parse(requestBuffer);
+            final long checksStart = System.nanoTime();
+            ingestMetrics.updateDuration(IngestMetrics.Stage.PARSE, checksStart - parseStart);
             final var state = wrappedState.get();
             final var configuration = configProvider.getConfiguration();
             final var transactionInfo = ingestChecker.runAllChecks(state, tx, configuration);
+            final long submitStart = System.nanoTime();
+            ingestMetrics.updateDuration(IngestMetrics.Stage.CHECKS, submitStart - checksStart);
 
-            // 7. Submit to platform
+            // 7. Submit to platform. The request bytes are handed over as they are, without copying
             submissionManager.submit(transactionInfo.txBody(), requestBuffer);
+            ingestMetrics.updateDuration(IngestMetrics.Stage.SUBMIT, System.nanoTime() - submitStart);
         } catch (final InsufficientBalanceException e) {
             estimatedFee = e.getEstimatedFee();
             result = e.responseCode();
@@ -163,7 +163,8 @@ public class SubmissionManager {
             // This call to submit to the platform should almost always work. Maybe under extreme load it will fail,
             // or while the system is being shut down. In any event, the user will receive an error code indicating
             // that the transaction was not submitted and they can retry.
-            final var success = platform.createTransaction(payload.toByteArray());
+            // The payload is immutable, so it is handed to the platform without copying
+            final var success = platform.createTransaction(payload);
             if (success) {
                 submittedTxns.add(txId);
             } else {
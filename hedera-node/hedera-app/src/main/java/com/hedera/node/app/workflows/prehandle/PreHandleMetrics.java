@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.prehandle;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.common.metrics.IntegerPairAccumulator;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.IntegerAccumulator;
+import com.swirlds.metrics.api.IntegerGauge;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Metrics of the pre-handle workflow: durations of every pre-handle stage, the number of transactions queued for
+ * and being pre-handled, and how often and how long pre-handle of an event had to wait for capacity.
+ */
+@Singleton
+public class PreHandleMetrics {
+
+    private static final String CATEGORY = "app";
+
+    private static final BinaryOperator<Integer> AVERAGE = (sum, count) -> count == 0 ? 0 : sum / count;
+
+    /**
+     * Stages of pre-handling a single transaction.
+     */
+    public enum Stage {
+        /** Parsing the transaction and checking its syntax */
+        PARSE("Parse"),
+        /** Looking up the payer account */
+        PAYER_LOOKUP("PayerLookup"),
+        /** Expanding signature pairs to full keys */
+        KEY_EXPANSION("KeyExpansion"),
+        /** Submitting signatures for verification */
+        VERIFICATION("Verification");
+
+        private final String metricName;
+
+        Stage(@NonNull final String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private final Map<Stage, StageMetric> stageMetrics = new EnumMap<>(Stage.class);
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final IntegerGauge queuedGauge;
+    private final IntegerGauge inFlightGauge;
+    private final Counter backpressureCounter;
+    private final StageMetric backpressureWait;
+
+    /**
+     * Constructor for the PreHandleMetrics
+     *
+     * @param metrics the {@link Metrics} object where all metrics will be registered
+     */
+    @Inject
+    public PreHandleMetrics(@NonNull final Metrics metrics) {
+        requireNonNull(metrics, "metrics must not be null");
+
+        for (final var stage : Stage.values()) {
+            final var name = "preHandle" + stage.metricName;
+            final var description = "the pre-handle " + stage.metricName + " stage";
+            stageMetrics.put(stage, createDurationMetric(metrics, name, description));
+        }
+
+        queuedGauge = metrics.getOrCreate(new IntegerGauge.Config(CATEGORY, "preHandleQueued")
+                .withDescription("The number of transactions waiting for pre-handle capacity"));
+        inFlightGauge = metrics.getOrCreate(new IntegerGauge.Config(CATEGORY, "preHandleInFlight")
+                .withDescription("The number of transactions being pre-handled"));
+        backpressureCounter = metrics.getOrCreate(new Counter.Config(CATEGORY, "preHandleBackpressure")
+                .withDescription("The number of events, which had to wait for pre-handle capacity"));
+        backpressureWait = createDurationMetric(
+                metrics, "preHandleBackpressureWait", "waiting for pre-handle capacity, when the limit is reached");
+    }
+
+    private static StageMetric createDurationMetric(
+            @NonNull final Metrics metrics, @NonNull final String name, @NonNull final String description) {
+        final var maxConfig = new IntegerAccumulator.Config(CATEGORY, name + "DurationMax")
+                .withDescription("The maximum duration of " + description + " in nanoseconds")
+                .withUnit("ns");
+        final var avgConfig = new IntegerPairAccumulator.Config<>(
+                        CATEGORY, name + "DurationAvg", Integer.class, AVERAGE)
+                .withDescription("The average duration of " + description + " in nanoseconds")
+                .withUnit("ns");
+        return new StageMetric(metrics.getOrCreate(maxConfig), metrics.getOrCreate(avgConfig));
+    }
+
+    /**
+     * Update the duration metrics of the given pre-handle stage.
+     *
+     * @param stage the pre-handle stage
+     * @param durationNanos the duration of the stage in {@code ns}
+     */
+    public void updateDuration(@NonNull final Stage stage, final long durationNanos) {
+        requireNonNull(stage, "stage must not be null");
+        stageMetrics.get(stage).update(durationNanos);
+    }
+
+    /**
+     * Records that the given number of transactions are waiting for pre-handle capacity.
+     *
+     * @param count the number of transactions
+     */
+    public void transactionsQueued(final int count) {
+        queuedGauge.set(queued.addAndGet(count));
+    }
+
+    /**
+     * Records that the given number of transactions, previously queued, got pre-handle capacity after waiting for
+     * the given time.
+     *
+     * @param count the number of transactions
+     * @param waitNanos how long the transactions waited for capacity, in {@code ns}, or zero if capacity was
+     * available right away
+     */
+    public void transactionsStarted(final int count, final long waitNanos) {
+        queuedGauge.set(queued.addAndGet(-count));
+        inFlightGauge.set(inFlight.addAndGet(count));
+        if (waitNanos > 0) {
+            backpressureCounter.increment();
+            backpressureWait.update(waitNanos);
+        }
+    }
+
+    /**
+     * Records that pre-handle of the given number of transactions is complete.
+     *
+     * @param count the number of transactions
+     */
+    public void transactionsFinished(final int count) {
+        inFlightGauge.set(inFlight.addAndGet(-count));
+    }
+
+    private record StageMetric(IntegerAccumulator max, IntegerPairAccumulator<Integer> avg) {
+        void update(final long durationNanos) {
+            // We do not synchronize the update of the metrics, see OpWorkflowMetrics for details
+            final int duration = (int) Math.min(durationNanos, Integer.MAX_VALUE);
+            max.update(duration);
+            avg.update(duration, 1);
+        }
+    }
+}
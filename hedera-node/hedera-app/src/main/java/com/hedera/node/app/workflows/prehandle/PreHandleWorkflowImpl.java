@@ -50,16 +50,21 @@ import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.purechecks.PureChecksContextImpl;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.node.config.data.HederaConfig;
 import com.swirlds.platform.system.events.Event;
 import com.swirlds.platform.system.transaction.Transaction;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -99,6 +104,23 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * Used for registering notice of transactionIDs seen by this node
      */
     private final DeduplicationCache deduplicationCache;
+    /**
+     * The dedicated pool, in which transactions are pre-handled
+     */
+    private final ForkJoinPool preHandlePool;
+    /**
+     * Bounds the number of transactions being pre-handled at the same time. If there are no permits left, the
+     * platform thread that calls {@link #preHandle} blocks, which propagates backpressure to the platform wiring
+     */
+    private final Semaphore inFlightPermits;
+    /**
+     * The maximum number of transactions being pre-handled at the same time
+     */
+    private final int maxInFlight;
+    /**
+     * Pre-handle metrics
+     */
+    private final PreHandleMetrics preHandleMetrics;
 
     /**
      * Creates a new instance of {@code PreHandleWorkflowImpl}.
@@ -107,6 +129,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * transaction.
      * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
      * @param signatureVerifier the {@link SignatureVerifier} to verify signatures
+     * @param preHandlePool the pool to pre-handle transactions in
+     * @param preHandleMetrics the pre-handle metrics
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     @Inject
@@ -116,13 +140,21 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final SignatureVerifier signatureVerifier,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final DeduplicationCache deduplicationCache) {
+            @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull @Named("PreHandle") final ForkJoinPool preHandlePool,
+            @NonNull final PreHandleMetrics preHandleMetrics) {
         this.dispatcher = requireNonNull(dispatcher);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.signatureVerifier = requireNonNull(signatureVerifier);
         this.signatureExpander = requireNonNull(signatureExpander);
         this.configProvider = requireNonNull(configProvider);
         this.deduplicationCache = requireNonNull(deduplicationCache);
+        this.preHandlePool = requireNonNull(preHandlePool);
+        this.preHandleMetrics = requireNonNull(preHandleMetrics);
+        this.maxInFlight = Math.max(
+                1,
+                configProvider.getConfiguration().getConfigData(HederaConfig.class).workflowPreHandleMaxInFlight());
+        this.inFlightPermits = new Semaphore(maxInFlight);
     }
 
     /**
@@ -143,20 +175,51 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         // Used for looking up payer account information.
         final var accountStore = readableStoreFactory.getStore(ReadableAccountStore.class);
 
-        // In parallel, we will pre-handle each transaction.
-        transactions.parallel().forEach(tx -> {
-            if (tx.isSystem()) return;
+        final List<Transaction> txs = transactions.toList();
+        if (txs.isEmpty()) {
+            return;
+        }
+
+        // Wait for capacity. An event with more transactions than the limit takes all permits
+        final int permits = Math.min(txs.size(), maxInFlight);
+        long waitNanos = 0;
+        preHandleMetrics.transactionsQueued(permits);
+        if (!inFlightPermits.tryAcquire(permits)) {
+            final long waitStart = System.nanoTime();
             try {
-                tx.setMetadata(preHandleTransaction(
-                        creator, readableStoreFactory, accountStore, tx, stateSignatureTxnCallback));
-            } catch (final Exception unexpectedException) {
-                // If some random exception happened, then we should not charge the node for it. Instead,
-                // we will just record the exception and try again during handle. Then if we fail again
-                // at handle, then we will throw away the transaction (hopefully, deterministically!)
-                logger.error("Unexpected Exception while running the pre-handle workflow", unexpectedException);
-                tx.setMetadata(unknownFailure());
+                inFlightPermits.acquire(permits);
+            } catch (final InterruptedException e) {
+                // Transactions without metadata are pre-handled again at handle time
+                Thread.currentThread().interrupt();
+                preHandleMetrics.transactionsQueued(-permits);
+                return;
             }
-        });
+            waitNanos = Math.max(1, System.nanoTime() - waitStart);
+        }
+        preHandleMetrics.transactionsStarted(permits, waitNanos);
+
+        try {
+            // In parallel, we will pre-handle each transaction in the dedicated pool
+            preHandlePool
+                    .submit(() -> txs.parallelStream().forEach(tx -> {
+                        if (tx.isSystem()) return;
+                        try {
+                            tx.setMetadata(preHandleTransaction(
+                                    creator, readableStoreFactory, accountStore, tx, stateSignatureTxnCallback));
+                        } catch (final Exception unexpectedException) {
+                            // If some random exception happened, then we should not charge the node for it. Instead,
+                            // we will just record the exception and try again during handle. Then if we fail again
+                            // at handle, then we will throw away the transaction (hopefully, deterministically!)
+                            logger.error(
+                                    "Unexpected Exception while running the pre-handle workflow", unexpectedException);
+                            tx.setMetadata(unknownFailure());
+                        }
+                    }))
+                    .join();
+        } finally {
+            inFlightPermits.release(permits);
+            preHandleMetrics.transactionsFinished(permits);
+        }
     }
 
     // For each transaction, we will use a background thread to parse the transaction, validate it, lookup the
@@ -177,6 +240,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         }
 
         // 1. Parse the Transaction and check the syntax
+        final long parseStart = System.nanoTime();
         final TransactionInfo txInfo;
         try {
             // Transaction info is a pure function of the transaction, so we can
@@ -214,6 +278,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
                     e.responseCode(),
                     null,
                     configProvider.getConfiguration().getVersion());
+        } finally {
+            preHandleMetrics.updateDuration(PreHandleMetrics.Stage.PARSE, System.nanoTime() - parseStart);
         }
 
         // No reason to do this twice, since every transaction passed to handle is first given to pre-handle
@@ -228,7 +294,9 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         // 2. Get Payer Account---we can never reuse a previous result here, as the payer account could have been
         // deleted between the last time we looked it up and now
         final var payer = txInfo.payerID();
+        final long payerLookupStart = System.nanoTime();
         final var payerAccount = accountStore.getAccountById(payer);
+        preHandleMetrics.updateDuration(PreHandleMetrics.Stage.PAYER_LOOKUP, System.nanoTime() - payerLookupStart);
         if (payerAccount == null) {
             // If the payer account doesn't exist, then we cannot gather signatures for it, and will need to do
             // so later during the handle phase. Technically, we could still try to gather and verify the other
@@ -368,6 +436,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             return previousResult.verificationResults();
         }
         // If not, bootstrap the expanded signature pairs by grabbing all prefixes that are "full" keys already
+        final long expansionStart = System.nanoTime();
         final var originals = txInfo.signatureMap().sigPair();
         final var expanded = new LinkedHashSet<ExpandedSignaturePair>();
         signatureExpander.expand(originals, expanded);
@@ -381,7 +450,11 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             signatureExpander.expand(context.requiredNonPayerKeys(), originals, expanded);
             signatureExpander.expand(context.optionalNonPayerKeys(), originals, expanded);
         }
-        return signatureVerifier.verify(txInfo.signedBytes(), expanded);
+        final long verificationStart = System.nanoTime();
+        preHandleMetrics.updateDuration(PreHandleMetrics.Stage.KEY_EXPANSION, verificationStart - expansionStart);
+        final var results = signatureVerifier.verify(txInfo.signedBytes(), expanded);
+        preHandleMetrics.updateDuration(PreHandleMetrics.Stage.VERIFICATION, System.nanoTime() - verificationStart);
+        return results;
     }
 
     private boolean wasComputedWithCurrentNodeConfiguration(@Nullable PreHandleResult previousResult) {
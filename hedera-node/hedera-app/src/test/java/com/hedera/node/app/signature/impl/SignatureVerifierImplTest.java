@@ -25,7 +25,7 @@ import static java.util.Collections.emptySet;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,6 +40,7 @@ import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,7 +67,7 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
     private Cryptography cryptoEngine;
     /** Captures the args sent to the crypto engine. */
     @Captor
-    ArgumentCaptor<TransactionSignature> sigsCaptor;
+    ArgumentCaptor<List<TransactionSignature>> sigsCaptor;
     /** The verifier under test. */
     private SignatureVerifierImpl verifier;
 
@@ -126,14 +127,16 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                 hollowPair(ERIN.keyInfo().publicKey(), ERIN.account()));
 
         //noinspection unchecked
-        doAnswer((Answer<Void>) invocation -> {
-                    final TransactionSignature signature = invocation.getArgument(0);
-                    signature.setSignatureStatus(VerificationStatus.VALID);
-                    signature.setFuture(completedFuture(null));
-                    return null;
+        doAnswer((Answer<Boolean>) invocation -> {
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    for (final TransactionSignature signature : signatures) {
+                        signature.setSignatureStatus(VerificationStatus.VALID);
+                        signature.setFuture(completedFuture(null));
+                    }
+                    return true;
                 })
                 .when(cryptoEngine)
-                .verifySync(any(TransactionSignature.class));
+                .verifySync(anyList());
 
         // When we verify them
         final var map = verifier.verify(signedBytes, sigs);
@@ -167,9 +170,10 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
         // When we verify them
         verifier.verify(signedBytes, sigs, messageType);
 
-        // Then we find the crypto engine was given an array with all the data
-        verify(cryptoEngine, times(3)).verifySync(sigsCaptor.capture());
-        final var txSigs = sigsCaptor.getAllValues();
+        // Then we find the crypto engine was given a single batch, and an array with all the data
+        verify(cryptoEngine, times(1)).verifySync(sigsCaptor.capture());
+        final var txSigs = sigsCaptor.getValue();
+        assertThat(txSigs).hasSize(3);
 
         final var itr = sigs.iterator();
         for (int i = 0; i < 3; i++) {
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.throttle;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CONTRACT_CALL;
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_GET_ACCOUNT_BALANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.transaction.Query;
+import com.hedera.node.app.hapi.utils.throttles.DeterministicThrottle;
+import com.swirlds.state.State;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedThrottleAccumulatorTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_234_567L);
+    private static final AccountID PAYER = AccountID.newBuilder().accountNum(1234L).build();
+
+    @Mock
+    private ThrottleAccumulator firstShard;
+
+    @Mock
+    private ThrottleAccumulator secondShard;
+
+    @Mock
+    private Query query;
+
+    @Mock
+    private State state;
+
+    private final InstantSource instantSource = InstantSource.fixed(NOW);
+
+    @Test
+    void requiresAtLeastOneShard() {
+        assertThatThrownBy(() -> new ShardedThrottleAccumulator(instantSource, List.of(), Duration.ofMillis(50)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void triesOtherShardsBeforeThrottling() {
+        // given
+        final var subject = new ShardedThrottleAccumulator(
+                instantSource, List.of(firstShard, secondShard), Duration.ofMillis(50));
+        lenient()
+                .when(firstShard.checkAndEnforceThrottle(CRYPTO_GET_ACCOUNT_BALANCE, NOW, query, state, PAYER))
+                .thenReturn(true);
+        lenient()
+                .when(secondShard.checkAndEnforceThrottle(CRYPTO_GET_ACCOUNT_BALANCE, NOW, query, state, PAYER))
+                .thenReturn(false);
+
+        // expect
+        assertThat(subject.shouldThrottle(CRYPTO_GET_ACCOUNT_BALANCE, query, state, PAYER))
+                .isFalse();
+    }
+
+    @Test
+    void throttlesIfAllShardsThrottle() {
+        // given
+        final var subject = new ShardedThrottleAccumulator(
+                instantSource, List.of(firstShard, secondShard), Duration.ofMillis(50));
+        given(firstShard.checkAndEnforceThrottle(CRYPTO_GET_ACCOUNT_BALANCE, NOW, query, state, PAYER))
+                .willReturn(true);
+        given(secondShard.checkAndEnforceThrottle(CRYPTO_GET_ACCOUNT_BALANCE, NOW, query, state, PAYER))
+                .willReturn(true);
+
+        // expect
+        assertThat(subject.shouldThrottle(CRYPTO_GET_ACCOUNT_BALANCE, query, state, PAYER))
+                .isTrue();
+    }
+
+    @Test
+    void gasThrottledFunctionsOnlyUseFirstShard() {
+        // given
+        final var subject = new ShardedThrottleAccumulator(
+                instantSource, List.of(firstShard, secondShard), Duration.ofMillis(50));
+        given(firstShard.checkAndEnforceThrottle(CONTRACT_CALL, NOW, query, state, PAYER))
+                .willReturn(true);
+
+        // expect
+        assertThat(subject.shouldThrottle(CONTRACT_CALL, query, state, PAYER)).isTrue();
+        verify(secondShard, never()).checkAndEnforceThrottle(eq(CONTRACT_CALL), any(), any(), any(), any());
+    }
+
+    @Test
+    void rebalanceSpreadsUsageEvenlyAcrossShards() {
+        // given
+        final var subject = new ShardedThrottleAccumulator(
+                instantSource, List.of(firstShard, secondShard), Duration.ofMillis(50));
+        final var firstThrottle = DeterministicThrottle.withTps(10);
+        final var secondThrottle = DeterministicThrottle.withTps(10);
+        given(firstShard.allActiveThrottles()).willReturn(List.of(firstThrottle));
+        given(secondShard.allActiveThrottles()).willReturn(List.of(secondThrottle));
+        assertThat(firstThrottle.allow(5, NOW)).isTrue();
+
+        // when
+        subject.rebalance();
+
+        // then
+        final long total = DeterministicThrottle.capacityRequiredFor(5);
+        assertThat(firstThrottle.used() + secondThrottle.used()).isEqualTo(total);
+        assertThat(firstThrottle.used() - secondThrottle.used()).isBetween(0L, 1L);
+    }
+
+    @Test
+    void singleShardDelegatesWithoutRebalancing() {
+        // given
+        final var subject = new ShardedThrottleAccumulator(instantSource, List.of(firstShard), Duration.ofMillis(50));
+
+        // when
+        subject.shouldThrottle(CRYPTO_GET_ACCOUNT_BALANCE, query, state, PAYER);
+
+        // then
+        verify(firstShard).checkAndEnforceThrottle(CRYPTO_GET_ACCOUNT_BALANCE, NOW, query, state, PAYER);
+        verify(firstShard, never()).allActiveThrottles();
+    }
+}
@@ -69,7 +69,7 @@ class ThrottleServiceManagerTest {
     private ThrottleParser throttleParser;
 
     @Mock
-    private ThrottleAccumulator ingestThrottle;
+    private ShardedThrottleAccumulator ingestThrottle;
 
     @Mock
     private ThrottleAccumulator backendThrottle;
@@ -16,11 +16,48 @@
 
 package com.hedera.node.app.workflows.handle.cache;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.utils.TestUtils;
 import com.hedera.node.app.version.ServicesSoftwareVersion;
 import com.hedera.node.app.workflows.TransactionChecker;
+import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.app.workflows.prehandle.PreHandleResult;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.utility.AutoCloseableWrapper;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.system.Round;
+import com.swirlds.platform.system.events.ConsensusEvent;
+import com.swirlds.platform.system.transaction.Transaction;
+import com.swirlds.state.State;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,16 +67,201 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class CacheWarmerTest {
 
+    private static final AccountID PAYER = AccountID.newBuilder().accountNum(1001L).build();
+
     @Mock
     TransactionChecker checker;
 
     @Mock
     TransactionDispatcher dispatcher;
 
+    @Mock
+    ReadableStoreFactory storeFactory;
+
+    @Mock
+    ReadableAccountStore accountStore;
+
+    @Mock
+    State state;
+
+    private final Metrics metrics = TestUtils.metrics();
+
+    /** The number of reservations of the latest immutable state, which are not released yet */
+    private final AtomicInteger reservations = new AtomicInteger();
+
     @Test
     @DisplayName("Instantiation test")
     void testInstantiation() {
-        final var cacheWarmer = new CacheWarmer(checker, dispatcher, Runnable::run, ServicesSoftwareVersion::new);
+        final var cacheWarmer = newCacheWarmer(Runnable::run, configProvider(false, 20, 10));
         assertThat(cacheWarmer).isInstanceOf(CacheWarmer.class);
     }
+
+    @Test
+    @DisplayName("Prefetched transactions are not warmed again and count as warm hits")
+    void prefetchedTransactionsAreWarmHits() {
+        final var cacheWarmer = newCacheWarmer(Runnable::run, configProvider(true, 20, 10));
+        given(storeFactory.getStore(ReadableAccountStore.class)).willReturn(accountStore);
+        final var transaction = preHandledTransaction(1);
+
+        cacheWarmer.prefetch(List.of(transaction));
+        cacheWarmer.warm(state, round(1, transaction));
+
+        verify(accountStore).warm(PAYER);
+        verify(dispatcher, times(1)).dispatchWarmup(any());
+        assertThat(metrics.getMetric("app", "cacheWarmHitPercent").get(VALUE)).isEqualTo(100.0);
+        assertThat(metrics.getMetric("app", "cacheWarmWastedPrefetches").get(VALUE))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Prefetched transactions not handled within the lookahead window are wasted")
+    void stalePrefetchesAreWasted() {
+        final var cacheWarmer = newCacheWarmer(Runnable::run, configProvider(true, 2, 10));
+        given(storeFactory.getStore(ReadableAccountStore.class)).willReturn(accountStore);
+
+        cacheWarmer.warm(state, round(10));
+        cacheWarmer.prefetch(List.of(preHandledTransaction(1)));
+        cacheWarmer.warm(state, round(12));
+        assertThat(metrics.getMetric("app", "cacheWarmWastedPrefetches").get(VALUE))
+                .isEqualTo(0L);
+
+        cacheWarmer.warm(state, round(13));
+        assertThat(metrics.getMetric("app", "cacheWarmWastedPrefetches").get(VALUE))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Transactions are not prefetched when too many prefetches are in flight")
+    void prefetchesAreBounded() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final var cacheWarmer = newCacheWarmer(tasks::add, configProvider(true, 20, 1));
+        given(storeFactory.getStore(ReadableAccountStore.class)).willReturn(accountStore);
+
+        cacheWarmer.prefetch(List.of(preHandledTransaction(1), preHandledTransaction(2)));
+
+        assertThat(tasks).hasSize(1);
+        assertThat(metrics.getMetric("app", "cacheWarmDroppedPrefetches").get(VALUE))
+                .isEqualTo(1L);
+
+        // Once the first prefetch is complete, the next one can start
+        tasks.getFirst().run();
+        cacheWarmer.prefetch(List.of(preHandledTransaction(3)));
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("The state read by prefetches is reserved until the prefetch is complete")
+    void stateIsReservedDuringPrefetch() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final var cacheWarmer = newCacheWarmer(tasks::add, configProvider(true, 20, 10));
+        given(storeFactory.getStore(ReadableAccountStore.class)).willReturn(accountStore);
+
+        cacheWarmer.prefetch(List.of(preHandledTransaction(1), preHandledTransaction(2)));
+
+        // The state is only reserved once the prefetch runs
+        assertThat(tasks).hasSize(1);
+        assertThat(reservations).hasValue(0);
+        doAnswer(invocation -> {
+                    assertThat(reservations).hasValue(1);
+                    return null;
+                })
+                .when(accountStore)
+                .warm(PAYER);
+
+        tasks.getFirst().run();
+
+        verify(accountStore, times(2)).warm(PAYER);
+        assertThat(reservations).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Without lookahead, transactions of a round are collected off the handle thread")
+    void roundIsCollectedOnExecutorWhenLookaheadDisabled() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final var cacheWarmer = newCacheWarmer(tasks::add, configProvider(false, 20, 10));
+        final var round = round(1);
+
+        cacheWarmer.warm(state, round);
+
+        verify(round, never()).iterator();
+        assertThat(tasks).hasSize(1);
+        tasks.getFirst().run();
+        verify(round).iterator();
+    }
+
+    @Test
+    @DisplayName("Nothing is prefetched if lookahead is disabled")
+    void noPrefetchWhenDisabled() {
+        final var cacheWarmer = newCacheWarmer(Runnable::run, configProvider(false, 20, 10));
+
+        cacheWarmer.prefetch(List.of(mock(Transaction.class)));
+
+        verifyNoInteractions(storeFactory, dispatcher);
+    }
+
+    private CacheWarmer newCacheWarmer(
+            final Executor executor, final ConfigProvider configProvider) {
+        final Supplier<AutoCloseableWrapper<ReadableStoreFactory>> latestImmutableStoreFactory = () -> {
+            reservations.incrementAndGet();
+            return new AutoCloseableWrapper<>(storeFactory, reservations::decrementAndGet);
+        };
+        return new CacheWarmer(
+                checker,
+                dispatcher,
+                executor,
+                ServicesSoftwareVersion::new,
+                configProvider,
+                latestImmutableStoreFactory,
+                metrics);
+    }
+
+    private static ConfigProvider configProvider(
+            final boolean lookaheadEnabled, final int lookaheadRounds, final int maxInFlight) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.warmLookaheadEnabled", lookaheadEnabled)
+                .withValue("cache.warmLookaheadRounds", lookaheadRounds)
+                .withValue("cache.warmMaxInFlight", maxInFlight)
+                .getOrCreateConfig();
+        return () -> new VersionedConfigImpl(config, 1);
+    }
+
+    private static Transaction preHandledTransaction(final long validStartSeconds) {
+        final var txBody = TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder()
+                        .accountID(PAYER)
+                        .transactionValidStart(
+                                Timestamp.newBuilder().seconds(validStartSeconds).build())
+                        .build())
+                .build();
+        final var txInfo = new TransactionInfo(
+                com.hedera.hapi.node.base.Transaction.DEFAULT,
+                txBody,
+                SignatureMap.DEFAULT,
+                Bytes.EMPTY,
+                HederaFunctionality.CRYPTO_TRANSFER,
+                null);
+        final var result = new PreHandleResult(
+                PAYER, null, PreHandleResult.Status.SO_FAR_SO_GOOD, OK, txInfo, null, null, null, null, null, 0L);
+        final var transaction = mock(Transaction.class);
+        given(transaction.getMetadata()).willReturn(result);
+        return transaction;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Round round(final long roundNum, final Transaction... transactions) {
+        final var event = mock(ConsensusEvent.class);
+        doAnswer(invocation -> {
+                    final Consumer<Transaction> consumer = invocation.getArgument(0);
+                    for (final var transaction : transactions) {
+                        consumer.accept(transaction);
+                    }
+                    return null;
+                })
+                .when(event)
+                .forEachTransaction(any(Consumer.class));
+        final var round = mock(Round.class);
+        given(round.getRoundNum()).willReturn(roundNum);
+        given(round.iterator()).willAnswer(invocation -> List.of(event).iterator());
+        return round;
+    }
 }
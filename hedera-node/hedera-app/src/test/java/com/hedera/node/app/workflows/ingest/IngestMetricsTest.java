@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.ingest;
+
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.app.workflows.ingest.IngestMetrics.Stage;
+import com.swirlds.metrics.api.Metrics;
+import org.junit.jupiter.api.Test;
+
+class IngestMetricsTest {
+
+    private final Metrics metrics = TestUtils.metrics();
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testConstructorWithInvalidArguments() {
+        assertThatThrownBy(() -> new IngestMetrics(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testConstructorInitializesMetrics() {
+        // when
+        new IngestMetrics(metrics);
+
+        // then
+        assertThat(metrics.findMetricsByCategory("app")).hasSize(Stage.values().length * 2);
+    }
+
+    @Test
+    void testUpdateDuration() {
+        // given
+        final var ingestMetrics = new IngestMetrics(metrics);
+
+        // when
+        ingestMetrics.updateDuration(Stage.SUBMIT, 40);
+        ingestMetrics.updateDuration(Stage.SUBMIT, 60);
+
+        // then
+        assertThat(metrics.getMetric("app", "ingestSubmitDurationMax").get(VALUE))
+                .isEqualTo(60);
+        assertThat(metrics.getMetric("app", "ingestSubmitDurationAvg").get(VALUE))
+                .isEqualTo(50);
+        assertThat(metrics.getMetric("app", "ingestParseDurationMax").get(VALUE))
+                .isEqualTo(0);
+    }
+}
@@ -113,6 +113,8 @@ class IngestWorkflowImplTest extends AppTestBase {
 
     private VersionedConfiguration configuration;
 
+    private IngestMetrics ingestMetrics;
+
     @BeforeEach
     void setup() throws PreCheckException {
         // The request buffer, with basically random bytes
@@ -146,27 +148,31 @@ class IngestWorkflowImplTest extends AppTestBase {
         when(ingestChecker.runAllChecks(state, transaction, configuration)).thenReturn(transactionInfo);
 
         // Create the workflow we are going to test with
+        ingestMetrics = new IngestMetrics(metrics);
         workflow = new IngestWorkflowImpl(
-                stateAccessor, transactionChecker, ingestChecker, submissionManager, configProvider);
+                stateAccessor, transactionChecker, ingestChecker, submissionManager, configProvider, ingestMetrics);
     }
 
     @SuppressWarnings("ConstantConditions")
     @Test
     void testConstructorWithInvalidArguments() {
         assertThatThrownBy(() -> new IngestWorkflowImpl(
-                        null, transactionChecker, ingestChecker, submissionManager, configProvider))
+                        null, transactionChecker, ingestChecker, submissionManager, configProvider, ingestMetrics))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() ->
-                        new IngestWorkflowImpl(stateAccessor, null, ingestChecker, submissionManager, configProvider))
+        assertThatThrownBy(() -> new IngestWorkflowImpl(
+                        stateAccessor, null, ingestChecker, submissionManager, configProvider, ingestMetrics))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new IngestWorkflowImpl(
-                        stateAccessor, transactionChecker, null, submissionManager, configProvider))
+                        stateAccessor, transactionChecker, null, submissionManager, configProvider, ingestMetrics))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() ->
-                        new IngestWorkflowImpl(stateAccessor, transactionChecker, ingestChecker, null, configProvider))
+        assertThatThrownBy(() -> new IngestWorkflowImpl(
+                        stateAccessor, transactionChecker, ingestChecker, null, configProvider, ingestMetrics))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new IngestWorkflowImpl(
+                        stateAccessor, transactionChecker, ingestChecker, submissionManager, null, ingestMetrics))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new IngestWorkflowImpl(
-                        stateAccessor, transactionChecker, ingestChecker, submissionManager, null))
+                        stateAccessor, transactionChecker, ingestChecker, submissionManager, configProvider, null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.prehandle;
+
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.app.workflows.prehandle.PreHandleMetrics.Stage;
+import com.swirlds.metrics.api.Metrics;
+import org.junit.jupiter.api.Test;
+
+class PreHandleMetricsTest {
+
+    private final Metrics metrics = TestUtils.metrics();
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testConstructorWithInvalidArguments() {
+        assertThatThrownBy(() -> new PreHandleMetrics(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testConstructorInitializesMetrics() {
+        // when
+        new PreHandleMetrics(metrics);
+
+        // then
+        // max and avg for every stage and for backpressure waits, plus queued, in-flight, and backpressure counter
+        final int metricsCount = (Stage.values().length + 1) * 2 + 3;
+        assertThat(metrics.findMetricsByCategory("app")).hasSize(metricsCount);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    void testUpdateDurationWithInvalidArguments() {
+        final var preHandleMetrics = new PreHandleMetrics(metrics);
+        assertThatThrownBy(() -> preHandleMetrics.updateDuration(null, 0)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testUpdateDuration() {
+        // given
+        final var preHandleMetrics = new PreHandleMetrics(metrics);
+
+        // when
+        preHandleMetrics.updateDuration(Stage.KEY_EXPANSION, 40);
+        preHandleMetrics.updateDuration(Stage.KEY_EXPANSION, 60);
+
+        // then
+        assertThat(metrics.getMetric("app", "preHandleKeyExpansionDurationMax").get(VALUE))
+                .isEqualTo(60);
+        assertThat(metrics.getMetric("app", "preHandleKeyExpansionDurationAvg").get(VALUE))
+                .isEqualTo(50);
+        assertThat(metrics.getMetric("app", "preHandleParseDurationMax").get(VALUE))
+                .isEqualTo(0);
+    }
+
+    @Test
+    void testQueueAndBackpressure() {
+        // given
+        final var preHandleMetrics = new PreHandleMetrics(metrics);
+
+        // when
+        preHandleMetrics.transactionsQueued(10);
+        preHandleMetrics.transactionsQueued(5);
+        preHandleMetrics.transactionsStarted(10, 0);
+
+        // then
+        assertThat(metrics.getMetric("app", "preHandleQueued").get(VALUE)).isEqualTo(5);
+        assertThat(metrics.getMetric("app", "preHandleInFlight").get(VALUE)).isEqualTo(10);
+        assertThat(metrics.getMetric("app", "preHandleBackpressure").get(VALUE)).isEqualTo(0L);
+
+        // when
+        preHandleMetrics.transactionsStarted(5, 1000);
+        preHandleMetrics.transactionsFinished(10);
+
+        // then
+        assertThat(metrics.getMetric("app", "preHandleQueued").get(VALUE)).isEqualTo(0);
+        assertThat(metrics.getMetric("app", "preHandleInFlight").get(VALUE)).isEqualTo(5);
+        assertThat(metrics.getMetric("app", "preHandleBackpressure").get(VALUE)).isEqualTo(1L);
+        assertThat(metrics.getMetric("app", "preHandleBackpressureWaitDurationMax").get(VALUE))
+                .isEqualTo(1000);
+    }
+}
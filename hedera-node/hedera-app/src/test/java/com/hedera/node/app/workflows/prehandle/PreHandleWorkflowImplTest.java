@@ -60,6 +60,7 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.utils.TestUtils;
 import com.hedera.node.app.version.ServicesSoftwareVersion;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionScenarioBuilder;
@@ -75,6 +76,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
@@ -126,6 +128,9 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @Mock
     private DeduplicationCache deduplicationCache;
 
+    /** Pre-handle metrics, registered in a real metrics instance. */
+    private PreHandleMetrics preHandleMetrics;
+
     /** We use a real functional store factory with our standard test data set. Needed by the workflow. */
     private ReadableStoreFactory storeFactory;
 
@@ -162,13 +167,16 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
         final var config = new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), DEFAULT_CONFIG_VERSION);
         when(configProvider.getConfiguration()).thenReturn(config);
 
+        preHandleMetrics = new PreHandleMetrics(TestUtils.metrics());
         workflow = new PreHandleWorkflowImpl(
                 dispatcher,
                 transactionChecker,
                 signatureVerifier,
                 signatureExpander,
                 configProvider,
-                deduplicationCache);
+                deduplicationCache,
+                ForkJoinPool.commonPool(),
+                preHandleMetrics);
     }
 
     /** Null arguments are not permitted to the constructor. */
@@ -176,28 +184,86 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @DisplayName("Null constructor args throw NPE")
     @SuppressWarnings("DataFlowIssue") // Suppress the warning about null args
     void nullConstructorArgsTest() {
+        final var pool = ForkJoinPool.commonPool();
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
                         null,
                         transactionChecker,
                         signatureVerifier,
                         signatureExpander,
                         configProvider,
-                        deduplicationCache))
+                        deduplicationCache,
+                        pool,
+                        preHandleMetrics))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, null, signatureVerifier, signatureExpander, configProvider, deduplicationCache))
+                        dispatcher,
+                        null,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        pool,
+                        preHandleMetrics))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, null, signatureExpander, configProvider, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        null,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        pool,
+                        preHandleMetrics))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, null, configProvider, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        null,
+                        configProvider,
+                        deduplicationCache,
+                        pool,
+                        preHandleMetrics))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, signatureExpander, null, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        null,
+                        deduplicationCache,
+                        pool,
+                        preHandleMetrics))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, signatureExpander, configProvider, null))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        null,
+                        pool,
+                        preHandleMetrics))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PreHandleWorkflowImpl(
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        null,
+                        preHandleMetrics))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PreHandleWorkflowImpl(
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        pool,
+                        null))
                 .isInstanceOf(NullPointerException.class);
     }
 
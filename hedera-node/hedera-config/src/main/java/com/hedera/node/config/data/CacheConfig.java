@@ -23,4 +23,8 @@ import com.swirlds.config.api.ConfigProperty;
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
-        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads) {}
+        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads,
+        @ConfigProperty(value = "warmLookaheadEnabled", defaultValue = "false") @NetworkProperty
+                boolean warmLookaheadEnabled,
+        @ConfigProperty(value = "warmLookaheadRounds", defaultValue = "20") @NetworkProperty int warmLookaheadRounds,
+        @ConfigProperty(value = "warmMaxInFlight", defaultValue = "10000") @NetworkProperty int warmMaxInFlight) {}
@@ -21,6 +21,7 @@ import com.hedera.node.config.NodeProperty;
 import com.hedera.node.config.types.Profile;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
 @ConfigData("hedera")
 public record HederaConfig(
@@ -54,6 +55,14 @@ public record HederaConfig(
         @ConfigProperty(value = "profiles.active", defaultValue = "PROD") @NodeProperty Profile activeProfile,
         @ConfigProperty(value = "workflow.verificationTimeoutMS", defaultValue = "20000") @NetworkProperty
                 long workflowVerificationTimeoutMS,
+        @ConfigProperty(value = "workflow.preHandleThreads", defaultValue = "0") @NodeProperty
+                int workflowPreHandleThreads,
+        @ConfigProperty(value = "workflow.preHandleMaxInFlight", defaultValue = "20000") @Min(1) @NodeProperty
+                int workflowPreHandleMaxInFlight,
+        @ConfigProperty(value = "workflow.ingestThrottleShards", defaultValue = "1") @NodeProperty
+                int workflowIngestThrottleShards,
+        @ConfigProperty(value = "workflow.ingestThrottleRebalanceMs", defaultValue = "50") @NodeProperty
+                long workflowIngestThrottleRebalanceMs,
         // FUTURE: Set<HederaFunctionality>.
         @ConfigProperty(value = "workflows.enabled", defaultValue = "true") @NetworkProperty String workflowsEnabled,
         @ConfigProperty(value = "ingestThrottle.enabled", defaultValue = "true") @NetworkProperty
@@ -159,6 +159,11 @@ public interface Cryptography {
      * Starting in version 0.43 and onwards, the {@link SignatureType#ECDSA_SECP256K1} signature algorithm requires the
      * payload to be a KECCAK-256 hash of the original message. Verification will fail if the message is not 32 bytes in
      * length and the output of 256-bit hashing function.
+     * <p>
+     * All {@link SignatureType#ED25519} signatures in the list are verified as a single batch. Signatures in a batch
+     * are still verified one by one, but dispatch and buffer allocation costs are paid once per batch rather than once
+     * per signature, so callers with multiple signatures to check should prefer this method to
+     * {@link #verifySync(TransactionSignature)}.
      *
      * @param signatures a list of signatures to be verified
      * @return true if all the signatures are valid; otherwise false
@@ -32,6 +32,7 @@ import com.swirlds.logging.legacy.LogMarker;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -208,17 +209,25 @@ public class CryptoEngine implements Cryptography {
 
         boolean finalOutcome = true;
 
-        OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider;
+        // ECDSA signatures are verified one by one, all Ed25519 signatures are verified as a single batch
+        final List<TransactionSignature> ed25519Signatures = new ArrayList<>(signatures.size());
         for (final TransactionSignature signature : signatures) {
             if (signature.getSignatureType() == SignatureType.ECDSA_SECP256K1) {
-                provider = ecdsaSecp256k1VerificationProvider;
+                if (!verifySyncInternal(signature, ecdsaSecp256k1VerificationProvider, future)) {
+                    finalOutcome = false;
+                }
             } else {
-                provider = ed25519VerificationProvider;
+                ed25519Signatures.add(signature);
             }
+        }
 
-            if (!verifySyncInternal(signature, provider, future)) {
+        if (!ed25519Signatures.isEmpty()) {
+            if (!ed25519VerificationProvider.verifyBatch(ed25519Signatures)) {
                 finalOutcome = false;
             }
+            for (final TransactionSignature signature : ed25519Signatures) {
+                signature.setFuture(future);
+            }
         }
 
         return finalOutcome;
@@ -24,7 +24,10 @@ import com.goterl.lazysodium.SodiumJava;
 import com.goterl.lazysodium.interfaces.Sign;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.ByteBuffer;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -90,6 +93,28 @@ public class Ed25519VerificationProvider
         return compute(loadedAlgorithm, algorithmType, message, signature, publicKey);
     }
 
+    /**
+     * Verifies a batch of Ed25519 signatures and sets the verification status of every signature in the batch.
+     * Signatures in a batch usually share the same message, for example, all signatures of a single transaction.
+     * The message is extracted from the signature contents only once for such signatures, and signature and public
+     * key buffers are reused across the batch, so no per-signature allocations are made.
+     *
+     * @param signatures
+     * 		the signatures to be verified, all signatures must be of {@link SignatureType#ED25519} type
+     * @return true if all signatures in the batch are valid; false otherwise
+     */
+    public boolean verifyBatch(@NonNull final List<TransactionSignature> signatures) {
+        final Sign.Native loadedAlgorithm = loadAlgorithm(SignatureType.ED25519);
+        final BatchBuffers buffers = new BatchBuffers();
+        boolean allValid = true;
+        for (final TransactionSignature sig : signatures) {
+            final boolean isValid = compute(loadedAlgorithm, SignatureType.ED25519, sig, buffers);
+            sig.setSignatureStatus(isValid ? VerificationStatus.VALID : VerificationStatus.INVALID);
+            allValid &= isValid;
+        }
+        return allValid;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -107,7 +132,7 @@ public class Ed25519VerificationProvider
             final SignatureType algorithmType,
             final TransactionSignature item,
             final Void optionalData) {
-        return compute(algorithm, algorithmType, item);
+        return compute(algorithm, algorithmType, item, new BatchBuffers());
     }
 
     /**
@@ -155,10 +180,15 @@ public class Ed25519VerificationProvider
      * 		the type of algorithm to be used when performing the transformation
      * @param sig
      * 		the input signature to be transformed
+     * @param buffers
+     * 		the buffers to extract the message, the signature, and the public key to
      * @return true if the provided signature is valid; false otherwise
      */
     private boolean compute(
-            final Sign.Native algorithm, final SignatureType algorithmType, final TransactionSignature sig) {
+            final Sign.Native algorithm,
+            final SignatureType algorithmType,
+            final TransactionSignature sig,
+            final BatchBuffers buffers) {
         final byte[] payload = sig.getContentsDirect();
         final byte[] expandedPublicKey = sig.getExpandedPublicKey();
 
@@ -166,16 +196,55 @@ public class Ed25519VerificationProvider
         final ByteBuffer pkBuffer = (expandedPublicKey != null && expandedPublicKey.length > 0)
                 ? ByteBuffer.wrap(expandedPublicKey)
                 : buffer;
-        final byte[] signature = new byte[sig.getSignatureLength()];
-        final byte[] publicKey = new byte[sig.getPublicKeyLength()];
-        final byte[] message = new byte[sig.getMessageLength()];
-
-        buffer.position(sig.getMessageOffset())
-                .get(message)
-                .position(sig.getSignatureOffset())
-                .get(signature);
+        final byte[] signature = buffers.signature(sig.getSignatureLength());
+        final byte[] publicKey = buffers.publicKey(sig.getPublicKeyLength());
+        final byte[] message = buffers.message(sig);
+
+        buffer.position(sig.getSignatureOffset()).get(signature);
         pkBuffer.position(sig.getPublicKeyOffset()).get(publicKey);
 
         return compute(algorithm, algorithmType, message, signature, publicKey);
     }
+
+    /**
+     * Buffers to extract signature data to. A message is only extracted again, if it's stored at a different location
+     * than the previous one. Signature and public key buffers are reused as long as their lengths don't change. The
+     * buffers are not thread safe and must only be used to verify a single signature or a single batch.
+     */
+    private static final class BatchBuffers {
+
+        private byte[] messageContents;
+        private int messageOffset;
+        private byte[] message;
+        private byte[] signature;
+        private byte[] publicKey;
+
+        byte[] message(final TransactionSignature sig) {
+            final byte[] contents = sig.getContentsDirect();
+            if ((message == null)
+                    || (contents != messageContents)
+                    || (sig.getMessageOffset() != messageOffset)
+                    || (sig.getMessageLength() != message.length)) {
+                message = new byte[sig.getMessageLength()];
+                System.arraycopy(contents, sig.getMessageOffset(), message, 0, message.length);
+                messageContents = contents;
+                messageOffset = sig.getMessageOffset();
+            }
+            return message;
+        }
+
+        byte[] signature(final int length) {
+            if ((signature == null) || (signature.length != length)) {
+                signature = new byte[length];
+            }
+            return signature;
+        }
+
+        byte[] publicKey(final int length) {
+            if ((publicKey == null) || (publicKey.length != length)) {
+                publicKey = new byte[length];
+            }
+            return publicKey;
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package com.swirlds.common.crypto;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.crypto.config.CryptoConfig;
@@ -26,9 +27,12 @@ import com.swirlds.common.test.fixtures.crypto.EcdsaUtils;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SplittableRandom;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -93,4 +97,55 @@ public class SigningProviderTest {
                     "check ED25519 result");
         }
     }
+
+    @Test
+    void ED25519BatchVerificationTest() throws Exception {
+        final SplittableRandom random = new SplittableRandom();
+        final int signers = 10;
+        final byte[] msg = new byte[256];
+        random.nextBytes(msg);
+        // All signatures share the same message at the beginning of the contents array
+        final int pairLength = ED25519SigningProvider.SIGNATURE_LENGTH + ED25519SigningProvider.PUBLIC_KEY_LENGTH;
+        final byte[] contents = new byte[msg.length + signers * pairLength];
+        System.arraycopy(msg, 0, contents, 0, msg.length);
+        final List<TransactionSignature> signatures = new ArrayList<>();
+        for (int i = 0; i < signers; i++) {
+            final ED25519SigningProvider signingProvider = new ED25519SigningProvider();
+            final int sigOffset = msg.length + i * pairLength;
+            final int keyOffset = sigOffset + ED25519SigningProvider.SIGNATURE_LENGTH;
+            System.arraycopy(
+                    signingProvider.sign(msg), 0, contents, sigOffset, ED25519SigningProvider.SIGNATURE_LENGTH);
+            System.arraycopy(
+                    signingProvider.getPublicKeyBytes(),
+                    0,
+                    contents,
+                    keyOffset,
+                    ED25519SigningProvider.PUBLIC_KEY_LENGTH);
+            signatures.add(new TransactionSignature(
+                    contents,
+                    sigOffset,
+                    ED25519SigningProvider.SIGNATURE_LENGTH,
+                    keyOffset,
+                    ED25519SigningProvider.PUBLIC_KEY_LENGTH,
+                    0,
+                    msg.length,
+                    SignatureType.ED25519));
+        }
+        assertTrue(cryptography.verifySync(signatures), "check ED25519 batch result");
+        for (final TransactionSignature signature : signatures) {
+            assertEquals(VerificationStatus.VALID, signature.getSignatureStatus(), "check ED25519 signature status");
+            assertTrue(signature.getFuture().isDone(), "check ED25519 signature future");
+        }
+
+        // Corrupt a single signature, only this signature must be reported invalid
+        final int corrupted = 3;
+        contents[signatures.get(corrupted).getSignatureOffset()] ^= 1;
+        assertFalse(cryptography.verifySync(signatures), "check ED25519 batch result");
+        for (int i = 0; i < signers; i++) {
+            assertEquals(
+                    i == corrupted ? VerificationStatus.INVALID : VerificationStatus.VALID,
+                    signatures.get(i).getSignatureStatus(),
+                    "check ED25519 signature status");
+        }
+    }
 }
@@ -24,6 +24,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.CompactionIoBudget;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -34,11 +35,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -49,6 +52,9 @@ import org.apache.logging.log4j.Logger;
  * and keep them disabled until they are explicitly enabled again.
  * The compaction tasks are executed in a background thread pool.
  * The number of threads in the pool is defined by {@link MerkleDbConfig#compactionThreads()} property.
+ * If there are more compaction tasks submitted than threads in the pool, tasks for stores with higher
+ * garbage ratio (see {@link DataFileCompactor#getGarbageRatio()}) are executed first.
+ * All compactions share a single disk I/O budget, see {@link CompactionIoBudget}.
  *
  */
 @SuppressWarnings("rawtypes")
@@ -64,6 +70,11 @@ class MerkleDbCompactionCoordinator {
      */
     private static ExecutorService compactionExecutor = null;
 
+    /**
+     * Disk I/O budget shared by all compactions. Accessed using {@link #getCompactionIoBudget(MerkleDbConfig)}.
+     */
+    private static CompactionIoBudget compactionIoBudget = null;
+
     /**
      * This method is invoked from a non-static method and uses the provided configuration.
      * Consequently, the compaction executor will be initialized using the configuration provided
@@ -80,7 +91,8 @@ class MerkleDbCompactionCoordinator {
                     merkleDbConfig.compactionThreads(),
                     50L,
                     TimeUnit.MILLISECONDS,
-                    new LinkedBlockingQueue<>(),
+                    // Tasks are PrioritizedCompactionTasks, ordered by priority
+                    new PriorityBlockingQueue<>(),
                     new ThreadConfiguration(getStaticThreadManager())
                             .setThreadGroup(new ThreadGroup("Compaction"))
                             .setComponent(MERKLEDB_COMPONENT)
@@ -92,6 +104,20 @@ class MerkleDbCompactionCoordinator {
         return compactionExecutor;
     }
 
+    /**
+     * Gets the disk I/O budget shared by all compactions. Similar to {@link
+     * #getCompactionExecutor(MerkleDbConfig)}, the budget is created using the configuration
+     * provided by the first caller.
+     */
+    static synchronized CompactionIoBudget getCompactionIoBudget(final @NonNull MerkleDbConfig merkleDbConfig) {
+        requireNonNull(merkleDbConfig);
+
+        if (compactionIoBudget == null) {
+            compactionIoBudget = new CompactionIoBudget(merkleDbConfig);
+        }
+        return compactionIoBudget;
+    }
+
     public static final String HASH_STORE_DISK_SUFFIX = "HashStoreDisk";
     public static final String OBJECT_KEY_TO_PATH_SUFFIX = "ObjectKeyToPath";
     public static final String PATH_TO_KEY_VALUE_SUFFIX = "PathToKeyValue";
@@ -264,7 +290,10 @@ class MerkleDbCompactionCoordinator {
                 }
             }
             final ExecutorService executor = getCompactionExecutor(merkleDbConfig);
-            compactionFuturesByName.put(task.id, executor.submit(task));
+            final PrioritizedCompactionTask prioritizedTask =
+                    new PrioritizedCompactionTask(task, task.compactor.getGarbageRatio());
+            compactionFuturesByName.put(task.id, prioritizedTask);
+            executor.execute(prioritizedTask);
         }
     }
 
@@ -272,6 +301,50 @@ class MerkleDbCompactionCoordinator {
         return compactionEnabled.get();
     }
 
+    /**
+     * Notifies the shared compaction I/O budget that a data source flush is started, so running
+     * compactions back off until {@link #flushFinished()} is called.
+     */
+    void flushStarted() {
+        getCompactionIoBudget(merkleDbConfig).flushStarted();
+    }
+
+    /**
+     * Notifies the shared compaction I/O budget that a data source flush is finished. Must be
+     * balanced with {@link #flushStarted()}.
+     */
+    void flushFinished() {
+        getCompactionIoBudget(merkleDbConfig).flushFinished();
+    }
+
+    /**
+     * A compaction task future, which can be ordered in the compaction executor queue. Tasks with
+     * higher priority are executed first. Tasks with equal priorities are executed in submission
+     * order.
+     */
+    private static final class PrioritizedCompactionTask extends FutureTask<Boolean>
+            implements Comparable<PrioritizedCompactionTask> {
+
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+
+        // Task priority, garbage ratio of the store to compact at task submission time
+        private final double priority;
+
+        // Submission order, to break ties
+        private final long sequence = SEQUENCE.getAndIncrement();
+
+        PrioritizedCompactionTask(@NonNull final CompactionTask task, final double priority) {
+            super(task);
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(@NonNull final PrioritizedCompactionTask that) {
+            final int result = Double.compare(that.priority, priority);
+            return (result != 0) ? result : Long.compare(sequence, that.sequence);
+        }
+    }
+
     /**
      * A helper class representing a task to run compaction for a specific storage type.
      */
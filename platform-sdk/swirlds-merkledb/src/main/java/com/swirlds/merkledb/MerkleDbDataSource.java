@@ -35,6 +35,7 @@ import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.base.units.UnitConstants;
 import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.utility.IORunnable;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.merkledb.collections.HashListByteBuffer;
@@ -43,6 +44,7 @@ import com.swirlds.merkledb.collections.LongListDisk;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.collections.OffHeapUser;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.CompactionIoBudget;
 import com.swirlds.merkledb.files.DataFileCollection.LoadedDataCallback;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import com.swirlds.merkledb.files.DataFileReader;
@@ -65,13 +67,13 @@ import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Objects;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -157,6 +159,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
      */
     private final VirtualLeafBytes[] leafRecordCache;
 
+    /**
+     * Off-heap virtual leaf records cache, used instead of {@link #leafRecordCache}, if enabled in
+     * MerkleDb settings. Unlike the array cache, it supports lookups by path, too.
+     */
+    private final OffHeapLeafRecordCache offHeapLeafRecordCache;
+
     /** Thread pool storing internal records */
     private final ExecutorService storeHashesExecutor;
 
@@ -281,6 +289,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         statisticsUpdater = new MerkleDbStatisticsUpdater(merkleDbConfig, tableName);
 
+        // Disk I/O budget shared by compactions of all data sources
+        final CompactionIoBudget compactionIoBudget =
+                MerkleDbCompactionCoordinator.getCompactionIoBudget(merkleDbConfig);
+
         final Runnable updateTotalStatsFunction = () -> {
             statisticsUpdater.updateStoreFileStats(this);
             statisticsUpdater.updateOffHeapStats(this);
@@ -319,7 +331,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                     statisticsUpdater::setHashesStoreCompactionTimeMs,
                     statisticsUpdater::setHashesStoreCompactionSavedSpaceMb,
                     statisticsUpdater::setHashesStoreFileSizeByLevelMb,
-                    updateTotalStatsFunction);
+                    updateTotalStatsFunction,
+                    compactionIoBudget,
+                    true);
         } else {
             hashStoreDisk = null;
             hashStoreDiskFileCompactor = null;
@@ -343,7 +357,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 statisticsUpdater::setLeafKeysStoreCompactionTimeMs,
                 statisticsUpdater::setLeafKeysStoreCompactionSavedSpaceMb,
                 statisticsUpdater::setLeafKeysStoreFileSizeByLevelMb,
-                updateTotalStatsFunction);
+                updateTotalStatsFunction,
+                compactionIoBudget,
+                false);
         keyToPath.printStats();
 
         final LoadedDataCallback leafRecordLoadedCallback;
@@ -377,11 +393,21 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 statisticsUpdater::setLeavesStoreCompactionTimeMs,
                 statisticsUpdater::setLeavesStoreCompactionSavedSpaceMb,
                 statisticsUpdater::setLeavesStoreFileSizeByLevelMb,
-                updateTotalStatsFunction);
+                updateTotalStatsFunction,
+                compactionIoBudget,
+                true);
 
         // Leaf records cache
-        leafRecordCacheSize = merkleDbConfig.leafRecordCacheSize();
-        leafRecordCache = (leafRecordCacheSize > 0) ? new VirtualLeafBytes[leafRecordCacheSize] : null;
+        if (merkleDbConfig.leafRecordOffHeapCacheBytes() > 0) {
+            offHeapLeafRecordCache = new OffHeapLeafRecordCache(
+                    merkleDbConfig.leafRecordOffHeapCacheBytes(), merkleDbConfig.leafRecordOffHeapCacheSlotBytes());
+            leafRecordCacheSize = 0;
+            leafRecordCache = null;
+        } else {
+            offHeapLeafRecordCache = null;
+            leafRecordCacheSize = merkleDbConfig.leafRecordCacheSize();
+            leafRecordCache = (leafRecordCacheSize > 0) ? new VirtualLeafBytes[leafRecordCacheSize] : null;
+        }
 
         // Update count of open databases
         COUNT_OF_OPEN_DATABASES.increment();
@@ -505,6 +531,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             @NonNull final Stream<VirtualLeafBytes> leafRecordsToDelete,
             final boolean isReconnectContext)
             throws IOException {
+        // Let compactions back off while this flush is in progress
+        compactionCoordinator.flushStarted();
         try {
             validLeafPathRange = new KeyRange(firstLeafPath, lastLeafPath);
             final CountDownLatch countDownLatch = new CountDownLatch(lastLeafPath > 0 ? 2 : 1);
@@ -559,6 +587,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 Thread.currentThread().interrupt();
             }
         } finally {
+            compactionCoordinator.flushFinished();
             // Report total size on disk as sum of all store files. All metadata and other helper files
             // are considered small enough to be ignored. If/when we decide to use on-disk long lists
             // for indices, they should be added here
@@ -583,7 +612,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         final long path;
         VirtualLeafBytes cached = null;
         int cacheIndex = -1;
-        if (leafRecordCache != null) {
+        if (offHeapLeafRecordCache != null) {
+            cached = offHeapLeafRecordCache.get(keyBytes, keyHashCode);
+            statisticsUpdater.countLeafCacheLookup(cached != null);
+        } else if (leafRecordCache != null) {
             cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
             // No synchronization is needed here. Java guarantees (JLS 17.7) that reference writes
             // are atomic, so we will never get corrupted objects from the array. The object may
@@ -610,8 +642,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         // If the key didn't map to anything, we just return null
         if (path == INVALID_PATH) {
             // Cache the result if not already cached
-            if (leafRecordCache != null && cached == null) {
-                leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, 0, null);
+            if (cached == null) {
+                cacheLeafRecord(new VirtualLeafBytes(path, keyBytes, keyHashCode, null), cacheIndex, true);
             }
             return null;
         }
@@ -628,10 +660,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         VirtualLeafBytes leafBytes = VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
         assert leafBytes != null && leafBytes.keyBytes().equals(keyBytes);
 
-        if (leafRecordCache != null) {
-            // No synchronization is needed here, see the comment above
-            leafRecordCache[cacheIndex] = leafBytes;
-        }
+        // Key hash code is not serialized, restore it from the arguments
+        leafBytes = new VirtualLeafBytes(leafBytes.path(), leafBytes.keyBytes(), keyHashCode, leafBytes.valueBytes());
+        cacheLeafRecord(leafBytes, cacheIndex, true);
 
         return leafBytes;
     }
@@ -654,8 +685,20 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (!leafPathRange.withinRange(path)) {
             return null;
         }
+        if (offHeapLeafRecordCache != null) {
+            final VirtualLeafBytes cached = offHeapLeafRecordCache.get(path);
+            statisticsUpdater.countLeafCacheLookup(cached != null);
+            if (cached != null) {
+                return cached;
+            }
+        }
         statisticsUpdater.countLeafReads();
-        return VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        final VirtualLeafBytes leafBytes = VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        if (leafBytes != null) {
+            // Key hash code is unknown here, the record will only be available for path lookups
+            cacheLeafRecord(leafBytes, -1, false);
+        }
+        return leafBytes;
     }
 
     /**
@@ -671,7 +714,14 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         // Check the cache first
         int cacheIndex = -1;
-        if (leafRecordCache != null) {
+        if (offHeapLeafRecordCache != null) {
+            final VirtualLeafBytes cached = offHeapLeafRecordCache.get(keyBytes, keyHashCode);
+            statisticsUpdater.countLeafCacheLookup(cached != null);
+            if (cached != null) {
+                // Cached path may be a valid path or INVALID_PATH, both are legal here
+                return cached.path();
+            }
+        } else if (leafRecordCache != null) {
             cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
             // No synchronization is needed here. See the comment in loadLeafRecord(key) above
             final VirtualLeafBytes cached = leafRecordCache[cacheIndex];
@@ -684,10 +734,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         statisticsUpdater.countLeafKeyReads();
         final long path = keyToPath.get(keyBytes, keyHashCode, INVALID_PATH);
 
-        if (leafRecordCache != null) {
-            // Path may be INVALID_PATH here. Still needs to be cached (negative result)
-            leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, keyHashCode, null);
-        }
+        // Path may be INVALID_PATH here. Still needs to be cached (negative result)
+        cacheLeafRecord(new VirtualLeafBytes(path, keyBytes, keyHashCode, null), cacheIndex, true);
 
         return path;
     }
@@ -789,6 +837,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                     pathToKeyValue.close();
                     // Then leaves index
                     pathToDiskLocationLeafNodes.close();
+                    // Leaf records cache
+                    if (offHeapLeafRecordCache != null) {
+                        offHeapLeafRecordCache.close();
+                    }
                 } catch (final Exception e) {
                     logger.warn(EXCEPTION.getMarker(), "Exception while closing Data Source [{}]", tableName);
                 } catch (final Error t) {
@@ -835,38 +887,62 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             // create snapshot dir if it doesn't exist
             Files.createDirectories(snapshotDirectory);
             final MerkleDbPaths snapshotDbPaths = new MerkleDbPaths(snapshotDirectory);
-            // main snapshotting process in multiple-threads
+            // main snapshotting process in multiple-threads. In-memory indexes are written, and
+            // data files are linked, in parallel for all stores
             try {
-                final CountDownLatch countDownLatch = new CountDownLatch(7);
-                // write all data stores
-                runWithSnapshotExecutor(true, countDownLatch, "pathToDiskLocationInternalNodes", () -> {
-                    pathToDiskLocationInternalNodes.writeToFile(snapshotDbPaths.pathToDiskLocationInternalNodesFile);
-                    return true;
-                });
-                runWithSnapshotExecutor(true, countDownLatch, "pathToDiskLocationLeafNodes", () -> {
-                    pathToDiskLocationLeafNodes.writeToFile(snapshotDbPaths.pathToDiskLocationLeafNodesFile);
-                    return true;
-                });
-                runWithSnapshotExecutor(hashStoreRam != null, countDownLatch, "internalHashStoreRam", () -> {
-                    hashStoreRam.writeToFile(snapshotDbPaths.hashStoreRamFile);
-                    return true;
-                });
-                runWithSnapshotExecutor(hashStoreDisk != null, countDownLatch, "internalHashStoreDisk", () -> {
-                    hashStoreDisk.snapshot(snapshotDbPaths.hashStoreDiskDirectory);
-                    return true;
-                });
-                runWithSnapshotExecutor(keyToPath != null, countDownLatch, "keyToPath", () -> {
-                    keyToPath.snapshot(snapshotDbPaths.keyToPathDirectory);
-                    return true;
-                });
-                runWithSnapshotExecutor(true, countDownLatch, "pathToKeyValue", () -> {
-                    pathToKeyValue.snapshot(snapshotDbPaths.pathToKeyValueDirectory);
-                    return true;
-                });
-                runWithSnapshotExecutor(true, countDownLatch, "metadata", () -> {
-                    saveMetadata(snapshotDbPaths);
-                    return true;
-                });
+                final CountDownLatch countDownLatch = new CountDownLatch(8);
+                // write all in-memory indexes
+                runWithSnapshotExecutor(
+                        true,
+                        countDownLatch,
+                        "pathToDiskLocationInternalNodes",
+                        statisticsUpdater::setSnapshotIndexesTimeMs,
+                        () -> pathToDiskLocationInternalNodes.writeToFile(
+                                snapshotDbPaths.pathToDiskLocationInternalNodesFile));
+                runWithSnapshotExecutor(
+                        true,
+                        countDownLatch,
+                        "pathToDiskLocationLeafNodes",
+                        statisticsUpdater::setSnapshotIndexesTimeMs,
+                        () -> pathToDiskLocationLeafNodes.writeToFile(snapshotDbPaths.pathToDiskLocationLeafNodesFile));
+                runWithSnapshotExecutor(
+                        hashStoreRam != null,
+                        countDownLatch,
+                        "internalHashStoreRam",
+                        statisticsUpdater::setSnapshotIndexesTimeMs,
+                        () -> hashStoreRam.writeToFile(snapshotDbPaths.hashStoreRamFile));
+                runWithSnapshotExecutor(
+                        keyToPath != null,
+                        countDownLatch,
+                        "keyToPathIndex",
+                        statisticsUpdater::setSnapshotIndexesTimeMs,
+                        () -> keyToPath.snapshotIndex(snapshotDbPaths.keyToPathDirectory));
+                // snapshot all data files
+                runWithSnapshotExecutor(
+                        hashStoreDisk != null,
+                        countDownLatch,
+                        "internalHashStoreDisk",
+                        statisticsUpdater::setSnapshotFilesTimeMs,
+                        () -> hashStoreDisk.snapshot(snapshotDbPaths.hashStoreDiskDirectory));
+                runWithSnapshotExecutor(
+                        keyToPath != null,
+                        countDownLatch,
+                        "keyToPathFiles",
+                        statisticsUpdater::setSnapshotFilesTimeMs,
+                        () -> keyToPath.snapshotFiles(snapshotDbPaths.keyToPathDirectory));
+                runWithSnapshotExecutor(
+                        true,
+                        countDownLatch,
+                        "pathToKeyValue",
+                        statisticsUpdater::setSnapshotFilesTimeMs,
+                        () -> pathToKeyValue.snapshot(snapshotDbPaths.pathToKeyValueDirectory));
+                // write metadata
+                runWithSnapshotExecutor(
+                        true,
+                        countDownLatch,
+                        "metadata",
+                        statisticsUpdater::setSnapshotMetadataTimeMs,
+                        () -> saveMetadata(snapshotDbPaths));
                 // wait for the others to finish
                 countDownLatch.await();
             } catch (final InterruptedException e) {
@@ -877,11 +953,13 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                         e);
                 Thread.currentThread().interrupt();
             }
+            final long tookMs = System.currentTimeMillis() - START;
+            statisticsUpdater.setSnapshotTotalTimeMs(tookMs);
             logger.info(
                     MERKLE_DB.getMarker(),
                     "[{}] Snapshot all finished in {} seconds",
                     tableName,
-                    (System.currentTimeMillis() - START) * UnitConstants.MILLISECONDS_TO_SECONDS);
+                    tookMs * UnitConstants.MILLISECONDS_TO_SECONDS);
         } finally {
             snapshotInProgress.set(false);
         }
@@ -1061,24 +1139,28 @@ public final class MerkleDbDataSource implements VirtualDataSource {
      * @param shouldRun when true, run runnable otherwise just countdown latch
      * @param countDownLatch latch to count down when done
      * @param taskName the name of the task for logging
+     * @param timeMsConsumer consumer to report task execution time to, in milliseconds
      * @param runnable the code to run
      */
     private void runWithSnapshotExecutor(
             final boolean shouldRun,
             final CountDownLatch countDownLatch,
             final String taskName,
-            final Callable<Object> runnable) {
+            final LongConsumer timeMsConsumer,
+            final IORunnable runnable) {
         if (shouldRun) {
             snapshotExecutor.submit(() -> {
                 final long START = System.currentTimeMillis();
                 try {
-                    runnable.call();
+                    runnable.run();
+                    final long tookMs = System.currentTimeMillis() - START;
+                    timeMsConsumer.accept(tookMs);
                     logger.trace(
                             MERKLE_DB.getMarker(),
                             "[{}] Snapshot {} complete in {} seconds",
                             tableName,
                             taskName,
-                            (System.currentTimeMillis() - START) * UnitConstants.MILLISECONDS_TO_SECONDS);
+                            tookMs * UnitConstants.MILLISECONDS_TO_SECONDS);
                     return true; // turns this into a callable, so it can throw checked
                     // exceptions
                 } finally {
@@ -1184,7 +1266,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             statisticsUpdater.countFlushLeavesWritten();
 
             // cache the record
-            invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode());
+            invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode(), path);
         }
 
         // Iterate over leaf records to delete
@@ -1210,7 +1292,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             // inserted at path X then the record is just updated to new leaf's data.
 
             // delete the record from the cache
-            invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode());
+            invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode(), path);
         }
 
         // end writing
@@ -1231,11 +1313,20 @@ public final class MerkleDbDataSource implements VirtualDataSource {
      * Cache index is calculated as the key's hash code % cache size. The cache is only updated,
      * if the current record at this index has the given key. If the key is different, no update is
      * performed.
+     * <p>
+     * If the off-heap cache is used, records are invalidated both by key and by path, since
+     * the path may now be occupied by a different key.
      *
      * @param keyBytes virtual key
      * @param keyHashCode virtual key hash code
+     * @param path virtual leaf path
      */
-    private void invalidateReadCache(final Bytes keyBytes, final int keyHashCode) {
+    private void invalidateReadCache(final Bytes keyBytes, final int keyHashCode, final long path) {
+        if (offHeapLeafRecordCache != null) {
+            offHeapLeafRecordCache.invalidate(keyBytes, keyHashCode);
+            offHeapLeafRecordCache.invalidate(path);
+            return;
+        }
         if (leafRecordCache == null) {
             return;
         }
@@ -1246,6 +1337,25 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
     }
 
+    /**
+     * Puts a virtual leaf record to the leaf records cache, if the cache is enabled. No
+     * synchronization is needed here. Java guarantees (JLS 17.7) that reference writes to the
+     * array cache are atomic, and the off-heap cache is thread safe.
+     *
+     * @param leafBytes the record to cache
+     * @param cacheIndex index in the array cache, ignored for the off-heap cache
+     * @param keyHashKnown whether the record's key hash code is set
+     */
+    private void cacheLeafRecord(final VirtualLeafBytes leafBytes, final int cacheIndex, final boolean keyHashKnown) {
+        if (offHeapLeafRecordCache != null) {
+            if (offHeapLeafRecordCache.put(leafBytes, keyHashKnown)) {
+                statisticsUpdater.countLeafCacheEvictions();
+            }
+        } else if ((leafRecordCache != null) && keyHashKnown) {
+            leafRecordCache[cacheIndex] = leafBytes;
+        }
+    }
+
     FileStatisticAware getHashStoreDisk() {
         return hashStoreDisk;
     }
@@ -1274,6 +1384,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         return pathToDiskLocationLeafNodes;
     }
 
+    OffHeapLeafRecordCache getOffHeapLeafRecordCache() {
+        return offHeapLeafRecordCache;
+    }
+
     /**
      * {@inheritDoc}
      */
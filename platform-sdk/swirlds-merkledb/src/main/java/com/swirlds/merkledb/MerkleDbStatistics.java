@@ -47,6 +47,10 @@ public class MerkleDbStatistics {
     private static final String LEVEL_PREFIX = "level_";
     /** Prefix for all off-heap related metrics */
     private static final String OFFHEAP_PREFIX = "offheap_";
+    /** Prefix for all leaf records cache related metrics */
+    private static final String CACHE_PREFIX = "cache_";
+    /** Prefix for all snapshot related metrics */
+    private static final String SNAPSHOTS_PREFIX = "snapshots_";
 
     private final MerkleDbConfig dbConfig;
 
@@ -59,6 +63,13 @@ public class MerkleDbStatistics {
     /** Leaf keys - reads / s */
     private LongAccumulator leafKeyReads;
 
+    /** Leaf records cache - hits */
+    private LongAccumulator leafCacheHits;
+    /** Leaf records cache - misses */
+    private LongAccumulator leafCacheMisses;
+    /** Leaf records cache - evictions */
+    private LongAccumulator leafCacheEvictions;
+
     /** Hashes store - file count */
     private IntegerGauge hashesStoreFileCount;
     /** Hashes store - total file size in Mb */
@@ -83,6 +94,15 @@ public class MerkleDbStatistics {
     private LongAccumulator flushLeafKeysWritten;
     private DoubleAccumulator flushLeafKeysStoreFileSizeMb;
 
+    /** Snapshots - time spent writing in-memory indexes, ms, summed over all index writing tasks */
+    private LongAccumulator snapshotIndexesTimeMs;
+    /** Snapshots - time spent creating links to data files, ms, summed over all stores */
+    private LongAccumulator snapshotFilesTimeMs;
+    /** Snapshots - time spent writing data source metadata, ms */
+    private LongAccumulator snapshotMetadataTimeMs;
+    /** Snapshots - total snapshot time, ms. All snapshot phases run in parallel */
+    private LongAccumulator snapshotTotalTimeMs;
+
     /** Hashes store compactions - time in ms */
     private final List<LongAccumulator> hashesStoreCompactionTimeMsList;
     /** Hashes store compactions - saved space in Mb */
@@ -111,6 +131,8 @@ public class MerkleDbStatistics {
     private IntegerGauge offHeapObjectKeyBucketsIndexMb;
     /** Off-heap usage in MB of hashes list in RAM */
     private IntegerGauge offHeapHashesListMb;
+    /** Off-heap usage in MB of leaf records cache */
+    private IntegerGauge offHeapLeafCacheMb;
     /** Total data source off-heap usage in MB */
     private IntegerGauge offHeapDataSourceMb;
 
@@ -176,6 +198,16 @@ public class MerkleDbStatistics {
         leafKeyReads = buildLongAccumulator(
                 metrics, DS_PREFIX + READS_PREFIX + "leafKeys_" + label, "Number of leaf key reads, " + label);
 
+        // Leaf records cache
+        leafCacheHits = buildLongAccumulator(
+                metrics, DS_PREFIX + CACHE_PREFIX + "leafHits_" + label, "Number of leaf cache hits, " + label);
+        leafCacheMisses = buildLongAccumulator(
+                metrics, DS_PREFIX + CACHE_PREFIX + "leafMisses_" + label, "Number of leaf cache misses, " + label);
+        leafCacheEvictions = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + CACHE_PREFIX + "leafEvictions_" + label,
+                "Number of leaf cache evictions, " + label);
+
         // File counts and sizes
         hashesStoreFileCount = metrics.getOrCreate(
                 new IntegerGauge.Config(STAT_CATEGORY, DS_PREFIX + FILES_PREFIX + "hashesStoreFileCount_" + label)
@@ -233,6 +265,24 @@ public class MerkleDbStatistics {
                 DS_PREFIX + FLUSHES_PREFIX + "leafKeysStoreFileSizeMb_" + label,
                 "Size of the new leaf keys store file created during flush, " + label + ", Mb");
 
+        // Snapshots
+        snapshotIndexesTimeMs = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + SNAPSHOTS_PREFIX + "indexesTimeMs_" + label,
+                "Time spent writing indexes during snapshots, " + label + ", ms");
+        snapshotFilesTimeMs = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + SNAPSHOTS_PREFIX + "filesTimeMs_" + label,
+                "Time spent linking data files during snapshots, " + label + ", ms");
+        snapshotMetadataTimeMs = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + SNAPSHOTS_PREFIX + "metadataTimeMs_" + label,
+                "Time spent writing metadata during snapshots, " + label + ", ms");
+        snapshotTotalTimeMs = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + SNAPSHOTS_PREFIX + "totalTimeMs_" + label,
+                "Total snapshot time, " + label + ", ms");
+
         // Compaction
 
         for (int level = 0; level <= dbConfig.maxCompactionLevel(); level++) {
@@ -292,6 +342,9 @@ public class MerkleDbStatistics {
         offHeapHashesListMb = metrics.getOrCreate(
                 new IntegerGauge.Config(STAT_CATEGORY, DS_PREFIX + OFFHEAP_PREFIX + "hashesListMb_" + label)
                         .withDescription("Off-heap usage, hashes list, " + label + ", Mb"));
+        offHeapLeafCacheMb = metrics.getOrCreate(
+                new IntegerGauge.Config(STAT_CATEGORY, DS_PREFIX + OFFHEAP_PREFIX + "leafCacheMb_" + label)
+                        .withDescription("Off-heap usage, leaf records cache, " + label + ", Mb"));
         offHeapDataSourceMb = metrics.getOrCreate(
                 new IntegerGauge.Config(STAT_CATEGORY, DS_PREFIX + OFFHEAP_PREFIX + "dataSourceMb_" + label)
                         .withDescription("Off-heap usage, data source, " + label + ", Mb"));
@@ -324,6 +377,27 @@ public class MerkleDbStatistics {
         }
     }
 
+    /**
+     * Increments {@link #leafCacheHits} or {@link #leafCacheMisses} stat by 1
+     *
+     * @param hit whether the lookup was a cache hit
+     */
+    public void countLeafCacheLookup(final boolean hit) {
+        final LongAccumulator accumulator = hit ? leafCacheHits : leafCacheMisses;
+        if (accumulator != null) {
+            accumulator.update(1);
+        }
+    }
+
+    /**
+     * Increments {@link #leafCacheEvictions} stat by 1
+     */
+    public void countLeafCacheEvictions() {
+        if (leafCacheEvictions != null) {
+            leafCacheEvictions.update(1);
+        }
+    }
+
     /**
      * Set the current value for the {@link #hashesStoreFileCount} stat
      *
@@ -450,6 +524,30 @@ public class MerkleDbStatistics {
         }
     }
 
+    public void setSnapshotIndexesTimeMs(final long value) {
+        if (snapshotIndexesTimeMs != null) {
+            snapshotIndexesTimeMs.update(value);
+        }
+    }
+
+    public void setSnapshotFilesTimeMs(final long value) {
+        if (snapshotFilesTimeMs != null) {
+            snapshotFilesTimeMs.update(value);
+        }
+    }
+
+    public void setSnapshotMetadataTimeMs(final long value) {
+        if (snapshotMetadataTimeMs != null) {
+            snapshotMetadataTimeMs.update(value);
+        }
+    }
+
+    public void setSnapshotTotalTimeMs(final long value) {
+        if (snapshotTotalTimeMs != null) {
+            snapshotTotalTimeMs.update(value);
+        }
+    }
+
     /**
      * Set the current value for the accumulator corresponding to provided compaction level from
      * {@link #hashesStoreCompactionTimeMsList}
@@ -627,6 +725,18 @@ public class MerkleDbStatistics {
         }
     }
 
+    /**
+     * Set the current value for the {@link #offHeapLeafCacheMb} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setOffHeapLeafCacheMb(final int value) {
+        if (offHeapLeafCacheMb != null) {
+            offHeapLeafCacheMb.set(value);
+        }
+    }
+
     /**
      * Set the current value for the {@link #offHeapDataSourceMb} stat
      *
@@ -149,6 +149,10 @@ public class MerkleDbStatisticsUpdater {
             totalOffHeapMemoryConsumption +=
                     updateOffHeapStat(dataSource.getHashStoreRam(), statistics::setOffHeapHashesListMb);
         }
+        if (dataSource.getOffHeapLeafRecordCache() != null) {
+            totalOffHeapMemoryConsumption +=
+                    updateOffHeapStat(dataSource.getOffHeapLeafRecordCache(), statistics::setOffHeapLeafCacheMb);
+        }
         statistics.setOffHeapDataSourceMb(totalOffHeapMemoryConsumption);
     }
 
@@ -162,6 +166,16 @@ public class MerkleDbStatisticsUpdater {
         statistics.countLeafKeyReads();
     }
 
+    /** Updates statistics with a leaf records cache lookup result. */
+    void countLeafCacheLookup(final boolean hit) {
+        statistics.countLeafCacheLookup(hit);
+    }
+
+    /** Updates statistics with number of leaf records cache evictions. */
+    void countLeafCacheEvictions() {
+        statistics.countLeafCacheEvictions();
+    }
+
     /** Updates statistics with number of hash reads. */
     void countHashReads() {
         statistics.countHashReads();
@@ -215,6 +229,26 @@ public class MerkleDbStatisticsUpdater {
         statistics.setLeafKeysStoreFileSizeByLevelMb(compactionLevel, savedSpace);
     }
 
+    /** Updates statistics with time spent writing an in-memory index during a snapshot */
+    void setSnapshotIndexesTimeMs(final long time) {
+        statistics.setSnapshotIndexesTimeMs(time);
+    }
+
+    /** Updates statistics with time spent linking data files of a store during a snapshot */
+    void setSnapshotFilesTimeMs(final long time) {
+        statistics.setSnapshotFilesTimeMs(time);
+    }
+
+    /** Updates statistics with time spent writing data source metadata during a snapshot */
+    void setSnapshotMetadataTimeMs(final long time) {
+        statistics.setSnapshotMetadataTimeMs(time);
+    }
+
+    /** Updates statistics with total snapshot time */
+    void setSnapshotTotalTimeMs(final long time) {
+        statistics.setSnapshotTotalTimeMs(time);
+    }
+
     void setHashesStoreCompactionTimeMs(Integer compactionLevel, Long time) {
         statistics.setHashesStoreCompactionTimeMs(compactionLevel, time);
     }
@@ -0,0 +1,384 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb;
+
+import static com.swirlds.virtualmap.datasource.VirtualDataSource.INVALID_PATH;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.merkledb.collections.OffHeapUser;
+import com.swirlds.merkledb.utilities.MemoryUtils;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+
+/**
+ * Off-heap cache of virtual leaf records, with lookups by key and by path.
+ *
+ * <p>The cache is a fixed number of fixed size slots in a single direct byte buffer. Slots are
+ * grouped into sets of {@link #WAYS} slots. A record with a known key hash code is stored in the set
+ * selected by the hash code. Records loaded by path, when the key hash code is not known, are
+ * stored in the set selected by the path. When a set is full, a victim slot is selected using
+ * CLOCK (second chance) eviction: every slot has a reference bit, which is set on hits and cleared
+ * by the clock hand when it passes the slot. Records larger than a slot are not cached.
+ *
+ * <p>Path lookups use a separate off-heap index from path (modulo index size) to slot. Index
+ * entries are never cleaned up, every path lookup checks that the slot still contains a record
+ * for the requested path.
+ *
+ * <p>The cache is lock-free. Every slot is guarded by a sequence lock: writers increment the slot
+ * version to an odd number using CAS, update the slot, and increment the version to an even number
+ * again. If a writer fails to acquire a slot, the write is just skipped. Readers copy slot data
+ * to heap and check the version hasn't changed, otherwise the lookup is treated as a cache miss.
+ *
+ * <p>Slot layout:
+ * <pre>
+ *     long version
+ *     long path
+ *     int keyHashCode
+ *     int dataLength, 0 for empty slots
+ *     int flags
+ *     int reference bit
+ *     byte[] data, serialized {@link VirtualLeafBytes}
+ * </pre>
+ */
+final class OffHeapLeafRecordCache implements OffHeapUser, AutoCloseable {
+
+    /** Number of slots in a single cache set */
+    static final int WAYS = 4;
+
+    private static final int VERSION_OFFSET = 0;
+    private static final int PATH_OFFSET = VERSION_OFFSET + Long.BYTES;
+    private static final int KEY_HASH_OFFSET = PATH_OFFSET + Long.BYTES;
+    private static final int DATA_LENGTH_OFFSET = KEY_HASH_OFFSET + Integer.BYTES;
+    private static final int FLAGS_OFFSET = DATA_LENGTH_OFFSET + Integer.BYTES;
+    private static final int REFERENCED_OFFSET = FLAGS_OFFSET + Integer.BYTES;
+    static final int SLOT_HEADER_SIZE = REFERENCED_OFFSET + Integer.BYTES;
+
+    /** Slot flag: the record has a value, not just a key and a path */
+    private static final int FLAG_HAS_VALUE = 1;
+    /** Slot flag: the slot is in the set selected by the key hash code */
+    private static final int FLAG_KEY_HASH_KNOWN = 1 << 1;
+
+    /** Slot size in bytes, including slot header */
+    private final int slotSize;
+
+    /** Number of slots, multiple of {@link #WAYS} */
+    private final int slotCount;
+
+    /** Number of sets */
+    private final int setCount;
+
+    /** Slots */
+    private final ByteBuffer slots;
+
+    /** Path to slot index. Every entry is slot index + 1, or 0, if there is no slot for the path */
+    private final ByteBuffer pathIndex;
+
+    /**
+     * Clock hands, one per set. Updated without synchronization, races are benign and may only
+     * affect which slot is evicted.
+     */
+    private final byte[] clockHands;
+
+    /**
+     * Creates a new off-heap cache.
+     *
+     * @param capacityBytes max off-heap memory to use for slots, in bytes
+     * @param slotSize slot size in bytes, rounded up to a multiple of 8
+     */
+    OffHeapLeafRecordCache(final long capacityBytes, final int slotSize) {
+        if (slotSize <= SLOT_HEADER_SIZE) {
+            throw new IllegalArgumentException("Slot size must be greater than " + SLOT_HEADER_SIZE);
+        }
+        this.slotSize = (slotSize + Long.BYTES - 1) & -Long.BYTES;
+        // Direct byte buffers are limited to 2Gb
+        final long maxSlots = Math.min(capacityBytes, Integer.MAX_VALUE) / this.slotSize;
+        setCount = (int) (maxSlots / WAYS);
+        if (setCount == 0) {
+            throw new IllegalArgumentException("Cache capacity is too small: " + capacityBytes);
+        }
+        slotCount = setCount * WAYS;
+        slots = ByteBuffer.allocateDirect(slotCount * this.slotSize);
+        pathIndex = ByteBuffer.allocateDirect(slotCount * Integer.BYTES);
+        clockHands = new byte[setCount];
+    }
+
+    /**
+     * Looks up a record by key. The returned record may have no value, if only key to path
+     * mapping was cached. The path may be {@link
+     * com.swirlds.virtualmap.datasource.VirtualDataSource#INVALID_PATH}, if the key is known to
+     * be absent in the data source.
+     *
+     * @param keyBytes the key
+     * @param keyHashCode the key hash code
+     * @return the cached record, or null if not found
+     */
+    @Nullable
+    VirtualLeafBytes get(@NonNull final Bytes keyBytes, final int keyHashCode) {
+        final int firstSlot = setIndex(keyHashCode) * WAYS;
+        for (int i = 0; i < WAYS; i++) {
+            final int slot = firstSlot + i;
+            final int offset = slot * slotSize;
+            if (slots.getInt(offset + KEY_HASH_OFFSET) != keyHashCode) {
+                continue;
+            }
+            final VirtualLeafBytes cached = readSlot(offset, FLAG_KEY_HASH_KNOWN);
+            if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+                slots.putInt(offset + REFERENCED_OFFSET, 1);
+                return new VirtualLeafBytes(cached.path(), cached.keyBytes(), keyHashCode, cached.valueBytes());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks up a record with a value by path.
+     *
+     * @param path the path
+     * @return the cached record, or null if not found
+     */
+    @Nullable
+    VirtualLeafBytes get(final long path) {
+        final int slot = pathIndex.getInt(pathIndexOffset(path)) - 1;
+        if (slot < 0) {
+            return null;
+        }
+        final int offset = slot * slotSize;
+        if (slots.getLong(offset + PATH_OFFSET) != path) {
+            return null;
+        }
+        final VirtualLeafBytes cached = readSlot(offset, FLAG_HAS_VALUE);
+        if ((cached == null) || (cached.path() != path)) {
+            return null;
+        }
+        slots.putInt(offset + REFERENCED_OFFSET, 1);
+        return cached;
+    }
+
+    /**
+     * Puts a record to the cache. If the record's key hash code is known, the record is
+     * available for both key and path lookups, otherwise only for path lookups. Records without
+     * values are only cached, if the key hash code is known.
+     *
+     * @param leaf the record to cache
+     * @param keyHashKnown whether {@link VirtualLeafBytes#keyHashCode()} is set
+     * @return true if a different record was evicted from the cache to store this one
+     */
+    boolean put(@NonNull final VirtualLeafBytes leaf, final boolean keyHashKnown) {
+        final boolean hasValue = leaf.valueBytes() != null;
+        if (!keyHashKnown && !hasValue) {
+            return false;
+        }
+        final int dataLength = leaf.getSizeInBytes();
+        if (dataLength > slotSize - SLOT_HEADER_SIZE) {
+            return false;
+        }
+        final int set = keyHashKnown ? setIndex(leaf.keyHashCode()) : setIndex(Long.hashCode(leaf.path()));
+        final int slot = findSlotToWrite(set, leaf, keyHashKnown);
+        final int offset = slot * slotSize;
+        final long version = MemoryUtils.getLongVolatile(slots, offset + VERSION_OFFSET);
+        if (((version & 1) != 0)
+                || !MemoryUtils.compareAndSwapLong(slots, offset + VERSION_OFFSET, version, version + 1)) {
+            // Another thread is updating the slot, skip caching
+            return false;
+        }
+        final boolean evicted = slots.getInt(offset + DATA_LENGTH_OFFSET) != 0
+                && !(slots.getLong(offset + PATH_OFFSET) == leaf.path()
+                        && slots.getInt(offset + KEY_HASH_OFFSET) == leaf.keyHashCode());
+        slots.putLong(offset + PATH_OFFSET, leaf.path());
+        slots.putInt(offset + KEY_HASH_OFFSET, keyHashKnown ? leaf.keyHashCode() : 0);
+        slots.putInt(offset + DATA_LENGTH_OFFSET, dataLength);
+        final int flags = (hasValue ? FLAG_HAS_VALUE : 0) | (keyHashKnown ? FLAG_KEY_HASH_KNOWN : 0);
+        slots.putInt(offset + FLAGS_OFFSET, flags);
+        slots.putInt(offset + REFERENCED_OFFSET, 0);
+        leaf.writeTo(BufferedData.wrap(slots.slice(offset + SLOT_HEADER_SIZE, dataLength)));
+        if (hasValue && (leaf.path() != INVALID_PATH)) {
+            pathIndex.putInt(pathIndexOffset(leaf.path()), slot + 1);
+        }
+        VarHandle.releaseFence();
+        MemoryUtils.putLongVolatile(slots, offset + VERSION_OFFSET, version + 2);
+        return evicted;
+    }
+
+    /**
+     * Removes a record with the given key from the cache, if present. Only records stored with a
+     * known key hash code are removed.
+     *
+     * @param keyBytes the key
+     * @param keyHashCode the key hash code
+     */
+    void invalidate(@NonNull final Bytes keyBytes, final int keyHashCode) {
+        final int firstSlot = setIndex(keyHashCode) * WAYS;
+        for (int i = 0; i < WAYS; i++) {
+            final int offset = (firstSlot + i) * slotSize;
+            if (slots.getInt(offset + KEY_HASH_OFFSET) != keyHashCode) {
+                continue;
+            }
+            final VirtualLeafBytes cached = readSlot(offset, FLAG_KEY_HASH_KNOWN);
+            if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+                clearSlot(offset);
+            }
+        }
+    }
+
+    /**
+     * Removes a record with the given path from path lookups, if present.
+     *
+     * @param path the path
+     */
+    void invalidate(final long path) {
+        final int slot = pathIndex.getInt(pathIndexOffset(path)) - 1;
+        if (slot < 0) {
+            return;
+        }
+        final int offset = slot * slotSize;
+        if (slots.getLong(offset + PATH_OFFSET) == path) {
+            clearSlot(offset);
+        }
+    }
+
+    /**
+     * Gets the number of slots in this cache.
+     *
+     * @return the number of slots
+     */
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getOffHeapConsumption() {
+        return (long) slots.capacity() + pathIndex.capacity();
+    }
+
+    /**
+     * Releases off-heap memory used by this cache. The cache must not be used after this method
+     * is called.
+     */
+    @Override
+    public void close() {
+        MemoryUtils.closeDirectByteBuffer(slots);
+        MemoryUtils.closeDirectByteBuffer(pathIndex);
+    }
+
+    // =================================================================================================================
+    // Private methods
+
+    private int setIndex(final int hash) {
+        // Spread hash bits, as key hash codes may be poorly distributed
+        final int h = hash * 0x9E3779B9;
+        return Integer.remainderUnsigned(h ^ (h >>> 16), setCount);
+    }
+
+    private int pathIndexOffset(final long path) {
+        return (int) Long.remainderUnsigned(path, slotCount) * Integer.BYTES;
+    }
+
+    /**
+     * Reads a record from the given slot. Returns null, if the slot is empty, doesn't have all
+     * the required flags, or is being updated by another thread.
+     */
+    @Nullable
+    private VirtualLeafBytes readSlot(final int offset, final int requiredFlags) {
+        final long version = MemoryUtils.getLongVolatile(slots, offset + VERSION_OFFSET);
+        if ((version & 1) != 0) {
+            return null;
+        }
+        final int flags = slots.getInt(offset + FLAGS_OFFSET);
+        final int dataLength = slots.getInt(offset + DATA_LENGTH_OFFSET);
+        if (((flags & requiredFlags) != requiredFlags)
+                || (dataLength <= 0)
+                || (dataLength > slotSize - SLOT_HEADER_SIZE)) {
+            return null;
+        }
+        final byte[] data = new byte[dataLength];
+        slots.get(offset + SLOT_HEADER_SIZE, data);
+        VarHandle.acquireFence();
+        if (MemoryUtils.getLongVolatile(slots, offset + VERSION_OFFSET) != version) {
+            return null;
+        }
+        return VirtualLeafBytes.parseFrom(BufferedData.wrap(data));
+    }
+
+    /**
+     * Finds a slot in the given set to store the given record. It's either a slot with the same
+     * record, or an empty slot, or a slot selected using CLOCK eviction.
+     */
+    private int findSlotToWrite(final int set, final VirtualLeafBytes leaf, final boolean keyHashKnown) {
+        final int firstSlot = set * WAYS;
+        int emptySlot = -1;
+        for (int i = 0; i < WAYS; i++) {
+            final int offset = (firstSlot + i) * slotSize;
+            if (slots.getInt(offset + DATA_LENGTH_OFFSET) == 0) {
+                if (emptySlot < 0) {
+                    emptySlot = firstSlot + i;
+                }
+                continue;
+            }
+            final boolean sameSlotKind = ((slots.getInt(offset + FLAGS_OFFSET) & FLAG_KEY_HASH_KNOWN) != 0)
+                    == keyHashKnown;
+            if (sameSlotKind
+                    && (keyHashKnown
+                            ? slots.getInt(offset + KEY_HASH_OFFSET) == leaf.keyHashCode()
+                            : slots.getLong(offset + PATH_OFFSET) == leaf.path())) {
+                final VirtualLeafBytes cached = readSlot(offset, 0);
+                if ((cached != null) && leaf.keyBytes().equals(cached.keyBytes())) {
+                    return firstSlot + i;
+                }
+            }
+        }
+        if (emptySlot >= 0) {
+            return emptySlot;
+        }
+        // CLOCK: clear reference bits until a slot without the bit set is found. Two full turns
+        // are enough, after the first turn all bits are cleared
+        int hand = clockHands[set];
+        for (int i = 0; i < WAYS * 2; i++) {
+            final int offset = (firstSlot + hand) * slotSize;
+            hand = (hand + 1) % WAYS;
+            if (slots.getInt(offset + REFERENCED_OFFSET) == 0) {
+                break;
+            }
+            slots.putInt(offset + REFERENCED_OFFSET, 0);
+        }
+        final int victim = (hand + WAYS - 1) % WAYS;
+        clockHands[set] = (byte) hand;
+        return firstSlot + victim;
+    }
+
+    private void clearSlot(final int offset) {
+        // Unlike puts, invalidation must not be skipped, if the slot is being updated by another
+        // thread. Spin until the slot is acquired
+        long version = MemoryUtils.getLongVolatile(slots, offset + VERSION_OFFSET);
+        while (((version & 1) != 0)
+                || !MemoryUtils.compareAndSwapLong(slots, offset + VERSION_OFFSET, version, version + 1)) {
+            Thread.onSpinWait();
+            version = MemoryUtils.getLongVolatile(slots, offset + VERSION_OFFSET);
+        }
+        slots.putInt(offset + DATA_LENGTH_OFFSET, 0);
+        slots.putInt(offset + FLAGS_OFFSET, 0);
+        slots.putInt(offset + REFERENCED_OFFSET, 0);
+        VarHandle.releaseFence();
+        MemoryUtils.putLongVolatile(slots, offset + VERSION_OFFSET, version + 2);
+    }
+}
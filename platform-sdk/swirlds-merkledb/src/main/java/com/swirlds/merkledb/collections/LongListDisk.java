@@ -274,46 +274,42 @@ public class LongListDisk extends AbstractLongList<Long> {
      */
     @Override
     protected void writeLongsData(final FileChannel fc) throws IOException {
-        final ByteBuffer transferBuffer = initOrGetTransferBuffer();
         final int totalNumOfChunks = calculateNumberOfChunks(size());
         final long currentMinValidIndex = minValidIndex.get();
         final int firstChunkWithDataIndex = toIntExact(currentMinValidIndex / numLongsPerChunk);
 
         // The following logic sequentially processes chunks. This kind of processing allows to get rid of
-        // non-contiguous memory allocation and gaps that may be present in the current file.
-        // MerkleDbFileUtils.completelyTransferFrom would work faster, it wouldn't allow
-        // the required rearrangement of data.
+        // non-contiguous memory allocation and gaps that may be present in the current file. Every chunk
+        // is contiguous in the current file, so its data is transferred to the target file directly,
+        // without copying it through a transfer buffer.
         for (int i = firstChunkWithDataIndex; i < totalNumOfChunks; i++) {
-            Long currentChunkStartOffset = chunkList.get(i);
+            final Long currentChunkStartOffset = chunkList.get(i);
+            // writing starts from the first valid index in the first valid chunk
+            final long startInChunk = (i == firstChunkWithDataIndex) ? calculateOffsetInChunk(currentMinValidIndex) : 0;
+            final long endInChunk;
+            if (i == (totalNumOfChunks - 1)) {
+                // the last array, so set limit to only the data needed
+                final long bytesWrittenSoFar = (long) memoryChunkSize * (long) i;
+                endInChunk = (size() * Long.BYTES) - bytesWrittenSoFar;
+            } else {
+                endInChunk = memoryChunkSize;
+            }
             // if the chunk is null, we write zeroes to the file. If not, we write the data from the chunk
             if (currentChunkStartOffset != null) {
-                final long chunkOffset;
-                if (i == firstChunkWithDataIndex) {
-                    // writing starts from the first valid index in the first valid chunk
-                    final int firstValidIndexInChunk = toIntExact(currentMinValidIndex % numLongsPerChunk);
-                    transferBuffer.position(firstValidIndexInChunk * Long.BYTES);
-                    chunkOffset = currentChunkStartOffset + calculateOffsetInChunk(currentMinValidIndex);
-                } else {
-                    // writing the whole chunk
-                    transferBuffer.position(0);
-                    chunkOffset = currentChunkStartOffset;
+                final long bytesToWrite = endInChunk - startInChunk;
+                final long bytesWritten = MerkleDbFileUtils.completelyTransferTo(
+                        currentFileChannel, currentChunkStartOffset + startInChunk, bytesToWrite, fc);
+                if (bytesWritten != bytesToWrite) {
+                    throw new IOException("Failed to write chunk " + i + ", bytes written " + bytesWritten
+                            + ", expected " + bytesToWrite);
                 }
-                if (i == (totalNumOfChunks - 1)) {
-                    // the last array, so set limit to only the data needed
-                    final long bytesWrittenSoFar = (long) memoryChunkSize * (long) i;
-                    final long remainingBytes = (size() * Long.BYTES) - bytesWrittenSoFar;
-                    transferBuffer.limit(toIntExact(remainingBytes));
-                } else {
-                    transferBuffer.limit(memoryChunkSize);
-                }
-                int currentPosition = transferBuffer.position();
-                MerkleDbFileUtils.completelyRead(currentFileChannel, transferBuffer, chunkOffset);
-                transferBuffer.position(currentPosition);
             } else {
+                final ByteBuffer transferBuffer = initOrGetTransferBuffer();
                 fillBufferWithZeroes(transferBuffer);
+                transferBuffer.position(toIntExact(startInChunk));
+                transferBuffer.limit(toIntExact(endInChunk));
+                MerkleDbFileUtils.completelyWrite(fc, transferBuffer);
             }
-
-            MerkleDbFileUtils.completelyWrite(fc, transferBuffer);
         }
     }
 
@@ -68,6 +68,30 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  *     Maximum number of file channels per file reader.
  * @param maxThreadsPerFileChannel
  *    Maximum number of threads per file channel.
+ * @param useMemoryMappedFileReaders
+ *      If true, data file readers map completed (immutable) data files into memory and copy data items from
+ *      the mapping rather than reading them through file channels. Files larger than 2Gb are mapped in several
+ *      segments. Files that are still being written are always read using file channels. Mappings are released
+ *      when data file readers are closed.
+ * @param leafRecordOffHeapCacheBytes
+ *      Off-heap memory size in bytes for caching virtual leaf records, up to 2Gb. The off-heap cache
+ *      supports lookups by key and by path. If the value is zero, the off-heap cache isn't used, and
+ *      {@link #leafRecordCacheSize} is used to size an on-heap cache instead.
+ * @param leafRecordOffHeapCacheSlotBytes
+ *      Size of a single off-heap leaf record cache slot in bytes. Leaf records larger than a slot
+ *      (minus slot header) aren't cached.
+ * @param compactionIoBudgetBytesPerSecond
+ *      Max rate, in bytes per second, at which all compactions together may write data to disk. If the value is
+ *      zero, compactions are not throttled.
+ * @param compactionIoBudgetDuringFlushBytesPerSecond
+ *      Max rate, in bytes per second, at which all compactions together may write data to disk while at least one
+ *      data source flush is in progress. Compactions are never allowed to write faster during flushes than
+ *      {@link #compactionIoBudgetBytesPerSecond} permits. If the value is zero, the regular budget applies.
+ * @param hashMapBloomFilterBitsPerBucket
+ *      Number of in-memory bloom filter bits per half disk hash map bucket. The filter is used to skip bucket
+ *      reads from disk for keys that are definitely not in the map. Must be zero or a power of two, 64 or greater.
+ *      With about 32 keys per bucket, 512 bits per bucket give less than 1% false positives. If the value is
+ *      zero, the filter isn't used.
  */
 @ConfigData("merkleDb")
 public record MerkleDbConfig(
@@ -86,7 +110,14 @@ public record MerkleDbConfig(
         @ConfigProperty(defaultValue = "262144") int reservedBufferLengthForLeafList,
         @ConfigProperty(defaultValue = "1048576") int leafRecordCacheSize,
         @Min(1) @ConfigProperty(defaultValue = "8") int maxFileChannelsPerFileReader,
-        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel) {
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel,
+        @ConfigProperty(defaultValue = "false") boolean useMemoryMappedFileReaders,
+        @Min(0) @ConfigProperty(defaultValue = "0") long leafRecordOffHeapCacheBytes,
+        @Min(64) @ConfigProperty(defaultValue = "512") int leafRecordOffHeapCacheSlotBytes,
+        @Min(0) @ConfigProperty(defaultValue = "0") long compactionIoBudgetBytesPerSecond,
+        @Min(0) @ConfigProperty(defaultValue = "0") long compactionIoBudgetDuringFlushBytesPerSecond,
+        @ConstraintMethod("hashMapBloomFilterBitsPerBucketValidation") @ConfigProperty(defaultValue = "0")
+                int hashMapBloomFilterBitsPerBucket) {
 
     static double UNIT_FRACTION_PERCENT = 100.0;
 
@@ -104,6 +135,19 @@ public record MerkleDbConfig(
         return null;
     }
 
+    public ConfigViolation hashMapBloomFilterBitsPerBucketValidation(final Configuration configuration) {
+        final int bitsPerBucket = configuration.getConfigData(MerkleDbConfig.class).hashMapBloomFilterBitsPerBucket();
+        if ((bitsPerBucket != 0) && ((bitsPerBucket < Long.SIZE) || (Integer.bitCount(bitsPerBucket) != 1))) {
+            return new DefaultConfigViolation(
+                    "hashMapBloomFilterBitsPerBucket",
+                    "%d".formatted(bitsPerBucket),
+                    true,
+                    "Cannot configure hashMapBloomFilterBitsPerBucket to " + bitsPerBucket
+                            + ", it must be 0 or a power of two >= 64");
+        }
+        return null;
+    }
+
     public int getNumHalfDiskHashMapFlushThreads() {
         final int numProcessors = Runtime.getRuntime().availableProcessors();
         final int threads = (numHalfDiskHashMapFlushThreads() == -1)
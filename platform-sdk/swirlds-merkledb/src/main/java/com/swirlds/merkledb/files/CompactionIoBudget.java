@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb.files;
+
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Disk I/O budget shared by all {@link DataFileCompactor}s. Compactors report every data item
+ * copied to a new file using {@link #acquire(long)}, and the budget makes the compaction thread
+ * sleep, if compactions write faster than {@link MerkleDbConfig#compactionIoBudgetBytesPerSecond()}.
+ *
+ * <p>Data sources report flushes using {@link #flushStarted()} and {@link #flushFinished()}.
+ * While at least one flush is in progress, compactions are throttled down to {@link
+ * MerkleDbConfig#compactionIoBudgetDuringFlushBytesPerSecond()}, so they don't compete with
+ * flushes for disk bandwidth. The during-flush budget only ever lowers the limit: while a flush
+ * is in progress, the lower of the two non-zero budgets applies.
+ *
+ * <p>A zero budget means no limit.
+ *
+ * <p>Budget left unused, for example because a compaction thread overslept, is accumulated up to
+ * {@link #MAX_BURST_NANOS} worth of writes, so the achieved write rate matches the configured one,
+ * while an idle period doesn't allow an unbounded burst.
+ */
+public final class CompactionIoBudget {
+
+    /** A budget that never throttles compactions */
+    public static final CompactionIoBudget UNLIMITED = new CompactionIoBudget(0, 0);
+
+    /** Max time, in nanos, worth of unused budget that can be accumulated */
+    static final long MAX_BURST_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Max compaction write rate, bytes per second, when no flushes are in progress */
+    private final long bytesPerSecond;
+
+    /** Max compaction write rate, bytes per second, while a flush is in progress */
+    private final long bytesPerSecondDuringFlush;
+
+    /** Number of flushes currently in progress */
+    private final AtomicInteger flushesInProgress = new AtomicInteger(0);
+
+    /**
+     * The time, in nanos, when the budget is available again. If it's in the past, the
+     * budget is available now. Guarded by this object's monitor
+     */
+    private long nextAvailableNanos = System.nanoTime();
+
+    /**
+     * Creates a new budget from MerkleDb config.
+     *
+     * @param dbConfig MerkleDb config
+     */
+    public CompactionIoBudget(@NonNull final MerkleDbConfig dbConfig) {
+        this(dbConfig.compactionIoBudgetBytesPerSecond(), dbConfig.compactionIoBudgetDuringFlushBytesPerSecond());
+    }
+
+    /**
+     * Creates a new budget.
+     *
+     * @param bytesPerSecond max write rate when no flushes are in progress, or 0 for no limit
+     * @param bytesPerSecondDuringFlush max write rate while a flush is in progress, or 0 to use
+     *     {@code bytesPerSecond} during flushes, too
+     */
+    public CompactionIoBudget(final long bytesPerSecond, final long bytesPerSecondDuringFlush) {
+        if ((bytesPerSecond < 0) || (bytesPerSecondDuringFlush < 0)) {
+            throw new IllegalArgumentException("Compaction I/O budget must not be negative");
+        }
+        this.bytesPerSecond = bytesPerSecond;
+        this.bytesPerSecondDuringFlush = bytesPerSecondDuringFlush;
+    }
+
+    /**
+     * Notifies the budget that a data source flush is started.
+     */
+    public void flushStarted() {
+        flushesInProgress.incrementAndGet();
+    }
+
+    /**
+     * Notifies the budget that a data source flush is finished. Must be balanced with {@link
+     * #flushStarted()}.
+     */
+    public void flushFinished() {
+        flushesInProgress.decrementAndGet();
+    }
+
+    /**
+     * Checks if at least one data source flush is in progress.
+     *
+     * @return true if a flush is in progress
+     */
+    public boolean isFlushInProgress() {
+        return flushesInProgress.get() > 0;
+    }
+
+    /**
+     * Gets the currently effective write rate limit, based on whether a flush is in progress.
+     * While a flush is in progress, it's the lower of the two non-zero budgets.
+     *
+     * @return bytes per second, or 0 if there is no limit
+     */
+    public long getCurrentBytesPerSecond() {
+        if (!isFlushInProgress() || (bytesPerSecondDuringFlush == 0)) {
+            return bytesPerSecond;
+        }
+        return (bytesPerSecond == 0) ? bytesPerSecondDuringFlush : Math.min(bytesPerSecond, bytesPerSecondDuringFlush);
+    }
+
+    /**
+     * Charges the given number of bytes written by a compaction to the budget. If the budget is
+     * exceeded, blocks until the bytes fit into the current write rate limit.
+     *
+     * @param bytes number of bytes written
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire(final long bytes) throws InterruptedException {
+        final long rate = getCurrentBytesPerSecond();
+        if ((rate <= 0) || (bytes <= 0)) {
+            return;
+        }
+        final long costNanos = TimeUnit.SECONDS.toNanos(bytes) / rate;
+        final long waitNanos;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            // Unused budget is only accumulated up to MAX_BURST_NANOS, so oversleeping is paid
+            // back, but an idle period doesn't allow an unbounded burst
+            final long start = Math.max(now - MAX_BURST_NANOS, nextAvailableNanos);
+            nextAvailableNanos = start + costNanos;
+            waitNanos = start - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import com.swirlds.base.units.UnitConstants;
 import com.swirlds.merkledb.KeyRange;
 import com.swirlds.merkledb.collections.CASableLongIndex;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.channels.ClosedByInterruptException;
@@ -37,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -60,6 +62,13 @@ public class DataFileCompactor {
      */
     public static final int INITIAL_COMPACTION_LEVEL = 0;
 
+    /**
+     * Bytes copied during compaction are charged to the I/O budget in chunks of this size rather
+     * than per data item, as a budget wait for a single small data item is too short to sleep for
+     * accurately.
+     */
+    static final long IO_BUDGET_CHUNK_BYTES = 1024 * 1024;
+
     private final MerkleDbConfig dbConfig;
 
     /**
@@ -94,6 +103,19 @@ public class DataFileCompactor {
     @Nullable
     private final Runnable updateTotalStatsFunction;
 
+    /**
+     * Disk I/O budget, shared with other compactors. Every data item copied during compaction is
+     * charged to this budget
+     */
+    private final CompactionIoBudget ioBudget;
+
+    /**
+     * Indicates whether the size of the collection's valid key range is the number of live data
+     * items, so it can be used to estimate the garbage ratio. It isn't the case for stores, where
+     * keys aren't data item IDs, e.g. bucket indices in half disk hash maps
+     */
+    private final boolean keyRangeIsLiveItemCount;
+
     /**
      * A lock used for synchronization between snapshots and compactions. While a compaction is in
      * progress, it runs on its own without any synchronization. However, a few critical sections
@@ -160,6 +182,42 @@ public class DataFileCompactor {
             @Nullable final BiConsumer<Integer, Double> reportSavedSpaceMetricFunction,
             @Nullable final BiConsumer<Integer, Double> reportFileSizeByLevelMetricFunction,
             @Nullable Runnable updateTotalStatsFunction) {
+        this(
+                dbConfig,
+                storeName,
+                dataFileCollection,
+                index,
+                reportDurationMetricFunction,
+                reportSavedSpaceMetricFunction,
+                reportFileSizeByLevelMetricFunction,
+                updateTotalStatsFunction,
+                CompactionIoBudget.UNLIMITED,
+                true);
+    }
+
+    /**
+     * @param dbConfig                       MerkleDb config
+     * @param storeName                      name of the store to compact
+     * @param dataFileCollection             data file collection to compact
+     * @param index                          index to update during compaction
+     * @param reportDurationMetricFunction   function to report how long compaction took, in ms
+     * @param reportSavedSpaceMetricFunction function to report how much space was compacted, in Mb
+     * @param reportFileSizeByLevelMetricFunction function to report how much space is used by the store by compaction level, in Mb
+     * @param updateTotalStatsFunction       A function that updates statistics of total usage of disk space and off-heap space
+     * @param ioBudget                       disk I/O budget to charge compaction writes to
+     * @param keyRangeIsLiveItemCount        whether the size of the valid key range is the number of live data items
+     */
+    public DataFileCompactor(
+            final MerkleDbConfig dbConfig,
+            final String storeName,
+            final DataFileCollection dataFileCollection,
+            CASableLongIndex index,
+            @Nullable final BiConsumer<Integer, Long> reportDurationMetricFunction,
+            @Nullable final BiConsumer<Integer, Double> reportSavedSpaceMetricFunction,
+            @Nullable final BiConsumer<Integer, Double> reportFileSizeByLevelMetricFunction,
+            @Nullable Runnable updateTotalStatsFunction,
+            @NonNull final CompactionIoBudget ioBudget,
+            final boolean keyRangeIsLiveItemCount) {
         this.dbConfig = dbConfig;
         this.storeName = storeName;
         this.dataFileCollection = dataFileCollection;
@@ -168,6 +226,8 @@ public class DataFileCompactor {
         this.reportSavedSpaceMetricFunction = reportSavedSpaceMetricFunction;
         this.reportFileSizeByLevelMetricFunction = reportFileSizeByLevelMetricFunction;
         this.updateTotalStatsFunction = updateTotalStatsFunction;
+        this.ioBudget = Objects.requireNonNull(ioBudget);
+        this.keyRangeIsLiveItemCount = keyRangeIsLiveItemCount;
     }
 
     /**
@@ -226,6 +286,8 @@ public class DataFileCompactor {
         }
 
         boolean allDataItemsProcessed = false;
+        // Bytes copied, but not charged to the I/O budget yet
+        final long[] unchargedBytes = new long[1];
         try {
             final KeyRange keyRange = dataFileCollection.getValidKeyRange();
             index.forEach((path, dataLocation) -> {
@@ -244,11 +306,13 @@ public class DataFileCompactor {
                 // Take the lock. If a snapshot is started in a different thread, this call
                 // will block until the snapshot is done. The current file will be flushed,
                 // and current data file writer and reader will point to a new file
+                final long bytesCopied;
                 snapshotCompactionLock.acquire();
                 try {
                     final DataFileWriter newFileWriter = currentWriter.get();
                     final BufferedData itemBytes = reader.readDataItem(fileOffset);
                     assert itemBytes != null;
+                    bytesCopied = itemBytes.remaining();
                     long newLocation = newFileWriter.storeDataItem(itemBytes);
                     // update the index
                     index.putIfEqual(path, dataLocation, newLocation);
@@ -266,6 +330,12 @@ public class DataFileCompactor {
                 } finally {
                     snapshotCompactionLock.release();
                 }
+                // Throttle outside the lock, so snapshots are never blocked by the budget
+                unchargedBytes[0] += bytesCopied;
+                if (unchargedBytes[0] >= IO_BUDGET_CHUNK_BYTES) {
+                    ioBudget.acquire(unchargedBytes[0]);
+                    unchargedBytes[0] = 0;
+                }
             });
             allDataItemsProcessed = true;
         } finally {
@@ -289,6 +359,32 @@ public class DataFileCompactor {
         return newCompactedFiles;
     }
 
+    /**
+     * Estimates the ratio of garbage (data items that are no longer referenced from the index) in
+     * the store files, from 0.0 to 1.0. The number of live data items is estimated as the size of
+     * the collection's valid key range, so the actual ratio may be higher than reported. For stores,
+     * where the key range size isn't the number of live data items, the ratio can't be estimated,
+     * and zero is returned.
+     *
+     * @return the estimated garbage ratio
+     */
+    public double getGarbageRatio() {
+        if (!keyRangeIsLiveItemCount) {
+            return 0;
+        }
+        long totalItems = 0;
+        for (final DataFileReader reader : dataFileCollection.getAllCompletedFiles()) {
+            totalItems += reader.getMetadata().getDataItemCount();
+        }
+        if (totalItems == 0) {
+            return 0;
+        }
+        final KeyRange keyRange = dataFileCollection.getValidKeyRange();
+        final long liveItems =
+                (keyRange.getMinValidKey() < 0) ? 0 : keyRange.getMaxValidKey() - keyRange.getMinValidKey() + 1;
+        return Math.max(0.0, 1.0 - (double) liveItems / totalItems);
+    }
+
     // visible for testing
     int getMinNumberOfFilesToCompact() {
         return dbConfig.minNumberOfFilesInCompaction();
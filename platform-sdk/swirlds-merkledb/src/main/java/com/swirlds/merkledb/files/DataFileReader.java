@@ -17,6 +17,7 @@
 package com.swirlds.merkledb.files;
 
 import static com.hedera.pbj.runtime.ProtoParserTools.TAG_FIELD_OFFSET;
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_ITEMS;
 
 import com.hedera.pbj.runtime.ProtoConstants;
@@ -24,11 +25,13 @@ import com.hedera.pbj.runtime.ProtoWriterTools;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.swirlds.merkledb.collections.IndexedObject;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.utilities.MemoryUtils;
 import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
@@ -39,12 +42,22 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * The aim for a DataFileReader is to facilitate fast highly concurrent random reading of items from
  * a data file. It is designed to be used concurrently from many threads.
  *
+ * <p>Data files are never modified after they are fully written. If {@link
+ * MerkleDbConfig#useMemoryMappedFileReaders()} is enabled, a completed file is mapped into memory,
+ * and data items are copied from the mapping without any file system calls. Files larger than 2Gb
+ * are mapped in several segments. Until the file is completed, or if it can't be mapped, data is
+ * read using file channels. Mappings are released on {@link #close()}, as soon as no reads from
+ * them are in progress.
+ *
  * <p>Protobuf schema:
  *
  * <pre>
@@ -72,9 +85,23 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  */
 public final class DataFileReader implements AutoCloseable, Comparable<DataFileReader>, IndexedObject {
 
+    private static final Logger logger = LogManager.getLogger(DataFileReader.class);
+
     private static final ThreadLocal<ByteBuffer> BUFFER_CACHE = new ThreadLocal<>();
     private static final ThreadLocal<BufferedData> BUFFEREDDATA_CACHE = new ThreadLocal<>();
 
+    /**
+     * Buffer size to read data item tag and size. If the whole item is small and fits into this
+     * buffer, there is no need to make an extra file read
+     */
+    private static final int PRE_READ_BUF_SIZE = 2048;
+
+    /** Max size of a single memory mapped segment of a data file, 1Gb */
+    static final long MAPPING_SEGMENT_SIZE = 1L << 30;
+
+    /** Max size of a data item header in bytes, two varints (tag and size) of up to 5 bytes each */
+    private static final int MAX_DATA_ITEM_HEADER_SIZE = 10;
+
     private final MerkleDbConfig dbConfig;
 
     /** Max number of file channels to use for reading */
@@ -119,6 +146,15 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     private final AtomicLong fileSizeBytes = new AtomicLong(0);
 
+    /** Size of memory mapped file segments, {@link #MAPPING_SEGMENT_SIZE} unless set in tests */
+    private final long mappingSegmentSize;
+
+    /**
+     * Read only memory mapping of the whole file, if memory mapped reads are enabled in the config,
+     * and the file is completed. Set in {@link #setFileCompleted()}, reset to null on {@link #close()}.
+     */
+    private final AtomicReference<FileMapping> mapping = new AtomicReference<>();
+
     /**
      * Open an existing data file, reading the metadata from the file
      *
@@ -138,7 +174,18 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     public DataFileReader(final MerkleDbConfig dbConfig, final Path path, final DataFileMetadata metadata)
             throws IOException {
+        this(dbConfig, path, metadata, MAPPING_SEGMENT_SIZE);
+    }
+
+    // For testing purpose
+    DataFileReader(
+            final MerkleDbConfig dbConfig,
+            final Path path,
+            final DataFileMetadata metadata,
+            final long mappingSegmentSize)
+            throws IOException {
         this.dbConfig = dbConfig;
+        this.mappingSegmentSize = mappingSegmentSize;
         maxFileChannels = dbConfig.maxFileChannelsPerFileReader();
         threadsPerFileChannel = dbConfig.maxThreadsPerFileChannel();
         fileChannels = new AtomicReferenceArray<>(maxFileChannels);
@@ -168,7 +215,12 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     public void setFileCompleted() {
         try {
-            fileSizeBytes.set(fileChannels.get(0).size());
+            final FileChannel fileChannel = fileChannels.get(0);
+            final long fileSize = fileChannel.size();
+            fileSizeBytes.set(fileSize);
+            if (dbConfig.useMemoryMappedFileReaders() && (fileSize > 0) && (mapping.get() == null)) {
+                mapFile(fileChannel, fileSize);
+            }
         } catch (final IOException e) {
             throw new UncheckedIOException("Failed to update data file reader size", e);
         } finally {
@@ -176,6 +228,48 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         }
     }
 
+    /**
+     * Maps the whole file into memory, in segments of up to {@link #mappingSegmentSize} bytes. If
+     * the file can't be mapped, the error is logged, and data items are read using file channels.
+     *
+     * @param fileChannel the file channel to map
+     * @param fileSize the file size
+     */
+    private void mapFile(final FileChannel fileChannel, final long fileSize) {
+        final int segmentsCount = Math.toIntExact((fileSize - 1) / mappingSegmentSize + 1);
+        final MappedByteBuffer[] segments = new MappedByteBuffer[segmentsCount];
+        try {
+            for (int i = 0; i < segmentsCount; i++) {
+                final long segmentStart = i * mappingSegmentSize;
+                final long segmentSize = Math.min(mappingSegmentSize, fileSize - segmentStart);
+                segments[i] = fileChannel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentSize);
+            }
+        } catch (final IOException e) {
+            logger.warn(EXCEPTION.getMarker(), "Failed to map data file {}, using file channels", path, e);
+            for (final MappedByteBuffer segment : segments) {
+                if (segment != null) {
+                    MemoryUtils.closeMmapBuffer(segment);
+                }
+            }
+            return;
+        }
+        final FileMapping newMapping = new FileMapping(segments);
+        if (!mapping.compareAndSet(null, newMapping)) {
+            newMapping.release();
+        } else if (!isOpen()) {
+            // The reader was closed concurrently, make sure the mapping isn't leaked
+            releaseMapping();
+        }
+    }
+
+    /** Drops the reader's own reference to the file mapping, if the file is mapped. */
+    private void releaseMapping() {
+        final FileMapping oldMapping = mapping.getAndSet(null);
+        if (oldMapping != null) {
+            oldMapping.release();
+        }
+    }
+
     /**
      * Get file index, the index is an ordered integer identifying the file in a set of files.
      *
@@ -225,6 +319,17 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     public BufferedData readDataItem(final long dataLocation) throws IOException {
         final long byteOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
+        final FileMapping fileMapping = mapping.get();
+        if ((fileMapping != null) && fileMapping.acquire()) {
+            try {
+                final BufferedData data = readMapped(fileMapping, byteOffset);
+                if (data != null) {
+                    return data;
+                }
+            } finally {
+                fileMapping.release();
+            }
+        }
         return read(byteOffset);
     }
 
@@ -294,9 +399,19 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         return open.get();
     }
 
+    /**
+     * Checks if this reader serves data items from a memory mapping of the file.
+     *
+     * @return True if the file is mapped into memory
+     */
+    public boolean isMemoryMapped() {
+        return mapping.get() != null;
+    }
+
     @Override
     public void close() throws IOException {
         open.set(false);
+        releaseMapping();
         for (int i = 0; i < maxFileChannels; i++) {
             final FileChannel fileChannel = fileChannels.getAndSet(i, null);
             if (fileChannel != null) {
@@ -385,6 +500,65 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         fileChannelsInUse.decrementAndGet();
     }
 
+    /**
+     * Read a data item at the given offset from the memory mapped file. Data item bytes are copied
+     * from the mapping to a per thread buffer, the same way as in {@link #read(long)}, so the file
+     * can be unmapped once the reader is closed. The caller must hold a reference to the mapping.
+     *
+     * @param fileMapping the file mapping
+     * @param byteOffsetInFile offset of the data item in the file
+     * @return a buffer over data item bytes, or null if the data item crosses a mapped segment
+     *     boundary and must be read using file channels
+     * @throws IOException if the data item at the given offset is malformed
+     */
+    private BufferedData readMapped(final FileMapping fileMapping, final long byteOffsetInFile) throws IOException {
+        final long fileSize = fileMapping.size;
+        if ((byteOffsetInFile < 0) || (byteOffsetInFile >= fileSize)) {
+            throw new IOException("Data item offset is out of file bounds: file=" + getIndex() + " off="
+                    + byteOffsetInFile + " size=" + fileSize);
+        }
+        final int segmentIndex = Math.toIntExact(byteOffsetInFile / mappingSegmentSize);
+        final BufferedData segment = fileMapping.segmentsData[segmentIndex];
+        final long segmentSize = segment.length();
+        final boolean lastSegment = segmentIndex == fileMapping.segmentsData.length - 1;
+        final long offsetInSegment = byteOffsetInFile - segmentIndex * mappingSegmentSize;
+        if (!lastSegment && (offsetInSegment + MAX_DATA_ITEM_HEADER_SIZE > segmentSize)) {
+            return null;
+        }
+        // Absolute reads only, the mapping is shared by all threads
+        final int tag = segment.getVarInt(offsetInSegment, false);
+        if (tag
+                != ((FIELD_DATAFILE_ITEMS.number() << TAG_FIELD_OFFSET)
+                        | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
+            throw new IOException(
+                    "Unknown data item tag: tag=" + tag + " file=" + getIndex() + " off=" + byteOffsetInFile);
+        }
+        final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
+        final int size = segment.getVarInt(offsetInSegment + sizeOfTag, false);
+        final int sizeOfSize = ProtoWriterTools.sizeOfUnsignedVarInt32(size);
+        final long dataOffset = offsetInSegment + sizeOfTag + sizeOfSize;
+        if (dataOffset + size > segmentSize) {
+            if (!lastSegment) {
+                return null;
+            }
+            throw new IOException("Failed to read all bytes: toread=" + size + " read=" + (segmentSize - dataOffset)
+                    + " file=" + getIndex() + " off=" + byteOffsetInFile);
+        }
+        ByteBuffer readBB = BUFFER_CACHE.get();
+        BufferedData readBuf = BUFFEREDDATA_CACHE.get();
+        if ((readBuf == null) || (readBB.capacity() < size)) {
+            readBB = ByteBuffer.allocate(Math.max(size, PRE_READ_BUF_SIZE));
+            BUFFER_CACHE.set(readBB);
+            readBuf = BufferedData.wrap(readBB);
+            BUFFEREDDATA_CACHE.set(readBuf);
+        }
+        readBB.clear();
+        readBB.put(0, fileMapping.segments[segmentIndex], Math.toIntExact(dataOffset), size);
+        readBuf.position(0);
+        readBuf.limit(size);
+        return readBuf;
+    }
+
     /**
      * Read bytesToRead bytes of data from the file starting at byteOffsetInFile unless we reach the
      * end of file. If we reach the end of file then returned buffer's limit will be set to the
@@ -397,9 +571,6 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      * @throws ClosedChannelException if the file was closed
      */
     private BufferedData read(final long byteOffsetInFile) throws IOException {
-        // Buffer size to read data item tag and size. If the whole item is small and
-        // fits into this buffer, there is no need to make an extra file read
-        final int PRE_READ_BUF_SIZE = 2048;
         ByteBuffer readBB = BUFFER_CACHE.get();
         BufferedData readBuf = BUFFEREDDATA_CACHE.get();
         if (readBuf == null) {
@@ -485,4 +656,63 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
     int getFileChannelsCount() {
         return fileChannelsCount.get();
     }
+
+    int getMappedSegmentsCount() {
+        final FileMapping fileMapping = mapping.get();
+        return (fileMapping != null) ? fileMapping.segments.length : 0;
+    }
+
+    /**
+     * Read only memory mapping of a data file, one or more segments. The mapping is reference
+     * counted. The reader holds one reference until it's closed, and every read from the mapping
+     * holds another one while data is copied. Segments are unmapped when the last reference is
+     * released, so no thread ever accesses unmapped memory.
+     */
+    private static final class FileMapping {
+
+        private final MappedByteBuffer[] segments;
+
+        private final BufferedData[] segmentsData;
+
+        private final long size;
+
+        private final AtomicInteger refCount = new AtomicInteger(1);
+
+        FileMapping(final MappedByteBuffer[] segments) {
+            this.segments = segments;
+            segmentsData = new BufferedData[segments.length];
+            long totalSize = 0;
+            for (int i = 0; i < segments.length; i++) {
+                segmentsData[i] = BufferedData.wrap(segments[i]);
+                totalSize += segments[i].capacity();
+            }
+            size = totalSize;
+        }
+
+        /**
+         * Acquires a reference to this mapping.
+         *
+         * @return true if the reference is acquired, false if the mapping is already released
+         */
+        boolean acquire() {
+            while (true) {
+                final int count = refCount.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (refCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /** Releases a reference to this mapping, and unmaps all segments if it was the last one. */
+        void release() {
+            if (refCount.decrementAndGet() == 0) {
+                for (final MappedByteBuffer segment : segments) {
+                    MemoryUtils.closeMmapBuffer(segment);
+                }
+            }
+        }
+    }
 }
@@ -31,6 +31,7 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -338,6 +339,42 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
         out.writeBytes(bucketData);
     }
 
+    /**
+     * Calls the given consumer for every entry in this bucket with the entry key hash code.
+     *
+     * @param action the consumer to call
+     */
+    public void forEachKeyHashCode(final IntConsumer action) {
+        bucketData.resetPosition();
+        while (bucketData.hasRemaining()) {
+            final int tag = bucketData.readVarInt(false);
+            final int fieldNum = tag >> TAG_FIELD_OFFSET;
+            if (fieldNum == FIELD_BUCKET_INDEX.number()) {
+                bucketData.skip(Integer.BYTES);
+            } else if (fieldNum == FIELD_BUCKET_ENTRIES.number()) {
+                final int entrySize = bucketData.readVarInt(false);
+                final long nextEntryOffset = bucketData.position() + entrySize;
+                while (bucketData.position() < nextEntryOffset) {
+                    final int entryTag = bucketData.readVarInt(false);
+                    final int entryFieldNum = entryTag >> TAG_FIELD_OFFSET;
+                    if (entryFieldNum == FIELD_BUCKETENTRY_HASHCODE.number()) {
+                        action.accept(bucketData.readInt());
+                        break;
+                    } else if (entryFieldNum == FIELD_BUCKETENTRY_VALUE.number()) {
+                        bucketData.skip(Long.BYTES);
+                    } else if (entryFieldNum == FIELD_BUCKETENTRY_KEYBYTES.number()) {
+                        bucketData.skip(bucketData.readVarInt(false));
+                    } else {
+                        throw new IllegalArgumentException("Unknown bucket entry field: " + entryFieldNum);
+                    }
+                }
+                bucketData.position(nextEntryOffset);
+            } else {
+                throw new IllegalArgumentException("Unknown bucket field: " + fieldNum);
+            }
+        }
+    }
+
     // =================================================================================================================
     // Private API
 
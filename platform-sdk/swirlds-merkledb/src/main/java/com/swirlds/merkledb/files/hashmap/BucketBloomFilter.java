@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb.files.hashmap;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An in-memory bloom filter for {@link HalfDiskHashMap} keys. The filter is split into equally
+ * sized segments, one segment per bucket. Every segment covers key hash codes from a single
+ * bucket only, which makes it possible to rebuild a segment from scratch every time its bucket
+ * is written to disk. As a result, deleted keys don't pollute the filter over time, and the
+ * false positive rate stays close to the theoretical value for the current number of keys.
+ *
+ * <p>The filter is based on key hash codes rather than full key bytes. Keys with the same hash
+ * code are indistinguishable for the filter, which is fine as it only affects false positives.
+ *
+ * <p>Filter reads are thread safe and may be run in parallel with updates. Updates must be
+ * done from a single thread at a time, one bucket after another.
+ */
+final class BucketBloomFilter {
+
+    /** The version number for the format of filter files */
+    private static final int FILE_FORMAT_VERSION = 1;
+
+    /** Number of hash functions, or bits set in a bucket segment, per key */
+    static final int HASH_FUNCTIONS = 3;
+
+    /** Number of buckets. Must be the same as the number of buckets in the hash map */
+    private final int numOfBuckets;
+
+    /** Number of bits in a single bucket segment. Always a power of two, 64 or greater */
+    private final int bitsPerBucket;
+
+    /** Number of 64-bit words in a single bucket segment */
+    private final int wordsPerBucket;
+
+    /** Filter bits, {@link #wordsPerBucket} words per bucket */
+    private final AtomicLongArray words;
+
+    /**
+     * Creates a new empty filter.
+     *
+     * @param numOfBuckets number of buckets in the hash map
+     * @param bitsPerBucket number of filter bits per bucket, must be a power of two not less than 64
+     */
+    BucketBloomFilter(final int numOfBuckets, final int bitsPerBucket) {
+        if (numOfBuckets <= 0) {
+            throw new IllegalArgumentException("Number of buckets must be positive");
+        }
+        if ((bitsPerBucket < Long.SIZE) || (Integer.bitCount(bitsPerBucket) != 1)) {
+            throw new IllegalArgumentException("Bits per bucket must be a power of two, 64 or greater");
+        }
+        this.numOfBuckets = numOfBuckets;
+        this.bitsPerBucket = bitsPerBucket;
+        this.wordsPerBucket = bitsPerBucket / Long.SIZE;
+        this.words = new AtomicLongArray(Math.toIntExact((long) numOfBuckets * wordsPerBucket));
+    }
+
+    /**
+     * Checks if a key with the given hash code may be stored in the given bucket. If this method
+     * returns false, the key is definitely not in the bucket.
+     *
+     * @param bucketIndex the bucket index
+     * @param keyHashCode the key hash code
+     * @return false if the key is definitely not in the bucket, true otherwise
+     */
+    boolean mightContain(final int bucketIndex, final int keyHashCode) {
+        final int base = bucketIndex * wordsPerBucket;
+        final long hash = mix(keyHashCode);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            final int bit = (h1 + i * h2) & (bitsPerBucket - 1);
+            if ((words.get(base + (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds all keys from the given bucket to the filter. Keys that are already in the bucket
+     * segment, but not in the bucket, are preserved. This method is used before a bucket is
+     * written to disk, so the filter covers both the old and the new bucket versions, while
+     * the bucket index is being updated.
+     *
+     * @param bucket the bucket
+     */
+    void addAll(@NonNull final Bucket bucket) {
+        final int base = bucket.getBucketIndex() * wordsPerBucket;
+        bucket.forEachKeyHashCode(keyHashCode -> {
+            final long hash = mix(keyHashCode);
+            final int h1 = (int) hash;
+            final int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                final int bit = (h1 + i * h2) & (bitsPerBucket - 1);
+                final long mask = 1L << bit;
+                words.getAndAccumulate(base + (bit >>> 6), mask, (a, b) -> a | b);
+            }
+        });
+    }
+
+    /**
+     * Replaces the segment for the given bucket with the keys from the bucket. This method is
+     * used after a bucket is written to disk and the bucket index is updated.
+     *
+     * @param bucket the bucket
+     */
+    void set(@NonNull final Bucket bucket) {
+        final long[] segment = new long[wordsPerBucket];
+        bucket.forEachKeyHashCode(keyHashCode -> {
+            final long hash = mix(keyHashCode);
+            final int h1 = (int) hash;
+            final int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                final int bit = (h1 + i * h2) & (bitsPerBucket - 1);
+                segment[bit >>> 6] |= 1L << bit;
+            }
+        });
+        final int base = bucket.getBucketIndex() * wordsPerBucket;
+        for (int i = 0; i < wordsPerBucket; i++) {
+            words.set(base + i, segment[i]);
+        }
+    }
+
+    /**
+     * Clears the segment for the given bucket. This method is used when a bucket becomes empty
+     * and is removed from the bucket index.
+     *
+     * @param bucketIndex the bucket index
+     */
+    void clear(final int bucketIndex) {
+        final int base = bucketIndex * wordsPerBucket;
+        for (int i = 0; i < wordsPerBucket; i++) {
+            words.set(base + i, 0);
+        }
+    }
+
+    /**
+     * Gets the memory used by filter bits, in bytes.
+     *
+     * @return filter size in bytes
+     */
+    long getSizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    /**
+     * Writes this filter to the given file. If the file exists, it's overwritten.
+     *
+     * @param file the file to write to
+     * @throws IOException if an I/O error occurs
+     */
+    void writeToFile(@NonNull final Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(FILE_FORMAT_VERSION);
+            out.writeInt(numOfBuckets);
+            out.writeInt(bitsPerBucket);
+            final int length = words.length();
+            for (int i = 0; i < length; i++) {
+                out.writeLong(words.get(i));
+            }
+        }
+    }
+
+    /**
+     * Reads a filter from the given file. If the file was written with a different file format
+     * version, or with a different number of buckets or bits per bucket, null is returned, and the
+     * filter has to be rebuilt from buckets.
+     *
+     * @param file the file to read from
+     * @param numOfBuckets expected number of buckets
+     * @param bitsPerBucket expected number of bits per bucket
+     * @return the filter, or null if the file can't be used
+     * @throws IOException if an I/O error occurs
+     */
+    @Nullable
+    static BucketBloomFilter readFromFile(@NonNull final Path file, final int numOfBuckets, final int bitsPerBucket)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if ((in.readInt() != FILE_FORMAT_VERSION)
+                    || (in.readInt() != numOfBuckets)
+                    || (in.readInt() != bitsPerBucket)) {
+                return null;
+            }
+            final BucketBloomFilter filter = new BucketBloomFilter(numOfBuckets, bitsPerBucket);
+            final int length = filter.words.length();
+            for (int i = 0; i < length; i++) {
+                filter.words.set(i, in.readLong());
+            }
+            return filter;
+        }
+    }
+
+    /**
+     * Spreads key hash code bits over a long. Key hash codes in a single bucket share their
+     * lowest bits (bucket index), so they can't be used as filter bit indices directly.
+     */
+    private static long mix(final int keyHashCode) {
+        long h = keyHashCode * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        h ^= h >>> 32;
+        // Make sure the second hash is odd, so all filter bits are reachable
+        return h | (1L << 32);
+    }
+}
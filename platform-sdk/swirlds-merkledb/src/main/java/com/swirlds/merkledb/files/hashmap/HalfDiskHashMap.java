@@ -74,6 +74,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     private static final String METADATA_FILENAME_SUFFIX = "_metadata.hdhm";
     /** Bucket index file name suffix with extension */
     private static final String BUCKET_INDEX_FILENAME_SUFFIX = "_bucket_index.ll";
+    /** Bucket bloom filter file name suffix with extension */
+    private static final String BLOOM_FILTER_FILENAME_SUFFIX = "_bloom_filter.bf";
     /**
      * A marker to indicate that a value should be deleted from the map, or that there is
      * no old value to compare against in putIfEqual/deleteIfEqual
@@ -118,6 +120,12 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
 
     /** Bucket pool used by this HDHM */
     private final ReusableBucketPool bucketPool;
+    /**
+     * In-memory filter to skip bucket reads for keys that are definitely not in this map, or
+     * null if the filter is disabled in MerkleDb config
+     */
+    @Nullable
+    private final BucketBloomFilter bloomFilter;
     /** Store for session data during a writing transaction */
     private IntObjectHashMap<BucketMutation> oneTransactionsData = null;
 
@@ -222,6 +230,7 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         this.mapSize = mapSize;
         this.storeName = storeName;
         Path indexFile = storeDir.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX);
+        Path bloomFilterFile = storeDir.resolve(storeName + BLOOM_FILTER_FILENAME_SUFFIX);
         // create bucket pool
         this.bucketPool = new ReusableBucketPool(Bucket::new);
         // load or create new
@@ -233,6 +242,7 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             if (!Files.exists(metaDataFile)) {
                 metaDataFile = storeDir.resolve(legacyStoreName + METADATA_FILENAME_SUFFIX);
                 indexFile = storeDir.resolve(legacyStoreName + BUCKET_INDEX_FILENAME_SUFFIX);
+                bloomFilterFile = storeDir.resolve(legacyStoreName + BLOOM_FILTER_FILENAME_SUFFIX);
                 loadedLegacyMetadata = true;
             }
             if (Files.exists(metaDataFile)) {
@@ -303,6 +313,47 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         fileCollection = new DataFileCollection(
                 // Need: propagate MerkleDb merkleDbConfig from the database
                 merkleDbConfig, storeDir, storeName, legacyStoreName, loadedDataCallback);
+        // load or rebuild bloom filter, if enabled
+        bloomFilter = loadBloomFilter(bloomFilterFile, loadedDataCallback != null);
+    }
+
+    /**
+     * Loads the bucket bloom filter from the given file, if the file exists and matches the
+     * current number of buckets and filter config. Otherwise, a new filter is created and
+     * populated with all keys from all buckets.
+     *
+     * @param bloomFilterFile the filter file to load from
+     * @param indexRebuilt if the bucket index has just been rebuilt from data files, the stored
+     *                     filter is not used either
+     * @return the filter, or null if the filter is disabled in MerkleDb config
+     * @throws IOException if an I/O error occurs
+     */
+    @Nullable
+    private BucketBloomFilter loadBloomFilter(final Path bloomFilterFile, final boolean indexRebuilt)
+            throws IOException {
+        final int bitsPerBucket = merkleDbConfig.hashMapBloomFilterBitsPerBucket();
+        if (bitsPerBucket <= 0) {
+            return null;
+        }
+        if (!indexRebuilt && Files.exists(bloomFilterFile)) {
+            final BucketBloomFilter loaded =
+                    BucketBloomFilter.readFromFile(bloomFilterFile, numOfBuckets, bitsPerBucket);
+            if (loaded != null) {
+                return loaded;
+            }
+        }
+        final BucketBloomFilter filter = new BucketBloomFilter(numOfBuckets, bitsPerBucket);
+        if (fileCollection.getNumOfFiles() > 0) {
+            logger.info(MERKLE_DB.getMarker(), "Rebuilding bloom filter for HalfDiskHashMap [{}]", storeName);
+            for (int i = 0; i < numOfBuckets; i++) {
+                try (final Bucket bucket = readBucket(i)) {
+                    if (bucket != null) {
+                        filter.set(bucket);
+                    }
+                }
+            }
+        }
+        return filter;
     }
 
     private void writeMetadata(final Path dir) throws IOException {
@@ -317,10 +368,39 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
 
     /** {@inheritDoc} */
     public void snapshot(final Path snapshotDirectory) throws IOException {
+        snapshotIndex(snapshotDirectory);
+        snapshotFiles(snapshotDirectory);
+    }
+
+    /**
+     * Writes the in-memory part of this map, the bucket index and the bloom filter, if enabled, to
+     * the given snapshot directory. This method and {@link #snapshotFiles(Path)} don't depend on
+     * each other and may be run in parallel. Together they are equivalent to {@link #snapshot(Path)}.
+     *
+     * @param snapshotDirectory snapshot directory
+     * @throws IOException if an I/O error occurs
+     */
+    public void snapshotIndex(final Path snapshotDirectory) throws IOException {
         // create snapshot directory if needed
         Files.createDirectories(snapshotDirectory);
         // write index to file
         bucketIndexToBucketLocation.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX));
+        // write bloom filter to file
+        if (bloomFilter != null) {
+            bloomFilter.writeToFile(snapshotDirectory.resolve(storeName + BLOOM_FILTER_FILENAME_SUFFIX));
+        }
+    }
+
+    /**
+     * Snapshots data files of this map and writes map metadata to the given snapshot directory.
+     * See {@link #snapshotIndex(Path)} for details.
+     *
+     * @param snapshotDirectory snapshot directory
+     * @throws IOException if an I/O error occurs
+     */
+    public void snapshotFiles(final Path snapshotDirectory) throws IOException {
+        // create snapshot directory if needed
+        Files.createDirectories(snapshotDirectory);
         // snapshot files
         fileCollection.snapshot(snapshotDirectory);
         // write metadata
@@ -675,11 +755,23 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
                 if (bucket.isEmpty()) {
                     // bucket is missing or empty, remove it from the index
                     bucketIndexToBucketLocation.remove(bucketIndex);
+                    if (bloomFilter != null) {
+                        bloomFilter.clear(bucketIndex);
+                    }
                 } else {
+                    // Concurrent readers may see either the old or the new bucket version, until
+                    // the index is updated. The filter must not reject keys from either version
+                    if (bloomFilter != null) {
+                        bloomFilter.addAll(bucket);
+                    }
                     // save bucket
                     final long bucketLocation = fileCollection.storeDataItem(bucket::writeTo, bucket.sizeInBytes());
                     // update bucketIndexToBucketLocation
                     bucketIndexToBucketLocation.put(bucketIndex, bucketLocation);
+                    // now the old bucket version is not visible, and its keys can be dropped from the filter
+                    if (bloomFilter != null) {
+                        bloomFilter.set(bucket);
+                    }
                 }
                 next.send();
                 return true;
@@ -742,6 +834,10 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             throw new IllegalArgumentException("Can not get a null key");
         }
         final int bucketIndex = computeBucketIndex(keyHashCode);
+        if ((bloomFilter != null) && !bloomFilter.mightContain(bucketIndex, keyHashCode)) {
+            // definitely not in the map, no need to read the bucket from disk
+            return notFoundValue;
+        }
         try (final Bucket bucket = readBucket(bucketIndex)) {
             if (bucket != null) {
                 return bucket.findValue(keyHashCode, keyBytes, notFoundValue);
@@ -786,6 +882,15 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         return bucketIndexToBucketLocation;
     }
 
+    /**
+     * Checks if this map uses an in-memory bloom filter to skip bucket reads for absent keys.
+     *
+     * @return true if the bloom filter is enabled
+     */
+    public boolean isBloomFilterEnabled() {
+        return bloomFilter != null;
+    }
+
     // =================================================================================================================
     // Private API
 
@@ -184,4 +184,43 @@ public final class MerkleDbFileUtils {
         }
         return totalBytesTransferred;
     }
+
+    /**
+     * Completely transfer the given number of bytes from srcChannel to dstChannel, starting at the
+     * given position in srcChannel. Data is transferred by the OS directly, if supported, without
+     * copying it to user space buffers.
+     * <p>
+     * srcChannel's position is unchanged. dstChannel's position is updated if it has a position.
+     * See also: {@link FileChannel#transferTo(long, long, WritableByteChannel)}
+     *
+     * @param srcChannel
+     * 		the source channel to transfer data from.
+     * @param srcPosition
+     * 		the absolute byte position in srcChannel to start reading data from.
+     * @param maxBytesToTransfer
+     * 		maximum number of bytes to transfer.
+     * @param dstChannel
+     * 		the destination channel to transfer data to.
+     * @return the total bytes transferred.
+     * @throws IOException
+     * 		if an exception occurs while trying to transfer data.
+     */
+    public static long completelyTransferTo(
+            final FileChannel srcChannel,
+            final long srcPosition,
+            final long maxBytesToTransfer,
+            final WritableByteChannel dstChannel)
+            throws IOException {
+        long totalBytesTransferred = 0;
+        while (totalBytesTransferred < maxBytesToTransfer) {
+            final long bytesTransferred = srcChannel.transferTo(
+                    srcPosition + totalBytesTransferred, maxBytesToTransfer - totalBytesTransferred, dstChannel);
+            // Break when no bytes transferred and assume reached the end of srcChannel
+            if (bytesTransferred <= 0) {
+                break;
+            }
+            totalBytesTransferred += bytesTransferred;
+        }
+        return totalBytesTransferred;
+    }
 }
@@ -105,6 +105,10 @@ class MerkleDbStatisticsTest {
         assertDoesNotThrow(() -> statistics.setOffHeapObjectKeyBucketsIndexMb(42));
         assertDoesNotThrow(() -> statistics.setOffHeapHashesListMb(42));
         assertDoesNotThrow(() -> statistics.setOffHeapDataSourceMb(42));
+        assertDoesNotThrow(() -> statistics.setSnapshotIndexesTimeMs(314));
+        assertDoesNotThrow(() -> statistics.setSnapshotFilesTimeMs(314));
+        assertDoesNotThrow(() -> statistics.setSnapshotMetadataTimeMs(314));
+        assertDoesNotThrow(() -> statistics.setSnapshotTotalTimeMs(314));
     }
 
     @Test
@@ -371,6 +375,25 @@ class MerkleDbStatisticsTest {
         assertValueSet(metric);
     }
 
+    @Test
+    void testSnapshotPhasesTime() {
+        // given
+        final Metric indexesMetric = getMetric("snapshots_", "indexesTimeMs_" + LABEL);
+        final Metric filesMetric = getMetric("snapshots_", "filesTimeMs_" + LABEL);
+        final Metric metadataMetric = getMetric("snapshots_", "metadataTimeMs_" + LABEL);
+        final Metric totalMetric = getMetric("snapshots_", "totalTimeMs_" + LABEL);
+        // when
+        statistics.setSnapshotIndexesTimeMs(314);
+        statistics.setSnapshotFilesTimeMs(314);
+        statistics.setSnapshotMetadataTimeMs(314);
+        statistics.setSnapshotTotalTimeMs(314);
+        // then
+        assertValueSet(indexesMetric);
+        assertValueSet(filesMetric);
+        assertValueSet(metadataMetric);
+        assertValueSet(totalMetric);
+    }
+
     @Test
     void testTableNameWithPeriod() {
         final String complexLabel = "service." + LABEL;
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb;
+
+import static com.swirlds.virtualmap.datasource.VirtualDataSource.INVALID_PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class OffHeapLeafRecordCacheTest {
+
+    private static final int SLOT_SIZE = 128;
+
+    private static VirtualLeafBytes leaf(final long path, final int key, final String value) {
+        final Bytes keyBytes = Bytes.wrap(("key" + key).getBytes(StandardCharsets.UTF_8));
+        final Bytes valueBytes = value == null ? null : Bytes.wrap(value.getBytes(StandardCharsets.UTF_8));
+        return new VirtualLeafBytes(path, keyBytes, key, valueBytes);
+    }
+
+    @Test
+    void tooSmallCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLeafRecordCache(SLOT_SIZE, SLOT_SIZE));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new OffHeapLeafRecordCache(1024, OffHeapLeafRecordCache.SLOT_HEADER_SIZE));
+    }
+
+    @Test
+    void lookupByKeyAndPath() {
+        try (final OffHeapLeafRecordCache cache = new OffHeapLeafRecordCache(1024 * SLOT_SIZE, SLOT_SIZE)) {
+            assertEquals(1024, cache.getSlotCount());
+            final VirtualLeafBytes leaf = leaf(10, 1, "value1");
+            assertNull(cache.get(leaf.keyBytes(), leaf.keyHashCode()));
+            assertNull(cache.get(10));
+            assertFalse(cache.put(leaf, true));
+            final VirtualLeafBytes byKey = cache.get(leaf.keyBytes(), leaf.keyHashCode());
+            assertEquals(leaf, byKey);
+            assertEquals(leaf.keyHashCode(), byKey.keyHashCode());
+            assertEquals(leaf, cache.get(10));
+            assertNull(cache.get(11));
+            // Different key with the same hash code
+            assertNull(cache.get(Bytes.wrap("other".getBytes(StandardCharsets.UTF_8)), leaf.keyHashCode()));
+        }
+    }
+
+    @Test
+    void keyOnlyRecords() {
+        try (final OffHeapLeafRecordCache cache = new OffHeapLeafRecordCache(1024 * SLOT_SIZE, SLOT_SIZE)) {
+            final VirtualLeafBytes absent = leaf(INVALID_PATH, 2, null);
+            cache.put(absent, true);
+            final VirtualLeafBytes cached = cache.get(absent.keyBytes(), absent.keyHashCode());
+            assertNotNull(cached);
+            assertEquals(INVALID_PATH, cached.path());
+            assertNull(cached.valueBytes());
+            // Records without values are not available for path lookups
+            final VirtualLeafBytes keyToPath = leaf(5, 3, null);
+            cache.put(keyToPath, true);
+            assertNull(cache.get(5));
+            // Records without values and unknown key hash codes are not cached at all
+            assertFalse(cache.put(leaf(6, 4, null), false));
+            assertNull(cache.get(6));
+        }
+    }
+
+    @Test
+    void pathOnlyRecords() {
+        try (final OffHeapLeafRecordCache cache = new OffHeapLeafRecordCache(1024 * SLOT_SIZE, SLOT_SIZE)) {
+            final VirtualLeafBytes leaf = leaf(20, 7, "value7");
+            cache.put(leaf, false);
+            assertEquals(leaf, cache.get(20));
+            assertNull(cache.get(leaf.keyBytes(), leaf.keyHashCode()));
+        }
+    }
+
+    @Test
+    void invalidation() {
+        try (final OffHeapLeafRecordCache cache = new OffHeapLeafRecordCache(1024 * SLOT_SIZE, SLOT_SIZE)) {
+            final VirtualLeafBytes leaf1 = leaf(30, 8, "value8");
+            final VirtualLeafBytes leaf2 = leaf(31, 9, "value9");
+            cache.put(leaf1, true);
+            cache.put(leaf2, false);
+            cache.invalidate(leaf1.keyBytes(), leaf1.keyHashCode());
+            assertNull(cache.get(leaf1.keyBytes(), leaf1.keyHashCode()));
+            assertNull(cache.get(30));
+            assertEquals(leaf2, cache.get(31));
+            cache.invalidate(31);
+            assertNull(cache.get(31));
+        }
+    }
+
+    @Test
+    void updateReplacesRecord() {
+        try (final OffHeapLeafRecordCache cache = new OffHeapLeafRecordCache(1024 * SLOT_SIZE, SLOT_SIZE)) {
+            cache.put(leaf(40, 10, "old"), true);
+            assertFalse(cache.put(leaf(40, 10, "new"), true));
+            final VirtualLeafBytes expected = leaf(40, 10, "new");
+            assertEquals(expected, cache.get(expected.keyBytes(), expected.keyHashCode()));
+        }
+    }
+
+    @Test
+    void largeRecordsNotCached() {
+        try (final OffHeapLeafRecordCache cache = new OffHeapLeafRecordCache(1024 * SLOT_SIZE, SLOT_SIZE)) {
+            final VirtualLeafBytes leaf = leaf(50, 11, "v".repeat(SLOT_SIZE));
+            assertFalse(cache.put(leaf, true));
+            assertNull(cache.get(leaf.keyBytes(), leaf.keyHashCode()));
+        }
+    }
+
+    @Test
+    void clockEviction() {
+        // A single set
+        try (final OffHeapLeafRecordCache cache =
+                new OffHeapLeafRecordCache(OffHeapLeafRecordCache.WAYS * SLOT_SIZE, SLOT_SIZE)) {
+            for (int i = 0; i < OffHeapLeafRecordCache.WAYS; i++) {
+                assertFalse(cache.put(leaf(i, i, "value" + i), true));
+            }
+            // Reference the first record, it must survive the next eviction
+            final VirtualLeafBytes first = leaf(0, 0, "value0");
+            assertNotNull(cache.get(first.keyBytes(), first.keyHashCode()));
+            assertTrue(cache.put(leaf(100, 100, "value100"), true));
+            assertNotNull(cache.get(first.keyBytes(), first.keyHashCode()));
+            final VirtualLeafBytes second = leaf(1, 1, "value1");
+            assertNull(cache.get(second.keyBytes(), second.keyHashCode()));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CompactionIoBudgetTest {
+
+    @Test
+    void negativeBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new CompactionIoBudget(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CompactionIoBudget(0, -1));
+    }
+
+    @Test
+    void unlimitedBudgetNeverBlocks() throws InterruptedException {
+        final long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            CompactionIoBudget.UNLIMITED.acquire(Long.MAX_VALUE / 1000);
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "Unlimited budget must not block");
+    }
+
+    @Test
+    void flushSwitchesBudget() {
+        final CompactionIoBudget budget = new CompactionIoBudget(1000, 10);
+        assertFalse(budget.isFlushInProgress());
+        assertEquals(1000, budget.getCurrentBytesPerSecond());
+        budget.flushStarted();
+        budget.flushStarted();
+        assertTrue(budget.isFlushInProgress());
+        assertEquals(10, budget.getCurrentBytesPerSecond());
+        budget.flushFinished();
+        assertTrue(budget.isFlushInProgress());
+        budget.flushFinished();
+        assertFalse(budget.isFlushInProgress());
+        assertEquals(1000, budget.getCurrentBytesPerSecond());
+    }
+
+    @Test
+    void flushBudgetNeverRaisesLimit() {
+        // No during-flush budget, the regular budget applies during flushes, too
+        final CompactionIoBudget noFlushBudget = new CompactionIoBudget(1000, 0);
+        noFlushBudget.flushStarted();
+        assertEquals(1000, noFlushBudget.getCurrentBytesPerSecond());
+        // No regular budget, compactions are only throttled during flushes
+        final CompactionIoBudget onlyFlushBudget = new CompactionIoBudget(0, 10);
+        assertEquals(0, onlyFlushBudget.getCurrentBytesPerSecond());
+        onlyFlushBudget.flushStarted();
+        assertEquals(10, onlyFlushBudget.getCurrentBytesPerSecond());
+        // The during-flush budget is higher than the regular one, the lower one applies
+        final CompactionIoBudget higherFlushBudget = new CompactionIoBudget(10, 1000);
+        higherFlushBudget.flushStarted();
+        assertEquals(10, higherFlushBudget.getCurrentBytesPerSecond());
+    }
+
+    @Test
+    void budgetThrottlesWrites() throws InterruptedException {
+        // 10Kb per second
+        final CompactionIoBudget budget = new CompactionIoBudget(10 * 1024, 0);
+        final long start = System.nanoTime();
+        // 3Kb in total should take at least 200ms, as the first chunk is not throttled
+        for (int i = 0; i < 3; i++) {
+            budget.acquire(1024);
+        }
+        final long tookMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(tookMillis >= 200, "Writes should be throttled, took " + tookMillis + " ms");
+    }
+
+    @Test
+    void achievedRateMatchesBudget() throws InterruptedException {
+        // 8Mb per second, charged in small chunks, each worth much less than the typical sleep
+        // overshoot
+        final long bytesPerSecond = 8 * 1024 * 1024;
+        final int chunkBytes = 1024;
+        final CompactionIoBudget budget = new CompactionIoBudget(bytesPerSecond, 0);
+        final long start = System.nanoTime();
+        for (long written = 0; written < bytesPerSecond; written += chunkBytes) {
+            budget.acquire(chunkBytes);
+        }
+        final double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+        final double achievedRate = bytesPerSecond / seconds;
+        assertTrue(
+                achievedRate >= bytesPerSecond * 0.8,
+                "Achieved rate " + (long) achievedRate + " is too far below the budget " + bytesPerSecond);
+        assertTrue(
+                achievedRate <= bytesPerSecond * 1.2,
+                "Achieved rate " + (long) achievedRate + " is too far above the budget " + bytesPerSecond);
+    }
+}
@@ -16,13 +16,21 @@
 
 package com.swirlds.merkledb.files;
 
+import static com.swirlds.merkledb.files.DataFileCompactor.INITIAL_COMPACTION_LEVEL;
 import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -130,6 +138,100 @@ class DataFileReaderTest {
         assertEquals(2, dataFileReader.leaseFileChannel());
     }
 
+    @Test
+    void testReadMemoryMapped() throws IOException {
+        final MerkleDbConfig mmapConfig = ConfigurationBuilder.create()
+                .withConfigDataTypes(MerkleDbConfig.class)
+                .withSources(new SimpleConfigSource("merkleDb.useMemoryMappedFileReaders", "true"))
+                .build()
+                .getConfigData(MerkleDbConfig.class);
+        final Path tmpDir = LegacyTemporaryFileBuilder.buildTemporaryDirectory("testReadMemoryMapped", CONFIGURATION);
+        final int count = 100;
+        final long[] locations = new long[count];
+        final DataFileWriter writer = new DataFileWriter("test", tmpDir, 0, Instant.now(), INITIAL_COMPACTION_LEVEL);
+        for (int i = 0; i < count; i++) {
+            final int fi = i;
+            // Variable size items, some of them larger than a single channel pre-read buffer
+            final int longs = 1 + (i % 3) * 200;
+            locations[i] = writer.storeDataItem(
+                    o -> {
+                        for (int j = 0; j < longs; j++) {
+                            o.writeLong(fi + j);
+                        }
+                    },
+                    longs * Long.BYTES);
+        }
+        writer.finishWriting();
+        final DataFileReader reader = new DataFileReader(mmapConfig, writer.getPath(), writer.getMetadata());
+        try {
+            assertFalse(reader.isMemoryMapped(), "Incomplete files must not be mapped");
+            reader.setFileCompleted();
+            assertTrue(reader.isMemoryMapped(), "Completed file should be mapped");
+            for (int i = count - 1; i >= 0; i--) {
+                final int longs = 1 + (i % 3) * 200;
+                final BufferedData itemBytes = reader.readDataItem(locations[i]);
+                assertEquals((long) longs * Long.BYTES, itemBytes.remaining(), "Unexpected data item size");
+                for (int j = 0; j < longs; j++) {
+                    assertEquals(i + j, itemBytes.readLong());
+                }
+            }
+        } finally {
+            reader.close();
+            Files.delete(writer.getPath());
+        }
+        assertFalse(reader.isMemoryMapped(), "Closed reader must release the mapping");
+    }
+
+    @Test
+    void testReadMemoryMappedSegments() throws IOException {
+        final MerkleDbConfig mmapConfig = ConfigurationBuilder.create()
+                .withConfigDataTypes(MerkleDbConfig.class)
+                .withSources(new SimpleConfigSource("merkleDb.useMemoryMappedFileReaders", "true"))
+                .build()
+                .getConfigData(MerkleDbConfig.class);
+        final Path tmpDir =
+                LegacyTemporaryFileBuilder.buildTemporaryDirectory("testReadMemoryMappedSegments", CONFIGURATION);
+        final int count = 100;
+        final long[] locations = new long[count];
+        final DataFileWriter writer = new DataFileWriter("test", tmpDir, 0, Instant.now(), INITIAL_COMPACTION_LEVEL);
+        for (int i = 0; i < count; i++) {
+            final int fi = i;
+            // Some items cross segment boundaries and must be read using file channels
+            final int longs = 1 + (i % 7) * 50;
+            locations[i] = writer.storeDataItem(
+                    o -> {
+                        for (int j = 0; j < longs; j++) {
+                            o.writeLong(fi + j);
+                        }
+                    },
+                    longs * Long.BYTES);
+        }
+        writer.finishWriting();
+        final long segmentSize = 4096;
+        final DataFileReader reader =
+                new DataFileReader(mmapConfig, writer.getPath(), writer.getMetadata(), segmentSize);
+        try {
+            reader.setFileCompleted();
+            assertTrue(reader.isMemoryMapped(), "Completed file should be mapped");
+            assertEquals(
+                    (reader.getSize() + segmentSize - 1) / segmentSize,
+                    reader.getMappedSegmentsCount(),
+                    "Unexpected number of mapped segments");
+            for (int i = 0; i < count; i++) {
+                final int longs = 1 + (i % 7) * 50;
+                final BufferedData itemBytes = reader.readDataItem(locations[i]);
+                assertEquals((long) longs * Long.BYTES, itemBytes.remaining(), "Unexpected data item size");
+                for (int j = 0; j < longs; j++) {
+                    assertEquals(i + j, itemBytes.readLong());
+                }
+            }
+        } finally {
+            reader.close();
+            Files.delete(writer.getPath());
+        }
+        assertEquals(0, reader.getMappedSegmentsCount(), "Closed reader must unmap all segments");
+    }
+
     @AfterEach
     public void tearDown() {
         file.deleteOnExit();
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb.files.hashmap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BucketBloomFilterTest {
+
+    private static final int NUM_OF_BUCKETS = 16;
+
+    @TempDir
+    Path tempDir;
+
+    private static Bytes keyBytes(final int key) {
+        return Bytes.wrap(ByteBuffer.allocate(Integer.BYTES).putInt(key).array());
+    }
+
+    // Creates a bucket with keys, which hash codes are key * NUM_OF_BUCKETS + bucketIndex
+    private static Bucket bucket(final int bucketIndex, final int firstKey, final int count) {
+        final Bucket bucket = new Bucket();
+        bucket.setBucketIndex(bucketIndex);
+        for (int i = firstKey; i < firstKey + count; i++) {
+            bucket.putValue(keyBytes(i), i * NUM_OF_BUCKETS + bucketIndex, i);
+        }
+        return bucket;
+    }
+
+    @Test
+    void invalidBitsPerBucket() {
+        assertThrows(IllegalArgumentException.class, () -> new BucketBloomFilter(NUM_OF_BUCKETS, 32));
+        assertThrows(IllegalArgumentException.class, () -> new BucketBloomFilter(NUM_OF_BUCKETS, 100));
+        assertThrows(IllegalArgumentException.class, () -> new BucketBloomFilter(0, 64));
+    }
+
+    @Test
+    void noFalseNegatives() throws IOException {
+        final BucketBloomFilter filter = new BucketBloomFilter(NUM_OF_BUCKETS, 512);
+        try (final Bucket bucket = bucket(3, 0, 32)) {
+            filter.set(bucket);
+        }
+        for (int i = 0; i < 32; i++) {
+            assertTrue(filter.mightContain(3, i * NUM_OF_BUCKETS + 3));
+            // Other buckets are empty
+            assertFalse(filter.mightContain(4, i * NUM_OF_BUCKETS + 4));
+        }
+    }
+
+    @Test
+    void lowFalsePositiveRate() throws IOException {
+        final BucketBloomFilter filter = new BucketBloomFilter(NUM_OF_BUCKETS, 512);
+        try (final Bucket bucket = bucket(5, 0, 32)) {
+            filter.set(bucket);
+        }
+        int falsePositives = 0;
+        final int probes = 100_000;
+        for (int i = 1000; i < 1000 + probes; i++) {
+            if (filter.mightContain(5, i * NUM_OF_BUCKETS + 5)) {
+                falsePositives++;
+            }
+        }
+        // Theoretical rate is about 0.5%
+        assertTrue(falsePositives < probes / 50, "Too many false positives: " + falsePositives);
+    }
+
+    @Test
+    void setReplacesSegment() throws IOException {
+        final BucketBloomFilter filter = new BucketBloomFilter(NUM_OF_BUCKETS, 64);
+        try (final Bucket oldBucket = bucket(1, 0, 4);
+                final Bucket newBucket = bucket(1, 100, 4)) {
+            filter.set(oldBucket);
+            filter.addAll(newBucket);
+            for (int i = 0; i < 4; i++) {
+                assertTrue(filter.mightContain(1, i * NUM_OF_BUCKETS + 1));
+                assertTrue(filter.mightContain(1, (100 + i) * NUM_OF_BUCKETS + 1));
+            }
+            filter.set(newBucket);
+            for (int i = 0; i < 4; i++) {
+                assertTrue(filter.mightContain(1, (100 + i) * NUM_OF_BUCKETS + 1));
+            }
+        }
+        filter.clear(1);
+        for (int i = 0; i < 4; i++) {
+            assertFalse(filter.mightContain(1, (100 + i) * NUM_OF_BUCKETS + 1));
+        }
+    }
+
+    @Test
+    void parsedBucketHashCodes() throws IOException {
+        final BucketBloomFilter filter = new BucketBloomFilter(NUM_OF_BUCKETS, 256);
+        try (final Bucket bucket = new ParsedBucket()) {
+            bucket.setBucketIndex(7);
+            for (int i = 0; i < 8; i++) {
+                bucket.putValue(keyBytes(i), i * NUM_OF_BUCKETS + 7, i);
+            }
+            filter.set(bucket);
+        }
+        for (int i = 0; i < 8; i++) {
+            assertTrue(filter.mightContain(7, i * NUM_OF_BUCKETS + 7));
+        }
+    }
+
+    @Test
+    void writeAndRead() throws IOException {
+        final BucketBloomFilter filter = new BucketBloomFilter(NUM_OF_BUCKETS, 128);
+        for (int b = 0; b < NUM_OF_BUCKETS; b++) {
+            try (final Bucket bucket = bucket(b, b * 10, 10)) {
+                filter.set(bucket);
+            }
+        }
+        final Path file = tempDir.resolve("filter.bf");
+        filter.writeToFile(file);
+        final BucketBloomFilter loaded = BucketBloomFilter.readFromFile(file, NUM_OF_BUCKETS, 128);
+        assertNotNull(loaded);
+        assertEquals(filter.getSizeInBytes(), loaded.getSizeInBytes());
+        for (int b = 0; b < NUM_OF_BUCKETS; b++) {
+            for (int i = b * 10; i < b * 10 + 10; i++) {
+                assertTrue(loaded.mightContain(b, i * NUM_OF_BUCKETS + b));
+            }
+        }
+        // Mismatched config
+        assertNull(BucketBloomFilter.readFromFile(file, NUM_OF_BUCKETS * 2, 128));
+        assertNull(BucketBloomFilter.readFromFile(file, NUM_OF_BUCKETS, 256));
+    }
+}
@@ -19,14 +19,20 @@ package com.swirlds.merkledb.files.hashmap;
 import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import com.swirlds.merkledb.test.fixtures.ExampleLongKeyFixedSize;
 import com.swirlds.merkledb.test.fixtures.files.FilesTestType;
 import com.swirlds.virtualmap.VirtualKey;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
@@ -176,6 +182,62 @@ class HalfDiskHashMapTest {
         checkData(testType, map, 600, 400, 1);
     }
 
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void bloomFilter(FilesTestType testType) throws Exception {
+        final Configuration config = ConfigurationBuilder.create()
+                .withConfigDataTypes(MerkleDbConfig.class)
+                .withSources(new SimpleConfigSource("merkleDb.hashMapBloomFilterBitsPerBucket", 512))
+                .build();
+        final Path storeDir = tempDirPath.resolve("bloomFilter_" + testType.name());
+        final Path snapshotDir = tempDirPath.resolve("bloomFilterSnapshot_" + testType.name());
+        final int count = 10_000;
+        final HalfDiskHashMap map = new HalfDiskHashMap(config, count, storeDir, "HalfDiskHashMapTest", null, false);
+        assertTrue(map.isBloomFilterEnabled());
+        createSomeData(testType, map, 1, count, 1);
+        checkData(testType, map, 1, count, 1);
+        checkAbsent(testType, map, count + 1, count);
+        // Deleted keys must not be found
+        map.startWriting();
+        for (int i = 1; i <= 100; i++) {
+            final VirtualKey key = testType.createVirtualLongKey(i);
+            map.delete(testType.keySerializer.toBytes(key), key.hashCode());
+        }
+        map.endWriting();
+        checkAbsent(testType, map, 1, 100);
+        checkData(testType, map, 101, count - 100, 1);
+        // Filter is loaded from snapshot
+        map.snapshot(snapshotDir);
+        map.close();
+        try (final HalfDiskHashMap mapFromSnapshot =
+                new HalfDiskHashMap(config, count, snapshotDir, "HalfDiskHashMapTest", null, false)) {
+            assertTrue(mapFromSnapshot.isBloomFilterEnabled());
+            checkAbsent(testType, mapFromSnapshot, 1, 100);
+            checkData(testType, mapFromSnapshot, 101, count - 100, 1);
+        }
+        // Filter is rebuilt, if it's missing in the snapshot
+        Files.delete(snapshotDir.resolve("HalfDiskHashMapTest_bloom_filter.bf"));
+        try (final HalfDiskHashMap mapFromSnapshot =
+                new HalfDiskHashMap(config, count, snapshotDir, "HalfDiskHashMapTest", null, false)) {
+            checkAbsent(testType, mapFromSnapshot, 1, 100);
+            checkData(testType, mapFromSnapshot, 101, count - 100, 1);
+        }
+        // Filter is disabled by default
+        try (final HalfDiskHashMap mapFromSnapshot =
+                new HalfDiskHashMap(CONFIGURATION, count, snapshotDir, "HalfDiskHashMapTest", null, false)) {
+            assertFalse(mapFromSnapshot.isBloomFilterEnabled());
+            checkData(testType, mapFromSnapshot, 101, count - 100, 1);
+        }
+    }
+
+    private static void checkAbsent(FilesTestType testType, HalfDiskHashMap map, int start, int count)
+            throws IOException {
+        for (int i = start; i < (start + count); i++) {
+            final VirtualKey key = testType.createVirtualLongKey(i);
+            assertEquals(-1, map.get(testType.keySerializer.toBytes(key), key.hashCode(), -1), "Expect not to exist");
+        }
+    }
+
     @Test
     void testOverwritesWithCollision() throws IOException {
         final FilesTestType testType = FilesTestType.fixed;
@@ -518,6 +518,33 @@ class MerkleDBFileUtilsTest {
         assertArrayEquals(expected.getBytes(), Files.readAllBytes(outputFile.toPath()));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "0,60,1234567890abcdefghijklmnopqrstuvwxyz........hello.world,55",
+        "3,60,4567890abcdefghijklmnopqrstuvwxyz........hello.worldAAA,52",
+        "3,10,4567890abcAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA,10",
+    })
+    @DisplayName("completelyTransferTo with normal file channel")
+    void completelyTransferToWithNormalFileChannel(
+            final int srcPosition, final int maxBytes, final String expected, final long expectedWritten)
+            throws IOException {
+        final File outputFile = createTestFile(FILLER_STRING);
+        final File inputFile = createTestFile(EXAMPLE_STRING);
+
+        try (final FileChannel outChannel =
+                        (FileChannel) Files.newByteChannel(outputFile.toPath(), StandardOpenOption.WRITE);
+                final FileChannel inChannel =
+                        (FileChannel) Files.newByteChannel(inputFile.toPath(), StandardOpenOption.READ)) {
+            inChannel.position(1);
+            final long bytesWritten =
+                    MerkleDbFileUtils.completelyTransferTo(inChannel, srcPosition, maxBytes, outChannel);
+            assertEquals(expectedWritten, bytesWritten);
+            assertEquals(1, inChannel.position());
+            assertEquals(expectedWritten, outChannel.position());
+        }
+        assertArrayEquals(expected.getBytes(), Files.readAllBytes(outputFile.toPath()));
+    }
+
     /**
      * A FileChannel that only reads/writes the maximum number of bytes specified in sequence.
      */
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.WeightGenerator;
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.roster.RosterRetriever;
+import com.swirlds.platform.test.event.emitter.StandardEventEmitter;
+import com.swirlds.platform.test.event.source.EventSourceFactory;
+import com.swirlds.platform.test.event.source.ForkingEventSource;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.EventSource;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates event graphs for consensus benchmarks. Graphs are fully determined by their parameters and the seed, so
+ * results of different runs and different versions of consensus are comparable.
+ */
+public final class ConsensusGraphs {
+
+    /**
+     * The fraction of nodes that misbehave in graph shapes with misbehaving nodes. Kept below 1/3, so consensus can
+     * still make progress.
+     */
+    private static final double MISBEHAVING_NODE_FRACTION = 0.1;
+
+    /**
+     * Distribution of weight among nodes.
+     */
+    public enum Weights {
+        /** All nodes have the same weight */
+        BALANCED(WeightGenerators.BALANCED),
+        /** Weights increase linearly with node index */
+        INCREMENTING(WeightGenerators.INCREMENTING),
+        /** Random weights, based on the seed */
+        RANDOM(WeightGenerators.RANDOM),
+        /** A single node has a strong minority of weight */
+        SINGLE_NODE_STRONG_MINORITY(WeightGenerators.SINGLE_NODE_STRONG_MINORITY);
+
+        private final WeightGenerator generator;
+
+        Weights(@NonNull final WeightGenerator generator) {
+            this.generator = generator;
+        }
+    }
+
+    /**
+     * Shape of the generated graph.
+     */
+    public enum Shape {
+        /** All nodes are honest and create events at the same rate */
+        BALANCED,
+        /**
+         * Some nodes fork, creating up to two branches. Forks create extra witnesses and elections, so rounds take
+         * more work to decide.
+         */
+        FORKING,
+        /**
+         * Some nodes create events ten times less often than others, and their events reach other nodes late, so they
+         * are used as other parents only when already a few events old. Many events of these nodes become ancient
+         * before reaching consensus, which exercises stale event handling and ancient event purge.
+         */
+        SLOW_NODES
+    }
+
+    /**
+     * A generated graph.
+     *
+     * @param events the events of the graph, in topological order
+     * @param roster the roster of the nodes that created the events
+     */
+    public record Graph(@NonNull List<EventImpl> events, @NonNull Roster roster) {}
+
+    private ConsensusGraphs() {}
+
+    /**
+     * Generate a graph.
+     *
+     * @param platformContext the platform context
+     * @param numNodes        the number of nodes
+     * @param weights         the distribution of weight among nodes
+     * @param shape           the shape of the graph
+     * @param numEvents       the number of events to generate
+     * @param seed            the seed of the generator
+     * @return the generated graph
+     */
+    @NonNull
+    public static Graph generate(
+            @NonNull final PlatformContext platformContext,
+            final int numNodes,
+            @NonNull final Weights weights,
+            @NonNull final Shape shape,
+            final int numEvents,
+            final long seed) {
+        final List<Long> nodeWeights = weights.generator.getWeights(seed, numNodes);
+        final int misbehavingNodes = Math.max(1, (int) (numNodes * MISBEHAVING_NODE_FRACTION));
+
+        final List<EventSource<?>> eventSources = new ArrayList<>(numNodes);
+        for (int i = 0; i < numNodes; i++) {
+            final long weight = nodeWeights.get(i);
+            final boolean misbehaving = i < misbehavingNodes;
+            eventSources.add(
+                    switch (shape) {
+                        case BALANCED -> EventSourceFactory.newStandardEventSource(weight);
+                        case FORKING -> misbehaving
+                                ? new ForkingEventSource(weight)
+                                        .setForkProbability(0.05)
+                                        .setMaximumBranchCount(2)
+                                : EventSourceFactory.newStandardEventSource(weight);
+                        case SLOW_NODES -> misbehaving
+                                ? EventSourceFactory.newStandardEventSource(weight)
+                                        .setNewEventWeight(0.1)
+                                        .setRecentEventRetentionSize(10)
+                                        .setProvidedOtherParentAgeDistribution((random, eventIndex, previous) -> 5)
+                                : EventSourceFactory.newStandardEventSource(weight);
+                    });
+        }
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(platformContext, seed, eventSources);
+        final StandardEventEmitter emitter = new StandardEventEmitter(generator);
+        final List<EventImpl> events = emitter.emitEvents(numEvents);
+        return new Graph(events, RosterRetriever.buildRoster(generator.getAddressBook()));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.consensus.CandidateWitness;
+import com.swirlds.platform.consensus.ConsensusConfig;
+import com.swirlds.platform.consensus.ConsensusRounds;
+import com.swirlds.platform.consensus.RoundElections;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.metrics.NoOpConsensusMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the round bookkeeping of consensus, {@link ConsensusRounds} and {@link RoundElections}, separately from
+ * voting. A graph is generated and run through {@link ConsensusImpl} once, recording the judges of every decided round
+ * and the events added before each decision. Every operation then replays these decisions against a new
+ * {@link ConsensusRounds}: events are checked for being ancient, judges are added as witnesses, their fame is decided,
+ * and the election is completed. The score is the time to replay all decisions of the graph. The graph, and thus the
+ * number of rounds decided, only depends on the benchmark parameters, so scores are comparable across runs.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class ConsensusRoundsBenchmark {
+
+    @Param({"10", "39", "100", "250"})
+    public int numNodes;
+
+    @Param({"BALANCED", "FORKING"})
+    public ConsensusGraphs.Shape shape;
+
+    @Param({"500"})
+    public int eventsPerNode;
+
+    @Param({"0"})
+    public long seed;
+
+    /**
+     * A round decided by consensus.
+     *
+     * @param judges      the judges of the round, ordered by creator
+     * @param addedEvents the events added to consensus after the previous round was decided, up to and including the
+     *                    event that decided this round
+     */
+    private record DecidedRound(List<EventImpl> judges, List<EventImpl> addedEvents) {}
+
+    private ConsensusConfig config;
+    private Roster roster;
+    private final List<DecidedRound> decidedRounds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create().build();
+        config = platformContext.getConfiguration().getConfigData(ConsensusConfig.class);
+
+        final ConsensusGraphs.Graph graph = ConsensusGraphs.generate(
+                platformContext, numNodes, ConsensusGraphs.Weights.BALANCED, shape, numNodes * eventsPerNode, seed);
+        roster = graph.roster();
+        final Map<Hash, EventImpl> eventsByHash = new HashMap<>();
+        for (final EventImpl event : graph.events()) {
+            eventsByHash.put(event.getBaseHash(), event);
+        }
+
+        final ConsensusImpl consensus = new ConsensusImpl(platformContext, new NoOpConsensusMetrics(), roster);
+        List<EventImpl> addedEvents = new ArrayList<>();
+        final List<List<Hash>> judgeHashes = new ArrayList<>();
+        final List<Long> judgeRounds = new ArrayList<>();
+        final List<List<EventImpl>> addedEventLists = new ArrayList<>();
+        for (final EventImpl event : graph.events()) {
+            addedEvents.add(event);
+            for (final ConsensusRound round : consensus.addEvent(event)) {
+                judgeHashes.add(round.getSnapshot().judgeHashes());
+                judgeRounds.add(round.getRoundNum());
+                addedEventLists.add(addedEvents);
+                addedEvents = new ArrayList<>();
+            }
+        }
+
+        // Consensus clears metadata of events once they are no longer needed, restore what the replay relies on
+        decidedRounds.clear();
+        for (int i = 0; i < judgeHashes.size(); i++) {
+            final List<EventImpl> judges = new ArrayList<>();
+            for (final Hash hash : judgeHashes.get(i)) {
+                final EventImpl judge = eventsByHash.get(hash);
+                judge.setRoundCreated(judgeRounds.get(i));
+                judges.add(judge);
+            }
+            decidedRounds.add(new DecidedRound(judges, addedEventLists.get(i)));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void replayElections(final Blackhole bh) {
+        final ConsensusRounds rounds = new ConsensusRounds(config, roster);
+        for (final DecidedRound decidedRound : decidedRounds) {
+            for (final EventImpl event : decidedRound.addedEvents()) {
+                bh.consume(rounds.isOlderThanDecidedRoundGeneration(event));
+                bh.consume(rounds.isAncient(event));
+            }
+            for (final EventImpl judge : decidedRound.judges()) {
+                rounds.newWitness(judge);
+            }
+            final RoundElections elections = rounds.getElectionRound();
+            for (final Iterator<CandidateWitness> iterator = elections.undecidedWitnesses(); iterator.hasNext(); ) {
+                iterator.next().fameDecided(true);
+            }
+            bh.consume(elections.findAllJudges());
+            rounds.currentElectionDecided();
+        }
+        bh.consume(rounds.getMinimumJudgeInfoList());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.Consensus;
+import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.metrics.NoOpConsensusMetrics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of {@link ConsensusImpl} as the network grows, for different weight distributions and graph
+ * shapes, see {@link ConsensusGraphs}. Every operation adds a whole graph of {@code eventsPerNode * numNodes} events to
+ * a new consensus instance. Graphs are regenerated with the same seed before every operation, because consensus
+ * modifies events.
+ * <p>
+ * Besides the time per graph, the {@link Counters} report the average time per event, which is the per-event consensus
+ * latency when events are added one by one, and the average time per decided round. Run with {@code -prof gc} to
+ * report the allocation rate.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class ConsensusScalingBenchmark {
+
+    @Param({"10", "39", "100", "250"})
+    public int numNodes;
+
+    @Param({"BALANCED", "RANDOM"})
+    public ConsensusGraphs.Weights weights;
+
+    @Param({"BALANCED", "FORKING", "SLOW_NODES"})
+    public ConsensusGraphs.Shape shape;
+
+    @Param({"500"})
+    public int eventsPerNode;
+
+    @Param({"0"})
+    public long seed;
+
+    private PlatformContext platformContext;
+    private List<EventImpl> events;
+    private Consensus consensus;
+
+    /**
+     * Counts events and decided rounds. JMH reports them as the average time per event and per round.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long events;
+        public long rounds;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            events = 0;
+            rounds = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        platformContext = TestPlatformContextBuilder.create().build();
+    }
+
+    /**
+     * Operations take at least milliseconds, so the overhead of invocation level setup is negligible.
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        final ConsensusGraphs.Graph graph =
+                ConsensusGraphs.generate(platformContext, numNodes, weights, shape, numNodes * eventsPerNode, seed);
+        events = graph.events();
+        consensus = new ConsensusImpl(platformContext, new NoOpConsensusMetrics(), graph.roster());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void calculateConsensus(final Counters counters, final Blackhole bh) {
+        for (final EventImpl event : events) {
+            final List<ConsensusRound> rounds = consensus.addEvent(event);
+            counters.rounds += rounds.size();
+            bh.consume(rounds);
+        }
+        counters.events += events.size();
+    }
+}
@@ -185,6 +185,11 @@ public class ConsensusImpl implements Consensus {
      * numbers in events, so it must be part of the signed state.
      */
     private long numConsensus = FIRST_CONSENSUS_NUMBER;
+    /**
+     * Incremented every time metadata of events is recalculated. Metadata cached in events is only valid in the epoch
+     * it was calculated in, see {@link #cachedFirstSee(EventImpl, int)}.
+     */
+    private long metadataEpoch = 0;
 
     /**
      * The last consensus timestamp. This is equal to the consensus time of the last transaction in
@@ -261,6 +266,7 @@ public class ConsensusImpl implements Consensus {
 
     /** Reset this instance to a state of a newly created instance */
     private void reset() {
+        metadataEpoch++;
         recentEvents.clear();
         rounds.reset();
         numConsensus = 0;
@@ -341,6 +347,7 @@ public class ConsensusImpl implements Consensus {
      */
     @Nullable
     private ConsensusRound recalculateAndVote() {
+        metadataEpoch++;
         rounds.recalculating();
         for (final Iterator<EventImpl> iterator = recentEvents.iterator(); iterator.hasNext(); ) {
             final EventImpl insertedEvent = iterator.next();
@@ -1069,6 +1076,8 @@ public class ConsensusImpl implements Consensus {
                 final EventImpl st = seeThru(x, mm, mm);
                 if (round(st) != prx) { // ignore if the canonical is in the wrong round, or doesn't exist
                     x.setStronglySeeP(mm, null);
+                } else if (config.cacheFirstSee()) {
+                    x.setStronglySeeP(mm, stronglySeesThroughCache(x, mm, st) ? st : null);
                 } else {
                     long weight = 0;
                     for (int m3 = 0; m3 < numMembers; m3++) {
@@ -1089,6 +1098,58 @@ public class ConsensusImpl implements Consensus {
         return x.getStronglySeeP((int) m);
     }
 
+    /**
+     * Check if x strongly sees the canonical witness st by m, that is, if intermediates with a supermajority of weight
+     * see st. Equivalent to summing the weight of all m3 for which {@code seeThru(x, m, m3) == st}, but the witnesses
+     * seen by intermediates are read from {@link #cachedFirstSee(EventImpl, int)}, and counting stops as soon as a
+     * supermajority is reached.
+     *
+     * @param x  the event being queried, must be relevant for consensus
+     * @param m  the creator of the canonical witness
+     * @param st the canonical witness by m that x sees
+     * @return true if x strongly sees st
+     */
+    private boolean stronglySeesThroughCache(@NonNull final EventImpl x, final int m, @NonNull final EventImpl st) {
+        final int numMembers = roster.rosterEntries().size();
+        lastSee(x, m); // memoizes lastSee of x for all members
+        long weight = 0;
+        for (int m3 = 0; m3 < numMembers; m3++) {
+            final EventImpl seen = m3 == m && creatorIndexEquals(x, m3)
+                    ? seeThru(x, m, m3)
+                    : cachedFirstSee(x.getLastSee(m3), m);
+            if (seen == st) {
+                weight += getWeight(m3);
+                if (Threshold.SUPER_MAJORITY.isSatisfiedBy(weight, rosterTotalWeight)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@link #firstSee(EventImpl, long)}, but the results for all members are cached in x the first time it
+     * is called for x in the current {@link #metadataEpoch}. Intermediate events are shared by many descendants, so
+     * the lastSee links are followed once per intermediate instead of once per descendant.
+     *
+     * @param x the event being queried
+     * @param m the member ID of the creator
+     * @return firstSee(x, m)
+     */
+    private @Nullable EventImpl cachedFirstSee(@Nullable final EventImpl x, final int m) {
+        if (x == null || notRelevantForConsensus(x)) {
+            return null;
+        }
+        if (!x.isFirstSeeCached(metadataEpoch)) {
+            final int numMembers = roster.rosterEntries().size();
+            x.initFirstSee(numMembers, metadataEpoch);
+            for (int mm = 0; mm < numMembers; mm++) {
+                x.setFirstSee(mm, firstSee(x, mm));
+            }
+        }
+        return x.getFirstSee(m);
+    }
+
     /**
      * The round-created for event x (first round is 1), or 0 if x is null (function from
      * SWIRLDS-TR-2020-01). It also stores the round number with x.setRoundCreated(). This result is
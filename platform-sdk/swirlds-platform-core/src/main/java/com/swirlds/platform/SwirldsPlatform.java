@@ -443,8 +443,17 @@ public class SwirldsPlatform implements Platform {
     private void replayPreconsensusEvents() {
         platformWiring.getStatusActionSubmitter().submitStatusAction(new StartedReplayingEventsAction());
 
-        final IOIterator<PlatformEvent> iterator =
-                initialPcesFiles.getEventIterator(initialAncientThreshold, startingRound);
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        final IOIterator<PlatformEvent> iterator;
+        if (pcesConfig.replayPrefetchFileCount() > 0) {
+            iterator = initialPcesFiles.getPrefetchingEventIterator(
+                    initialAncientThreshold,
+                    startingRound,
+                    platformContext.getExecutorFactory().createExecutorService(pcesConfig.replayHashPoolSize()),
+                    pcesConfig.replayPrefetchFileCount());
+        } else {
+            iterator = initialPcesFiles.getEventIterator(initialAncientThreshold, startingRound);
+        }
 
         logger.info(
                 STARTUP.getMarker(),
@@ -474,6 +483,14 @@ public class SwirldsPlatform implements Platform {
         return transactionPoolNexus.submitApplicationTransaction(Bytes.wrap(transaction));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean createTransaction(@NonNull final Bytes transaction) {
+        return transactionPoolNexus.submitApplicationTransaction(transaction);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -32,9 +32,13 @@ import com.swirlds.platform.state.MinimumJudgeInfo;
  *                         {@link MinimumJudgeInfo#MAX_MINIMUM_JUDGE_INFO_SIZE}.
  * @param roundsExpired    Events this many rounds old are expired, and can be deleted from memory
  * @param coinFreq         a coin round happens every coinFreq rounds during an election (every other one is all true)
+ * @param cacheFirstSee    if true, events cache the witness they first see by each creator, so computing which
+ *                         witnesses a descendant strongly sees reuses them instead of following lastSee links for
+ *                         every pair of creators. Does not change the outcome of consensus, only its cost.
  */
 @ConfigData("consensus")
 public record ConsensusConfig(
         @ConfigProperty(defaultValue = "26") int roundsNonAncient,
         @ConfigProperty(defaultValue = "1000") int roundsExpired,
-        @ConfigProperty(defaultValue = "12") int coinFreq) {}
+        @ConfigProperty(defaultValue = "12") int coinFreq,
+        @ConfigProperty(defaultValue = "true") boolean cacheFirstSee) {}
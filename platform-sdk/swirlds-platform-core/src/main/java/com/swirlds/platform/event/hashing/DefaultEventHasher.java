@@ -28,6 +28,10 @@ public class DefaultEventHasher implements EventHasher {
     @NonNull
     public PlatformEvent hashEvent(@NonNull final PlatformEvent event) {
         Objects.requireNonNull(event);
+        if (event.getHash() != null) {
+            // already hashed, for example when read ahead during PCES replay
+            return event;
+        }
         new PbjStreamHasher().hashEvent(event);
         return event;
     }
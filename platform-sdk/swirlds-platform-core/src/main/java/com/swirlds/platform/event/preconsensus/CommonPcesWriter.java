@@ -74,6 +74,11 @@ public class CommonPcesWriter {
      */
     private final int minimumSpan;
 
+    /**
+     * The format new files are written in.
+     */
+    private final PcesFileVersion fileVersion;
+
     /**
      * The minimum ancient indicator that we are required to keep around. Will be either a birth round or a generation,
      * depending on the {@link AncientMode}.
@@ -153,6 +158,7 @@ public class CommonPcesWriter {
         bootstrapSpanOverlapFactor = pcesConfig.bootstrapSpanOverlapFactor();
         spanOverlapFactor = pcesConfig.spanOverlapFactor();
         minimumSpan = pcesConfig.minimumSpan();
+        fileVersion = pcesConfig.fileVersion();
         preferredFileSizeMegabytes = pcesConfig.preferredFileSizeMegabytes();
 
         averageSpanUtilization = new LongRunningAverage(pcesConfig.spanUtilizationRunningAverageLength());
@@ -272,12 +278,9 @@ public class CommonPcesWriter {
     public boolean prepareOutputStream(@NonNull final PlatformEvent eventToWrite) throws IOException {
         boolean fileClosed = false;
         if (currentMutableFile != null) {
-            final boolean fileCanContainEvent =
-                    currentMutableFile.canContain(eventToWrite.getAncientIndicator(fileType));
-            final boolean fileIsFull =
-                    UNIT_BYTES.convertTo(currentMutableFile.fileSize(), UNIT_MEGABYTES) >= preferredFileSizeMegabytes;
+            final boolean fileIsFull = isCurrentFileFull();
 
-            if (!fileCanContainEvent || fileIsFull) {
+            if (!canCurrentFileContain(eventToWrite) || fileIsFull) {
                 closeFile();
                 fileClosed = true;
             }
@@ -294,12 +297,31 @@ public class CommonPcesWriter {
 
             currentMutableFile = fileManager
                     .getNextFileDescriptor(nonAncientBoundary, upperBound)
-                    .getMutableFile(USE_FILE_CHANNEL_WRITER, syncEveryEvent);
+                    .getMutableFile(USE_FILE_CHANNEL_WRITER, syncEveryEvent, fileVersion);
         }
 
         return fileClosed;
     }
 
+    /**
+     * Check if {@link #prepareOutputStream(PlatformEvent)} is going to close the current file before the given event
+     * can be written.
+     *
+     * @param eventToWrite the event that is about to be written
+     * @return true if the current file is open and is going to be closed
+     */
+    public boolean isFileClosingBefore(@NonNull final PlatformEvent eventToWrite) {
+        return currentMutableFile != null && (!canCurrentFileContain(eventToWrite) || isCurrentFileFull());
+    }
+
+    private boolean canCurrentFileContain(@NonNull final PlatformEvent eventToWrite) {
+        return currentMutableFile.canContain(eventToWrite.getAncientIndicator(fileType));
+    }
+
+    private boolean isCurrentFileFull() {
+        return UNIT_BYTES.convertTo(currentMutableFile.fileSize(), UNIT_MEGABYTES) >= preferredFileSizeMegabytes;
+    }
+
     /**
      * Calculate the span for a new file that is about to be created.
      *
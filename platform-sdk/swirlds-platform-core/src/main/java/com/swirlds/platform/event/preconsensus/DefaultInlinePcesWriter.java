@@ -16,19 +16,57 @@
 
 package com.swirlds.platform.event.preconsensus;
 
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.event.PlatformEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public class DefaultInlinePcesWriter implements InlinePcesWriter {
     private final CommonPcesWriter commonPcesWriter;
     private final NodeId selfId;
     private final FileSyncOption fileSyncOption;
+    private final Time time;
+    private final PcesMetrics metrics;
+
+    /**
+     * If {@link FileSyncOption#GROUP_COMMIT} is used, the maximum time an event waits for a sync.
+     */
+    private final Duration groupCommitWindow;
+
+    /**
+     * If {@link FileSyncOption#GROUP_COMMIT} is used, the number of pending bytes that triggers a sync.
+     */
+    private final long groupCommitMaxBytes;
+
+    /**
+     * Events written to the current file, but not yet synced, in the order they were written. The first event is
+     * always a self event: other events are only held back if they were written after a pending self event, to keep
+     * the output in topological order.
+     */
+    private final List<PlatformEvent> pendingEvents = new ArrayList<>();
+
+    /**
+     * The protobuf size of the pending events. This doesn't depend on the file format, so it only grows as events are
+     * written, even if the file writer buffers and compresses them.
+     */
+    private long pendingBytes = 0;
+
+    /**
+     * The time when the first pending event was written, or null if there are no pending events.
+     */
+    @Nullable
+    private Instant pendingSince = null;
 
     /**
      * Constructor
@@ -44,10 +82,12 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
         Objects.requireNonNull(fileManager, "fileManager is required");
         commonPcesWriter = new CommonPcesWriter(platformContext, fileManager, false);
         this.selfId = Objects.requireNonNull(selfId, "selfId is required");
-        this.fileSyncOption = platformContext
-                .getConfiguration()
-                .getConfigData(PcesConfig.class)
-                .inlinePcesSyncOption();
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        this.fileSyncOption = pcesConfig.inlinePcesSyncOption();
+        this.groupCommitWindow = pcesConfig.groupCommitWindow();
+        this.groupCommitMaxBytes = pcesConfig.groupCommitMaxBytes();
+        this.time = platformContext.getTime();
+        this.metrics = new PcesMetrics(platformContext.getMetrics());
     }
 
     @Override
@@ -60,39 +100,103 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
      */
     @NonNull
     @Override
-    public PlatformEvent writeEvent(@NonNull PlatformEvent event) {
+    public List<PlatformEvent> writeEvent(@NonNull PlatformEvent event) {
         // if we aren't streaming new events yet, assume that the given event is already durable
         if (!commonPcesWriter.isStreamingNewEvents()) {
-            return event;
+            return List.of(event);
         }
 
         if (event.getAncientIndicator(commonPcesWriter.getFileType()) < commonPcesWriter.getNonAncientBoundary()) {
             // don't do anything with ancient events
-            return event;
+            return releaseAfterPending(event);
         }
 
         try {
+            if (fileSyncOption == FileSyncOption.GROUP_COMMIT) {
+                return writeEventWithGroupCommit(event);
+            }
+
             commonPcesWriter.prepareOutputStream(event);
             commonPcesWriter.getCurrentMutableFile().writeEvent(event);
 
             if (fileSyncOption == FileSyncOption.EVERY_EVENT
                     || (fileSyncOption == FileSyncOption.EVERY_SELF_EVENT
                             && event.getCreatorId().equals(selfId))) {
-                commonPcesWriter.getCurrentMutableFile().sync();
+                syncCurrentFile();
             }
 
-            return event;
+            return List.of(event);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Write an event with {@link FileSyncOption#GROUP_COMMIT}. Events are released right away until a self event is
+     * written. The self event, and all events written after it, are held back until the file is synced, which happens
+     * once the group commit window elapses or enough bytes are pending.
+     *
+     * @param event the event to write
+     * @return the events that are now durable, in the order they were written
+     */
+    @NonNull
+    private List<PlatformEvent> writeEventWithGroupCommit(@NonNull final PlatformEvent event) throws IOException {
+        final List<PlatformEvent> durableEvents = new ArrayList<>();
+        if (!pendingEvents.isEmpty() && commonPcesWriter.isFileClosingBefore(event)) {
+            // closing a file does not sync it, pending events must be synced while the file is still open
+            durableEvents.addAll(syncPendingEvents());
+        }
+
+        commonPcesWriter.prepareOutputStream(event);
+        commonPcesWriter.getCurrentMutableFile().writeEvent(event);
+
+        if (pendingEvents.isEmpty() && !event.getCreatorId().equals(selfId)) {
+            durableEvents.add(event);
+            return durableEvents;
+        }
+
+        if (pendingEvents.isEmpty()) {
+            pendingSince = time.now();
+        }
+        pendingEvents.add(event);
+        pendingBytes += GossipEvent.PROTOBUF.measureRecord(event.getGossipEvent());
+
+        if (pendingBytes >= groupCommitMaxBytes || isWindowElapsed(time.now())) {
+            durableEvents.addAll(syncPendingEvents());
+        }
+        return durableEvents;
+    }
+
     /**
      * {@inheritDoc}
      */
+    @NonNull
     @Override
-    public void registerDiscontinuity(@NonNull Long newOriginRound) {
+    public List<PlatformEvent> syncIfWindowElapsed(@NonNull final Instant now) {
+        if (pendingEvents.isEmpty() || !isWindowElapsed(now)) {
+            return List.of();
+        }
+        try {
+            return syncPendingEvents();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<PlatformEvent> registerDiscontinuity(@NonNull Long newOriginRound) {
+        final List<PlatformEvent> durableEvents;
+        try {
+            durableEvents = syncPendingEvents();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
         commonPcesWriter.registerDiscontinuity(newOriginRound);
+        return durableEvents;
     }
 
     /**
@@ -107,4 +211,51 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
     public void setMinimumAncientIdentifierToStore(@NonNull final Long minimumAncientIdentifierToStore) {
         commonPcesWriter.setMinimumAncientIdentifierToStore(minimumAncientIdentifierToStore);
     }
+
+    /**
+     * Release an event that doesn't need to be written. If events are pending, the event is held back until they are
+     * synced, to keep the output in topological order.
+     */
+    @NonNull
+    private List<PlatformEvent> releaseAfterPending(@NonNull final PlatformEvent event) {
+        if (pendingEvents.isEmpty()) {
+            return List.of(event);
+        }
+        pendingEvents.add(event);
+        return List.of();
+    }
+
+    private boolean isWindowElapsed(@NonNull final Instant now) {
+        return pendingSince != null && Duration.between(pendingSince, now).compareTo(groupCommitWindow) >= 0;
+    }
+
+    /**
+     * Sync the current file, if there are pending events, and release them.
+     *
+     * @return the pending events, which are now durable
+     */
+    @NonNull
+    private List<PlatformEvent> syncPendingEvents() throws IOException {
+        if (pendingEvents.isEmpty()) {
+            return List.of();
+        }
+        syncCurrentFile();
+        metrics.reportSyncBatchSize(pendingEvents.size());
+
+        final List<PlatformEvent> durableEvents = new ArrayList<>(pendingEvents);
+        pendingEvents.clear();
+        pendingBytes = 0;
+        pendingSince = null;
+        return durableEvents;
+    }
+
+    private void syncCurrentFile() throws IOException {
+        final PcesMutableFile file = commonPcesWriter.getCurrentMutableFile();
+        if (file == null) {
+            return;
+        }
+        final long start = time.nanoTime();
+        file.sync();
+        metrics.reportSync((time.nanoTime() - start) / 1_000);
+    }
 }
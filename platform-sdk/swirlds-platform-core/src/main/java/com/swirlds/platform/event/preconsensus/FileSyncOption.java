@@ -28,6 +28,12 @@ public enum FileSyncOption {
      * Sync the file after every self event.
      */
     EVERY_SELF_EVENT,
+    /**
+     * Coalesce syncs of events arriving within a configured time or byte window into a single sync. Self events, and
+     * all events written after them, are held back until the sync covering them is complete. Applies only to inline
+     * PCES.
+     */
+    GROUP_COMMIT,
     /**
      * Never sync the file. The data will be guaranteed to be written to disk when the file is closed.
      */
@@ -20,6 +20,8 @@ import com.swirlds.component.framework.component.InputWireLabel;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.event.PlatformEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * This object is responsible for writing preconsensus events to disk. It differs from {@link PcesWriter} in that it
@@ -39,19 +41,33 @@ public interface InlinePcesWriter {
      * Write an event to the stream.
      *
      * @param event the event to be written
-     * @return the event written
+     * @return the events that are now durable, in the order they were written. Empty if the event is waiting for a
+     * group commit sync, may contain previously written events if they were waiting for a sync.
      */
     @InputWireLabel("events to write")
     @NonNull
-    PlatformEvent writeEvent(@NonNull PlatformEvent event);
+    List<PlatformEvent> writeEvent(@NonNull PlatformEvent event);
+
+    /**
+     * Sync events that have been waiting for a group commit sync for longer than the group commit window. Does nothing
+     * if {@link FileSyncOption#GROUP_COMMIT} is not used.
+     *
+     * @param now the current time
+     * @return the events that are now durable, in the order they were written
+     */
+    @InputWireLabel("heartbeat")
+    @NonNull
+    List<PlatformEvent> syncIfWindowElapsed(@NonNull Instant now);
 
     /**
      * Inform the preconsensus event writer that a discontinuity has occurred in the preconsensus event stream.
      *
      * @param newOriginRound the round of the state that the new stream will be starting from
+     * @return the events that were waiting for a group commit sync, and are now durable
      */
     @InputWireLabel("discontinuity")
-    void registerDiscontinuity(@NonNull Long newOriginRound);
+    @NonNull
+    List<PlatformEvent> registerDiscontinuity(@NonNull Long newOriginRound);
 
     /**
      * Let the event writer know the current non-ancient event boundary. Ancient events will be ignored if added to the
@@ -19,6 +19,8 @@ package com.swirlds.platform.event.preconsensus;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.event.PlatformEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * A no-op implementation of {@link InlinePcesWriter} that does nothing, just returns the event it receives.
@@ -29,12 +31,21 @@ public class NoOpInlinePcesWriter implements InlinePcesWriter {
 
     @NonNull
     @Override
-    public PlatformEvent writeEvent(@NonNull final PlatformEvent event) {
-        return event;
+    public List<PlatformEvent> writeEvent(@NonNull final PlatformEvent event) {
+        return List.of(event);
     }
 
+    @NonNull
+    @Override
+    public List<PlatformEvent> syncIfWindowElapsed(@NonNull final Instant now) {
+        return List.of();
+    }
+
+    @NonNull
     @Override
-    public void registerDiscontinuity(@NonNull final Long newOriginRound) {}
+    public List<PlatformEvent> registerDiscontinuity(@NonNull final Long newOriginRound) {
+        return List.of();
+    }
 
     @Override
     public void updateNonAncientEventBoundary(@NonNull final EventWindow nonAncientBoundary) {}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.platform.event.EventCore;
+import com.hedera.hapi.platform.event.EventDescriptor;
+import com.hedera.hapi.platform.event.EventTransaction;
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes and decodes blocks of events stored in {@link PcesFileVersion#COLUMNAR_EVENTS} files.
+ *
+ * <p>A block starts with a header of four ints: the number of events in the block, flags, the length of the encoded
+ * events, and the number of bytes that follow the header. Events are encoded column by column, so that similar values
+ * are stored next to each other:
+ * <ul>
+ *     <li>creator ids</li>
+ *     <li>birth rounds, as deltas from the previous event in the block</li>
+ *     <li>creation times, seconds as deltas from the previous event in the block</li>
+ *     <li>software versions, only stored if different from the previous event in the block</li>
+ *     <li>parents: every parent descriptor is stored once per block, other references to it are dictionary indices.
+ *     Parent birth rounds are stored as deltas from the birth round of the child, generations as deltas from the
+ *     previous descriptor stored in the block</li>
+ *     <li>signatures</li>
+ *     <li>transactions</li>
+ * </ul>
+ * If it makes the block smaller, the encoded events are compressed with deflate.
+ */
+final class PcesColumnarCodec {
+
+    /**
+     * A block is written once it contains this many events.
+     */
+    static final int MAX_BLOCK_EVENTS = 256;
+
+    /**
+     * A block is written once the protobuf size of its events reaches this many bytes.
+     */
+    static final long MAX_BLOCK_BYTES = 1024 * 1024;
+
+    /**
+     * Sanity limit for the encoded length of a block read from a file, protects against corrupted headers.
+     */
+    private static final int MAX_ENCODED_BLOCK_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * Set in block flags if the encoded events are compressed.
+     */
+    private static final int FLAG_COMPRESSED = 1;
+
+    /**
+     * Software version reference meaning "same as the previous event in the block".
+     */
+    private static final int SAME_VERSION = 0;
+
+    /**
+     * Software version reference meaning "no version". Other values are protobuf lengths plus two.
+     */
+    private static final int NO_VERSION = 1;
+
+    /**
+     * Parent reference meaning "a new descriptor follows". Other values are dictionary indices plus one.
+     */
+    private static final int NEW_PARENT = 0;
+
+    private PcesColumnarCodec() {}
+
+    /**
+     * Encode a block of events, including the block header.
+     *
+     * @param events the events to encode, must not be empty
+     * @return the block bytes to write to the file
+     */
+    @NonNull
+    static byte[] encodeBlock(@NonNull final List<GossipEvent> events) {
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("Cannot encode an empty block");
+        }
+        final List<EventCore> cores = new ArrayList<>(events.size());
+        for (final GossipEvent event : events) {
+            cores.add(Objects.requireNonNull(event.eventCore(), "event core must not be null"));
+        }
+
+        final ByteArrayOutputStream columns = new ByteArrayOutputStream();
+        final WritableStreamingData out = new WritableStreamingData(columns);
+
+        for (final EventCore core : cores) {
+            out.writeVarLong(core.creatorNodeId(), false);
+        }
+
+        long previousBirthRound = 0;
+        for (final EventCore core : cores) {
+            out.writeVarLong(core.birthRound() - previousBirthRound, true);
+            previousBirthRound = core.birthRound();
+        }
+
+        long previousSeconds = 0;
+        for (final EventCore core : cores) {
+            final Timestamp timeCreated = Objects.requireNonNull(core.timeCreated(), "creation time must not be null");
+            out.writeVarLong(timeCreated.seconds() - previousSeconds, true);
+            out.writeVarInt(timeCreated.nanos(), false);
+            previousSeconds = timeCreated.seconds();
+        }
+
+        SemanticVersion previousVersion = null;
+        for (final EventCore core : cores) {
+            if (Objects.equals(core.version(), previousVersion)) {
+                out.writeVarInt(SAME_VERSION, false);
+            } else {
+                writeVersion(out, core.version());
+                previousVersion = core.version();
+            }
+        }
+
+        final Map<EventDescriptor, Integer> dictionary = new HashMap<>();
+        long previousGeneration = 0;
+        for (final EventCore core : cores) {
+            out.writeVarInt(core.parents().size(), false);
+            for (final EventDescriptor parent : core.parents()) {
+                final Integer index = dictionary.get(parent);
+                if (index != null) {
+                    out.writeVarInt(index + 1, false);
+                    continue;
+                }
+                dictionary.put(parent, dictionary.size());
+                out.writeVarInt(NEW_PARENT, false);
+                writeBytes(out, parent.hash());
+                out.writeVarLong(parent.creatorNodeId(), false);
+                out.writeVarLong(core.birthRound() - parent.birthRound(), true);
+                out.writeVarLong(parent.generation() - previousGeneration, true);
+                previousGeneration = parent.generation();
+            }
+        }
+
+        for (final GossipEvent event : events) {
+            writeBytes(out, event.signature());
+        }
+
+        for (final GossipEvent event : events) {
+            out.writeVarInt(event.transactions().size(), false);
+            for (final Bytes transaction : event.transactions()) {
+                writeBytes(out, transaction);
+            }
+            out.writeVarInt(event.eventTransaction().size(), false);
+            for (final EventTransaction transaction : event.eventTransaction()) {
+                writeBytes(out, EventTransaction.PROTOBUF.toBytes(transaction));
+            }
+        }
+
+        final byte[] encoded = columns.toByteArray();
+        final byte[] compressed = compress(encoded);
+        final boolean useCompressed = compressed.length < encoded.length;
+        final byte[] stored = useCompressed ? compressed : encoded;
+
+        final ByteBuffer block = ByteBuffer.allocate(4 * Integer.BYTES + stored.length);
+        block.putInt(events.size());
+        block.putInt(useCompressed ? FLAG_COMPRESSED : 0);
+        block.putInt(encoded.length);
+        block.putInt(stored.length);
+        block.put(stored);
+        return block.array();
+    }
+
+    /**
+     * Read and decode the next block of events from a stream.
+     *
+     * @param in the stream to read from, positioned at the start of a block
+     * @return the events in the block, in the order they were written
+     * @throws IOException if the stream ends before the block is complete, or the block is malformed
+     */
+    @NonNull
+    static List<GossipEvent> readBlock(@NonNull final SerializableDataInputStream in) throws IOException {
+        final int eventCount = in.readInt();
+        final int flags = in.readInt();
+        final int encodedLength = in.readInt();
+        final int storedLength = in.readInt();
+        if (eventCount <= 0
+                || encodedLength < 0
+                || encodedLength > MAX_ENCODED_BLOCK_BYTES
+                || storedLength < 0
+                || storedLength > encodedLength) {
+            throw new IOException("Malformed block header, eventCount=" + eventCount + ", encodedLength="
+                    + encodedLength + ", storedLength=" + storedLength);
+        }
+        final byte[] stored = new byte[storedLength];
+        in.readFully(stored);
+        final byte[] encoded = (flags & FLAG_COMPRESSED) != 0 ? decompress(stored, encodedLength) : stored;
+
+        try {
+            return decodeEvents(BufferedData.wrap(encoded), eventCount);
+        } catch (final BufferUnderflowException | ParseException e) {
+            throw new IOException("Malformed block of " + eventCount + " events", e);
+        }
+    }
+
+    @NonNull
+    private static List<GossipEvent> decodeEvents(@NonNull final BufferedData in, final int eventCount)
+            throws IOException, ParseException {
+        final EventCore.Builder[] cores = new EventCore.Builder[eventCount];
+        final long[] birthRounds = new long[eventCount];
+
+        for (int i = 0; i < eventCount; i++) {
+            cores[i] = EventCore.newBuilder().creatorNodeId(in.readVarLong(false));
+        }
+
+        long previousBirthRound = 0;
+        for (int i = 0; i < eventCount; i++) {
+            birthRounds[i] = previousBirthRound + in.readVarLong(true);
+            cores[i].birthRound(birthRounds[i]);
+            previousBirthRound = birthRounds[i];
+        }
+
+        long previousSeconds = 0;
+        for (int i = 0; i < eventCount; i++) {
+            final long seconds = previousSeconds + in.readVarLong(true);
+            cores[i].timeCreated(Timestamp.newBuilder()
+                    .seconds(seconds)
+                    .nanos(in.readVarInt(false))
+                    .build());
+            previousSeconds = seconds;
+        }
+
+        SemanticVersion previousVersion = null;
+        for (int i = 0; i < eventCount; i++) {
+            final int reference = in.readVarInt(false);
+            if (reference == NO_VERSION) {
+                previousVersion = null;
+            } else if (reference != SAME_VERSION) {
+                previousVersion = SemanticVersion.PROTOBUF.parse(
+                        readBytes(in, reference - 2).toReadableSequentialData());
+            }
+            cores[i].version(previousVersion);
+        }
+
+        final List<EventDescriptor> dictionary = new ArrayList<>();
+        long previousGeneration = 0;
+        for (int i = 0; i < eventCount; i++) {
+            final int parentCount = readCount(in);
+            final List<EventDescriptor> parents = new ArrayList<>(parentCount);
+            for (int p = 0; p < parentCount; p++) {
+                final int reference = in.readVarInt(false);
+                if (reference != NEW_PARENT) {
+                    if (reference < 0 || reference > dictionary.size()) {
+                        throw new IOException("Invalid parent reference " + reference);
+                    }
+                    parents.add(dictionary.get(reference - 1));
+                    continue;
+                }
+                final Bytes hash = readBytes(in);
+                final long creatorNodeId = in.readVarLong(false);
+                final long birthRound = birthRounds[i] - in.readVarLong(true);
+                final long generation = previousGeneration + in.readVarLong(true);
+                final EventDescriptor parent = EventDescriptor.newBuilder()
+                        .hash(hash)
+                        .creatorNodeId(creatorNodeId)
+                        .birthRound(birthRound)
+                        .generation(generation)
+                        .build();
+                dictionary.add(parent);
+                parents.add(parent);
+                previousGeneration = generation;
+            }
+            cores[i].parents(parents);
+        }
+
+        final Bytes[] signatures = new Bytes[eventCount];
+        for (int i = 0; i < eventCount; i++) {
+            signatures[i] = readBytes(in);
+        }
+
+        final List<GossipEvent> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            final int transactionCount = readCount(in);
+            final List<Bytes> transactions = new ArrayList<>(transactionCount);
+            for (int t = 0; t < transactionCount; t++) {
+                transactions.add(readBytes(in));
+            }
+            final int eventTransactionCount = readCount(in);
+            final List<EventTransaction> eventTransactions = new ArrayList<>(eventTransactionCount);
+            for (int t = 0; t < eventTransactionCount; t++) {
+                eventTransactions.add(EventTransaction.PROTOBUF.parse(readBytes(in).toReadableSequentialData()));
+            }
+            events.add(GossipEvent.newBuilder()
+                    .eventCore(cores[i].build())
+                    .signature(signatures[i])
+                    .eventTransaction(eventTransactions)
+                    .transactions(transactions)
+                    .build());
+        }
+
+        if (in.hasRemaining()) {
+            throw new IOException("Unexpected " + in.remaining() + " bytes at the end of a block");
+        }
+        return events;
+    }
+
+    /**
+     * Write a software version as {@link #NO_VERSION}, or its protobuf length plus two followed by the protobuf bytes.
+     */
+    private static void writeVersion(
+            @NonNull final WritableStreamingData out, @Nullable final SemanticVersion version) {
+        if (version == null) {
+            out.writeVarInt(NO_VERSION, false);
+            return;
+        }
+        final Bytes bytes = SemanticVersion.PROTOBUF.toBytes(version);
+        out.writeVarInt((int) bytes.length() + 2, false);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeBytes(@NonNull final WritableStreamingData out, @NonNull final Bytes bytes) {
+        out.writeVarInt((int) bytes.length(), false);
+        out.writeBytes(bytes);
+    }
+
+    @NonNull
+    private static Bytes readBytes(@NonNull final BufferedData in) throws IOException {
+        return readBytes(in, in.readVarInt(false));
+    }
+
+    @NonNull
+    private static Bytes readBytes(@NonNull final BufferedData in, final int length) throws IOException {
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException("Invalid length " + length + ", " + in.remaining() + " bytes remaining");
+        }
+        return in.readBytes(length);
+    }
+
+    /**
+     * Read the number of elements in a list. Every element takes at least one byte, which bounds the count.
+     */
+    private static int readCount(@NonNull final BufferedData in) throws IOException {
+        final int count = in.readVarInt(false);
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("Invalid count " + count + ", " + in.remaining() + " bytes remaining");
+        }
+        return count;
+    }
+
+    @NonNull
+    private static byte[] compress(@NonNull final byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+            final byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @NonNull
+    private static byte[] decompress(@NonNull final byte[] data, final int length) throws IOException {
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            final byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                final int inflated = inflater.inflate(result, offset, length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += inflated;
+            }
+            if (offset != length) {
+                throw new IOException("Compressed block is truncated, expected " + length + " bytes, got " + offset);
+            }
+            return result;
+        } catch (final DataFormatException e) {
+            throw new IOException("Compressed block is malformed", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
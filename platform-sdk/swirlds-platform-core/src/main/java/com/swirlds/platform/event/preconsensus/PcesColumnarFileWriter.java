@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes events in the {@link PcesFileVersion#COLUMNAR_EVENTS} format. Events are collected into blocks, which are
+ * encoded by {@link PcesColumnarCodec} and written to the wrapped writer. A block is written when it is full, and
+ * whenever the file is flushed, synced or closed, so events are exactly as durable as with the wrapped writer.
+ */
+public class PcesColumnarFileWriter implements PcesFileWriter {
+    /** The writer the encoded blocks are written to */
+    private final PcesFileWriter writer;
+    /** Whether to sync the file after every event */
+    private final boolean syncEveryEvent;
+    /** Events not written to the file yet */
+    private final List<GossipEvent> pendingEvents = new ArrayList<>();
+    /** The protobuf size of events not written to the file yet */
+    private long pendingBytes;
+
+    /**
+     * Create a new columnar file writer.
+     *
+     * @param writer         the writer the encoded blocks are written to
+     * @param syncEveryEvent whether to sync the file after every event. If true, every block contains one event
+     */
+    public PcesColumnarFileWriter(@NonNull final PcesFileWriter writer, final boolean syncEveryEvent) {
+        this.writer = Objects.requireNonNull(writer);
+        this.syncEveryEvent = syncEveryEvent;
+    }
+
+    @Override
+    public void writeVersion(final int version) throws IOException {
+        writer.writeVersion(version);
+    }
+
+    @Override
+    public void writeEvent(@NonNull final GossipEvent event) throws IOException {
+        pendingEvents.add(event);
+        pendingBytes += GossipEvent.PROTOBUF.measureRecord(event);
+        if (syncEveryEvent
+                || pendingEvents.size() >= PcesColumnarCodec.MAX_BLOCK_EVENTS
+                || pendingBytes >= PcesColumnarCodec.MAX_BLOCK_BYTES) {
+            writePendingBlock();
+        }
+    }
+
+    @Override
+    public void writeBytes(@NonNull final byte[] bytes) throws IOException {
+        writePendingBlock();
+        writer.writeBytes(bytes);
+    }
+
+    /**
+     * Encode all pending events as a block and write it to the file.
+     */
+    private void writePendingBlock() throws IOException {
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
+        final byte[] block = PcesColumnarCodec.encodeBlock(pendingEvents);
+        pendingEvents.clear();
+        pendingBytes = 0;
+        writer.writeBytes(block);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writePendingBlock();
+        writer.flush();
+    }
+
+    @Override
+    public void sync() throws IOException {
+        writePendingBlock();
+        writer.sync();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writePendingBlock();
+        writer.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only encoded blocks already written are counted, events not written to the file yet are not. This keeps the
+     * size from shrinking when pending events are written as a compressed block.
+     */
+    @Override
+    public long fileSize() {
+        return writer.fileSize();
+    }
+}
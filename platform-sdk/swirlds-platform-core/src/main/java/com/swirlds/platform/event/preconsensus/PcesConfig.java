@@ -71,7 +71,10 @@ import java.time.Duration;
  *                                             com.swirlds.common.config.StateCommonConfig#savedStateDirectory()}.
  * @param replayQueueSize                      the size of the queue used for holding preconsensus events that are
  *                                             waiting to be replayed
- * @param replayHashPoolSize                   the number of threads used for hashing events during replay
+ * @param replayHashPoolSize                   the number of threads used for reading, decoding and hashing events
+ *                                             during replay
+ * @param replayPrefetchFileCount              the maximum number of preconsensus event files read ahead during
+ *                                             replay. If 0, files are read one at a time on the replay thread.
  * @param copyRecentStreamToStateSnapshots     if true, then copy recent PCES files into the saved state snapshot
  *                                             directories every time we take a state snapshot. The files copied are
  *                                             guaranteed to contain all non-ancient events w.r.t. the state snapshot.
@@ -89,6 +92,15 @@ import java.time.Duration;
  * @param maxEventReplayFrequency              the maximum number of events that can be replayed per second
  * @param inlinePcesSyncOption                 when to sync the preconsensus event file to disk (applies only to inline
  *                                             PCES)
+ * @param groupCommitWindow                    if {@link FileSyncOption#GROUP_COMMIT} is used, the maximum amount of
+ *                                             time an event is held back waiting for a sync. Events written within
+ *                                             this window are covered by a single sync.
+ * @param groupCommitMaxBytes                  if {@link FileSyncOption#GROUP_COMMIT} is used, the file is synced as
+ *                                             soon as the events waiting for a sync add up to this many bytes in
+ *                                             protobuf form, even if the group commit window has not elapsed yet
+ * @param fileVersion                          the format of new preconsensus event files. Files in all formats can be
+ *                                             read, but older software versions can't read newer formats, so a newer
+ *                                             format should only be enabled once a rollback is no longer expected.
  */
 @ConfigData("event.preconsensus")
 public record PcesConfig(
@@ -104,6 +116,7 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "preconsensus-events") Path databaseDirectory,
         @ConfigProperty(defaultValue = "1024") int replayQueueSize,
         @ConfigProperty(defaultValue = "8") int replayHashPoolSize,
+        @Min(0) @ConfigProperty(defaultValue = "4") int replayPrefetchFileCount,
         @ConfigProperty(defaultValue = "true") boolean copyRecentStreamToStateSnapshots,
         @ConfigProperty(defaultValue = "true") boolean compactLastFileOnStartup,
         @ConfigProperty(defaultValue = "false") boolean forceIgnorePcesSignatures,
@@ -112,4 +125,7 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "1ms") Duration replayHealthThreshold,
         @ConfigProperty(defaultValue = "true") boolean limitReplayFrequency,
         @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency,
-        @ConfigProperty(defaultValue = "EVERY_SELF_EVENT") FileSyncOption inlinePcesSyncOption) {}
+        @ConfigProperty(defaultValue = "EVERY_SELF_EVENT") FileSyncOption inlinePcesSyncOption,
+        @ConfigProperty(defaultValue = "5ms") Duration groupCommitWindow,
+        @Min(1) @ConfigProperty(defaultValue = "1048576") long groupCommitMaxBytes,
+        @ConfigProperty(defaultValue = "PROTOBUF_EVENTS") PcesFileVersion fileVersion) {}
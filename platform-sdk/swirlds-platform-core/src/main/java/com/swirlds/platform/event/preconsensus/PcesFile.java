@@ -397,7 +397,7 @@ public final class PcesFile implements Comparable<PcesFile> {
      */
     @NonNull
     public PcesMutableFile getMutableFile() throws IOException {
-        return new PcesMutableFile(this, false, false);
+        return new PcesMutableFile(this, false, false, PcesFileVersion.PROTOBUF_EVENTS);
     }
 
     /**
@@ -412,7 +412,26 @@ public final class PcesFile implements Comparable<PcesFile> {
     @NonNull
     public PcesMutableFile getMutableFile(final boolean useFileChannelWriter, final boolean syncEveryEvent)
             throws IOException {
-        return new PcesMutableFile(this, useFileChannelWriter, syncEveryEvent);
+        return getMutableFile(useFileChannelWriter, syncEveryEvent, PcesFileVersion.PROTOBUF_EVENTS);
+    }
+
+    /**
+     * Get an object that can be used to write events to this file in the given format. Throws if there already exists
+     * a file on disk with the same path.
+     *
+     * @param useFileChannelWriter if true, use a {@link java.nio.channels.FileChannel} to write to the file. Otherwise,
+     *                             use a {@link java.io.FileOutputStream}.
+     * @param syncEveryEvent       if true, sync the file after every event is written
+     * @param fileVersion          the format to write the file in
+     * @return a writer for this file
+     */
+    @NonNull
+    public PcesMutableFile getMutableFile(
+            final boolean useFileChannelWriter,
+            final boolean syncEveryEvent,
+            @NonNull final PcesFileVersion fileVersion)
+            throws IOException {
+        return new PcesMutableFile(this, useFileChannelWriter, syncEveryEvent, fileVersion);
     }
 
     /**
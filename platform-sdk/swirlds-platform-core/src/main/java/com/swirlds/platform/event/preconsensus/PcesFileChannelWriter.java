@@ -72,6 +72,17 @@ public class PcesFileChannelWriter implements PcesFileWriter {
         flipWriteClear();
     }
 
+    @Override
+    public void writeBytes(@NonNull final byte[] bytes) throws IOException {
+        // may be larger than the buffer, so written directly
+        final int bytesWritten = channel.write(ByteBuffer.wrap(bytes));
+        fileSize += bytesWritten;
+        if (bytesWritten != bytes.length) {
+            throw new IOException(
+                    "Failed to write data to file. Wrote " + bytesWritten + " bytes out of " + bytes.length);
+        }
+    }
+
     /**
      * Writes the data in the buffer to the file. This method expects that the buffer will have data that is written to
      * it. The buffer will be flipped so that it can be read from, the data will be written to the file, and the buffer
@@ -26,6 +26,9 @@ import java.io.BufferedInputStream;
 import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -41,6 +44,8 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
     private PlatformEvent next;
     private boolean streamClosed = false;
     private PcesFileVersion fileVersion;
+    /** Events of the current block not returned yet, only used for {@link PcesFileVersion#COLUMNAR_EVENTS} files */
+    private final Deque<GossipEvent> blockEvents = new ArrayDeque<>();
 
     /**
      * Create a new iterator that walks over events in a preconsensus event file.
@@ -53,11 +58,24 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
     public PcesFileIterator(
             @NonNull final PcesFile fileDescriptor, final long lowerBound, @NonNull final AncientMode fileType)
             throws IOException {
+        this(new BufferedInputStream(new FileInputStream(fileDescriptor.getPath().toFile())), lowerBound, fileType);
+    }
+
+    /**
+     * Create a new iterator that walks over events in a preconsensus event file, which has already been read into
+     * memory or is otherwise available as a stream.
+     *
+     * @param in         the contents of a preconsensus event file
+     * @param lowerBound the lower bound for all events to be returned, corresponds to either generation or birth round
+     *                   depending on the {@link PcesFile} type
+     * @param fileType   the type of file to read
+     */
+    PcesFileIterator(@NonNull final InputStream in, final long lowerBound, @NonNull final AncientMode fileType)
+            throws IOException {
 
         this.lowerBound = lowerBound;
         this.fileType = Objects.requireNonNull(fileType);
-        stream = new SerializableDataInputStream(new BufferedInputStream(
-                new FileInputStream(fileDescriptor.getPath().toFile())));
+        stream = new SerializableDataInputStream(Objects.requireNonNull(in));
 
         try {
             final int fileVersionNumber = stream.readInt();
@@ -75,8 +93,8 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
      * Find the next event that should be returned.
      */
     private void findNext() throws IOException {
-        while (next == null && !streamClosed) {
-            if (stream.available() == 0) {
+        while (next == null && (!streamClosed || !blockEvents.isEmpty())) {
+            if (blockEvents.isEmpty() && stream.available() == 0) {
                 closeFile();
                 return;
             }
@@ -85,6 +103,7 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
                 final PlatformEvent candidate =
                         switch (fileVersion) {
                             case PROTOBUF_EVENTS -> new PlatformEvent(stream.readPbjRecord(GossipEvent.PROTOBUF));
+                            case COLUMNAR_EVENTS -> new PlatformEvent(nextBlockEvent());
                         };
                 if (candidate.getAncientIndicator(fileType) >= lowerBound) {
                     next = candidate;
@@ -103,6 +122,17 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
         }
     }
 
+    /**
+     * Get the next event of the current block, reading the next block from the stream if needed.
+     */
+    @NonNull
+    private GossipEvent nextBlockEvent() throws IOException {
+        if (blockEvents.isEmpty()) {
+            blockEvents.addAll(PcesColumnarCodec.readBlock(stream));
+        }
+        return blockEvents.removeFirst();
+    }
+
     private void closeFile() throws IOException {
         stream.close();
         streamClosed = true;
@@ -28,6 +28,7 @@ import java.nio.file.Files;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -171,6 +172,28 @@ public class PcesFileTracker {
         return new PcesMultiFileIterator(lowerBound, getFileIterator(lowerBound, startingRound), fileType);
     }
 
+    /**
+     * Get an iterator that walks over all events starting with a specified lower bound, like
+     * {@link #getEventIterator(long, long)}, but reads files ahead on the given executor.
+     * <p>
+     * Note: this method only works at system startup time, using this iterator after startup has undefined behavior.
+     *
+     * @param lowerBound        the desired lower bound, see {@link #getEventIterator(long, long)}
+     * @param startingRound     the round to start iterating from
+     * @param executor          the executor to read files on, shut down by the iterator when done
+     * @param prefetchFileCount the maximum number of files to read ahead
+     * @return an iterator that walks over events
+     */
+    @NonNull
+    public PcesPrefetchingIterator getPrefetchingEventIterator(
+            final long lowerBound,
+            final long startingRound,
+            @NonNull final ExecutorService executor,
+            final int prefetchFileCount) {
+        return new PcesPrefetchingIterator(
+                lowerBound, getFileIterator(lowerBound, startingRound), fileType, executor, prefetchFileCount);
+    }
+
     /**
      * Get an iterator that walks over all event files currently being tracked, in order.
      * <p>
@@ -23,7 +23,12 @@ import java.util.Arrays;
  */
 public enum PcesFileVersion {
     /** The version of the file format that serializes events as protobuf. */
-    PROTOBUF_EVENTS(2);
+    PROTOBUF_EVENTS(2),
+    /**
+     * The version of the file format that stores events in delta-encoded, optionally compressed blocks. See
+     * {@link PcesColumnarCodec} for details.
+     */
+    COLUMNAR_EVENTS(3);
 
     private final int versionNumber;
 
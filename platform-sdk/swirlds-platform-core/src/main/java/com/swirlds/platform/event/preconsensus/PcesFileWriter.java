@@ -39,6 +39,13 @@ public interface PcesFileWriter {
      */
     void writeEvent(@NonNull final GossipEvent event) throws IOException;
 
+    /**
+     * Write already encoded data, such as a block of events, to the file.
+     *
+     * @param bytes the data to write
+     */
+    void writeBytes(@NonNull final byte[] bytes) throws IOException;
+
     /**
      * Flush the file.
      */
@@ -19,6 +19,7 @@ package com.swirlds.platform.event.preconsensus;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.LongGauge;
 import com.swirlds.metrics.api.Metrics;
 
@@ -83,6 +84,38 @@ public class PcesMetrics {
             .withDescription("The age of the oldest preconsensus event file, in seconds.");
     private final LongGauge preconsensusEventFileOldestSeconds;
 
+    private static final SpeedometerMetric.Config PRECONSENSUS_EVENT_REPLAY_RATE_CONFIG = new SpeedometerMetric.Config(
+                    CATEGORY, "preconsensusEventReplayRate")
+            .withUnit("hertz")
+            .withDescription("The number of preconsensus events replayed per second.");
+    private final SpeedometerMetric preconsensusEventReplayRate;
+
+    private static final RunningAverageMetric.Config PRECONSENSUS_EVENT_SYNC_LATENCY_CONFIG =
+            new RunningAverageMetric.Config(CATEGORY, "preconsensusEventSyncLatency")
+                    .withUnit("microseconds")
+                    .withDescription("The average time it takes to sync the preconsensus event file to disk, "
+                            + "in microseconds. Only reflects syncs done by the inline PCES writer.");
+    private final RunningAverageMetric preconsensusEventSyncLatency;
+
+    private static final LongAccumulator.Config PRECONSENSUS_EVENT_SYNC_LATENCY_MAX_CONFIG =
+            new LongAccumulator.Config(CATEGORY, "preconsensusEventSyncLatencyMax")
+                    .withUnit("microseconds")
+                    .withDescription("The maximum time it took to sync the preconsensus event file to disk, "
+                            + "in microseconds. Only reflects syncs done by the inline PCES writer.");
+    private final LongAccumulator preconsensusEventSyncLatencyMax;
+
+    private static final RunningAverageMetric.Config PRECONSENSUS_EVENT_SYNC_BATCH_SIZE_CONFIG =
+            new RunningAverageMetric.Config(CATEGORY, "preconsensusEventSyncBatchSize")
+                    .withUnit("count")
+                    .withDescription("The average number of events covered by a single group commit sync.");
+    private final RunningAverageMetric preconsensusEventSyncBatchSize;
+
+    private static final LongAccumulator.Config PRECONSENSUS_EVENT_SYNC_BATCH_SIZE_MAX_CONFIG =
+            new LongAccumulator.Config(CATEGORY, "preconsensusEventSyncBatchSizeMax")
+                    .withUnit("count")
+                    .withDescription("The maximum number of events covered by a single group commit sync.");
+    private final LongAccumulator preconsensusEventSyncBatchSizeMax;
+
     /**
      * Construct preconsensus event metrics.
      *
@@ -100,6 +133,11 @@ public class PcesMetrics {
         preconsensusEventFileYoungestIdentifier =
                 metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_YOUNGEST_IDENTIFIER_CONFIG);
         preconsensusEventFileOldestSeconds = metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_OLDEST_SECONDS_CONFIG);
+        preconsensusEventReplayRate = metrics.getOrCreate(PRECONSENSUS_EVENT_REPLAY_RATE_CONFIG);
+        preconsensusEventSyncLatency = metrics.getOrCreate(PRECONSENSUS_EVENT_SYNC_LATENCY_CONFIG);
+        preconsensusEventSyncLatencyMax = metrics.getOrCreate(PRECONSENSUS_EVENT_SYNC_LATENCY_MAX_CONFIG);
+        preconsensusEventSyncBatchSize = metrics.getOrCreate(PRECONSENSUS_EVENT_SYNC_BATCH_SIZE_CONFIG);
+        preconsensusEventSyncBatchSizeMax = metrics.getOrCreate(PRECONSENSUS_EVENT_SYNC_BATCH_SIZE_MAX_CONFIG);
     }
 
     /**
@@ -164,4 +202,31 @@ public class PcesMetrics {
     public LongGauge getPreconsensusEventFileOldestSeconds() {
         return preconsensusEventFileOldestSeconds;
     }
+
+    /**
+     * Get the metric tracking the rate at which preconsensus events are replayed.
+     */
+    public SpeedometerMetric getPreconsensusEventReplayRate() {
+        return preconsensusEventReplayRate;
+    }
+
+    /**
+     * Report that the preconsensus event file has been synced to disk.
+     *
+     * @param latencyMicros how long the sync took, in microseconds
+     */
+    public void reportSync(final long latencyMicros) {
+        preconsensusEventSyncLatency.update(latencyMicros);
+        preconsensusEventSyncLatencyMax.update(latencyMicros);
+    }
+
+    /**
+     * Report the number of events covered by a single group commit sync.
+     *
+     * @param batchSize the number of events
+     */
+    public void reportSyncBatchSize(final int batchSize) {
+        preconsensusEventSyncBatchSize.update(batchSize);
+        preconsensusEventSyncBatchSizeMax.update(batchSize);
+    }
 }
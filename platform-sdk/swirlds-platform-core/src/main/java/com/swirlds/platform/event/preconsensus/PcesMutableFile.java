@@ -45,9 +45,13 @@ public class PcesMutableFile {
      * @param descriptor           a description of the file
      * @param useFileChannelWriter whether to use a FileChannel to write to the file as opposed to an OutputStream
      * @param syncEveryEvent       whether to sync the file after every event
+     * @param fileVersion          the format to write the file in
      */
     PcesMutableFile(
-            @NonNull final PcesFile descriptor, final boolean useFileChannelWriter, final boolean syncEveryEvent)
+            @NonNull final PcesFile descriptor,
+            final boolean useFileChannelWriter,
+            final boolean syncEveryEvent,
+            @NonNull final PcesFileVersion fileVersion)
             throws IOException {
         if (Files.exists(descriptor.getPath())) {
             throw new IOException("File " + descriptor.getPath() + " already exists");
@@ -56,10 +60,14 @@ public class PcesMutableFile {
         Files.createDirectories(descriptor.getPath().getParent());
 
         this.descriptor = descriptor;
-        writer = useFileChannelWriter
+        final PcesFileWriter fileWriter = useFileChannelWriter
                 ? new PcesFileChannelWriter(descriptor.getPath(), syncEveryEvent)
                 : new PcesOutputStreamFileWriter(descriptor.getPath(), syncEveryEvent);
-        writer.writeVersion(PcesFileVersion.currentVersionNumber());
+        writer = switch (fileVersion) {
+            case PROTOBUF_EVENTS -> fileWriter;
+            case COLUMNAR_EVENTS -> new PcesColumnarFileWriter(fileWriter, syncEveryEvent);
+        };
+        writer.writeVersion(fileVersion.getVersionNumber());
         highestAncientIdentifierInFile = descriptor.getLowerBound();
     }
 
@@ -70,6 +70,14 @@ public class PcesOutputStreamFileWriter implements PcesFileWriter {
         }
     }
 
+    @Override
+    public void writeBytes(@NonNull final byte[] bytes) throws IOException {
+        out.write(bytes);
+        if (syncEveryEvent) {
+            sync();
+        }
+    }
+
     @Override
     public void flush() throws IOException {
         out.flush();
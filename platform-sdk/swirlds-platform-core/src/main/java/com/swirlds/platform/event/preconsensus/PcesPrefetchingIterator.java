@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.hashing.PbjStreamHasher;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Iterates over events from a sequence of preconsensus event files, like {@link PcesMultiFileIterator}, but reads
+ * files ahead of the consumer. Up to a configured number of files are read into memory, decoded, and their events
+ * hashed in parallel on the given executor. Events are returned in the same order as they are stored in the files.
+ * <p>
+ * This iterator owns the executor: it is shut down when all files have been read, or when this iterator is closed.
+ */
+public class PcesPrefetchingIterator implements IOIterator<PlatformEvent> {
+
+    private final Iterator<PcesFile> fileIterator;
+    private final long lowerBound;
+    private final AncientMode fileType;
+    private final ExecutorService executor;
+    private final int prefetchFileCount;
+
+    /**
+     * Files being read ahead, in file order.
+     */
+    private final Deque<Future<PrefetchedFile>> prefetchedFiles = new ArrayDeque<>();
+
+    private Iterator<PlatformEvent> currentEvents = Collections.emptyIterator();
+    private int truncatedFileCount = 0;
+
+    /**
+     * The events of a single file, read and hashed ahead of the consumer.
+     *
+     * @param events          the events in the file with an ancient indicator not below the lower bound
+     * @param hasPartialEvent true if the file ended with a partial event
+     */
+    private record PrefetchedFile(@NonNull List<PlatformEvent> events, boolean hasPartialEvent) {}
+
+    /**
+     * Create an iterator that reads ahead and walks over events in a series of event files.
+     *
+     * @param lowerBound        the minimum ancient indicator of events to return, events with lower ancient
+     *                          indicators are not returned
+     * @param fileIterator      an iterator that walks over event files
+     * @param fileType          the type of file to read
+     * @param executor          the executor to read files on, shut down by this iterator when done
+     * @param prefetchFileCount the maximum number of files to read ahead
+     */
+    public PcesPrefetchingIterator(
+            final long lowerBound,
+            @NonNull final Iterator<PcesFile> fileIterator,
+            @NonNull final AncientMode fileType,
+            @NonNull final ExecutorService executor,
+            final int prefetchFileCount) {
+        if (prefetchFileCount < 1) {
+            throw new IllegalArgumentException("prefetchFileCount must be positive, got " + prefetchFileCount);
+        }
+        this.fileIterator = Objects.requireNonNull(fileIterator);
+        this.lowerBound = lowerBound;
+        this.fileType = Objects.requireNonNull(fileType);
+        this.executor = Objects.requireNonNull(executor);
+        this.prefetchFileCount = prefetchFileCount;
+    }
+
+    /**
+     * Submit files to read until the read ahead limit is reached.
+     */
+    private void prefetch() {
+        while (prefetchedFiles.size() < prefetchFileCount && fileIterator.hasNext()) {
+            final PcesFile file = fileIterator.next();
+            prefetchedFiles.add(executor.submit(() -> readFile(file)));
+        }
+    }
+
+    /**
+     * Read a whole file into memory, decode its events and hash them. Runs on the executor.
+     */
+    @NonNull
+    private PrefetchedFile readFile(@NonNull final PcesFile file) throws IOException {
+        final PcesFileIterator iterator = new PcesFileIterator(
+                new ByteArrayInputStream(Files.readAllBytes(file.getPath())), lowerBound, fileType);
+        final PbjStreamHasher hasher = new PbjStreamHasher();
+        final List<PlatformEvent> events = new ArrayList<>();
+        try {
+            while (iterator.hasNext()) {
+                final PlatformEvent event = iterator.next();
+                hasher.hashEvent(event);
+                events.add(event);
+            }
+        } catch (final IOException ignored) {
+            // ignore the exception and move on to the next file, same as PcesMultiFileIterator
+        }
+        return new PrefetchedFile(events, iterator.hasPartialEvent());
+    }
+
+    /**
+     * Make sure {@link #currentEvents} has a next event, unless all files have been read.
+     */
+    private void findNext() throws IOException {
+        while (!currentEvents.hasNext()) {
+            prefetch();
+            final Future<PrefetchedFile> future = prefetchedFiles.poll();
+            if (future == null) {
+                executor.shutdown();
+                return;
+            }
+            final PrefetchedFile file = await(future);
+            if (file.hasPartialEvent()) {
+                truncatedFileCount++;
+            }
+            currentEvents = file.events().iterator();
+            // keep the executor busy while the events of this file are consumed
+            prefetch();
+        }
+    }
+
+    @NonNull
+    private PrefetchedFile await(@NonNull final Future<PrefetchedFile> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IOException("interrupted while waiting for a preconsensus event file to be read", e);
+        } catch (final ExecutionException e) {
+            close();
+            if (e.getCause() instanceof final IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("unable to read a preconsensus event file", e.getCause());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+        findNext();
+        return currentEvents.hasNext();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PlatformEvent next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is empty, can not get next element");
+        }
+        return currentEvents.next();
+    }
+
+    /**
+     * Get the number of files that had partial event data at the end. This can happen if JVM is shut down abruptly
+     * while and event is being written to disk.
+     *
+     * @return the number of files that had partial event data at the end that have been encountered so far
+     */
+    public int getTruncatedFileCount() {
+        return truncatedFileCount;
+    }
+
+    /**
+     * Stop reading files ahead and shut down the executor.
+     */
+    @Override
+    public void close() {
+        prefetchedFiles.forEach(future -> future.cancel(true));
+        prefetchedFiles.clear();
+        executor.shutdownNow();
+    }
+}
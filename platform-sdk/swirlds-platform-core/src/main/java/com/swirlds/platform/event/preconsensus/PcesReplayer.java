@@ -59,6 +59,8 @@ public class PcesReplayer {
 
     private final PcesConfig config;
 
+    private final PcesMetrics metrics;
+
     /**
      * Constructor
      *
@@ -86,6 +88,7 @@ public class PcesReplayer {
         this.isSystemHealthy = Objects.requireNonNull(isSystemHealthy);
 
         this.config = context.getConfiguration().getConfigData(PcesConfig.class);
+        this.metrics = new PcesMetrics(context.getMetrics());
     }
 
     /**
@@ -188,9 +191,12 @@ public class PcesReplayer {
                 transactionCount += event.getTransactionCount();
 
                 eventOutputWire.forward(event);
+                metrics.getPreconsensusEventReplayRate().cycle();
             }
         } catch (final IOException e) {
             throw new UncheckedIOException("error encountered while reading from the PCES", e);
+        } finally {
+            eventIterator.close();
         }
 
         flushIntake.run();
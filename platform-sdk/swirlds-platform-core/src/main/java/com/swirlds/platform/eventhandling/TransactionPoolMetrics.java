@@ -20,7 +20,9 @@ import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.function.Supplier;
@@ -46,23 +48,48 @@ public class TransactionPoolMetrics {
                     "Cycled when a platform transaction is submitted (platform transactions are always accepted).");
     private final SpeedometerMetric submittedPlatformTransactions;
 
+    private static final SpeedometerMetric.Config UNAVAILABLE_APP_TRANSACTIONS_CONFIG = new SpeedometerMetric.Config(
+                    PLATFORM_CATEGORY, "unavailableAppTransactions")
+            .withDescription("Cycled when an app transaction is rejected because the platform is not active or has "
+                    + "been unhealthy for too long.");
+    private final SpeedometerMetric unavailableAppTransactions;
+
+    private static final RunningAverageMetric.Config TRANSACTION_WAIT_TIME_CONFIG = new RunningAverageMetric.Config(
+                    PLATFORM_CATEGORY, "transactionPoolWaitTime")
+            .withUnit("microseconds")
+            .withDescription("The average time a transaction waits in the transaction pool before it is put into an "
+                    + "event, in microseconds.");
+    private final RunningAverageMetric transactionWaitTime;
+
+    private static final LongAccumulator.Config TRANSACTION_WAIT_TIME_MAX_CONFIG = new LongAccumulator.Config(
+                    PLATFORM_CATEGORY, "transactionPoolWaitTimeMax")
+            .withUnit("microseconds")
+            .withDescription("The maximum time a transaction waited in the transaction pool before it was put into "
+                    + "an event, in microseconds.");
+    private final LongAccumulator transactionWaitTimeMax;
+
     /**
      * Create metrics for the transaction pool.
      *
      * @param platformContext                     the platform context
      * @param getBufferedTransactionCount         a supplier for the number of buffered transactions
      * @param getPriorityBufferedTransactionCount a supplier for the number of priority buffered transactions
+     * @param getBufferedTransactionBytes         a supplier for the number of bytes of all buffered transactions
      */
     public TransactionPoolMetrics(
             @NonNull final PlatformContext platformContext,
             @NonNull final Supplier<Integer> getBufferedTransactionCount,
-            @NonNull final Supplier<Integer> getPriorityBufferedTransactionCount) {
+            @NonNull final Supplier<Integer> getPriorityBufferedTransactionCount,
+            @NonNull final Supplier<Long> getBufferedTransactionBytes) {
 
         final Metrics metrics = platformContext.getMetrics();
 
         acceptedAppTransactions = metrics.getOrCreate(ACCEPTED_APP_TRANSACTIONS_CONFIG);
         rejectedAppTransactions = metrics.getOrCreate(REJECTED_APP_TRANSACTIONS_CONFIG);
         submittedPlatformTransactions = metrics.getOrCreate(SUBMITTED_PLATFORM_TRANSACTIONS_CONFIG);
+        unavailableAppTransactions = metrics.getOrCreate(UNAVAILABLE_APP_TRANSACTIONS_CONFIG);
+        transactionWaitTime = metrics.getOrCreate(TRANSACTION_WAIT_TIME_CONFIG);
+        transactionWaitTimeMax = metrics.getOrCreate(TRANSACTION_WAIT_TIME_MAX_CONFIG);
 
         metrics.getOrCreate(new FunctionGauge.Config<>(
                         PLATFORM_CATEGORY, "bufferedTransactions", Integer.class, getBufferedTransactionCount)
@@ -75,6 +102,10 @@ public class TransactionPoolMetrics {
                         getPriorityBufferedTransactionCount)
                 .withDescription("The number of priority transactions waiting to be inserted into an event.")
                 .withUnit("count"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        PLATFORM_CATEGORY, "bufferedTransactionBytes", Long.class, getBufferedTransactionBytes)
+                .withDescription("The number of bytes of all transactions waiting to be inserted into an event.")
+                .withUnit("bytes"));
     }
 
     /**
@@ -97,4 +128,21 @@ public class TransactionPoolMetrics {
     public void recordSubmittedPlatformTransaction() {
         submittedPlatformTransactions.cycle();
     }
+
+    /**
+     * Record that an app transaction was rejected because the platform is not active or not healthy.
+     */
+    public void recordUnavailableAppTransaction() {
+        unavailableAppTransactions.cycle();
+    }
+
+    /**
+     * Record the time a transaction waited in the pool before it was put into an event.
+     *
+     * @param waitMicros the wait time in microseconds
+     */
+    public void recordTransactionWaitTime(final long waitMicros) {
+        transactionWaitTime.update(waitMicros);
+        transactionWaitTimeMax.update(waitMicros);
+    }
 }
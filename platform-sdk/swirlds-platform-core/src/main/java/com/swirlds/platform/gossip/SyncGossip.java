@@ -54,8 +54,10 @@ import com.swirlds.platform.network.NetworkMetrics;
 import com.swirlds.platform.network.NetworkPeerIdentifier;
 import com.swirlds.platform.network.NetworkUtils;
 import com.swirlds.platform.network.PeerInfo;
+import com.swirlds.platform.network.SocketConfig;
 import com.swirlds.platform.network.communication.NegotiationProtocols;
 import com.swirlds.platform.network.communication.ProtocolNegotiatorThread;
+import com.swirlds.platform.network.communication.handshake.CodecNegotiationHandshake;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
 import com.swirlds.platform.network.connectivity.ConnectionServer;
 import com.swirlds.platform.network.connectivity.InboundConnectionHandler;
@@ -361,7 +363,11 @@ public class SyncGossip implements ConnectionTracker, Gossip {
                 Duration.ofMillis(syncConfig.syncProtocolHeartbeatPeriod()), networkMetrics, platformContext.getTime());
         final VersionCompareHandshake versionCompareHandshake =
                 new VersionCompareHandshake(appVersion, !protocolConfig.tolerateMismatchedVersion());
-        final List<ProtocolRunnable> handshakeProtocols = List.of(versionCompareHandshake);
+        final List<ProtocolRunnable> handshakeProtocols = new ArrayList<>();
+        handshakeProtocols.add(versionCompareHandshake);
+        if (platformContext.getConfiguration().getConfigData(SocketConfig.class).adaptiveCompression()) {
+            handshakeProtocols.add(new CodecNegotiationHandshake());
+        }
         for (final NodeId otherId : topology.getNeighbors()) {
             syncProtocolThreads.add(new StoppableThreadConfiguration<>(threadManager)
                     .setPriority(Thread.NORM_PRIORITY)
@@ -36,6 +36,8 @@ import com.swirlds.platform.gossip.permits.SyncPermitProvider;
 import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
 import com.swirlds.platform.gossip.sync.SyncManagerImpl;
 import com.swirlds.platform.gossip.sync.config.SyncConfig;
+import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.communication.handshake.CodecNegotiationHandshake;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
 import com.swirlds.platform.network.protocol.*;
 import com.swirlds.platform.state.SwirldStateManager;
@@ -48,6 +50,7 @@ import com.swirlds.platform.wiring.NoInput;
 import com.swirlds.platform.wiring.components.Gossip;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -155,7 +158,11 @@ public class SyncGossipModular implements Gossip {
         final ProtocolConfig protocolConfig = platformContext.getConfiguration().getConfigData(ProtocolConfig.class);
         final VersionCompareHandshake versionCompareHandshake =
                 new VersionCompareHandshake(appVersion, !protocolConfig.tolerateMismatchedVersion());
-        final List<ProtocolRunnable> handshakeProtocols = List.of(versionCompareHandshake);
+        final List<ProtocolRunnable> handshakeProtocols = new ArrayList<>();
+        handshakeProtocols.add(versionCompareHandshake);
+        if (platformContext.getConfiguration().getConfigData(SocketConfig.class).adaptiveCompression()) {
+            handshakeProtocols.add(new CodecNegotiationHandshake());
+        }
 
         var threads = network.buildProtocolThreads(threadManager, selfId, handshakeProtocols, protocols);
 
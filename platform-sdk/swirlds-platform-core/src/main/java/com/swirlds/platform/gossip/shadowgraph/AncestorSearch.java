@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.gossip.shadowgraph;
+
+import com.swirlds.platform.event.AncientMode;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reusable state for searching ancestors of shadow events. Sets of shadow events are represented as bitsets indexed by
+ * shadow event {@link ShadowEvent#getId() ids}, relative to the oldest id that is still in the shadowgraph, and the
+ * search uses an array based stack. Once the bitsets and the stack have grown to the size of the shadowgraph, searches
+ * don't allocate memory, apart from the list of results.
+ * <p>
+ * An instance must not be used by multiple threads at the same time, it is intended to be reused by a single thread for
+ * many searches.
+ */
+public class AncestorSearch {
+
+    private static final int INITIAL_STACK_SIZE = 64;
+
+    /**
+     * Events the peer is known to have.
+     */
+    private final BitSet known = new BitSet();
+
+    /**
+     * Events found to be needed by the peer.
+     */
+    private final BitSet unknown = new BitSet();
+
+    private ShadowEvent[] stack = new ShadowEvent[INITIAL_STACK_SIZE];
+    private int stackSize = 0;
+
+    private long minimumId;
+    private long minimumIndicator;
+    private AncientMode ancientMode;
+
+    /**
+     * Start a new search, forgetting the results of the previous one.
+     *
+     * @param minimumId        the oldest shadow event id that is still in the shadowgraph, events with smaller ids are
+     *                         expired and are not searched
+     * @param minimumIndicator events with an ancient indicator lower than this are not searched
+     * @param ancientMode      the current ancient mode
+     */
+    void start(final long minimumId, final long minimumIndicator, @NonNull final AncientMode ancientMode) {
+        known.clear();
+        unknown.clear();
+        this.minimumId = minimumId;
+        this.minimumIndicator = minimumIndicator;
+        this.ancientMode = Objects.requireNonNull(ancientMode);
+    }
+
+    /**
+     * Mark the given events, and all their ancestors within the search range, as known to the peer.
+     *
+     * @param knownSet the events the peer is known to have
+     */
+    void markKnownAncestors(@NonNull final Collection<ShadowEvent> knownSet) {
+        for (final ShadowEvent event : knownSet) {
+            if (isSearchable(event)) {
+                known.set(index(event));
+            }
+        }
+        for (final ShadowEvent event : knownSet) {
+            pushParents(event);
+            while (stackSize > 0) {
+                final ShadowEvent ancestor = pop();
+                if (isSearchable(ancestor) && !known.get(index(ancestor))) {
+                    known.set(index(ancestor));
+                    pushParents(ancestor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the given tips, and all their ancestors within the search range, which are not known to the peer. Must be
+     * called after {@link #markKnownAncestors(Collection)}.
+     *
+     * @param tips the tips to start the search from
+     * @return the events that are not known to the peer, in no particular order
+     */
+    @NonNull
+    List<ShadowEvent> findUnknownAncestors(@NonNull final Collection<ShadowEvent> tips) {
+        final List<ShadowEvent> result = new ArrayList<>();
+        for (final ShadowEvent tip : tips) {
+            push(tip);
+            while (stackSize > 0) {
+                final ShadowEvent event = pop();
+                if (isSearchable(event) && !known.get(index(event)) && !unknown.get(index(event))) {
+                    unknown.set(index(event));
+                    result.add(event);
+                    pushParents(event);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of events within the search range known to the peer.
+     *
+     * @return the number of known events
+     */
+    public int getKnownCount() {
+        return known.cardinality();
+    }
+
+    private boolean isSearchable(@NonNull final ShadowEvent event) {
+        return event.getId() >= minimumId && event.getEvent().getAncientIndicator(ancientMode) >= minimumIndicator;
+    }
+
+    private int index(@NonNull final ShadowEvent event) {
+        return (int) (event.getId() - minimumId);
+    }
+
+    private void pushParents(@NonNull final ShadowEvent event) {
+        final ShadowEvent selfParent = event.getSelfParent();
+        if (selfParent != null) {
+            push(selfParent);
+        }
+        final ShadowEvent otherParent = event.getOtherParent();
+        if (otherParent != null) {
+            push(otherParent);
+        }
+    }
+
+    private void push(@NonNull final ShadowEvent event) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[stackSize++] = event;
+    }
+
+    @NonNull
+    private ShadowEvent pop() {
+        final ShadowEvent event = stack[--stackSize];
+        stack[stackSize] = null;
+        return event;
+    }
+}
@@ -36,11 +36,22 @@ import com.swirlds.platform.event.PlatformEvent;
  * A shadow event never modifies the fields in a hashgraph event.
  */
 public class ShadowEvent {
+    /**
+     * The id of shadow events that are not part of a {@link Shadowgraph}.
+     */
+    public static final long NO_ID = -1;
+
     /**
      * the real event
      */
     private final PlatformEvent event;
 
+    /**
+     * A dense id assigned by the {@link Shadowgraph} in insertion order, used to represent sets of shadow events as
+     * bitsets, or {@link #NO_ID} if this shadow event is not part of a shadowgraph.
+     */
+    private final long id;
+
     /**
      * self-parent
      */
@@ -62,9 +73,27 @@ public class ShadowEvent {
      * 		the other-parent event's shadow
      */
     public ShadowEvent(final PlatformEvent event, final ShadowEvent selfParent, final ShadowEvent otherParent) {
+        this(event, selfParent, otherParent, NO_ID);
+    }
+
+    /**
+     * Construct a shadow event from an event, the shadow events of its parents, and an id
+     *
+     * @param event
+     * 		the event
+     * @param selfParent
+     * 		the self-parent event's shadow
+     * @param otherParent
+     * 		the other-parent event's shadow
+     * @param id
+     * 		the dense id assigned by the shadowgraph
+     */
+    public ShadowEvent(
+            final PlatformEvent event, final ShadowEvent selfParent, final ShadowEvent otherParent, final long id) {
         this.event = event;
         this.selfParent = selfParent;
         this.otherParent = otherParent;
+        this.id = id;
     }
 
     /**
@@ -95,6 +124,15 @@ public class ShadowEvent {
         return this.otherParent;
     }
 
+    /**
+     * Get the dense id assigned by the shadowgraph
+     *
+     * @return the id of {@code this} shadow event, or {@link #NO_ID} if it is not part of a shadowgraph
+     */
+    public long getId() {
+        return id;
+    }
+
     /**
      * Get the hashgraph event references by this shadow event
      *
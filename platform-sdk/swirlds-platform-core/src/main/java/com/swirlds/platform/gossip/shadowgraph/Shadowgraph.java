@@ -20,6 +20,7 @@ import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import static com.swirlds.logging.legacy.LogMarker.SYNC_INFO;
 
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.utility.Clearable;
@@ -44,6 +45,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -52,6 +56,11 @@ import org.apache.logging.log4j.Logger;
 /**
  * The primary purpose of the shadowgraph is to unlink events when it is safe to do so. In order to decide when it is
  * safe to unlink an event, it allows for batches of events (by ancient indicator) to be reserved.
+ * <p>
+ * The shadowgraph has a single writer at a time: adding events, updating the event window and clearing are done under
+ * {@link #writeLock}. Reads used by sync sessions, i.e. looking up events by hash and getting the tips, don't take any
+ * lock, so concurrent syncs with many peers don't block each other or the writer. Reservations are guarded by
+ * {@link #reservationLock}, which is only held for short periods of time.
  */
 public class Shadowgraph implements Clearable {
 
@@ -63,30 +72,61 @@ public class Shadowgraph implements Clearable {
     public static final int NO_RESERVATION = -1;
 
     /**
-     * The shadowgraph represented in a map from has to shadow event.
+     * The shadowgraph represented in a map from has to shadow event. Modified by the writer, read without locking.
      */
-    private final HashMap<Hash, ShadowEvent> hashToShadowEvent;
+    private final Map<Hash, ShadowEvent> hashToShadowEvent;
 
     /**
-     * Map from ancient indicator to all shadow events with that ancient indicator.
+     * Map from ancient indicator to all shadow events with that ancient indicator. Only accessed by the writer.
      */
     private final Map<Long /* ancient indicator */, Set<ShadowEvent>> indicatorToShadowEvent;
 
     /**
-     * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children)
+     * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children). Only
+     * accessed by the writer, readers use {@link #tipsSnapshot}.
      */
     private final HashSet<ShadowEvent> tips;
 
+    /**
+     * An immutable copy of {@link #tips}, published by the writer every time the tips change.
+     */
+    private volatile List<ShadowEvent> tipsSnapshot = List.of();
+
     /**
      * The oldest ancient indicator that has not yet been expired
      */
-    private long oldestUnexpiredIndicator;
+    private volatile long oldestUnexpiredIndicator;
+
+    /**
+     * The id assigned to the next shadow event inserted. Only accessed by the writer.
+     */
+    private long nextShadowId = 0;
+
+    /**
+     * The smallest id of a shadow event in the graph, or {@link #nextShadowId} if the graph is empty. Events with
+     * smaller ids have been expired.
+     */
+    private volatile long oldestLiveShadowId = 0;
 
     /**
-     * The list of all currently reserved indicators and their number of reservations.
+     * The list of all currently reserved indicators and their number of reservations. Guarded by
+     * {@link #reservationLock}.
      */
     private final LinkedList<ShadowgraphReservation> reservationList;
 
+    /**
+     * Held while modifying the shadowgraph.
+     */
+    private final Lock writeLock = new ReentrantLock();
+
+    /**
+     * Held while accessing {@link #reservationList} and while updating {@link #eventWindow}, so a reservation is
+     * always made against the event window it is packaged with.
+     */
+    private final Lock reservationLock = new ReentrantLock();
+
+    private final Time time;
+
     /**
      * Encapsulates metrics for the shadowgraph.
      */
@@ -105,7 +145,7 @@ public class Shadowgraph implements Clearable {
     /**
      * The most recent event window we know about.
      */
-    private EventWindow eventWindow;
+    private volatile EventWindow eventWindow;
 
     /**
      * For each peer, track the number of events in the intake pipeline prior to the shadowgraph.
@@ -130,21 +170,41 @@ public class Shadowgraph implements Clearable {
                 .getAncientMode();
 
         this.metrics = new ShadowgraphMetrics(platformContext);
+        this.time = platformContext.getTime();
         this.numberOfNodes = numberOfNodes;
         this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
         tips = new HashSet<>();
-        hashToShadowEvent = new HashMap<>();
+        hashToShadowEvent = new ConcurrentHashMap<>();
         indicatorToShadowEvent = new HashMap<>();
         reservationList = new LinkedList<>();
     }
 
+    /**
+     * Acquire the given lock, and report to metrics if the lock is contended.
+     *
+     * @param lock the lock to acquire
+     */
+    private void lock(@NonNull final Lock lock) {
+        if (lock.tryLock()) {
+            return;
+        }
+        final long start = time.nanoTime();
+        lock.lock();
+        metrics.reportLockContention(time.nanoTime() - start);
+    }
+
     /**
      * Define the starting event window for the shadowgraph
      *
      * @param eventWindow the starting event window
      */
     private void startWithEventWindow(@NonNull final EventWindow eventWindow) {
-        this.eventWindow = eventWindow;
+        lock(reservationLock);
+        try {
+            this.eventWindow = eventWindow;
+        } finally {
+            reservationLock.unlock();
+        }
         oldestUnexpiredIndicator = eventWindow.getExpiredThreshold();
         logger.info(
                 STARTUP.getMarker(),
@@ -155,14 +215,26 @@ public class Shadowgraph implements Clearable {
     /**
      * Reset the shadowgraph manager to its constructed state.
      */
-    public synchronized void clear() {
-        eventWindow = null;
-        oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
-        disconnectShadowEvents();
-        tips.clear();
-        hashToShadowEvent.clear();
-        indicatorToShadowEvent.clear();
-        reservationList.clear();
+    public void clear() {
+        lock(writeLock);
+        try {
+            lock(reservationLock);
+            try {
+                eventWindow = null;
+                reservationList.clear();
+            } finally {
+                reservationLock.unlock();
+            }
+            oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
+            oldestLiveShadowId = nextShadowId;
+            disconnectShadowEvents();
+            tips.clear();
+            tipsSnapshot = List.of();
+            hashToShadowEvent.clear();
+            indicatorToShadowEvent.clear();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
@@ -181,7 +253,20 @@ public class Shadowgraph implements Clearable {
      * @return the reservation instance, must be closed when the reservation is no longer needed
      */
     @NonNull
-    public synchronized ReservedEventWindow reserve() {
+    public ReservedEventWindow reserve() {
+        lock(reservationLock);
+        try {
+            return reserveLocked();
+        } finally {
+            reservationLock.unlock();
+        }
+    }
+
+    /**
+     * Implementation of {@link #reserve()}, must be called while holding {@link #reservationLock}.
+     */
+    @NonNull
+    private ReservedEventWindow reserveLocked() {
         if (reservationList.isEmpty()) {
             // If we are not currently holding any reservations, we need to create a new one.
             return new ReservedEventWindow(eventWindow, newReservation());
@@ -215,7 +300,7 @@ public class Shadowgraph implements Clearable {
      * Get the latest event window known to the shadowgraph.
      */
     @NonNull
-    public synchronized EventWindow getEventWindow() {
+    public EventWindow getEventWindow() {
         return eventWindow;
     }
 
@@ -227,8 +312,8 @@ public class Shadowgraph implements Clearable {
      * @deprecated still used by tests, planned for removal. Do not add new uses.
      */
     @Deprecated(forRemoval = true)
-    public synchronized boolean isHashInGraph(final Hash hash) {
-        return hashToShadowEvent.containsKey(hash);
+    public boolean isHashInGraph(final Hash hash) {
+        return hash != null && hashToShadowEvent.containsKey(hash);
     }
 
     /**
@@ -236,15 +321,15 @@ public class Shadowgraph implements Clearable {
      * depth-first search. The provided {@code events} are not included in the return set. Searching stops at nodes that
      * have no parents, or nodes that do not pass the {@code predicate}.</p>
      *
-     * <p>It is safe for this method not to be synchronized because:</p>
+     * <p>It is safe for this method not to hold any lock because:</p>
      * <ol>
      *     <li>this method does not modify any data</li>
      *     <li>adding events to the the graph does not affect ancestors</li>
      *     <li>checks for expired parent events are atomic</li>
      * </ol>
-     * <p>Note: This method is always accessed after a call to a synchronized {@link Shadowgraph} method, like
-     * {@link #getTips()}, which acts as a memory gate and causes the calling thread to read the latest values for all
-     * variables from memory, including {@link ShadowEvent} links.</p>
+     * <p>Note: This method is always accessed after a call to a {@link Shadowgraph} method that reads a volatile field
+     * or a concurrent map, like {@link #getTips()}, which acts as a memory gate and causes the calling thread to read
+     * the latest values for all variables from memory, including {@link ShadowEvent} links.</p>
      *
      * @param events    the event to find ancestors of
      * @param predicate determines whether or not to add the ancestor to the return list
@@ -261,6 +346,35 @@ public class Shadowgraph implements Clearable {
         return ancestors;
     }
 
+    /**
+     * <p>Returns the events a peer needs, given the events the peer is known to have. These are the {@code tips} and
+     * their ancestors, which are neither in {@code knownSet} nor ancestors of events in {@code knownSet}. Only events
+     * with an ancient indicator of at least {@code minimumSearchThreshold} are searched and returned.</p>
+     *
+     * <p>This is equivalent to two calls to {@link #findAncestors(Iterable, Predicate)}, but the sets of events are
+     * stored in the bitsets of the given {@link AncestorSearch}, indexed by shadow event ids, so no hash sets are built
+     * and no events are hashed. The same locking considerations apply. The caller must hold a reservation of an event
+     * window with an expired threshold not greater than {@code minimumSearchThreshold}, so that no searched events
+     * expire during the search.</p>
+     *
+     * @param knownSet               the events the peer is known to have
+     * @param tips                   the events to start the search from
+     * @param minimumSearchThreshold the minimum ancient indicator of events to search
+     * @param search                 the reusable search state
+     * @return the events the peer needs, in no particular order
+     */
+    @NonNull
+    public List<ShadowEvent> findUnknownAncestors(
+            @NonNull final Collection<ShadowEvent> knownSet,
+            @NonNull final Collection<ShadowEvent> tips,
+            final long minimumSearchThreshold,
+            @NonNull final AncestorSearch search) {
+        final long minimumIndicator = Math.max(oldestUnexpiredIndicator, minimumSearchThreshold);
+        search.start(oldestLiveShadowId, minimumIndicator, ancientMode);
+        search.markKnownAncestors(knownSet);
+        return search.findUnknownAncestors(tips);
+    }
+
     /**
      * Private method that searches for ancestors and takes a HashSet as input. This method exists for efficiency, when
      * looking for ancestors of multiple events, we want to append to the same HashSet.
@@ -325,17 +439,22 @@ public class Shadowgraph implements Clearable {
      */
     @Deprecated(forRemoval = true)
     @NonNull
-    public synchronized Collection<PlatformEvent> findByAncientIndicator(
+    public Collection<PlatformEvent> findByAncientIndicator(
             final long lowerBound, final long upperBound, @NonNull final Predicate<PlatformEvent> predicate) {
         final List<PlatformEvent> result = new ArrayList<>();
         if (lowerBound >= upperBound) {
             return result;
         }
-        for (long indicator = lowerBound; indicator < upperBound; indicator++) {
-            indicatorToShadowEvent.getOrDefault(indicator, Collections.emptySet()).stream()
-                    .map(ShadowEvent::getEvent)
-                    .filter(predicate)
-                    .forEach(result::add);
+        lock(writeLock);
+        try {
+            for (long indicator = lowerBound; indicator < upperBound; indicator++) {
+                indicatorToShadowEvent.getOrDefault(indicator, Collections.emptySet()).stream()
+                        .map(ShadowEvent::getEvent)
+                        .filter(predicate)
+                        .forEach(result::add);
+            }
+        } finally {
+            writeLock.unlock();
         }
         return result;
     }
@@ -353,7 +472,19 @@ public class Shadowgraph implements Clearable {
      *
      * @param eventWindow describes the current window of non-expired events
      */
-    public synchronized void updateEventWindow(@NonNull final EventWindow eventWindow) {
+    public void updateEventWindow(@NonNull final EventWindow eventWindow) {
+        lock(writeLock);
+        try {
+            updateEventWindowLocked(eventWindow);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Implementation of {@link #updateEventWindow(EventWindow)}, must be called while holding {@link #writeLock}.
+     */
+    private void updateEventWindowLocked(@NonNull final EventWindow eventWindow) {
         if (this.eventWindow == null) {
             startWithEventWindow(eventWindow);
             return;
@@ -370,11 +501,18 @@ public class Shadowgraph implements Clearable {
             // The value of expireBelow must never decrease, so if we receive an invalid request like this, ignore it
             return;
         }
-        this.eventWindow = eventWindow;
 
-        // Remove reservations for events that can and should be expired, and
-        // keep track of the oldest threshold that can be expired
-        long oldestReservedIndicator = pruneReservationList();
+        long oldestReservedIndicator;
+        lock(reservationLock);
+        try {
+            this.eventWindow = eventWindow;
+
+            // Remove reservations for events that can and should be expired, and
+            // keep track of the oldest threshold that can be expired
+            oldestReservedIndicator = pruneReservationList();
+        } finally {
+            reservationLock.unlock();
+        }
 
         if (oldestReservedIndicator == NO_RESERVATION) {
             oldestReservedIndicator = eventWindow.getExpiredThreshold();
@@ -390,6 +528,7 @@ public class Shadowgraph implements Clearable {
 
         final long minimumIndicatorToKeep = Math.min(eventWindow.getExpiredThreshold(), oldestReservedIndicator);
 
+        final boolean expiring = oldestUnexpiredIndicator < minimumIndicatorToKeep;
         while (oldestUnexpiredIndicator < minimumIndicatorToKeep) {
             final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(oldestUnexpiredIndicator);
             // shadowsToExpire should never be null, but check just in case.
@@ -403,10 +542,27 @@ public class Shadowgraph implements Clearable {
             }
             oldestUnexpiredIndicator++;
         }
+        if (expiring) {
+            updateOldestLiveShadowId();
+        }
+        tipsSnapshot = List.copyOf(tips);
     }
 
     /**
-     * Removes reservations that can and should be expired, starting with the oldest ancient indicator reservation.
+     * Find the smallest id of the shadow events remaining in the graph. Must be called while holding
+     * {@link #writeLock}.
+     */
+    private void updateOldestLiveShadowId() {
+        long oldestId = nextShadowId;
+        for (final ShadowEvent shadow : hashToShadowEvent.values()) {
+            oldestId = Math.min(oldestId, shadow.getId());
+        }
+        oldestLiveShadowId = oldestId;
+    }
+
+    /**
+     * Removes reservations that can and should be expired, starting with the oldest ancient indicator reservation. Must
+     * be called while holding {@link #reservationLock}.
      *
      * @return the oldest ancient indicator with at least one reservation, or {@code -1} if there are no reservations
      */
@@ -458,7 +614,7 @@ public class Shadowgraph implements Clearable {
      * @throws IllegalArgumentException if {@code otherParentsDescriptors} contains more than one event descriptor
      */
     @Nullable
-    private synchronized ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
+    private ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
         if (otherParentsDescriptors.isEmpty()) {
             return null;
         }
@@ -477,7 +633,7 @@ public class Shadowgraph implements Clearable {
      * @return the shadow event that references an event, or null is {@code e} is null
      */
     @Nullable
-    public synchronized ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
+    public ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
         if (e == null) {
             return null;
         }
@@ -491,7 +647,7 @@ public class Shadowgraph implements Clearable {
      * @param hashes The event hashes to get shadow events for
      * @return the shadow events that reference the events with the given hashes
      */
-    public synchronized List<ShadowEvent> shadows(final List<Hash> hashes) {
+    public List<ShadowEvent> shadows(final List<Hash> hashes) {
         Objects.requireNonNull(hashes);
         final List<ShadowEvent> shadows = new ArrayList<>(hashes.size());
         for (final Hash hash : hashes) {
@@ -507,7 +663,7 @@ public class Shadowgraph implements Clearable {
      * @return the hashgraph event, if there is one in {@code this} shadowgraph, else `null`
      */
     @Nullable
-    public synchronized PlatformEvent hashgraphEvent(@Nullable final Hash h) {
+    public PlatformEvent hashgraphEvent(@Nullable final Hash h) {
         final ShadowEvent shadow = shadow(h);
         if (shadow == null) {
             return null;
@@ -523,8 +679,8 @@ public class Shadowgraph implements Clearable {
      * @return an unmodifiable copy of the tips
      */
     @NonNull
-    public synchronized List<ShadowEvent> getTips() {
-        return new ArrayList<>(tips);
+    public List<ShadowEvent> getTips() {
+        return new ArrayList<>(tipsSnapshot);
     }
 
     /**
@@ -534,11 +690,12 @@ public class Shadowgraph implements Clearable {
      * @return {@code true} if the event was added, {@code false} otherwise
      * @throws ShadowgraphInsertionException if the event was unable to be added to the shadowgraph
      */
-    public synchronized boolean addEvent(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
+    public boolean addEvent(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
         if (eventWindow == null) {
             throw new IllegalStateException("Initial event window not set");
         }
         Objects.requireNonNull(event);
+        lock(writeLock);
         try {
             final InsertableStatus status = insertable(event);
 
@@ -547,6 +704,7 @@ public class Shadowgraph implements Clearable {
                 final ShadowEvent s = insert(event);
                 tips.add(s);
                 tips.remove(s.getSelfParent());
+                tipsSnapshot = List.copyOf(tips);
 
                 if (numberOfNodes > 0 && tips.size() > numberOfNodes && tips.size() > tipsBefore) {
                     // It is possible that we have more tips than nodes even if there is no fork.
@@ -589,10 +747,14 @@ public class Shadowgraph implements Clearable {
                 }
             }
         } finally {
+            writeLock.unlock();
             intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
         }
     }
 
+    /**
+     * Create a new reservation, must be called while holding {@link #reservationLock}.
+     */
     private ShadowgraphReservation newReservation() {
         final ShadowgraphReservation reservation = new ShadowgraphReservation(eventWindow.getExpiredThreshold());
         reservationList.addLast(reservation);
@@ -600,7 +762,7 @@ public class Shadowgraph implements Clearable {
     }
 
     private ShadowEvent shadow(final Hash h) {
-        return hashToShadowEvent.get(h);
+        return h == null ? null : hashToShadowEvent.get(h);
     }
 
     /**
@@ -608,8 +770,8 @@ public class Shadowgraph implements Clearable {
      * @return the event that has the hash provided, or null if none exists
      */
     @Nullable
-    public synchronized PlatformEvent getEvent(@Nullable final Hash hash) {
-        final ShadowEvent shadowEvent = hashToShadowEvent.get(hash);
+    public PlatformEvent getEvent(@Nullable final Hash hash) {
+        final ShadowEvent shadowEvent = shadow(hash);
         return shadowEvent == null ? null : shadowEvent.getEvent();
     }
 
@@ -625,7 +787,7 @@ public class Shadowgraph implements Clearable {
         final ShadowEvent sp = shadow(event.getSelfParent());
         final ShadowEvent op = shadow(event.getOtherParents());
 
-        final ShadowEvent se = new ShadowEvent(event, sp, op);
+        final ShadowEvent se = new ShadowEvent(event, sp, op, nextShadowId++);
 
         hashToShadowEvent.put(se.getEventBaseHash(), se);
 
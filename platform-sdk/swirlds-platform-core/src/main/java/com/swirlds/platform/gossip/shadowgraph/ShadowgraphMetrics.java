@@ -20,6 +20,7 @@ import static com.swirlds.metrics.api.FloatFormats.FORMAT_5_3;
 import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.metrics.api.Counter;
 import com.swirlds.platform.stats.AverageStat;
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -29,6 +30,8 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 public class ShadowgraphMetrics {
 
     private final AverageStat indicatorsWaitingForExpiry;
+    private final Counter lockContention;
+    private final AverageStat lockWaitMicros;
 
     /**
      * Constructor
@@ -43,6 +46,17 @@ public class ShadowgraphMetrics {
                 "the average number of indicators waiting to be expired by the shadowgraph",
                 FORMAT_5_3,
                 AverageStat.WEIGHT_VOLATILE);
+        lockContention = platformContext
+                .getMetrics()
+                .getOrCreate(new Counter.Config(PLATFORM_CATEGORY, "shadowgraphLockContention")
+                        .withDescription("the number of times a thread had to wait for a shadowgraph lock"));
+        lockWaitMicros = new AverageStat(
+                platformContext.getMetrics(),
+                PLATFORM_CATEGORY,
+                "shadowgraphLockWaitMicros",
+                "the average time a thread waited for a shadowgraph lock, in microseconds, if it had to wait",
+                FORMAT_5_3,
+                AverageStat.WEIGHT_VOLATILE);
     }
 
     /**
@@ -54,4 +68,14 @@ public class ShadowgraphMetrics {
     public void updateIndicatorsWaitingForExpiry(final long numGenerations) {
         indicatorsWaitingForExpiry.update(numGenerations);
     }
+
+    /**
+     * Called by {@link Shadowgraph} when a thread had to wait for a lock.
+     *
+     * @param waitNanos how long the thread waited, in nanoseconds
+     */
+    public void reportLockContention(final long waitNanos) {
+        lockContention.increment();
+        lockWaitMicros.update(waitNanos / 1_000);
+    }
 }
@@ -54,8 +54,6 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.gossip.FallenBehindManager;
@@ -133,6 +131,11 @@ public class ShadowgraphSynchronizer {
      */
     private final AncientMode ancientMode;
 
+    /**
+     * Reusable state for computing send lists, one per sync thread.
+     */
+    private final ThreadLocal<AncestorSearch> ancestorSearch = ThreadLocal.withInitial(AncestorSearch::new);
+
     /**
      * Constructs a new ShadowgraphSynchronizer.
      *
@@ -327,32 +330,21 @@ public class ShadowgraphSynchronizer {
         Objects.requireNonNull(myEventWindow);
         Objects.requireNonNull(theirEventWindow);
 
-        // add to knownSet all the ancestors of each known event
-        final Set<ShadowEvent> knownAncestors = shadowGraph.findAncestors(
-                knownSet, SyncUtils.unknownNonAncient(knownSet, myEventWindow, theirEventWindow, ancientMode));
-
-        // since knownAncestors is a lot bigger than knownSet, it is a lot cheaper to add knownSet to knownAncestors
-        // then vice versa
-        knownAncestors.addAll(knownSet);
+        // find all ancestors of tips that are neither known nor ancestors of known events. In order to get the peer
+        // the latest events, we get a new set of tips to search from
+        final AncestorSearch search = ancestorSearch.get();
+        final List<ShadowEvent> sendSet = shadowGraph.findUnknownAncestors(
+                knownSet,
+                shadowGraph.getTips(),
+                SyncUtils.getMinimumSearchThreshold(myEventWindow, theirEventWindow),
+                search);
 
-        syncMetrics.knownSetSize(knownAncestors.size());
+        syncMetrics.knownSetSize(search.getKnownCount());
 
-        // predicate used to search for events to send
-        final Predicate<ShadowEvent> knownAncestorsPredicate =
-                SyncUtils.unknownNonAncient(knownAncestors, myEventWindow, theirEventWindow, ancientMode);
-
-        // in order to get the peer the latest events, we get a new set of tips to search from
-        final List<ShadowEvent> myNewTips = shadowGraph.getTips();
-
-        // find all ancestors of tips that are not known
-        final List<ShadowEvent> unknownTips =
-                myNewTips.stream().filter(knownAncestorsPredicate).collect(Collectors.toList());
-        final Set<ShadowEvent> sendSet = shadowGraph.findAncestors(unknownTips, knownAncestorsPredicate);
-        // add the tips themselves
-        sendSet.addAll(unknownTips);
-
-        final List<PlatformEvent> eventsTheyMayNeed =
-                sendSet.stream().map(ShadowEvent::getEvent).collect(Collectors.toCollection(ArrayList::new));
+        final List<PlatformEvent> eventsTheyMayNeed = new ArrayList<>(sendSet.size());
+        for (final ShadowEvent shadow : sendSet) {
+            eventsTheyMayNeed.add(shadow.getEvent());
+        }
 
         SyncUtils.sort(eventsTheyMayNeed);
 
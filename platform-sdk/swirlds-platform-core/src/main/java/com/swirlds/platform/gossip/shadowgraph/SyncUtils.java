@@ -468,18 +468,27 @@ public final class SyncUtils {
             @NonNull final EventWindow myEventWindow,
             @NonNull final EventWindow theirEventWindow,
             @NonNull final AncientMode ancientMode) {
+        final long minimumSearchThreshold = getMinimumSearchThreshold(myEventWindow, theirEventWindow);
+        return s ->
+                s.getEvent().getAncientIndicator(ancientMode) >= minimumSearchThreshold && !knownShadows.contains(s);
+    }
 
+    /**
+     * Returns the minimum ancient indicator of events to search when looking for events to send to a peer.
+     *
+     * @param myEventWindow    the event window of this node
+     * @param theirEventWindow the event window of the peer node
+     * @return the minimum ancient indicator to search
+     */
+    public static long getMinimumSearchThreshold(
+            @NonNull final EventWindow myEventWindow, @NonNull final EventWindow theirEventWindow) {
         // When searching for events, we don't want to send any events that are known to be ancient to the peer.
         // We should never be syncing with a peer if their ancient threshold is less than our expired threshold
         // (if this is the case, then the peer is "behind"), so in practice the minimumSearchThreshold will always
         // be the same as the peer's ancient threshold. However, in an abundance of caution, we use the maximum of
         // the two thresholds to ensure that we don't ever attempt to traverse over events that are expired to us,
         // since those events may be unlinked and could cause race conditions if accessed.
-
-        final long minimumSearchThreshold =
-                Math.max(myEventWindow.getExpiredThreshold(), theirEventWindow.getAncientThreshold());
-        return s ->
-                s.getEvent().getAncientIndicator(ancientMode) >= minimumSearchThreshold && !knownShadows.contains(s);
+        return Math.max(myEventWindow.getExpiredThreshold(), theirEventWindow.getAncientThreshold());
     }
 
     /**
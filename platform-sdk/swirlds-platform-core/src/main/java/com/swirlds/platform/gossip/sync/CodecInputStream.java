@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * An input stream that reads frames written by {@link CodecOutputStream} and decodes them.
+ */
+public class CodecInputStream extends InputStream {
+
+    /** The maximum uncompressed size of a frame accepted from a peer */
+    static final int MAX_FRAME_BYTES = 16 * 1024 * 1024;
+
+    private final DataInputStream in;
+    private final Inflater inflater = new Inflater(true);
+
+    /** The decoded frame being read */
+    private byte[] frame;
+
+    private int position = 0;
+    private int limit = 0;
+
+    /** The encoded bytes of the last compressed frame */
+    private byte[] encoded;
+
+    private final AtomicLong decompressionNanos = new AtomicLong();
+
+    /**
+     * Create a new stream.
+     *
+     * @param in         the stream to read frames from
+     * @param bufferSize the initial size of the frame buffers, they grow if the peer sends larger frames
+     */
+    public CodecInputStream(@NonNull final InputStream in, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.in = new DataInputStream(Objects.requireNonNull(in));
+        this.frame = new byte[bufferSize];
+        this.encoded = new byte[bufferSize];
+    }
+
+    /**
+     * @return the CPU time spent decompressing since the last call, in nanoseconds
+     */
+    public long getAndResetDecompressionNanos() {
+        return decompressionNanos.getAndSet(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !readFrame()) {
+            return -1;
+        }
+        return frame[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(@NonNull final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (position == limit && !readFrame()) {
+            return -1;
+        }
+        final int n = Math.min(len, limit - position);
+        System.arraycopy(frame, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return limit - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            inflater.end();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Read and decode the next frame.
+     *
+     * @return false if the end of the stream is reached
+     */
+    private boolean readFrame() throws IOException {
+        final int id = in.read();
+        if (id < 0) {
+            return false;
+        }
+        final GossipCodec codec = GossipCodec.fromId(id);
+        if (codec == null) {
+            throw new IOException("Unknown gossip codec " + id);
+        }
+        final int length;
+        final int encodedLength;
+        try {
+            length = in.readInt();
+            encodedLength = in.readInt();
+        } catch (final EOFException e) {
+            throw new IOException("Stream ended in a frame header", e);
+        }
+        if (length <= 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("Invalid frame length " + length);
+        }
+        if (frame.length < length) {
+            frame = new byte[length];
+        }
+
+        if (codec == GossipCodec.NONE) {
+            if (encodedLength != length) {
+                throw new IOException("Invalid uncompressed frame length " + encodedLength + ", expected " + length);
+            }
+            in.readFully(frame, 0, length);
+        } else {
+            if (encodedLength <= 0 || encodedLength >= length) {
+                throw new IOException("Invalid compressed frame length " + encodedLength + " for " + length);
+            }
+            if (encoded.length < encodedLength) {
+                encoded = new byte[encodedLength];
+            }
+            in.readFully(encoded, 0, encodedLength);
+            inflate(encodedLength, length);
+        }
+        position = 0;
+        limit = length;
+        return true;
+    }
+
+    private void inflate(final int encodedLength, final int length) throws IOException {
+        final long start = System.nanoTime();
+        inflater.reset();
+        inflater.setInput(encoded, 0, encodedLength);
+        try {
+            final int inflated = inflater.inflate(frame, 0, length);
+            if (inflated != length || !inflater.finished()) {
+                throw new IOException("Compressed frame does not match its length " + length);
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("Corrupt compressed frame", e);
+        } finally {
+            decompressionNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+
+/**
+ * An output stream that buffers data and writes it to the peer in frames. Every frame is encoded with a codec chosen
+ * by a {@link GossipCodecSelector}, from the codecs negotiated with the peer. A frame is a codec id byte, the
+ * uncompressed length and the encoded length as ints, followed by the encoded bytes. Frames are read by
+ * {@link CodecInputStream}.
+ *
+ * <p>Until codecs are negotiated, all frames are sent uncompressed.
+ */
+public class CodecOutputStream extends OutputStream {
+
+    /** The size of a frame header: codec id, uncompressed length, encoded length */
+    static final int FRAME_HEADER_BYTES = 1 + Integer.BYTES + Integer.BYTES;
+
+    private final OutputStream out;
+    private final GossipCodecSelector selector;
+
+    /** Data not yet written to the peer */
+    private final byte[] buffer;
+
+    private int count = 0;
+
+    /** The frame being written: a header followed by the encoded buffer */
+    private final byte[] frame;
+
+    /** Deflaters, per codec, created when first used */
+    private final Deflater[] deflaters = new Deflater[GossipCodec.values().length];
+
+    private final AtomicLong bytesSaved = new AtomicLong();
+    private final AtomicLong compressionNanos = new AtomicLong();
+
+    /**
+     * Create a new stream.
+     *
+     * @param out        the stream to write frames to
+     * @param bufferSize the maximum uncompressed size of a frame
+     */
+    public CodecOutputStream(@NonNull final OutputStream out, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.out = Objects.requireNonNull(out);
+        this.selector = new GossipCodecSelector();
+        this.buffer = new byte[bufferSize];
+        this.frame = new byte[FRAME_HEADER_BYTES + bufferSize];
+    }
+
+    /**
+     * Set the codecs negotiated with the peer. Must be called on the thread that writes to this stream, or before
+     * that thread is started.
+     *
+     * @param mask a mask of the codecs both this node and the peer support
+     */
+    public void setNegotiatedCodecs(final int mask) {
+        selector.setNegotiatedCodecs(mask);
+    }
+
+    /**
+     * @return the number of bytes saved by compression since the last call
+     */
+    public long getAndResetBytesSaved() {
+        return bytesSaved.getAndSet(0);
+    }
+
+    /**
+     * @return the CPU time spent compressing since the last call, in nanoseconds
+     */
+    public long getAndResetCompressionNanos() {
+        return compressionNanos.getAndSet(0);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (count == buffer.length) {
+            writeFrame();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (count == buffer.length) {
+                writeFrame();
+            }
+            final int n = Math.min(remaining, buffer.length - count);
+            System.arraycopy(b, offset, buffer, count, n);
+            count += n;
+            offset += n;
+            remaining -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeFrame();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            for (final Deflater deflater : deflaters) {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+            out.close();
+        }
+    }
+
+    private void writeFrame() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        GossipCodec codec = selector.select(count);
+        int encodedLength = count;
+        if (codec != GossipCodec.NONE) {
+            final long start = System.nanoTime();
+            final int compressed = deflate(codec);
+            final long nanos = System.nanoTime() - start;
+            compressionNanos.addAndGet(nanos);
+            // incompressible data is recorded with the full size, so the selector learns to avoid compression
+            selector.recordCompression(codec, count, compressed < 0 ? count : compressed, nanos);
+            if (compressed < 0) {
+                codec = GossipCodec.NONE;
+            } else {
+                encodedLength = compressed;
+                bytesSaved.addAndGet(count - compressed);
+            }
+        }
+        if (codec == GossipCodec.NONE) {
+            System.arraycopy(buffer, 0, frame, FRAME_HEADER_BYTES, count);
+        }
+        frame[0] = (byte) codec.getId();
+        writeInt(1, count);
+        writeInt(1 + Integer.BYTES, encodedLength);
+
+        final int frameLength = FRAME_HEADER_BYTES + encodedLength;
+        final long start = System.nanoTime();
+        out.write(frame, 0, frameLength);
+        selector.recordWrite(frameLength, System.nanoTime() - start);
+        count = 0;
+    }
+
+    /**
+     * Compress the buffer into the frame, after the header.
+     *
+     * @return the compressed length, or -1 if the data doesn't get smaller
+     */
+    private int deflate(@NonNull final GossipCodec codec) {
+        Deflater deflater = deflaters[codec.ordinal()];
+        if (deflater == null) {
+            deflater = new Deflater(codec.getLevel(), true);
+            deflaters[codec.ordinal()] = deflater;
+        } else {
+            deflater.reset();
+        }
+        deflater.setInput(buffer, 0, count);
+        deflater.finish();
+        // output is limited to the uncompressed size, anything larger is sent uncompressed
+        final int compressed = deflater.deflate(frame, FRAME_HEADER_BYTES, count);
+        return deflater.finished() && compressed < count ? compressed : -1;
+    }
+
+    private void writeInt(final int offset, final int value) {
+        frame[offset] = (byte) (value >>> 24);
+        frame[offset + 1] = (byte) (value >>> 16);
+        frame[offset + 2] = (byte) (value >>> 8);
+        frame[offset + 3] = (byte) value;
+    }
+}
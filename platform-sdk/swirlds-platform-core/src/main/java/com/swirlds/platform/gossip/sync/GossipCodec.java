@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.zip.Deflater;
+
+/**
+ * Codecs that can be used to compress gossip frames written by {@link CodecOutputStream}. Which codecs may be used on a
+ * connection is negotiated with the peer during the handshake.
+ */
+public enum GossipCodec {
+    /** Frames are sent as they are */
+    NONE(0, Deflater.NO_COMPRESSION),
+    /** Deflate at the fastest level, for links where CPU time matters about as much as bandwidth */
+    DEFLATE_FAST(1, Deflater.BEST_SPEED),
+    /** Deflate at the default level, for bandwidth-bound links */
+    DEFLATE(2, Deflater.DEFAULT_COMPRESSION);
+
+    /** A mask of all codecs supported by this software version */
+    public static final int SUPPORTED_MASK = maskOf(values());
+
+    private final int id;
+    private final int level;
+
+    GossipCodec(final int id, final int level) {
+        this.id = id;
+        this.level = level;
+    }
+
+    /**
+     * @return the ID of this codec, written in frame headers
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return the deflate level of this codec, not used by {@link #NONE}
+     */
+    int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return the bit of this codec in a codec mask
+     */
+    public int getMask() {
+        return 1 << id;
+    }
+
+    /**
+     * Get a codec by its ID.
+     *
+     * @param id the ID of the codec
+     * @return the codec, or null if the ID is unknown
+     */
+    @Nullable
+    public static GossipCodec fromId(final int id) {
+        for (final GossipCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Build a mask of the given codecs.
+     *
+     * @param codecs the codecs
+     * @return a mask with the bits of all codecs set
+     */
+    public static int maskOf(@NonNull final GossipCodec... codecs) {
+        int mask = 0;
+        for (final GossipCodec codec : codecs) {
+            mask |= codec.getMask();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Chooses the codec for every frame sent to a peer. For every codec, an estimate of its CPU time per byte and its
+ * compression ratio is kept, along with an estimate of the time it takes to write a byte to the peer. The codec with
+ * the lowest estimated total time, compression plus writing, is chosen. On fast links, writing is cheap and frames are
+ * not compressed, on slow links the time saved writing pays for compression.
+ *
+ * <p>Estimates are exponential moving averages. To keep them up to date, every {@link #EXPLORE_INTERVAL}th frame is
+ * sent with one of the other negotiated codecs, in turn.
+ *
+ * <p>This class is not thread safe, it is only used by the thread writing to a connection.
+ */
+public class GossipCodecSelector {
+
+    /** Frames smaller than this are never compressed */
+    static final int MIN_COMPRESSED_FRAME_BYTES = 256;
+
+    /** Every this many frames, a codec other than the best one is used to refresh its estimates */
+    static final int EXPLORE_INTERVAL = 32;
+
+    /** The weight of a new sample in the moving averages */
+    private static final double ALPHA = 0.1;
+
+    private static final int CODEC_COUNT = GossipCodec.values().length;
+
+    /** CPU time per uncompressed byte, in nanoseconds, per codec */
+    private final double[] cpuNanosPerByte = new double[CODEC_COUNT];
+    /** Compressed size divided by uncompressed size, per codec */
+    private final double[] ratio = new double[CODEC_COUNT];
+    /** Whether a codec has been measured at least once */
+    private final boolean[] measured = new boolean[CODEC_COUNT];
+
+    /** Time to write a byte to the peer, in nanoseconds */
+    private double writeNanosPerByte = 0;
+
+    /** Codecs negotiated with the peer */
+    private int negotiatedMask = GossipCodec.NONE.getMask();
+
+    private long frameCount = 0;
+    private int exploreIndex = 0;
+
+    /**
+     * Create a selector, only {@link GossipCodec#NONE} is used until codecs are negotiated.
+     */
+    public GossipCodecSelector() {
+        ratio[GossipCodec.NONE.ordinal()] = 1;
+        measured[GossipCodec.NONE.ordinal()] = true;
+    }
+
+    /**
+     * Set the codecs negotiated with the peer.
+     *
+     * @param mask a mask of the codecs both this node and the peer support
+     */
+    public void setNegotiatedCodecs(final int mask) {
+        negotiatedMask = mask | GossipCodec.NONE.getMask();
+    }
+
+    /**
+     * Choose the codec for a frame.
+     *
+     * @param frameBytes the uncompressed size of the frame
+     * @return the codec to use
+     */
+    @NonNull
+    public GossipCodec select(final int frameBytes) {
+        if (frameBytes < MIN_COMPRESSED_FRAME_BYTES || negotiatedMask == GossipCodec.NONE.getMask()) {
+            return GossipCodec.NONE;
+        }
+        frameCount++;
+
+        // codecs never measured are tried first
+        for (final GossipCodec codec : GossipCodec.values()) {
+            if (isNegotiated(codec) && !measured[codec.ordinal()]) {
+                return codec;
+            }
+        }
+
+        final GossipCodec best = best();
+        if (frameCount % EXPLORE_INTERVAL == 0) {
+            for (int i = 0; i < CODEC_COUNT; i++) {
+                exploreIndex = (exploreIndex + 1) % CODEC_COUNT;
+                final GossipCodec codec = GossipCodec.values()[exploreIndex];
+                if (codec != best && isNegotiated(codec)) {
+                    return codec;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return the codec with the lowest estimated time per byte
+     */
+    @NonNull
+    GossipCodec best() {
+        GossipCodec best = GossipCodec.NONE;
+        double bestCost = Double.MAX_VALUE;
+        for (final GossipCodec codec : GossipCodec.values()) {
+            if (!isNegotiated(codec) || !measured[codec.ordinal()]) {
+                continue;
+            }
+            final double cost = cpuNanosPerByte[codec.ordinal()] + ratio[codec.ordinal()] * writeNanosPerByte;
+            if (cost < bestCost) {
+                best = codec;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    private boolean isNegotiated(@NonNull final GossipCodec codec) {
+        return (negotiatedMask & codec.getMask()) != 0;
+    }
+
+    /**
+     * Record the cost of compressing a frame.
+     *
+     * @param codec           the codec used
+     * @param rawBytes        the uncompressed size of the frame
+     * @param compressedBytes the compressed size of the frame
+     * @param cpuNanos        the time spent compressing, in nanoseconds
+     */
+    public void recordCompression(
+            @NonNull final GossipCodec codec, final int rawBytes, final int compressedBytes, final long cpuNanos) {
+        if (codec == GossipCodec.NONE || rawBytes == 0) {
+            return;
+        }
+        final int index = codec.ordinal();
+        final double frameRatio = (double) compressedBytes / rawBytes;
+        final double frameCpu = (double) cpuNanos / rawBytes;
+        if (measured[index]) {
+            ratio[index] += ALPHA * (frameRatio - ratio[index]);
+            cpuNanosPerByte[index] += ALPHA * (frameCpu - cpuNanosPerByte[index]);
+        } else {
+            ratio[index] = frameRatio;
+            cpuNanosPerByte[index] = frameCpu;
+            measured[index] = true;
+        }
+    }
+
+    /**
+     * Record the time it took to write a frame to the peer. Writes block when the socket send buffer is full, so for
+     * a bandwidth-bound link this approximates the time to transfer the bytes.
+     *
+     * @param bytes     the number of bytes written
+     * @param nanos     the time spent writing, in nanoseconds
+     */
+    public void recordWrite(final int bytes, final long nanos) {
+        if (bytes == 0) {
+            return;
+        }
+        writeNanosPerByte += ALPHA * ((double) nanos / bytes - writeNanosPerByte);
+    }
+}
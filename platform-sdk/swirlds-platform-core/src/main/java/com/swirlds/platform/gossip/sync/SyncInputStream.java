@@ -24,6 +24,7 @@ import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.platform.network.SocketConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,10 +38,14 @@ public class SyncInputStream extends SerializableDataInputStream {
     private static final int MAX_TIPS_PER_NODE = 1000;
 
     private final CountingStreamExtension syncByteCounter;
+    /** The framed stream, if adaptive compression is enabled */
+    private final CodecInputStream codecStream;
 
-    private SyncInputStream(InputStream in, CountingStreamExtension syncByteCounter) {
+    private SyncInputStream(
+            InputStream in, CountingStreamExtension syncByteCounter, @Nullable CodecInputStream codecStream) {
         super(in);
         this.syncByteCounter = syncByteCounter;
+        this.codecStream = codecStream;
     }
 
     public static SyncInputStream createSyncInputStream(
@@ -48,27 +53,36 @@ public class SyncInputStream extends SerializableDataInputStream {
 
         final CountingStreamExtension syncCounter = new CountingStreamExtension();
 
-        final boolean compress = platformContext
-                .getConfiguration()
-                .getConfigData(SocketConfig.class)
-                .gzipCompression();
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
 
         final InputStream meteredStream = extendInputStream(in, syncCounter);
 
+        if (socketConfig.adaptiveCompression()) {
+            final CodecInputStream codecStream = new CodecInputStream(meteredStream, bufferSize);
+            return new SyncInputStream(codecStream, syncCounter, codecStream);
+        }
+
         final InputStream wrappedStream;
-        if (compress) {
+        if (socketConfig.gzipCompression()) {
             wrappedStream = new InflaterInputStream(meteredStream, new Inflater(true), bufferSize);
         } else {
             wrappedStream = new BufferedInputStream(meteredStream, bufferSize);
         }
 
-        return new SyncInputStream(wrappedStream, syncCounter);
+        return new SyncInputStream(wrappedStream, syncCounter, null);
     }
 
     public CountingStreamExtension getSyncByteCounter() {
         return syncByteCounter;
     }
 
+    /**
+     * @return the CPU time spent by adaptive decompression since the last call, in nanoseconds, or 0 if it is disabled
+     */
+    public long getAndResetDecompressionNanos() {
+        return codecStream == null ? 0 : codecStream.getAndResetDecompressionNanos();
+    }
+
     /**
      * Read the other node's tip hashes
      *
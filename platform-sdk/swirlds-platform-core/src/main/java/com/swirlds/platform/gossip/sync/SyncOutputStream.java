@@ -24,6 +24,7 @@ import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.platform.network.SocketConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -37,13 +38,24 @@ public class SyncOutputStream extends SerializableDataOutputStream {
     private final CountingStreamExtension syncByteCounter;
     private final CountingStreamExtension connectionByteCounter;
     private final AtomicReference<Instant> requestSent;
+    /** The framed stream, if adaptive compression is enabled */
+    private final CodecOutputStream codecStream;
 
     protected SyncOutputStream(
             OutputStream out, CountingStreamExtension syncByteCounter, CountingStreamExtension connectionByteCounter) {
+        this(out, syncByteCounter, connectionByteCounter, null);
+    }
+
+    private SyncOutputStream(
+            OutputStream out,
+            CountingStreamExtension syncByteCounter,
+            CountingStreamExtension connectionByteCounter,
+            @Nullable CodecOutputStream codecStream) {
         super(out);
         this.syncByteCounter = syncByteCounter;
         this.connectionByteCounter = connectionByteCounter;
         this.requestSent = new AtomicReference<>(null);
+        this.codecStream = codecStream;
     }
 
     public static SyncOutputStream createSyncOutputStream(
@@ -51,15 +63,17 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         CountingStreamExtension syncByteCounter = new CountingStreamExtension();
         CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
 
-        final boolean compress = platformContext
-                .getConfiguration()
-                .getConfigData(SocketConfig.class)
-                .gzipCompression();
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
 
         final OutputStream meteredStream = extendOutputStream(out, connectionByteCounter);
 
+        if (socketConfig.adaptiveCompression()) {
+            final CodecOutputStream codecStream = new CodecOutputStream(meteredStream, bufferSize);
+            return new SyncOutputStream(codecStream, syncByteCounter, connectionByteCounter, codecStream);
+        }
+
         final OutputStream wrappedStream;
-        if (compress) {
+        if (socketConfig.gzipCompression()) {
             wrappedStream = new DeflaterOutputStream(
                     meteredStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize, true);
         } else {
@@ -78,6 +92,31 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         return connectionByteCounter;
     }
 
+    /**
+     * Set the codecs negotiated with the peer. Has no effect if adaptive compression is disabled.
+     *
+     * @param mask a mask of {@link GossipCodec} bits supported by both this node and the peer
+     */
+    public void setNegotiatedCodecs(final int mask) {
+        if (codecStream != null) {
+            codecStream.setNegotiatedCodecs(mask);
+        }
+    }
+
+    /**
+     * @return the number of bytes saved by adaptive compression since the last call, or 0 if it is disabled
+     */
+    public long getAndResetCompressionBytesSaved() {
+        return codecStream == null ? 0 : codecStream.getAndResetBytesSaved();
+    }
+
+    /**
+     * @return the CPU time spent by adaptive compression since the last call, in nanoseconds, or 0 if it is disabled
+     */
+    public long getAndResetCompressionNanos() {
+        return codecStream == null ? 0 : codecStream.getAndResetCompressionNanos();
+    }
+
     /**
      * Write to the {@link SyncOutputStream} the hashes of the tip events from this node's shadow graph
      *
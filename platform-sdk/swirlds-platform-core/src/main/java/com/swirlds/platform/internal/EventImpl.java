@@ -67,6 +67,13 @@ public class EventImpl implements Clearable {
      * stronglySeeP[m] is strongly-seen witness in parent round by m (memoizes function from Swirlds-TR-2020-01)
      */
     private EventImpl[] stronglySeeP;
+    /**
+     * firstSee[m] is the first witness by m in the round of lastSee[m] (caches the firstSee function from
+     * Swirlds-TR-2020-01), valid only while {@link #firstSeeEpoch} matches the epoch of consensus metadata
+     */
+    private EventImpl[] firstSee;
+    /** the consensus metadata epoch, in which {@link #firstSee} was calculated */
+    private long firstSeeEpoch;
     /**
      * The first witness that's a self-ancestor in the self round (memoizes function from Swirlds-TR-2020-01)
      */
@@ -272,6 +279,47 @@ public class EventImpl implements Clearable {
         return lastSee == null ? 0 : lastSee.length;
     }
 
+    /**
+     * Check if the firstSee cache was calculated in the given metadata epoch.
+     *
+     * @param epoch the current epoch of consensus metadata
+     * @return true if the cache is valid
+     */
+    public boolean isFirstSeeCached(final long epoch) {
+        return firstSee != null && firstSeeEpoch == epoch;
+    }
+
+    /**
+     * Initialize the firstSee cache to hold n elements, calculated in the given metadata epoch.
+     *
+     * @param n     number of members in the initial address book
+     * @param epoch the current epoch of consensus metadata
+     */
+    public void initFirstSee(final int n, final long epoch) {
+        if (firstSee == null || firstSee.length != n) {
+            firstSee = new EventImpl[n];
+        }
+        firstSeeEpoch = epoch;
+    }
+
+    /**
+     * @param m the member ID
+     * @return the cached first witness by m in the round of the last ancestor created by m
+     */
+    public @Nullable EventImpl getFirstSee(final int m) {
+        return firstSee[m];
+    }
+
+    /**
+     * Cache the first witness by m in the round of the last ancestor created by m.
+     *
+     * @param m     the member ID
+     * @param event the first witness
+     */
+    public void setFirstSee(final int m, @Nullable final EventImpl event) {
+        firstSee[m] = event;
+    }
+
     /**
      * @param m the member ID
      * @return strongly-seen witness in parent round by m (memoizes stronglySeeP function from
@@ -461,6 +509,7 @@ public class EventImpl implements Clearable {
     private void clearNonJudgeMetadata() {
         initLastSee(0);
         initStronglySeeP(0);
+        firstSee = null;
         setFirstSelfWitnessS(null);
         setFirstWitnessS(null);
         setRecTimes(null);
@@ -49,6 +49,14 @@ public class NetworkMetrics {
             .withDescription("number of times a TLS connections was created")
             .withFormat(FloatFormats.FORMAT_10_0)
             .withHalfLife(0.0);
+    private static final SpeedometerMetric.Config COMPRESSION_BYTES_SAVED_CONFIG = new SpeedometerMetric.Config(
+                    Metrics.INTERNAL_CATEGORY, "gossipCompressionBytesSaved_per_sec")
+            .withDescription("number of bytes per second saved by adaptive gossip compression (total for this member)")
+            .withFormat(FloatFormats.FORMAT_16_2);
+    private static final SpeedometerMetric.Config COMPRESSION_CPU_CONFIG = new SpeedometerMetric.Config(
+                    Metrics.INTERNAL_CATEGORY, "gossipCompressionCpuMicros_per_sec")
+            .withDescription("microseconds per second spent compressing and decompressing gossip (all peers)")
+            .withFormat(FloatFormats.FORMAT_16_2);
 
     /** this node's id */
     private final NodeId selfId;
@@ -67,6 +75,10 @@ public class NetworkMetrics {
     private final SpeedometerMetric bytesPerSecondSent;
     /** the average number of connections created per second */
     private final RunningAverageMetric avgConnsCreated;
+    /** the total bytes per second saved by adaptive compression */
+    private final SpeedometerMetric compressionBytesSaved;
+    /** the total CPU time per second spent by adaptive compression, in microseconds */
+    private final SpeedometerMetric compressionCpuMicros;
     /**
      * Number of disconnects per second per peer in the address book.
      */
@@ -89,6 +101,8 @@ public class NetworkMetrics {
         avgPing = metrics.getOrCreate(AVG_PING_CONFIG);
         bytesPerSecondSent = metrics.getOrCreate(BYTES_PER_SECOND_SENT_CONFIG);
         avgConnsCreated = metrics.getOrCreate(AVG_CONNS_CREATED_CONFIG);
+        compressionBytesSaved = metrics.getOrCreate(COMPRESSION_BYTES_SAVED_CONFIG);
+        compressionCpuMicros = metrics.getOrCreate(COMPRESSION_CPU_CONFIG);
 
         for (final PeerInfo entry : peerList) {
             final NodeId nodeId = NodeId.of(entry.nodeId().id());
@@ -163,11 +177,16 @@ public class NetworkMetrics {
         avgPing.update(pingValue);
 
         long totalBytesSent = 0;
+        long totalBytesSaved = 0;
+        long totalCompressionNanos = 0;
         for (final Iterator<Connection> iterator = connections.iterator(); iterator.hasNext(); ) {
             final Connection conn = iterator.next();
             if (conn != null) {
                 final long bytesSent = conn.getDos().getConnectionByteCounter().getAndResetCount();
                 totalBytesSent += bytesSent;
+                totalBytesSaved += conn.getDos().getAndResetCompressionBytesSaved();
+                totalCompressionNanos += conn.getDos().getAndResetCompressionNanos()
+                        + conn.getDis().getAndResetDecompressionNanos();
                 final NodeId otherId = conn.getOtherId();
                 if (avgBytePerSecSent.get(otherId) != null) {
                     avgBytePerSecSent.get(otherId).update(bytesSent);
@@ -178,6 +197,8 @@ public class NetworkMetrics {
             }
         }
         bytesPerSecondSent.update(totalBytesSent);
+        compressionBytesSaved.update(totalBytesSaved);
+        compressionCpuMicros.update(totalCompressionNanos / 1_000.0);
         avgConnsCreated.update(connsCreated.sum());
     }
 
@@ -35,6 +35,10 @@ import com.swirlds.config.api.ConfigProperty;
  * @param tcpNoDelay                 if true, then Nagel's algorithm is disabled, which helps latency, hurts bandwidth
  *                                   usage
  * @param gzipCompression            whether to use gzip compression over the network
+ * @param adaptiveCompression        whether to send gossip in frames compressed with a codec chosen per peer, from
+ *                                   measured bandwidth and CPU cost. Codecs are negotiated with every peer when a
+ *                                   connection is established. Takes precedence over gzipCompression, and must be the
+ *                                   same on all nodes
  */
 @ConfigData("socket")
 public record SocketConfig(
@@ -45,4 +49,5 @@ public record SocketConfig(
         @ConfigProperty(defaultValue = "5000") int timeoutServerAcceptConnect,
         @ConfigProperty(defaultValue = "false") boolean useLoopbackIp,
         @ConfigProperty(defaultValue = "true") boolean tcpNoDelay,
-        @ConfigProperty(defaultValue = "false") boolean gzipCompression) {}
+        @ConfigProperty(defaultValue = "false") boolean gzipCompression,
+        @ConfigProperty(defaultValue = "false") boolean adaptiveCompression) {}
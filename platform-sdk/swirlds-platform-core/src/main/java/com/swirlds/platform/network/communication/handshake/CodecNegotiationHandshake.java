@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.swirlds.platform.network.communication.handshake;
+
+import com.swirlds.platform.gossip.sync.GossipCodec;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.NetworkProtocolException;
+import com.swirlds.platform.network.protocol.ProtocolRunnable;
+import java.io.IOException;
+
+/**
+ * Exchanges the masks of supported {@link GossipCodec}s with the peer, and lets the connection's output stream use
+ * the codecs supported by both nodes. Frames are sent uncompressed until this handshake completes. Only used when
+ * adaptive compression is enabled, as it requires framed streams on both sides.
+ */
+public class CodecNegotiationHandshake implements ProtocolRunnable {
+    private final int supportedCodecs;
+
+    /**
+     * Negotiate all codecs supported by this software version
+     */
+    public CodecNegotiationHandshake() {
+        this(GossipCodec.SUPPORTED_MASK);
+    }
+
+    /**
+     * @param supportedCodecs
+     * 		a mask of the codecs this node is willing to use
+     */
+    public CodecNegotiationHandshake(final int supportedCodecs) {
+        this.supportedCodecs = supportedCodecs;
+    }
+
+    @Override
+    public void runProtocol(final Connection connection)
+            throws NetworkProtocolException, IOException, InterruptedException {
+        connection.getDos().writeInt(supportedCodecs);
+        connection.getDos().flush();
+        final int peerCodecs = connection.getDis().readInt();
+        // codecs unknown to this node are dropped by the mask, NONE is always allowed
+        connection.getDos().setNegotiatedCodecs(supportedCodecs & peerCodecs & GossipCodec.SUPPORTED_MASK);
+    }
+}
@@ -20,6 +20,7 @@ import static com.swirlds.common.utility.CompareTo.isLessThan;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import com.swirlds.platform.components.transaction.TransactionSupplier;
@@ -30,11 +31,15 @@ import com.swirlds.platform.util.TransactionUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.event.creator.impl.EventCreationConfig;
@@ -42,27 +47,53 @@ import org.hiero.event.creator.impl.EventCreationConfig;
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ * <p>
+ * Transactions are submitted by many threads (for example gRPC ingest threads), and are taken out by the event creator.
+ * To avoid contention between them, submitting a transaction takes no locks: transactions wait in lock-free queues,
+ * and queue sizes are tracked in atomic counters. Only methods taking transactions out of the pool,
+ * {@link #getTransactions()} and {@link #clear()}, are synchronized with each other, so they never block submitting
+ * threads.
  */
 public class TransactionPoolNexus implements TransactionSupplier {
 
     private static final Logger logger = LogManager.getLogger(TransactionPoolNexus.class);
     private final RateLimitedLogger illegalTransactionLogger;
 
+    /**
+     * A transaction waiting to be put into an event.
+     *
+     * @param transaction the transaction
+     * @param size        the size of the transaction, as counted against the maximum number of bytes per event
+     * @param submitNanos the time the transaction was submitted, in {@link Time#nanoTime()}
+     */
+    private record PendingTransaction(@NonNull Bytes transaction, int size, long submitNanos) {}
+
     /**
      * A list of transactions created by this node waiting to be put into a self-event.
      */
-    private final Queue<Bytes> bufferedTransactions = new LinkedList<>();
+    private final Queue<PendingTransaction> bufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
      * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
      * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
      */
-    private final Queue<Bytes> priorityBufferedTransactions = new LinkedList<>();
+    private final Queue<PendingTransaction> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of transactions in {@link #bufferedTransactions}. Sizes of concurrent queues are expensive to compute,
+     * so they are tracked separately.
+     */
+    private final AtomicInteger bufferedTransactionCount = new AtomicInteger();
 
     /**
-     * The number of buffered signature transactions waiting to be put into events.
+     * The number of transactions in {@link #priorityBufferedTransactions}, all of them are signature transactions.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final AtomicInteger priorityBufferedTransactionCount = new AtomicInteger();
+
+    /**
+     * The total size of transactions in both queues.
+     */
+    private final AtomicLong bufferedTransactionBytes = new AtomicLong();
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -71,7 +102,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
 
     /**
      * The maximum desired size of the transaction queue. If the queue is larger than this, then new app transactions
-     * are rejected.
+     * are rejected. The size is checked without locking, so with many concurrent submitters, the queue may exceed this
+     * size by up to the number of submitting threads.
      */
     private final int throttleTransactionQueueSize;
 
@@ -85,10 +117,12 @@ public class TransactionPoolNexus implements TransactionSupplier {
      */
     private final int maximumTransactionSize;
 
+    private final Time time;
+
     /**
      * The current status of the platform.
      */
-    private PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+    private volatile PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
 
     /**
      * The maximum amount of time the platform may be in an unhealthy state before we start rejecting transactions.
@@ -98,7 +132,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * Whether the platform is currently in a healthy state.
      */
-    private boolean healthy = true;
+    private volatile boolean healthy = true;
 
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
@@ -108,7 +142,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
     public TransactionPoolNexus(@NonNull final PlatformContext platformContext) {
         Objects.requireNonNull(platformContext);
 
-        illegalTransactionLogger = new RateLimitedLogger(logger, platformContext.getTime(), Duration.ofMinutes(10));
+        time = platformContext.getTime();
+        illegalTransactionLogger = new RateLimitedLogger(logger, time, Duration.ofMinutes(10));
 
         final TransactionConfig transactionConfig =
                 platformContext.getConfiguration().getConfigData(TransactionConfig.class);
@@ -116,7 +151,10 @@ public class TransactionPoolNexus implements TransactionSupplier {
         throttleTransactionQueueSize = transactionConfig.throttleTransactionQueueSize();
 
         transactionPoolMetrics = new TransactionPoolMetrics(
-                platformContext, this::getBufferedTransactionCount, this::getPriorityBufferedTransactionCount);
+                platformContext,
+                bufferedTransactionCount::get,
+                priorityBufferedTransactionCount::get,
+                bufferedTransactionBytes::get);
 
         maximumTransactionSize = transactionConfig.transactionMaxBytes();
 
@@ -136,8 +174,9 @@ public class TransactionPoolNexus implements TransactionSupplier {
      * @param appTransaction the transaction to submit
      * @return true if the transaction passed all validity checks and was accepted by the consumer
      */
-    public synchronized boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
+    public boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
         if (!healthy || platformStatus != PlatformStatus.ACTIVE) {
+            transactionPoolMetrics.recordUnavailableAppTransaction();
             return false;
         }
 
@@ -169,30 +208,33 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    public synchronized boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
+    public boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
         Objects.requireNonNull(transaction);
 
         // Always submit system transactions. If it's not a system transaction, then only submit it if we
         // don't violate queue size capacity restrictions.
-        if (!priority
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
+        final int queueSize = bufferedTransactionCount.get() + priorityBufferedTransactionCount.get();
+        if (!priority && queueSize > throttleTransactionQueueSize) {
             transactionPoolMetrics.recordRejectedAppTransaction();
             return false;
         }
 
+        final PendingTransaction pending = new PendingTransaction(
+                transaction, TransactionUtils.getLegacyTransactionSize(transaction), time.nanoTime());
+
+        // Counters are incremented before the transaction is added, so they never become negative when the
+        // transaction is taken out concurrently
+        bufferedTransactionBytes.addAndGet(pending.size());
         if (priority) {
-            bufferedSignatureTransactionCount++;
+            priorityBufferedTransactionCount.incrementAndGet();
+            priorityBufferedTransactions.add(pending);
             transactionPoolMetrics.recordSubmittedPlatformTransaction();
         } else {
+            bufferedTransactionCount.incrementAndGet();
+            bufferedTransactions.add(pending);
             transactionPoolMetrics.recordAcceptedAppTransaction();
         }
 
-        if (priority) {
-            priorityBufferedTransactions.add(transaction);
-        } else {
-            bufferedTransactions.add(transaction);
-        }
-
         return true;
     }
 
@@ -201,7 +243,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param platformStatus the new platform status
      */
-    public synchronized void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
+    public void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
         this.platformStatus = platformStatus;
     }
 
@@ -211,29 +253,33 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param duration the amount of time that the system has been in an unhealthy state
      */
-    public synchronized void reportUnhealthyDuration(@NonNull final Duration duration) {
+    public void reportUnhealthyDuration(@NonNull final Duration duration) {
         healthy = isLessThan(duration, maximumPermissibleUnhealthyDuration);
     }
 
     /**
      * Get the next transaction that should be inserted into an event, or null if there is no available transaction.
+     * Must be called while holding the lock of this object.
      *
      * @param currentEventSize the current size in bytes of the event being constructed
      * @return the next transaction, or null if no transaction is available
      */
     @Nullable
-    private Bytes getNextTransaction(final int currentEventSize) {
+    private PendingTransaction getNextTransaction(final int currentEventSize) {
         final int maxSize = maxTransactionBytesPerEvent - currentEventSize;
 
-        if (!priorityBufferedTransactions.isEmpty()
-                && TransactionUtils.getLegacyTransactionSize(priorityBufferedTransactions.peek()) <= maxSize) {
-            bufferedSignatureTransactionCount--;
-            return priorityBufferedTransactions.poll();
+        final PendingTransaction priorityTransaction = priorityBufferedTransactions.peek();
+        if (priorityTransaction != null && priorityTransaction.size() <= maxSize) {
+            priorityBufferedTransactions.poll();
+            priorityBufferedTransactionCount.decrementAndGet();
+            return priorityTransaction;
         }
 
-        if (!bufferedTransactions.isEmpty()
-                && TransactionUtils.getLegacyTransactionSize(bufferedTransactions.peek()) <= maxSize) {
-            return bufferedTransactions.poll();
+        final PendingTransaction transaction = bufferedTransactions.peek();
+        if (transaction != null && transaction.size() <= maxSize) {
+            bufferedTransactions.poll();
+            bufferedTransactionCount.decrementAndGet();
+            return transaction;
         }
 
         return null;
@@ -252,20 +298,24 @@ public class TransactionPoolNexus implements TransactionSupplier {
             return Collections.emptyList();
         }
 
-        final List<Bytes> selectedTrans = new LinkedList<>();
+        final List<Bytes> selectedTrans = new ArrayList<>();
+        final long now = time.nanoTime();
         int currEventSize = 0;
 
         while (true) {
-            final Bytes transaction = getNextTransaction(currEventSize);
+            final PendingTransaction transaction = getNextTransaction(currEventSize);
 
             if (transaction == null) {
                 // No transaction of suitable size is available
                 break;
             }
 
-            currEventSize += TransactionUtils.getLegacyTransactionSize(transaction);
-            selectedTrans.add(transaction);
+            currEventSize += transaction.size();
+            selectedTrans.add(transaction.transaction());
+            transactionPoolMetrics.recordTransactionWaitTime(
+                    TimeUnit.NANOSECONDS.toMicros(now - transaction.submitNanos()));
         }
+        bufferedTransactionBytes.addAndGet(-currEventSize);
 
         return selectedTrans;
     }
@@ -275,34 +325,22 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
-    }
-
-    /**
-     * get the number of buffered transactions
-     *
-     * @return the number of transactions
-     */
-    private synchronized int getBufferedTransactionCount() {
-        return bufferedTransactions.size();
-    }
-
-    /**
-     * get the number of priority buffered transactions
-     *
-     * @return the number of transactions
-     */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    public boolean hasBufferedSignatureTransactions() {
+        return priorityBufferedTransactionCount.get() > 0;
     }
 
     /**
      * Clear all the transactions
      */
     synchronized void clear() {
-        bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+        PendingTransaction transaction;
+        while ((transaction = bufferedTransactions.poll()) != null) {
+            bufferedTransactionCount.decrementAndGet();
+            bufferedTransactionBytes.addAndGet(-transaction.size());
+        }
+        while ((transaction = priorityBufferedTransactions.poll()) != null) {
+            priorityBufferedTransactionCount.decrementAndGet();
+            bufferedTransactionBytes.addAndGet(-transaction.size());
+        }
     }
 }
@@ -37,6 +37,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -105,7 +106,11 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
         // find any signatures that have been saved
         final List<SavedSignature> signatures = savedSignatures.getEntriesWithSequenceNumber(signedState.getRound());
         savedSignatures.removeSequenceNumber(signedState.getRound());
-        signatures.forEach(ss -> addSignature(reservedSignedState, ss.memberId, ss.signature));
+        if (!signatures.isEmpty()) {
+            final List<Map<NodeId, Signature>> batches = new ArrayList<>();
+            signatures.forEach(ss -> addToBatch(batches, ss.memberId, ss.signature));
+            batches.forEach(batch -> addSignatures(reservedSignedState, batch));
+        }
 
         lastStateRound = Math.max(lastStateRound, signedState.getRound());
         adjustSavedSignaturesWindow(signedState.getRound());
@@ -135,33 +140,28 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     public @Nullable List<ReservedSignedState> handlePreconsensusSignatures(
             @NonNull final Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions) {
         Objects.requireNonNull(transactions, "transactions");
-        return transactions.stream()
-                .map(this::handlePreconsensusSignature)
-                .filter(Objects::nonNull)
-                .collect(collectingAndThen(toList(), l -> l.isEmpty() ? null : l));
-    }
+        final Map<Long, List<Map<NodeId, Signature>>> batches = new LinkedHashMap<>();
+        for (final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction : transactions) {
+            final long round = scopedTransaction.transaction().round();
+            final Signature signature = new Signature(
+                    SignatureType.RSA, scopedTransaction.transaction().signature().toByteArray());
 
-    private @Nullable ReservedSignedState handlePreconsensusSignature(
-            @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction) {
+            signedStateMetrics.getStateSignaturesGatheredPerSecondMetric().cycle();
 
-        final long round = scopedTransaction.transaction().round();
-        final Signature signature = new Signature(
-                SignatureType.RSA, scopedTransaction.transaction().signature().toByteArray());
-
-        signedStateMetrics.getStateSignaturesGatheredPerSecondMetric().cycle();
-
-        if (lastStateRound != -1) {
-            final long signatureAge = round - lastStateRound;
-            signedStateMetrics.getStateSignatureAge().update(signatureAge);
-        }
+            if (lastStateRound != -1) {
+                final long signatureAge = round - lastStateRound;
+                signedStateMetrics.getStateSignatureAge().update(signatureAge);
+            }
 
-        final ReservedSignedState reservedState = incompleteStates.get(round);
-        if (reservedState == null) {
-            // This round has already been completed, or it is really old or in the future
-            savedSignatures.add(new SavedSignature(round, scopedTransaction.submitterId(), signature));
-            return null;
+            if (!incompleteStates.containsKey(round)) {
+                // This round has already been completed, or it is really old or in the future
+                savedSignatures.add(new SavedSignature(round, scopedTransaction.submitterId(), signature));
+                continue;
+            }
+            addToBatch(
+                    batches.computeIfAbsent(round, r -> new ArrayList<>()), scopedTransaction.submitterId(), signature);
         }
-        return addSignature(reservedState, scopedTransaction.submitterId(), signature);
+        return addSignatureBatches(batches);
     }
 
     /**
@@ -171,53 +171,88 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     public @Nullable List<ReservedSignedState> handlePostconsensusSignatures(
             @NonNull final Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions) {
         Objects.requireNonNull(transactions, "transactions");
-        return transactions.stream()
-                .map(this::handlePostconsensusSignature)
-                .filter(Objects::nonNull)
-                .collect(collectingAndThen(toList(), l -> l.isEmpty() ? null : l));
+        final Map<Long, List<Map<NodeId, Signature>>> batches = new LinkedHashMap<>();
+        for (final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction : transactions) {
+            final long round = scopedTransaction.transaction().round();
+            // it isn't possible to receive a postconsensus signature transaction for a future round,
+            // and if we don't have the state for an old round, we never will.
+            // in both cases, the signature can be ignored
+            if (incompleteStates.containsKey(round)) {
+                addToBatch(
+                        batches.computeIfAbsent(round, r -> new ArrayList<>()),
+                        scopedTransaction.submitterId(),
+                        new Signature(
+                                SignatureType.RSA,
+                                scopedTransaction.transaction().signature().toByteArray()));
+            }
+        }
+        return addSignatureBatches(batches);
     }
 
-    private @Nullable ReservedSignedState handlePostconsensusSignature(
-            @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction) {
-        final long round = scopedTransaction.transaction().round();
-
-        final ReservedSignedState reservedState = incompleteStates.get(round);
-        // it isn't possible to receive a postconsensus signature transaction for a future round,
-        // and if we don't have the state for an old round, we never will.
-        // in both cases, the signature can be ignored
-        if (reservedState == null) {
-            return null;
+    /**
+     * Add a signature to the first batch of its round that has no signature from the same node yet. If a node sent
+     * more than one signature for the same round, e.g. an invalid one followed by a valid one, later signatures go to
+     * later batches, so every candidate is verified, unless an earlier one from the same node is accepted.
+     *
+     * @param batches   the batches of the signature's round, in the order they are added to the state
+     * @param nodeId    the ID of the signing node
+     * @param signature the signature
+     */
+    private static void addToBatch(
+            @NonNull final List<Map<NodeId, Signature>> batches,
+            @NonNull final NodeId nodeId,
+            @NonNull final Signature signature) {
+        for (final Map<NodeId, Signature> batch : batches) {
+            if (batch.putIfAbsent(nodeId, signature) == null) {
+                return;
+            }
         }
+        final Map<NodeId, Signature> batch = new LinkedHashMap<>();
+        batch.put(nodeId, signature);
+        batches.add(batch);
+    }
 
-        return addSignature(
-                reservedState,
-                scopedTransaction.submitterId(),
-                new Signature(
-                        SignatureType.RSA,
-                        scopedTransaction.transaction().signature().toByteArray()));
+    /**
+     * Add batches of signatures to the incomplete states of their rounds.
+     *
+     * @param batches batches of signatures by signing node, by round, all rounds must have incomplete states
+     * @return the states that are now complete, or null if there are none
+     */
+    private @Nullable List<ReservedSignedState> addSignatureBatches(
+            @NonNull final Map<Long, List<Map<NodeId, Signature>>> batches) {
+        final List<ReservedSignedState> completeStates = new ArrayList<>();
+        for (final Map.Entry<Long, List<Map<NodeId, Signature>>> roundBatches : batches.entrySet()) {
+            final ReservedSignedState reservedSignedState = incompleteStates.get(roundBatches.getKey());
+            for (final Map<NodeId, Signature> batch : roundBatches.getValue()) {
+                final ReservedSignedState completeState = addSignatures(reservedSignedState, batch);
+                if (completeState != null) {
+                    completeStates.add(completeState);
+                    break;
+                }
+            }
+        }
+        return completeStates.isEmpty() ? null : completeStates;
     }
 
     /**
-     * Add a new signature to a signed state.
+     * Add new signatures to a signed state.
      *
      * @param reservedSignedState the state being signed
-     * @param nodeId              the ID of the signer
-     * @param signature           the signature on the state
+     * @param signatures          the signatures on the state, by the ID of the signer
      * @return the signed state if it is now complete, otherwise null
      */
-    private @Nullable ReservedSignedState addSignature(
-            @NonNull final ReservedSignedState reservedSignedState,
-            @NonNull final NodeId nodeId,
-            @NonNull final Signature signature) {
+    private @Nullable ReservedSignedState addSignatures(
+            @NonNull final ReservedSignedState reservedSignedState, @NonNull final Map<NodeId, Signature> signatures) {
         final SignedState signedState = reservedSignedState.get();
+        signedStateMetrics.getStateSignatureBatchSize().update(signatures.size());
 
-        if (signedState.addSignature(nodeId, signature)) {
+        if (signedState.addSignatures(signatures)) {
             // at this point the signed state is complete for the first time
+            final long timeToFullySign = Duration.between(signedState.getCreationTimestamp(), Instant.now())
+                    .toMillis();
             signedStateMetrics.getStatesSignedPerSecondMetric().cycle();
-            signedStateMetrics
-                    .getAverageTimeToFullySignStateMetric()
-                    .update(Duration.between(signedState.getCreationTimestamp(), Instant.now())
-                            .toMillis());
+            signedStateMetrics.getAverageTimeToFullySignStateMetric().update(timeToFullySign);
+            signedStateMetrics.getMaxTimeToFullySignStateMetric().update(timeToFullySign);
 
             return incompleteStates.remove(signedState.getRound());
         }
@@ -26,14 +26,15 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
 /**
- * Signatures of the hash of a state.
+ * Signatures of the hash of a state. Signatures are stored in arrays sorted by node ID, which is compact and fast for
+ * the small number of nodes in a roster.
  */
 public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable {
     private static final long CLASS_ID = 0x756d0ee945226a92L;
@@ -50,12 +51,22 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
         public static final int SELF_SERIALIZABLE_NODE_ID = 4;
     }
 
-    private final Map<NodeId, Signature> signatures = new HashMap<>();
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** IDs of the signing nodes, sorted, only the first {@link #size} elements are used */
+    private NodeId[] nodeIds;
+    /** Signatures, in the same order as {@link #nodeIds} */
+    private Signature[] signatures;
+    /** The number of signatures */
+    private int size;
 
     /**
      * Zero arg constructor.
      */
-    public SigSet() {}
+    public SigSet() {
+        nodeIds = new NodeId[INITIAL_CAPACITY];
+        signatures = new Signature[INITIAL_CAPACITY];
+    }
 
     /**
      * Copy constructor.
@@ -63,7 +74,19 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
      * @param that the sig set to copy
      */
     private SigSet(final SigSet that) {
-        this.signatures.putAll(that.signatures);
+        this.nodeIds = Arrays.copyOf(that.nodeIds, Math.max(that.size, INITIAL_CAPACITY));
+        this.signatures = Arrays.copyOf(that.signatures, Math.max(that.size, INITIAL_CAPACITY));
+        this.size = that.size;
+    }
+
+    /**
+     * Find the position of a node.
+     *
+     * @param nodeId the ID of the node
+     * @return the index of the node if present, otherwise {@code -(insertion point) - 1}
+     */
+    private int indexOf(@NonNull final NodeId nodeId) {
+        return Arrays.binarySearch(nodeIds, 0, size, nodeId);
     }
 
     /**
@@ -75,7 +98,21 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
     public void addSignature(@NonNull final NodeId nodeId, @NonNull final Signature signature) {
         Objects.requireNonNull(nodeId, "nodeId must not be null");
         Objects.requireNonNull(signature, "signature must not be null");
-        signatures.put(nodeId, signature);
+        final int index = indexOf(nodeId);
+        if (index >= 0) {
+            signatures[index] = signature;
+            return;
+        }
+        final int insertionPoint = -index - 1;
+        if (size == nodeIds.length) {
+            nodeIds = Arrays.copyOf(nodeIds, size * 2);
+            signatures = Arrays.copyOf(signatures, size * 2);
+        }
+        System.arraycopy(nodeIds, insertionPoint, nodeIds, insertionPoint + 1, size - insertionPoint);
+        System.arraycopy(signatures, insertionPoint, signatures, insertionPoint + 1, size - insertionPoint);
+        nodeIds[insertionPoint] = nodeId;
+        signatures[insertionPoint] = signature;
+        size++;
     }
 
     /**
@@ -85,7 +122,15 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
      */
     public void removeSignature(@NonNull final NodeId nodeId) {
         Objects.requireNonNull(nodeId, "nodeId must not be null");
-        signatures.remove(nodeId);
+        final int index = indexOf(nodeId);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(nodeIds, index + 1, nodeIds, index, size - index - 1);
+        System.arraycopy(signatures, index + 1, signatures, index, size - index - 1);
+        size--;
+        nodeIds[size] = null;
+        signatures[size] = null;
     }
 
     /**
@@ -97,7 +142,8 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
     @Nullable
     public Signature getSignature(@NonNull final NodeId nodeId) {
         Objects.requireNonNull(nodeId, "nodeId must not be null");
-        return signatures.get(nodeId);
+        final int index = indexOf(nodeId);
+        return index >= 0 ? signatures[index] : null;
     }
 
     /**
@@ -108,27 +154,33 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
      */
     public boolean hasSignature(@NonNull final NodeId nodeId) {
         Objects.requireNonNull(nodeId, "nodeId must not be null");
-        return signatures.containsKey(nodeId);
+        return indexOf(nodeId) >= 0;
     }
 
     /**
-     * Get an iterator that walks over the set of nodes that have signed the state.
+     * Get an iterator that walks over the set of nodes that have signed the state, in ascending node ID order.
      */
     @Override
     @NonNull
     public Iterator<NodeId> iterator() {
-        final Iterator<NodeId> iterator = signatures.keySet().iterator();
+        // Iterate over a snapshot, so that the SigSet can be modified while iterating
+        final NodeId[] snapshot = Arrays.copyOf(nodeIds, size);
 
-        // Wrap the iterator so that it can't be used to modify the SigSet.
+        // The iterator can't be used to modify the SigSet.
         return new Iterator<>() {
+            private int next = 0;
+
             @Override
             public boolean hasNext() {
-                return iterator.hasNext();
+                return next < snapshot.length;
             }
 
             @Override
             public NodeId next() {
-                return iterator.next();
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return snapshot[next++];
             }
         };
     }
@@ -140,7 +192,7 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
      */
     @NonNull
     public List<NodeId> getSigningNodes() {
-        return new ArrayList<>(signatures.keySet());
+        return new ArrayList<>(Arrays.asList(nodeIds).subList(0, size));
     }
 
     /**
@@ -149,7 +201,7 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
      * @return the number of signatures
      */
     public int size() {
-        return signatures.size();
+        return size;
     }
 
     /**
@@ -175,14 +227,10 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
      */
     @Override
     public void serialize(final SerializableDataOutputStream out) throws IOException {
-        out.writeInt(signatures.size());
-
-        final List<NodeId> sortedIds = new ArrayList<>(signatures.size());
-        signatures.keySet().stream().sorted().forEachOrdered(sortedIds::add);
-
-        for (final NodeId nodeId : sortedIds) {
-            out.writeSerializable(nodeId, false);
-            signatures.get(nodeId).serialize(out, false);
+        out.writeInt(size);
+        for (int index = 0; index < size; index++) {
+            out.writeSerializable(nodeIds[index], false);
+            signatures[index].serialize(out, false);
         }
     }
 
@@ -205,7 +253,7 @@ public class SigSet implements FastCopyable, Iterable<NodeId>, SelfSerializable
                 nodeId = in.readSerializable(false, NodeId::new);
             }
             final Signature signature = Signature.deserialize(in, false);
-            signatures.put(nodeId, signature);
+            addSignature(nodeId, signature);
         }
     }
 
@@ -592,32 +592,54 @@ public class SignedState implements SignedStateInfo {
     public boolean addSignature(@NonNull final NodeId nodeId, @NonNull final Signature signature) {
         requireNonNull(nodeId, "nodeId");
         requireNonNull(signature, "signature");
+        return addSignatures(Map.of(nodeId, signature));
+    }
+
+    /**
+     * Add a batch of signatures to the sigset, skipping invalid ones. The roster is only read once per batch, and
+     * signatures are not verified if they are duplicates, or once the state is complete.
+     *
+     * @param signatures the signatures to add, by the ID of the signing node
+     * @return true if the signed state is now complete as a result of the signatures being added, false if the signed
+     * state is either not complete or was previously complete prior to these signatures
+     */
+    public boolean addSignatures(@NonNull final Map<NodeId, Signature> signatures) {
+        requireNonNull(signatures, "signatures");
 
-        if (isComplete()) {
+        final Roster roster = getRoster();
+        final long totalWeight = RosterUtils.computeTotalWeight(roster);
+        if (recoveryState || SUPER_MAJORITY.isSatisfiedBy(signingWeight, totalWeight)) {
             // No need to add more signatures
             return false;
         }
 
-        final RosterEntry rosterEntry = RosterUtils.getRosterEntryOrNull(getRoster(), nodeId.id());
+        final Map<Long, RosterEntry> entries = RosterUtils.toMap(roster);
+        for (final Map.Entry<NodeId, Signature> entry : signatures.entrySet()) {
+            final NodeId nodeId = entry.getKey();
+            final RosterEntry rosterEntry = entries.get(nodeId.id());
 
-        if (rosterEntry == null) {
-            // we ignore signatures from nodes no longer in the roster
-            return false;
-        }
+            if (rosterEntry == null) {
+                // we ignore signatures from nodes no longer in the roster
+                continue;
+            }
 
-        if (!isSignatureValid(rosterEntry, signature)) {
-            return false;
-        }
+            if (sigSet.hasSignature(nodeId)) {
+                // we already have this signature
+                continue;
+            }
 
-        if (sigSet.hasSignature(nodeId)) {
-            // we already have this signature
-            return false;
-        }
+            if (!isSignatureValid(rosterEntry, entry.getValue())) {
+                continue;
+            }
 
-        sigSet.addSignature(nodeId, signature);
-        signingWeight += rosterEntry.weight();
+            sigSet.addSignature(nodeId, entry.getValue());
+            signingWeight += rosterEntry.weight();
 
-        return isComplete();
+            if (SUPER_MAJORITY.isSatisfiedBy(signingWeight, totalWeight)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
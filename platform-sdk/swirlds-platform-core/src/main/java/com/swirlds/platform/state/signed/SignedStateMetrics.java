@@ -24,6 +24,7 @@ import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.units.TimeUnit;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.Metrics;
 
 /**
@@ -48,6 +49,13 @@ public class SignedStateMetrics {
             .withFormat(FORMAT_10_2);
     private final RunningAverageMetric averageTimeToFullySignState;
 
+    private static final LongAccumulator.Config MAX_TIME_TO_FULLY_SIGN_STATE = new LongAccumulator.Config(
+                    CATEGORY, "maxTimeToFullySignState")
+            .withDescription("The maximum time spent waiting for enough state signatures to fully sign a state.")
+            .withUnit(MILLISECONDS)
+            .withInitialValue(0);
+    private final LongAccumulator maxTimeToFullySignState;
+
     private static final Counter.Config TOTAL_NEVER_SIGNED_STATES_CONFIG = new Counter.Config(
                     CATEGORY, "totalNeverSignedStates")
             .withDescription("total number of states that did not receive enough signatures in the allowed time")
@@ -78,6 +86,14 @@ public class SignedStateMetrics {
             .withUnit("rounds");
     private final RunningAverageMetric stateSignatureAge;
 
+    private static final RunningAverageMetric.Config STATE_SIGNATURE_BATCH_SIZE_CONFIG =
+            new RunningAverageMetric.Config(CATEGORY, "stateSignatureBatchSize")
+                    .withDescription("the average number of state signatures for the same round added to a state "
+                            + "at once")
+                    .withFormat(FORMAT_10_2)
+                    .withUnit("count");
+    private final RunningAverageMetric stateSignatureBatchSize;
+
     /**
      * Get a metric tracking unsigned states.
      */
@@ -92,6 +108,13 @@ public class SignedStateMetrics {
         return averageTimeToFullySignState;
     }
 
+    /**
+     * Get a metric tracking maximum state signing time in milliseconds.
+     */
+    public LongAccumulator getMaxTimeToFullySignStateMetric() {
+        return maxTimeToFullySignState;
+    }
+
     /**
      * Get a metric tracking the total number of unsigned states that were skipped.
      */
@@ -121,6 +144,13 @@ public class SignedStateMetrics {
         return stateSignatureAge;
     }
 
+    /**
+     * Get a metric tracking the average number of signatures for the same round added to a state at once.
+     */
+    public RunningAverageMetric getStateSignatureBatchSize() {
+        return stateSignatureBatchSize;
+    }
+
     /**
      * Register all metrics with a registry.
      *
@@ -129,9 +159,11 @@ public class SignedStateMetrics {
     public SignedStateMetrics(final Metrics metrics) {
         unsignedStates = metrics.getOrCreate(UNSIGNED_STATES_CONFIG);
         averageTimeToFullySignState = metrics.getOrCreate(AVERAGE_TIME_TO_FULLY_SIGN_STATE);
+        maxTimeToFullySignState = metrics.getOrCreate(MAX_TIME_TO_FULLY_SIGN_STATE);
         totalNeverSignedStates = metrics.getOrCreate(TOTAL_NEVER_SIGNED_STATES_CONFIG);
         statesSignedPerSecond = metrics.getOrCreate(STATES_SIGNED_PER_SECOND_CONFIG);
         stateSignaturesGatheredPerSecond = metrics.getOrCreate(STATE_SIGNATURES_GATHERED_PER_SECOND_CONFIG);
         stateSignatureAge = metrics.getOrCreate(STATE_SIGNATURE_AGE_CONFIG);
+        stateSignatureBatchSize = metrics.getOrCreate(STATE_SIGNATURE_BATCH_SIZE_CONFIG);
     }
 }
@@ -17,6 +17,7 @@
 package com.swirlds.platform.system;
 
 import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.crypto.Signature;
 import com.swirlds.common.notification.NotificationEngine;
@@ -101,6 +102,18 @@ public interface Platform {
      */
     boolean createTransaction(@NonNull byte[] transaction);
 
+    /**
+     * Same as {@link #createTransaction(byte[])}, but for a transaction that is already available as {@link Bytes}.
+     * Since {@link Bytes} are immutable, implementations may keep a reference to the given transaction instead of
+     * copying it.
+     *
+     * @param transaction the transaction to handle in binary format (format used is up to the application)
+     * @return true if the transaction is accepted, false if it is rejected
+     */
+    default boolean createTransaction(@NonNull final Bytes transaction) {
+        return createTransaction(transaction.toByteArray());
+    }
+
     /**
      * generate signature bytes for given data
      *
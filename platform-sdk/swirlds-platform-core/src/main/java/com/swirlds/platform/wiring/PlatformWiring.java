@@ -56,6 +56,7 @@ import com.swirlds.platform.event.creation.EventCreationManager;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.hashing.EventHasher;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.preconsensus.FileSyncOption;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
 import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
@@ -135,7 +136,7 @@ public class PlatformWiring {
     private final ComponentWiring<StateSigner, StateSignatureTransaction> stateSignerWiring;
     private final PcesReplayerWiring pcesReplayerWiring;
     private final ComponentWiring<PcesWriter, Long> pcesWriterWiring;
-    private final ComponentWiring<InlinePcesWriter, PlatformEvent> pcesInlineWriterWiring;
+    private final ComponentWiring<InlinePcesWriter, List<PlatformEvent>> pcesInlineWriterWiring;
     private final ComponentWiring<RoundDurabilityBuffer, List<ConsensusRound>> roundDurabilityBufferWiring;
     private final ComponentWiring<PcesSequencer, PlatformEvent> pcesSequencerWiring;
     private final ComponentWiring<TransactionPrehandler, Queue<ScopedSystemTransaction<StateSignatureTransaction>>>
@@ -421,19 +422,23 @@ public class PlatformWiring {
 
         if (inlinePces) {
             splitOrphanBufferOutput.solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent));
+            final OutputWire<PlatformEvent> durableEventOutput = pcesInlineWriterWiring.getSplitOutput();
             // make sure that an event is persisted before being sent to consensus, this avoids the situation where we
             // reach consensus with events that might be lost due to a crash
-            pcesInlineWriterWiring
-                    .getOutputWire()
-                    .solderTo(consensusEngineWiring.getInputWire(ConsensusEngine::addEvent));
+            durableEventOutput.solderTo(consensusEngineWiring.getInputWire(ConsensusEngine::addEvent));
             // make sure events are persisted before being gossipped, this prevents accidental branching in the case
             // where an event is created, gossipped, and then the node crashes before the event is persisted.
             // after restart, a node will not be aware of this event, so it can create a branch
-            pcesInlineWriterWiring.getOutputWire().solderTo(gossipWiring.getEventInput(), INJECT);
+            durableEventOutput.solderTo(gossipWiring.getEventInput(), INJECT);
             // avoid using events as parents before they are persisted
-            pcesInlineWriterWiring
-                    .getOutputWire()
-                    .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::registerEvent));
+            durableEventOutput.solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::registerEvent));
+
+            final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+            if (pcesConfig.inlinePcesSyncOption() == FileSyncOption.GROUP_COMMIT) {
+                // events held back for a group commit must be released even if no more events arrive
+                model.buildHeartbeatWire(pcesConfig.groupCommitWindow())
+                        .solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::syncIfWindowElapsed), OFFER);
+            }
         } else {
             splitOrphanBufferOutput.solderTo(
                     pcesSequencerWiring.getInputWire(PcesSequencer::assignStreamSequenceNumber));
@@ -52,7 +52,7 @@ class CommonPcesWriterTest {
         final PcesFile pcesFile = mock(PcesFile.class);
         when(fileManager.getNextFileDescriptor(anyLong(), anyLong())).thenReturn(pcesFile);
         pcesMutableFile = mock(PcesMutableFile.class);
-        when(pcesFile.getMutableFile(anyBoolean(), anyBoolean())).thenReturn(pcesMutableFile);
+        when(pcesFile.getMutableFile(anyBoolean(), anyBoolean(), any())).thenReturn(pcesMutableFile);
 
         // Initialize CommonPcesWriter with mocks
         commonPcesWriter = new CommonPcesWriter(platformContext, fileManager, true);
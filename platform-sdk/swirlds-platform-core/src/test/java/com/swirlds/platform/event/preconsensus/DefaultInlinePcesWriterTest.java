@@ -17,8 +17,11 @@
 package com.swirlds.platform.event.preconsensus;
 
 import static com.swirlds.platform.event.AncientMode.GENERATION_THRESHOLD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.hedera.hapi.platform.event.GossipEvent;
 import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.platform.NodeId;
@@ -34,6 +37,7 @@ import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -164,4 +168,137 @@ class DefaultInlinePcesWriterTest {
 
         PcesWriterTestUtils.verifyStream(selfId, events, platformContext, 0, ancientMode);
     }
+
+    @Test
+    void groupCommitHoldsSelfEventsUntilSyncTest() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT.toString())
+                .withValue(PcesConfig_.GROUP_COMMIT_WINDOW, "1h")
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_BYTES, Long.MAX_VALUE)
+                .getOrCreateConfig();
+        platformContext = buildContext(configuration);
+
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(platformContext, random);
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEventWithoutIndex().getBaseEvent());
+        }
+        final int firstSelfEventIndex = indexOfFirstSelfEvent(events);
+        assertTrue(firstSelfEventIndex >= 0, "the generator is expected to create self events");
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(platformContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(platformContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        final List<PlatformEvent> durableEvents = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            final List<PlatformEvent> released = writer.writeEvent(events.get(i));
+            if (i < firstSelfEventIndex) {
+                assertEquals(List.of(events.get(i)), released, "events before the first self event are released");
+            } else if (i == firstSelfEventIndex) {
+                assertTrue(released.isEmpty(), "the self event must be held back until it is synced");
+            }
+            durableEvents.addAll(released);
+        }
+
+        // Held back events are only released when a file is closed, before the group commit window elapses
+        assertEquals(events.subList(0, durableEvents.size()), durableEvents, "events must be released in order");
+
+        // The heartbeat releases all pending events once the window has elapsed
+        assertTrue(writer.syncIfWindowElapsed(platformContext.getTime().now()).isEmpty());
+        durableEvents.addAll(
+                writer.syncIfWindowElapsed(platformContext.getTime().now().plus(Duration.ofHours(2))));
+        assertEquals(events, durableEvents, "all events must be released in order");
+
+        PcesWriterTestUtils.verifyStream(selfId, events, platformContext, 0, ancientMode);
+    }
+
+    @Test
+    void groupCommitSyncsWhenByteLimitReachedTest() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT.toString())
+                .withValue(PcesConfig_.GROUP_COMMIT_WINDOW, "1h")
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_BYTES, 1)
+                .getOrCreateConfig();
+        platformContext = buildContext(configuration);
+
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(platformContext, random);
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(platformContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(platformContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final PlatformEvent event = generator.generateEventWithoutIndex().getBaseEvent();
+            events.add(event);
+            // every event exceeds the byte limit, so it is synced and released right away
+            assertEquals(List.of(event), writer.writeEvent(event));
+        }
+
+        PcesWriterTestUtils.verifyStream(selfId, events, platformContext, 0, ancientMode);
+    }
+
+    @Test
+    void groupCommitCountsColumnarEventsByProtobufSizeTest() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(platformContext, random);
+        final List<PlatformEvent> events = new ArrayList<>();
+        long totalBytes = 0;
+        for (int i = 0; i < numEvents; i++) {
+            final PlatformEvent event = generator.generateEventWithoutIndex().getBaseEvent();
+            events.add(event);
+            totalBytes += GossipEvent.PROTOBUF.measureRecord(event.getGossipEvent());
+        }
+
+        // The limit covers more events than a columnar block holds, so blocks are written while events are pending
+        final long maxBytes = totalBytes / 3;
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT.toString())
+                .withValue(PcesConfig_.GROUP_COMMIT_WINDOW, "1h")
+                .withValue(PcesConfig_.GROUP_COMMIT_MAX_BYTES, maxBytes)
+                .withValue(PcesConfig_.FILE_VERSION, PcesFileVersion.COLUMNAR_EVENTS.toString())
+                .getOrCreateConfig();
+        platformContext = buildContext(configuration);
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(platformContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(platformContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        final List<PlatformEvent> durableEvents = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            final List<PlatformEvent> released = writer.writeEvent(events.get(i));
+            durableEvents.addAll(released);
+            // Events are released in order, so the events held back are all events not released yet
+            long heldBytes = 0;
+            for (final PlatformEvent held : events.subList(durableEvents.size(), i + 1)) {
+                heldBytes += GossipEvent.PROTOBUF.measureRecord(held.getGossipEvent());
+            }
+            assertTrue(heldBytes < maxBytes, "events must be synced once they reach the byte limit");
+        }
+
+        durableEvents.addAll(
+                writer.syncIfWindowElapsed(platformContext.getTime().now().plus(Duration.ofHours(2))));
+        assertEquals(events, durableEvents, "all events must be released in order");
+
+        PcesWriterTestUtils.verifyStream(selfId, events, platformContext, 0, ancientMode);
+    }
+
+    private int indexOfFirstSelfEvent(@NonNull final List<PlatformEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).getCreatorId().equals(selfId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.platform.event.AncientMode.GENERATION_THRESHOLD;
+import static com.swirlds.platform.event.preconsensus.PcesFileManager.NO_LOWER_BOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.RandomUtils;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.test.fixtures.event.PcesWriterTestUtils;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PcesPrefetchingIteratorTest {
+
+    private static final int FILE_COUNT = 3;
+    private static final int EVENTS_PER_FILE = 100;
+
+    /**
+     * The origin of the last file, all other files have origin 0.
+     */
+    private static final long LAST_FILE_ORIGIN = 5;
+
+    @TempDir
+    private Path tempDir;
+
+    private final AncientMode ancientMode = GENERATION_THRESHOLD;
+
+    private final List<List<PlatformEvent>> eventsByFile = new ArrayList<>();
+    private PcesFileTracker files;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create().build();
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(platformContext, random);
+
+        files = new PcesFileTracker(ancientMode);
+        final Instant now = Instant.now();
+        for (int fileIndex = 0; fileIndex < FILE_COUNT; fileIndex++) {
+            final List<PlatformEvent> events = new ArrayList<>();
+            long lowerBound = Long.MAX_VALUE;
+            long upperBound = Long.MIN_VALUE;
+            for (int i = 0; i < EVENTS_PER_FILE; i++) {
+                final PlatformEvent event = generator.generateEventWithoutIndex().getBaseEvent();
+                lowerBound = Math.min(lowerBound, event.getAncientIndicator(ancientMode));
+                upperBound = Math.max(upperBound, event.getAncientIndicator(ancientMode));
+                events.add(event);
+            }
+            final long origin = fileIndex == FILE_COUNT - 1 ? LAST_FILE_ORIGIN : 0;
+            final PcesFile file = PcesFile.of(
+                    ancientMode, now.plusMillis(fileIndex), fileIndex, lowerBound, upperBound, origin, tempDir);
+            final PcesMutableFile mutableFile = file.getMutableFile();
+            for (final PlatformEvent event : events) {
+                mutableFile.writeEvent(event);
+            }
+            mutableFile.close();
+            files.addFile(file);
+            eventsByFile.add(events);
+        }
+    }
+
+    @NonNull
+    private static List<PlatformEvent> readAll(@NonNull final PcesPrefetchingIterator iterator) throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final PlatformEvent event = iterator.next();
+            assertNotNull(event.getHash(), "Prefetched events must be hashed");
+            events.add(event);
+        }
+        return events;
+    }
+
+    @Test
+    void invalidPrefetchFileCount() {
+        try (final ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new PcesPrefetchingIterator(
+                            NO_LOWER_BOUND, files.getFileIterator(), ancientMode, executor, 0));
+        }
+    }
+
+    @Test
+    void eventsAreReturnedInFileOrder() throws Exception {
+        final List<PlatformEvent> expected = new ArrayList<>();
+        eventsByFile.forEach(expected::addAll);
+
+        for (final int prefetchFileCount : new int[] {1, 2, FILE_COUNT + 1}) {
+            try (final ExecutorService executor = Executors.newFixedThreadPool(2);
+                    final PcesPrefetchingIterator iterator =
+                            files.getPrefetchingEventIterator(NO_LOWER_BOUND, 0, executor, prefetchFileCount)) {
+                assertEquals(expected, readAll(iterator));
+                assertEquals(0, iterator.getTruncatedFileCount());
+                assertTrue(executor.isShutdown(), "The executor must be shut down once all files are read");
+            }
+        }
+    }
+
+    @Test
+    void eventsBelowLowerBoundAreSkipped() throws Exception {
+        final List<PlatformEvent> allEvents = new ArrayList<>();
+        eventsByFile.forEach(allEvents::addAll);
+        final long lowerBound = eventsByFile.get(1).getFirst().getAncientIndicator(ancientMode);
+        final List<PlatformEvent> expected = allEvents.stream()
+                .filter(event -> event.getAncientIndicator(ancientMode) >= lowerBound)
+                .toList();
+
+        try (final ExecutorService executor = Executors.newFixedThreadPool(2);
+                final PcesPrefetchingIterator iterator =
+                        files.getPrefetchingEventIterator(lowerBound, 0, executor, 2)) {
+            assertEquals(expected, readAll(iterator));
+        }
+    }
+
+    @Test
+    void startingRoundSelectsFilesByOrigin() throws Exception {
+        try (final ExecutorService executor = Executors.newFixedThreadPool(2);
+                final PcesPrefetchingIterator iterator =
+                        files.getPrefetchingEventIterator(NO_LOWER_BOUND, LAST_FILE_ORIGIN, executor, 2)) {
+            assertEquals(eventsByFile.getLast(), readAll(iterator));
+        }
+    }
+
+    @Test
+    void closingPartWayShutsDownExecutor() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final PcesPrefetchingIterator iterator = files.getPrefetchingEventIterator(NO_LOWER_BOUND, 0, executor, 1);
+
+        assertTrue(iterator.hasNext());
+        assertEquals(eventsByFile.getFirst().getFirst(), iterator.next());
+        assertFalse(executor.isShutdown(), "The executor is still needed for the remaining files");
+
+        iterator.close();
+
+        assertTrue(executor.isShutdown());
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS), "Prefetch tasks must stop after close");
+    }
+}
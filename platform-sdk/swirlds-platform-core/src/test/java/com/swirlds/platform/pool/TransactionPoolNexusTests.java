@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.config.TransactionConfig_;
+import com.swirlds.platform.system.status.PlatformStatus;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class TransactionPoolNexusTests {
+
+    /**
+     * Each transaction has 4 bytes of payload, plus 4 bytes of length prefix.
+     */
+    private static final int TRANSACTION_SIZE = 8;
+
+    private static TransactionPoolNexus createNexus(final int maxTransactionsPerEvent, final int queueSize) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(
+                                TransactionConfig_.MAX_TRANSACTION_BYTES_PER_EVENT,
+                                maxTransactionsPerEvent * TRANSACTION_SIZE)
+                        .withValue(TransactionConfig_.THROTTLE_TRANSACTION_QUEUE_SIZE, queueSize)
+                        .getOrCreateConfig())
+                .build();
+        final TransactionPoolNexus nexus = new TransactionPoolNexus(platformContext);
+        nexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+        return nexus;
+    }
+
+    private static Bytes transaction(final int value) {
+        return Bytes.wrap(ByteBuffer.allocate(4).putInt(value).array());
+    }
+
+    private static int value(final Bytes transaction) {
+        return transaction.getInt(0);
+    }
+
+    @Test
+    void priorityTransactionsFirstAndEventSizeLimit() {
+        final TransactionPoolNexus nexus = createNexus(3, 100);
+        assertTrue(nexus.submitApplicationTransaction(transaction(1)));
+        assertTrue(nexus.submitApplicationTransaction(transaction(2)));
+        assertTrue(nexus.submitTransaction(transaction(3), true));
+        assertTrue(nexus.submitApplicationTransaction(transaction(4)));
+        assertTrue(nexus.hasBufferedSignatureTransactions());
+
+        assertEquals(List.of(3, 1, 2), nexus.getTransactions().stream().map(TransactionPoolNexusTests::value).toList());
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+        assertEquals(List.of(4), nexus.getTransactions().stream().map(TransactionPoolNexusTests::value).toList());
+        assertTrue(nexus.getTransactions().isEmpty());
+    }
+
+    @Test
+    void rejectedTransactions() {
+        final TransactionPoolNexus nexus = createNexus(10, 2);
+        nexus.updatePlatformStatus(PlatformStatus.CHECKING);
+        assertFalse(nexus.submitApplicationTransaction(transaction(0)));
+
+        nexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(nexus.submitApplicationTransaction(transaction(i)));
+        }
+        assertFalse(nexus.submitApplicationTransaction(transaction(3)), "The queue is full");
+        assertTrue(nexus.submitTransaction(transaction(4), true), "Priority transactions are always accepted");
+
+        nexus.clear();
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+        assertTrue(nexus.getTransactions().isEmpty());
+        assertTrue(nexus.submitApplicationTransaction(transaction(5)), "The queue is no longer full");
+    }
+
+    @Test
+    void concurrentSubmitters() throws InterruptedException {
+        final int threadCount = 8;
+        final int transactionsPerThread = 10_000;
+        final TransactionPoolNexus nexus = createNexus(100, Integer.MAX_VALUE);
+
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for (int thread = 0; thread < threadCount; thread++) {
+            final int threadId = thread;
+            new Thread(() -> {
+                        for (int i = 0; i < transactionsPerThread; i++) {
+                            nexus.submitApplicationTransaction(transaction(threadId * transactionsPerThread + i));
+                        }
+                        done.countDown();
+                    })
+                    .start();
+        }
+
+        final List<Integer> received = new ArrayList<>();
+        while (received.size() < threadCount * transactionsPerThread) {
+            final boolean finished = done.getCount() == 0;
+            final List<Bytes> transactions = nexus.getTransactions();
+            assertTrue(transactions.size() <= 100, "Event size limit exceeded");
+            transactions.forEach(t -> received.add(value(t)));
+            assertFalse(finished && transactions.isEmpty(), "Transactions were lost");
+        }
+
+        // Transactions submitted by the same thread must be taken out in submission order
+        final int[] lastPerThread = new int[threadCount];
+        Arrays.fill(lastPerThread, -1);
+        for (final int value : received) {
+            final int threadId = value / transactionsPerThread;
+            assertTrue(value > lastPerThread[threadId], "Transactions are out of order");
+            lastPerThread[threadId] = value;
+        }
+        assertTrue(nexus.getTransactions().isEmpty());
+    }
+}
@@ -34,8 +34,10 @@ import com.swirlds.platform.state.signed.SigSet;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -127,4 +129,38 @@ class SigSetTests {
             assertEquals(sigSet.getSignature(node), deserializedSigSet.getSignature(node));
         }
     }
+
+    @Test
+    @DisplayName("Remove And Order Test")
+    void removeAndOrderTest() {
+        final Random random = getRandomPrintSeed();
+
+        final Map<NodeId, Signature> signatures = generateSignatureMap(random);
+
+        final SigSet sigSet = new SigSet();
+        signatures.forEach(sigSet::addSignature);
+
+        final Set<NodeId> remainingNodes = new HashSet<>(signatures.keySet());
+        for (final NodeId node : signatures.keySet()) {
+            if (random.nextBoolean()) {
+                sigSet.removeSignature(node);
+                remainingNodes.remove(node);
+                assertFalse(sigSet.hasSignature(node));
+                assertNull(sigSet.getSignature(node));
+            }
+        }
+        // Removing a node that is not present should have no effect
+        sigSet.removeSignature(NodeId.of(10_000));
+
+        assertEquals(remainingNodes.size(), sigSet.size());
+        assertEquals(remainingNodes, getSigningNodes(sigSet));
+        for (final NodeId node : remainingNodes) {
+            assertSame(signatures.get(node), sigSet.getSignature(node));
+        }
+
+        // Nodes are iterated in ascending order
+        final List<NodeId> sortedNodes = new ArrayList<>(remainingNodes);
+        sortedNodes.sort(null);
+        assertEquals(sortedNodes, sigSet.getSigningNodes());
+    }
 }
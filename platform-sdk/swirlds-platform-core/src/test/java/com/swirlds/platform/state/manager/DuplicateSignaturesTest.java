@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state.manager;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.randomHash;
+import static com.swirlds.platform.test.fixtures.state.manager.SignatureVerificationTestUtils.buildFakeSignatureBytes;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.hapi.node.state.roster.RosterEntry;
+import com.hedera.hapi.platform.event.StateSignatureTransaction;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.merkledb.MerkleDb;
+import com.swirlds.platform.components.state.output.StateHasEnoughSignaturesConsumer;
+import com.swirlds.platform.components.state.output.StateLacksSignaturesConsumer;
+import com.swirlds.platform.components.transaction.system.ScopedSystemTransaction;
+import com.swirlds.platform.roster.RosterUtils;
+import com.swirlds.platform.state.StateSignatureCollectorTester;
+import com.swirlds.platform.state.signed.DefaultStateSignatureCollector;
+import com.swirlds.platform.state.signed.ReservedSignedState;
+import com.swirlds.platform.state.signed.SignedState;
+import com.swirlds.platform.test.fixtures.addressbook.RandomRosterBuilder;
+import com.swirlds.platform.test.fixtures.addressbook.RandomRosterBuilder.WeightDistributionStrategy;
+import com.swirlds.platform.test.fixtures.state.RandomSignedStateGenerator;
+import java.util.HashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that {@link DefaultStateSignatureCollector} verifies every signature a node sent for a round, not just the
+ * first one.
+ */
+class DuplicateSignaturesTest extends AbstractStateSignatureCollectorTest {
+
+    private final Roster roster = RandomRosterBuilder.create(random)
+            .withSize(4)
+            .withWeightDistributionStrategy(WeightDistributionStrategy.BALANCED)
+            .build();
+
+    private StateLacksSignaturesConsumer stateLacksSignaturesConsumer() {
+        return ss -> stateLacksSignaturesCount.getAndIncrement();
+    }
+
+    private StateHasEnoughSignaturesConsumer stateHasEnoughSignaturesConsumer() {
+        return ss -> {
+            highestCompleteRound.accumulateAndGet(ss.getRound(), Math::max);
+            stateHasEnoughSignaturesCount.getAndIncrement();
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        MerkleDb.resetDefaultInstancePath();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RandomSignedStateGenerator.releaseAllBuiltSignedStates();
+    }
+
+    private static ScopedSystemTransaction<StateSignatureTransaction> signatureTransaction(
+            final RosterEntry rosterEntry, final long round, final Hash signedHash, final Hash stateHash) {
+        final StateSignatureTransaction transaction = StateSignatureTransaction.newBuilder()
+                .round(round)
+                .signature(buildFakeSignatureBytes(
+                        RosterUtils.fetchGossipCaCertificate(rosterEntry).getPublicKey(), signedHash))
+                .hash(stateHash.getBytes())
+                .build();
+        return new ScopedSystemTransaction<>(NodeId.of(rosterEntry.nodeId()), null, transaction);
+    }
+
+    @Test
+    @DisplayName("Valid signatures after invalid ones from the same node are not dropped")
+    void validSignatureAfterInvalidOne() {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(buildStateConfig())
+                .build();
+
+        final StateSignatureCollectorTester manager = new StateSignatureCollectorBuilder(platformContext)
+                .stateLacksSignaturesConsumer(stateLacksSignaturesConsumer())
+                .stateHasEnoughSignaturesConsumer(stateHasEnoughSignaturesConsumer())
+                .build();
+
+        final long round = 0;
+        final SignedState signedState = new RandomSignedStateGenerator(random)
+                .setRoster(roster)
+                .setRound(round)
+                .setSignatures(new HashMap<>())
+                .build();
+        signedStates.put(round, signedState);
+        highestRound.set(round);
+        manager.addReservedState(signedState.reserve("test"));
+
+        // Every node first sends a signature of a wrong hash, and then a valid one, in the same batch
+        final Hash stateHash = signedState.getState().getHash();
+        final Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions = new ConcurrentLinkedQueue<>();
+        for (final RosterEntry rosterEntry : roster.rosterEntries()) {
+            transactions.add(signatureTransaction(rosterEntry, round, randomHash(random), stateHash));
+            transactions.add(signatureTransaction(rosterEntry, round, stateHash, stateHash));
+        }
+        manager.handlePostconsensusSignatures(transactions);
+
+        assertTrue(signedState.isComplete(), "state should be complete");
+        try (final ReservedSignedState lastCompletedState = manager.getLatestSignedState("test")) {
+            assertNotNull(lastCompletedState, "latest complete state should not be null");
+            assertSame(signedState, lastCompletedState.get(), "unexpected last completed state");
+        }
+        validateCallbackCounts(0, 1);
+    }
+}
@@ -22,6 +22,7 @@ import static com.swirlds.common.utility.CompareTo.isGreaterThanOrEqualTo;
 import static com.swirlds.platform.system.transaction.TransactionWrapperUtils.createAppPayloadWrapper;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.context.PlatformContext;
@@ -34,6 +35,7 @@ import com.swirlds.platform.event.preconsensus.PcesFile;
 import com.swirlds.platform.event.preconsensus.PcesFileReader;
 import com.swirlds.platform.event.preconsensus.PcesFileTracker;
 import com.swirlds.platform.event.preconsensus.PcesMultiFileIterator;
+import com.swirlds.platform.event.preconsensus.PcesPrefetchingIterator;
 import com.swirlds.platform.event.preconsensus.PcesUtilities;
 import com.swirlds.platform.event.preconsensus.PcesWriter;
 import com.swirlds.platform.system.transaction.TransactionWrapper;
@@ -46,6 +48,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class PcesWriterTestUtils {
     private PcesWriterTestUtils() {}
@@ -128,6 +132,20 @@ public class PcesWriterTestUtils {
         assertFalse(eventsIterator.hasNext(), "There should be no more events");
         assertEquals(truncatedFileCount, eventsIterator.getTruncatedFileCount());
 
+        // The prefetching iterator must return the same events, already hashed
+        try (final ExecutorService executor = Executors.newFixedThreadPool(2);
+                final PcesPrefetchingIterator prefetchingIterator =
+                        pcesFiles.getPrefetchingEventIterator(0, 0, executor, 2)) {
+            for (final PlatformEvent event : events) {
+                assertTrue(prefetchingIterator.hasNext());
+                final PlatformEvent prefetchedEvent = prefetchingIterator.next();
+                assertEquals(event, prefetchedEvent);
+                assertNotNull(prefetchedEvent.getHash());
+            }
+            assertFalse(prefetchingIterator.hasNext(), "There should be no more events");
+            assertEquals(truncatedFileCount, prefetchingIterator.getTruncatedFileCount());
+        }
+
         // Make sure things look good when iterating starting in the middle of the stream that was written
         final long startingLowerBound = lastAncientIdentifier / 2;
         final IOIterator<PlatformEvent> eventsIterator2 = pcesFiles.getEventIterator(startingLowerBound, 0);
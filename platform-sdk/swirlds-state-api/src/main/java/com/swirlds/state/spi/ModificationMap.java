@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.state.spi;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * The buffer of modifications of a {@link WritableKVStateBase}. A map from keys to values, where a {@code null} value
+ * means the key is removed, iterated in insertion order like a {@link java.util.LinkedHashMap}, which was used before.
+ * Entries are stored in insertion order in parallel arrays, and are found by hash through an open-addressing index
+ * table with linear probing. Modifications are never removed one by one, only cleared all at once, so the index
+ * table needs no tombstones.
+ *
+ * <p>Wrapped states are created for every savepoint of every transaction, so most maps only live for a fraction of a
+ * transaction. To avoid allocating them again and again, maps are taken from and returned to a small pool confined
+ * to the current thread, see {@link #acquire()} and {@link #release(ModificationMap)}. This class is not thread-safe.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+final class ModificationMap<K, V> {
+    /** The initial number of entries, must be a power of two */
+    private static final int INITIAL_CAPACITY = 8;
+    /** Maps that have grown larger than this are not pooled, so a single large transaction doesn't pin memory */
+    private static final int MAX_POOLED_CAPACITY = 1024;
+    /** The maximum number of maps in the pool of a thread, enough for deep chains of child dispatches */
+    private static final int MAX_POOL_SIZE = 256;
+
+    private static final ThreadLocal<ArrayDeque<ModificationMap<?, ?>>> POOL =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    /** Index table, twice as long as the entry arrays. Each slot is an entry index plus one, or zero if empty */
+    private int[] table;
+
+    private int size;
+
+    private ModificationMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Takes an empty map from the pool of the current thread, or creates a new one if the pool is empty.
+     *
+     * @return an empty map
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    static <K, V> ModificationMap<K, V> acquire() {
+        final var map = POOL.get().pollLast();
+        return map != null ? (ModificationMap<K, V>) map : new ModificationMap<>();
+    }
+
+    /**
+     * Clears the given map and returns it to the pool of the current thread. The map must not be used by the caller
+     * afterward.
+     *
+     * @param map the map to release
+     */
+    static void release(@NonNull final ModificationMap<?, ?> map) {
+        map.clear();
+        final var pool = POOL.get();
+        if (map.keys.length <= MAX_POOLED_CAPACITY && pool.size() < MAX_POOL_SIZE) {
+            pool.addLast(map);
+        }
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the entry with the given key, or {@code -1} if there is no such entry. Indexes are
+     * assigned in insertion order, starting from zero.
+     *
+     * @param key the key
+     * @return the index of the entry, or {@code -1}
+     */
+    int indexOf(@NonNull final Object key) {
+        final int hash = hash(key);
+        final int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            final int entry = table[slot] - 1;
+            if (entry < 0) {
+                return -1;
+            }
+            if (hashes[entry] == hash && key.equals(keys[entry])) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the entry at the given index.
+     *
+     * @param index the index, less than {@link #size()}
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    K keyAt(final int index) {
+        return (K) keys[index];
+    }
+
+    /**
+     * Returns the value of the entry at the given index.
+     *
+     * @param index the index, less than {@link #size()}
+     * @return the value, or {@code null} if the key is removed
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    V valueAt(final int index) {
+        return (V) values[index];
+    }
+
+    /**
+     * Sets the value of the given key. If there is no entry with this key yet, it is added after all existing entries.
+     *
+     * @param key the key
+     * @param value the value, or {@code null} to mark the key as removed
+     */
+    void put(@NonNull final K key, @Nullable final V value) {
+        final int hash = hash(key);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        for (int entry = table[slot] - 1; entry >= 0; entry = table[slot] - 1) {
+            if (hashes[entry] == hash && key.equals(keys[entry])) {
+                values[entry] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == keys.length) {
+            grow();
+            mask = table.length - 1;
+            slot = hash & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        keys[size] = key;
+        values[size] = value;
+        hashes[size] = hash;
+        table[slot] = ++size;
+    }
+
+    /**
+     * Removes all entries from this map, keeping its capacity.
+     */
+    void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(table, 0);
+        size = 0;
+    }
+
+    private void grow() {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        final var oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+        System.arraycopy(oldKeys, 0, keys, 0, size);
+        System.arraycopy(oldValues, 0, values, 0, size);
+        System.arraycopy(oldHashes, 0, hashes, 0, size);
+        final int mask = table.length - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = hashes[entry] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = entry + 1;
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        table = new int[capacity * 2];
+    }
+
+    private static int hash(@NonNull final Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
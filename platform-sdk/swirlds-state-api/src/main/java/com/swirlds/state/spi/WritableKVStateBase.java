@@ -29,8 +29,15 @@ import java.util.*;
  * @param <V> The value type
  */
 public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V> implements WritableKVState<K, V> {
-    /** A map of all modified values buffered in this mutable state */
-    private final Map<K, V> modifications = new LinkedHashMap<>();
+    /**
+     * A map of all modified values buffered in this mutable state, or {@code null} if nothing was modified yet. Taken
+     * from a pool on first modification, see {@link #releaseModifications()}.
+     */
+    @Nullable
+    private ModificationMap<K, V> modifications;
+    /** A live view of the keys of {@link #modifications}, created on first use */
+    @Nullable
+    private Set<K> modifiedKeys;
     /**
      * A list of listeners to be notified of changes to the state.
      */
@@ -62,9 +69,11 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
      * cast and commit unless you own the instance!
      */
     public void commit() {
-        for (final var entry : modifications.entrySet()) {
-            final var key = entry.getKey();
-            final var value = entry.getValue();
+        final var mods = modifications;
+        final int size = mods == null ? 0 : mods.size();
+        for (int i = 0; i < size; i++) {
+            final var key = mods.keyAt(i);
+            final var value = mods.valueAt(i);
             if (value == null) {
                 removeFromDataSource(key);
                 listeners.forEach(listener -> listener.mapDeleteChange(key));
@@ -85,7 +94,22 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
     @Override
     public final void reset() {
         super.reset();
-        modifications.clear();
+        if (modifications != null) {
+            modifications.clear();
+        }
+    }
+
+    /**
+     * Clears all modifications, and returns the buffer that held them to a pool confined to the current thread, to be
+     * reused by other states. This method should <strong>ONLY</strong> be called by the code that owns this instance,
+     * once its changes have been committed or discarded. The state remains usable, as if it was never modified.
+     */
+    public final void releaseModifications() {
+        if (modifications != null) {
+            final var mods = modifications;
+            modifications = null;
+            ModificationMap.release(mods);
+        }
     }
 
     /** {@inheritDoc} */
@@ -94,11 +118,13 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
     public final V get(@NonNull K key) {
         // If there is a modification, then we've already done a "put" or "remove"
         // and should return based on the modification
-        if (modifications.containsKey(key)) {
-            return modifications.get(key);
-        } else {
-            return super.get(key);
+        if (modifications != null) {
+            final int index = modifications.indexOf(key);
+            if (index >= 0) {
+                return modifications.valueAt(index);
+            }
         }
+        return super.get(key);
     }
 
     /** {@inheritDoc} */
@@ -113,14 +139,14 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
     public final void put(@NonNull final K key, @NonNull final V value) {
         Objects.requireNonNull(key);
         Objects.requireNonNull(value);
-        modifications.put(key, value);
+        modifications().put(key, value);
     }
 
     /** {@inheritDoc} */
     @Override
     public final void remove(@NonNull final K key) {
         Objects.requireNonNull(key);
-        modifications.put(key, null);
+        modifications().put(key, null);
     }
 
     /**
@@ -138,9 +164,10 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         // Capture the set of keys that have been removed, and the set of keys that have been added.
         final var removedKeys = new HashSet<K>();
         final var maybeAddedKeys = new HashSet<K>();
-        for (final var mod : modifications.entrySet()) {
-            final var key = mod.getKey();
-            final var val = mod.getValue();
+        final int size = modifications == null ? 0 : modifications.size();
+        for (int i = 0; i < size; i++) {
+            final var key = modifications.keyAt(i);
+            final var val = modifications.valueAt(i);
             if (val == null) {
                 removedKeys.add(key);
             } else {
@@ -161,7 +188,10 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
     @NonNull
     @Override
     public final Set<K> modifiedKeys() {
-        return modifications.keySet();
+        if (modifiedKeys == null) {
+            modifiedKeys = new ModifiedKeys();
+        }
+        return modifiedKeys;
     }
 
     /**
@@ -184,9 +214,10 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         int numAdditions = 0;
         int numRemovals = 0;
 
-        for (final var mod : modifications.entrySet()) {
-            boolean isPresentInBackingMap = readFromDataSource(mod.getKey()) != null;
-            boolean isRemovedInMod = mod.getValue() == null;
+        final int size = modifications == null ? 0 : modifications.size();
+        for (int i = 0; i < size; i++) {
+            boolean isPresentInBackingMap = readFromDataSource(modifications.keyAt(i)) != null;
+            boolean isRemovedInMod = modifications.valueAt(i) == null;
 
             if (isPresentInBackingMap && isRemovedInMod) {
                 numRemovals++;
@@ -197,6 +228,14 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         return sizeOfBackingMap + numAdditions - numRemovals;
     }
 
+    @NonNull
+    private ModificationMap<K, V> modifications() {
+        if (modifications == null) {
+            modifications = ModificationMap.acquire();
+        }
+        return modifications;
+    }
+
     /**
      * Puts the given key/value pair into the underlying data source.
      *
@@ -218,6 +257,43 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
      */
     protected abstract long sizeOfDataSource();
 
+    /**
+     * A read-only view of the keys of the current {@link #modifications}, in insertion order. Keys added while
+     * iterating are included in the iteration.
+     */
+    private final class ModifiedKeys extends AbstractSet<K> {
+        @Override
+        public int size() {
+            return modifications == null ? 0 : modifications.size();
+        }
+
+        @Override
+        public boolean contains(@Nullable final Object o) {
+            return o != null && modifications != null && modifications.indexOf(o) >= 0;
+        }
+
+        @NonNull
+        @Override
+        public Iterator<K> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size();
+                }
+
+                @Override
+                public K next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return modifications.keyAt(next++);
+                }
+            };
+        }
+    }
+
     /**
      * A special iterator which includes all keys in the backend iterator, and all keys that have
      * been added but are not part of the backend iterator, and excludes all keys that have been
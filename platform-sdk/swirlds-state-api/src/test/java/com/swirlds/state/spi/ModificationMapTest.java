@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.state.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This test verifies the behavior of {@link ModificationMap}.
+ */
+class ModificationMapTest {
+
+    /** A key with a constant hash code, to force collisions */
+    private record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    @DisplayName("Entries are kept in insertion order, like a LinkedHashMap")
+    void matchesLinkedHashMap() {
+        final ModificationMap<Integer, String> map = ModificationMap.acquire();
+        final Map<Integer, String> expected = new LinkedHashMap<>();
+        final var random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            final int key = random.nextInt(2_000);
+            final String value = random.nextInt(4) == 0 ? null : "v" + i;
+            map.put(key, value);
+            expected.put(key, value);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        final List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < map.size(); i++) {
+            keys.add(map.keyAt(i));
+            assertThat(map.valueAt(i)).isEqualTo(expected.get(map.keyAt(i)));
+            assertThat(map.indexOf(map.keyAt(i))).isEqualTo(i);
+        }
+        assertThat(keys).containsExactlyElementsOf(expected.keySet());
+        assertThat(map.indexOf(5_000)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Keys with colliding hash codes are told apart by equals")
+    void collidingKeys() {
+        final ModificationMap<CollidingKey, String> map = ModificationMap.acquire();
+        for (int i = 0; i < 100; i++) {
+            map.put(new CollidingKey(i), "v" + i);
+        }
+        map.put(new CollidingKey(50), null);
+
+        assertThat(map.size()).isEqualTo(100);
+        assertThat(map.valueAt(map.indexOf(new CollidingKey(49)))).isEqualTo("v49");
+        assertThat(map.valueAt(map.indexOf(new CollidingKey(50)))).isNull();
+        assertThat(map.indexOf(new CollidingKey(100))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Released maps are cleared and reused")
+    void releasedMapsAreReused() {
+        final ModificationMap<String, String> map = ModificationMap.acquire();
+        map.put("a", "apple");
+        ModificationMap.release(map);
+
+        final ModificationMap<String, String> reused = ModificationMap.acquire();
+        assertThat(reused).isSameAs(map);
+        assertThat(reused.size()).isZero();
+        assertThat(reused.indexOf("a")).isEqualTo(-1);
+    }
+}
@@ -61,4 +61,22 @@ class WrappedWritableKVStateTest extends StateTestBase {
         assertThat(delegate.get(B_KEY)).isEqualTo(BLACKBERRY); // Has the new value
         assertThat(delegate.get(E_KEY)).isEqualTo(ELDERBERRY); // Has the new value
     }
+
+    @Test
+    @DisplayName("Releasing modifications discards them, and the state remains usable")
+    void releaseDiscardsModifications() {
+        state.put(B_KEY, BLACKBERRY);
+        state.put(E_KEY, ELDERBERRY);
+
+        state.releaseModifications();
+        assertThat(state.modifiedKeys()).isEmpty();
+        assertThat(state.get(E_KEY)).isNull();
+
+        // The released buffer may be reused by another state, without affecting this one
+        final var other = new WrappedWritableKVState<>(delegate);
+        other.put(A_KEY, ACAI);
+        state.put(C_KEY, CHERRY);
+        assertThat(state.modifiedKeys()).containsExactly(C_KEY);
+        assertThat(other.modifiedKeys()).containsExactly(A_KEY);
+    }
 }
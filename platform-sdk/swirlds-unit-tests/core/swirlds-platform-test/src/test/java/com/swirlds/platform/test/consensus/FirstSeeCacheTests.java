@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.consensus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.consensus.ConsensusConfig_;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.metrics.NoOpConsensusMetrics;
+import com.swirlds.platform.roster.RosterRetriever;
+import com.swirlds.platform.test.event.emitter.StandardEventEmitter;
+import com.swirlds.platform.test.event.source.EventSourceFactory;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.EventSource;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Checks that caching firstSee in events, see {@link com.swirlds.platform.consensus.ConsensusConfig#cacheFirstSee()},
+ * does not change the outcome of consensus.
+ */
+class FirstSeeCacheTests {
+
+    private static final int NUM_EVENTS = 3_000;
+
+    @ParameterizedTest
+    @CsvSource({"4, false", "10, false", "25, false", "4, true", "10, true"})
+    void cacheDoesNotChangeConsensus(final int numNodes, final boolean forking) {
+        final long seed = numNodes * 31L + (forking ? 1 : 0);
+        final List<List<Hash>> withCache = runConsensus(numNodes, forking, seed, true);
+        final List<List<Hash>> withoutCache = runConsensus(numNodes, forking, seed, false);
+
+        assertTrue(withCache.size() > 5, "Consensus should decide rounds");
+        assertEquals(withoutCache, withCache, "Consensus rounds must not depend on caching");
+    }
+
+    /**
+     * Run consensus on a generated graph.
+     *
+     * @return for every round decided, the hashes of its events in consensus order
+     */
+    private static List<List<Hash>> runConsensus(
+            final int numNodes, final boolean forking, final long seed, final boolean cacheFirstSee) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(ConsensusConfig_.CACHE_FIRST_SEE, cacheFirstSee)
+                        .getOrCreateConfig())
+                .build();
+
+        final List<EventSource<?>> eventSources = new ArrayList<>();
+        for (final long weight : WeightGenerators.balancedNodeWeights(numNodes)) {
+            eventSources.add(
+                    forking && eventSources.isEmpty()
+                            ? EventSourceFactory.newForkingEventSource(0.1)
+                            : EventSourceFactory.newStandardEventSource(weight));
+        }
+        final StandardGraphGenerator generator = new StandardGraphGenerator(platformContext, seed, eventSources);
+        final StandardEventEmitter emitter = new StandardEventEmitter(generator);
+        final ConsensusImpl consensus = new ConsensusImpl(
+                platformContext,
+                new NoOpConsensusMetrics(),
+                RosterRetriever.buildRoster(generator.getAddressBook()));
+
+        final List<List<Hash>> rounds = new ArrayList<>();
+        for (int i = 0; i < NUM_EVENTS; i++) {
+            for (final ConsensusRound round : consensus.addEvent(emitter.emitEvent())) {
+                rounds.add(round.getConsensusEvents().stream()
+                        .map(PlatformEvent::getHash)
+                        .toList());
+            }
+        }
+        return rounds;
+    }
+}
@@ -35,6 +35,7 @@ import com.swirlds.platform.event.AncientMode;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.event.preconsensus.PcesFile;
 import com.swirlds.platform.event.preconsensus.PcesFileIterator;
+import com.swirlds.platform.event.preconsensus.PcesFileVersion;
 import com.swirlds.platform.event.preconsensus.PcesMutableFile;
 import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
 import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
@@ -144,6 +145,138 @@ class PcesReadWriteTests {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("ancientAndBoolanArguments")
+    @DisplayName("Columnar Write Then Read Test")
+    void columnarWriteThenReadTest(@NonNull final AncientMode ancientMode, final boolean useFileChannelWriter)
+            throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        // enough events for several blocks
+        final int numEvents = 1000;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                ancientMode == GENERATION_THRESHOLD ? DEFAULT_PLATFORM_CONTEXT : BIRTH_ROUND_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEvent().getBaseEvent());
+        }
+
+        long upperBound = Long.MIN_VALUE;
+        for (final PlatformEvent event : events) {
+            upperBound = Math.max(upperBound, event.getAncientIndicator(ancientMode));
+        }
+
+        final PcesFile protobufFile =
+                PcesFile.of(ancientMode, RandomUtils.randomInstant(random), 0, 0, upperBound, 0, testDirectory);
+        final PcesFile columnarFile =
+                PcesFile.of(ancientMode, RandomUtils.randomInstant(random), 1, 0, upperBound, 0, testDirectory);
+
+        final PcesMutableFile protobufMutableFile = protobufFile.getMutableFile(useFileChannelWriter, false);
+        final PcesMutableFile columnarMutableFile =
+                columnarFile.getMutableFile(useFileChannelWriter, false, PcesFileVersion.COLUMNAR_EVENTS);
+        for (final PlatformEvent event : events) {
+            protobufMutableFile.writeEvent(event);
+            columnarMutableFile.writeEvent(event);
+            if (random.nextInt(100) == 0) {
+                // flushing writes a partial block
+                columnarMutableFile.flush();
+            }
+        }
+
+        protobufMutableFile.close();
+        columnarMutableFile.close();
+
+        assertTrue(
+                Files.size(columnarFile.getPath()) < Files.size(protobufFile.getPath()),
+                "columnar file should be smaller than protobuf file");
+
+        final IOIterator<PlatformEvent> iterator = columnarFile.iterator(Long.MIN_VALUE);
+        final List<PlatformEvent> deserializedEvents = new ArrayList<>();
+        iterator.forEachRemaining(deserializedEvents::add);
+        assertEquals(events.size(), deserializedEvents.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.get(i), deserializedEvents.get(i));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("ancientAndBoolanArguments")
+    @DisplayName("Columnar Truncated Block Test")
+    void columnarTruncatedBlockTest(@NonNull final AncientMode ancientMode, final boolean truncateOnBoundary)
+            throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numEvents = 100;
+        final int eventsPerBlock = 10;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                ancientMode == GENERATION_THRESHOLD ? DEFAULT_PLATFORM_CONTEXT : BIRTH_ROUND_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEvent().getBaseEvent());
+        }
+
+        long upperBound = Long.MIN_VALUE;
+        for (final PlatformEvent event : events) {
+            upperBound = Math.max(upperBound, event.getAncientIndicator(ancientMode));
+        }
+
+        final PcesFile file = PcesFile.of(
+                ancientMode,
+                RandomUtils.randomInstant(random),
+                random.nextInt(0, 100),
+                0,
+                upperBound,
+                0,
+                testDirectory);
+
+        final List<Integer /* last byte position */> blockBoundaries = new ArrayList<>();
+
+        final PcesMutableFile mutableFile = file.getMutableFile(false, false, PcesFileVersion.COLUMNAR_EVENTS);
+        for (int i = 0; i < events.size(); i++) {
+            mutableFile.writeEvent(events.get(i));
+            if ((i + 1) % eventsPerBlock == 0) {
+                mutableFile.flush();
+                blockBoundaries.add((int) mutableFile.fileSize());
+            }
+        }
+
+        mutableFile.close();
+
+        final int lastBlockIndex =
+                random.nextInt(0, blockBoundaries.size() - 1 /* make sure we always truncate at least one block */);
+
+        final int truncationPosition = blockBoundaries.get(lastBlockIndex) + (truncateOnBoundary ? 0 : 1);
+
+        truncateFile(file.getPath(), truncationPosition);
+
+        final PcesFileIterator iterator = file.iterator(Long.MIN_VALUE);
+        final List<PlatformEvent> deserializedEvents = new ArrayList<>();
+
+        iterator.forEachRemaining(deserializedEvents::add);
+
+        assertEquals(truncateOnBoundary, !iterator.hasPartialEvent());
+
+        assertEquals((lastBlockIndex + 1) * eventsPerBlock, deserializedEvents.size());
+
+        for (int i = 0; i < deserializedEvents.size(); i++) {
+            assertEquals(events.get(i), deserializedEvents.get(i));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("ancientModeArguments")
     @DisplayName("Read Files After Minimum Test")
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.swirlds.platform.test.network.communication.handshake;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.gossip.sync.GossipCodec;
+import com.swirlds.platform.gossip.sync.SyncInputStream;
+import com.swirlds.platform.gossip.sync.SyncOutputStream;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.communication.handshake.CodecNegotiationHandshake;
+import com.swirlds.platform.test.network.FakeConnection;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CodecNegotiationHandshake}
+ */
+class CodecNegotiationHandshakeTests {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final PlatformContext platformContext = TestPlatformContextBuilder.create()
+            .withConfiguration(new TestConfigBuilder()
+                    .withValue("socket.adaptiveCompression", true)
+                    .getOrCreateConfig())
+            .build();
+
+    private Connection myConnection;
+    private Connection theirConnection;
+
+    private Connection createConnection(final InputStream in, final OutputStream out) {
+        final SyncInputStream dis = SyncInputStream.createSyncInputStream(platformContext, in, BUFFER_SIZE);
+        final SyncOutputStream dos = SyncOutputStream.createSyncOutputStream(platformContext, out, BUFFER_SIZE);
+        return new FakeConnection() {
+            @Override
+            public SyncInputStream getDis() {
+                return dis;
+            }
+
+            @Override
+            public SyncOutputStream getDos() {
+                return dos;
+            }
+        };
+    }
+
+    @BeforeEach
+    void setup() throws IOException {
+        final PipedInputStream myInput = new PipedInputStream(BUFFER_SIZE * 2);
+        final PipedOutputStream theirOutput = new PipedOutputStream(myInput);
+        final PipedInputStream theirInput = new PipedInputStream(BUFFER_SIZE * 2);
+        final PipedOutputStream myOutput = new PipedOutputStream(theirInput);
+        myConnection = createConnection(myInput, myOutput);
+        theirConnection = createConnection(theirInput, theirOutput);
+    }
+
+    /**
+     * Sends their codec mask, runs the handshake on our side, then sends compressible data to them
+     *
+     * @return the number of bytes saved by compression
+     */
+    private long negotiateAndSend(final int theirCodecs) throws Exception {
+        theirConnection.getDos().writeInt(theirCodecs);
+        theirConnection.getDos().flush();
+        new CodecNegotiationHandshake().runProtocol(myConnection);
+        assertEquals(GossipCodec.SUPPORTED_MASK, theirConnection.getDis().readInt(), "Our mask should be sent");
+
+        final byte[] data = new byte[BUFFER_SIZE / 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 8);
+        }
+        myConnection.getDos().write(data);
+        myConnection.getDos().flush();
+        final byte[] received = new byte[data.length];
+        theirConnection.getDis().readFully(received);
+        assertArrayEquals(data, received, "Data should be received unchanged");
+        return myConnection.getDos().getAndResetCompressionBytesSaved();
+    }
+
+    @Test
+    @DisplayName("Both nodes support compression")
+    void compressionSupported() throws Exception {
+        assertTrue(negotiateAndSend(GossipCodec.SUPPORTED_MASK) > 0, "Data should be compressed");
+    }
+
+    @Test
+    @DisplayName("They do not support compression")
+    void compressionNotSupported() throws Exception {
+        assertEquals(0, negotiateAndSend(GossipCodec.NONE.getMask()), "Data should not be compressed");
+    }
+
+    @Test
+    @DisplayName("They only support unknown codecs")
+    void unknownCodecs() throws Exception {
+        assertEquals(0, negotiateAndSend(1 << 30), "Data should not be compressed");
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.swirlds.platform.test.sync;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.gossip.sync.GossipCodec;
+import com.swirlds.platform.gossip.sync.GossipCodecSelector;
+import com.swirlds.platform.gossip.sync.SyncInputStream;
+import com.swirlds.platform.gossip.sync.SyncOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for adaptive gossip compression streams and {@link GossipCodecSelector}
+ */
+class GossipCodecTests {
+    private static final int BUFFER_SIZE = 1024;
+
+    private final PlatformContext platformContext = TestPlatformContextBuilder.create()
+            .withConfiguration(new TestConfigBuilder()
+                    .withValue("socket.adaptiveCompression", true)
+                    .getOrCreateConfig())
+            .build();
+
+    private static byte[] compressibleData(final Random random, final int size) {
+        final byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) random.nextInt(4);
+        }
+        return data;
+    }
+
+    private static byte[] randomData(final Random random, final int size) {
+        final byte[] data = new byte[size];
+        random.nextBytes(data);
+        return data;
+    }
+
+    @Test
+    @DisplayName("Data written with negotiated codecs is read back unchanged")
+    void roundTrip() throws IOException {
+        final Random random = new Random(0);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(platformContext, bytes, BUFFER_SIZE);
+        out.setNegotiatedCodecs(GossipCodec.SUPPORTED_MASK);
+
+        final List<byte[]> written = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int size = random.nextInt(3 * BUFFER_SIZE);
+            final byte[] data = random.nextBoolean() ? compressibleData(random, size) : randomData(random, size);
+            written.add(data);
+            out.writeInt(size);
+            out.write(data);
+            if (random.nextInt(4) == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+        assertTrue(out.getAndResetCompressionBytesSaved() > 0, "Compressible data should be compressed");
+        assertEquals(0, out.getAndResetCompressionBytesSaved(), "Counter should be reset");
+
+        final SyncInputStream in = SyncInputStream.createSyncInputStream(
+                platformContext, new ByteArrayInputStream(bytes.toByteArray()), BUFFER_SIZE);
+        for (final byte[] expected : written) {
+            final int size = in.readInt();
+            assertEquals(expected.length, size, "Lengths should match");
+            final byte[] actual = new byte[size];
+            in.readFully(actual);
+            assertArrayEquals(expected, actual, "Data should match");
+        }
+        assertEquals(-1, in.read(), "Stream should be fully read");
+    }
+
+    @Test
+    @DisplayName("Nothing is compressed before codecs are negotiated")
+    void noCompressionBeforeNegotiation() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(platformContext, bytes, BUFFER_SIZE);
+        out.write(new byte[4 * BUFFER_SIZE]);
+        out.flush();
+        assertEquals(0, out.getAndResetCompressionBytesSaved(), "Nothing should be compressed");
+        assertTrue(bytes.size() > 4 * BUFFER_SIZE, "Frames should be sent as they are");
+    }
+
+    @Test
+    @DisplayName("Malformed frames are rejected")
+    void malformedFrames() throws IOException {
+        // unknown codec
+        final SyncInputStream unknownCodec = SyncInputStream.createSyncInputStream(
+                platformContext, new ByteArrayInputStream(new byte[] {7, 0, 0, 0, 1, 0, 0, 0, 1, 0}), BUFFER_SIZE);
+        assertThrows(IOException.class, unknownCodec::read);
+
+        // uncompressed frame with mismatched lengths
+        final SyncInputStream badLength = SyncInputStream.createSyncInputStream(
+                platformContext, new ByteArrayInputStream(new byte[] {0, 0, 0, 0, 2, 0, 0, 0, 1, 0}), BUFFER_SIZE);
+        assertThrows(IOException.class, badLength::read);
+
+        // truncated compressed frame
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(platformContext, bytes, BUFFER_SIZE);
+        out.setNegotiatedCodecs(GossipCodec.SUPPORTED_MASK);
+        out.write(new byte[BUFFER_SIZE]);
+        out.flush();
+        final byte[] frame = bytes.toByteArray();
+        assertTrue(frame[0] != GossipCodec.NONE.getId(), "Frame should be compressed");
+        final byte[] truncated = new byte[frame.length - 1];
+        System.arraycopy(frame, 0, truncated, 0, truncated.length);
+        final SyncInputStream truncatedFrame = SyncInputStream.createSyncInputStream(
+                platformContext, new ByteArrayInputStream(truncated), BUFFER_SIZE);
+        assertThrows(IOException.class, truncatedFrame::read);
+    }
+
+    @Test
+    @DisplayName("The selector picks codecs based on write and compression cost")
+    void selector() {
+        final GossipCodecSelector selector = new GossipCodecSelector();
+        assertEquals(GossipCodec.NONE, selector.select(BUFFER_SIZE), "Nothing is negotiated yet");
+
+        selector.setNegotiatedCodecs(GossipCodec.SUPPORTED_MASK);
+        assertEquals(GossipCodec.NONE, selector.select(10), "Small frames should not be compressed");
+        selector.recordCompression(GossipCodec.DEFLATE_FAST, 1000, 500, 1000);
+        selector.recordCompression(GossipCodec.DEFLATE, 1000, 400, 5000);
+
+        // a slow link, compressing harder pays off
+        for (int i = 0; i < 100; i++) {
+            selector.recordWrite(1000, 100_000);
+        }
+        assertEquals(GossipCodec.DEFLATE, selector.select(BUFFER_SIZE), "Slow links should use the best ratio");
+
+        // a fast link, compression only costs time
+        for (int i = 0; i < 200; i++) {
+            selector.recordWrite(1000, 100);
+        }
+        final List<GossipCodec> selected = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            selected.add(selector.select(BUFFER_SIZE));
+        }
+        final long uncompressed =
+                selected.stream().filter(codec -> codec == GossipCodec.NONE).count();
+        assertTrue(uncompressed >= 60, "Fast links should mostly send frames as they are");
+        assertNotEquals(selected.size(), uncompressed, "Other codecs should be explored");
+
+        // only the codecs supported by the peer are used
+        selector.setNegotiatedCodecs(GossipCodec.maskOf(GossipCodec.DEFLATE_FAST));
+        for (int i = 0; i < 200; i++) {
+            selector.recordWrite(1000, 100_000);
+        }
+        for (int i = 0; i < 64; i++) {
+            assertNotEquals(GossipCodec.DEFLATE, selector.select(BUFFER_SIZE), "Codec was not negotiated");
+        }
+    }
+}
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -35,6 +36,7 @@ import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.AncestorSearch;
 import com.swirlds.platform.gossip.shadowgraph.ReservedEventWindow;
 import com.swirlds.platform.gossip.shadowgraph.ShadowEvent;
 import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
@@ -48,6 +50,7 @@ import com.swirlds.platform.test.fixtures.addressbook.RandomRosterBuilder;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -55,6 +58,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -181,6 +186,44 @@ class ShadowgraphTest {
         }
     }
 
+    /**
+     * Tests that {@link Shadowgraph#findUnknownAncestors(Collection, Collection, long, AncestorSearch)} finds the same
+     * events as the equivalent searches with {@link Shadowgraph#findAncestors(Iterable, Predicate)}, also when the
+     * search state is reused and some events are expired.
+     */
+    @RepeatedTest(10)
+    void testFindUnknownAncestorsMatchesFindAncestors() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        initShadowgraph(random, 500, 4);
+
+        final AncestorSearch search = new AncestorSearch();
+        for (final long expireBelowGen : List.of(FIRST_GENERATION, 5L, 20L)) {
+            shadowgraph.updateEventWindow(new EventWindow(0, 0, expireBelowGen, GENERATION_THRESHOLD));
+            final long minimumSearchThreshold = expireBelowGen + random.nextInt(5);
+
+            final List<ShadowEvent> tips = shadowgraph.getTips();
+            final Set<ShadowEvent> knownSet = generatedEvents.stream()
+                    .map(e -> shadowgraph.shadow(e.getBaseEvent().getDescriptor()))
+                    .filter(s -> s != null && random.nextDouble() < 0.05)
+                    .collect(Collectors.toSet());
+
+            final Predicate<ShadowEvent> nonAncient = s -> s.getEvent().getGeneration() >= minimumSearchThreshold;
+            final Set<ShadowEvent> knownAncestors =
+                    shadowgraph.findAncestors(knownSet, s -> nonAncient.test(s) && !knownSet.contains(s));
+            knownAncestors.addAll(knownSet);
+            final Predicate<ShadowEvent> unknown = s -> nonAncient.test(s) && !knownAncestors.contains(s);
+            final List<ShadowEvent> unknownTips = tips.stream().filter(unknown).toList();
+            final Set<ShadowEvent> expected = shadowgraph.findAncestors(unknownTips, unknown);
+            expected.addAll(unknownTips);
+
+            final List<ShadowEvent> actual =
+                    shadowgraph.findUnknownAncestors(knownSet, tips, minimumSearchThreshold, search);
+
+            assertEquals(expected.size(), actual.size(), "No event should be returned twice");
+            assertEquals(expected, new HashSet<>(actual), "Bitset search should match the hash set search");
+        }
+    }
+
     private void assertSetsContainSameHashes(final Set<Hash> expected, final Set<Hash> actual) {
         for (final Hash hash : expected) {
             if (!actual.contains(hash)) {
@@ -707,6 +750,57 @@ class ShadowgraphTest {
                 "Shadow graph tips should be included in expiry.");
     }
 
+    @Test
+    @DisplayName("Test that sync sessions can read the shadow graph while events are added and expired")
+    void testConcurrentReads() throws InterruptedException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        initShadowgraph(random, 100, 4);
+
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread reader = new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        try (final ReservedEventWindow reservation = shadowgraph.reserve()) {
+                            final List<ShadowEvent> tips = shadowgraph.getTips();
+                            for (final ShadowEvent tip : tips) {
+                                assertNotNull(tip.getEvent(), "tips must always have an event");
+                                shadowgraph.hashgraphEvent(tip.getEventBaseHash());
+                            }
+                            shadowgraph.findAncestors(tips, e -> true);
+                            assertNotNull(reservation.getEventWindow());
+                        }
+                    }
+                } catch (final Throwable t) {
+                    error.compareAndSet(null, t);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        long expireBelow = 0;
+        for (int i = 0; i < 1000; i++) {
+            final EventImpl event = emitter.emitEvent();
+            assertDoesNotThrow(() -> shadowgraph.addEvent(event.getBaseEvent()));
+            if (i % 50 == 0) {
+                expireBelow = Math.max(expireBelow, event.getGeneration() - 20);
+                shadowgraph.updateEventWindow(new EventWindow(0, 0, expireBelow, GENERATION_THRESHOLD));
+            }
+        }
+
+        done.set(true);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(error.get(), "readers must not fail while the shadow graph is modified");
+        for (final ShadowEvent tip : shadowgraph.getTips()) {
+            assertEquals(tip, shadowgraph.shadow(tip.getEvent().getDescriptor()), "Tips must be in the shadow graph.");
+        }
+    }
+
     @Test
     @Disabled("It does not make sense to run this test in CCI since the outcome can vary depending on the load."
             + "The purpose of this test is to tune the performance of this method by running the test locally.")
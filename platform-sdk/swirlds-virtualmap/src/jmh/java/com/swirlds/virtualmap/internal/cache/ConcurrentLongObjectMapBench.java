@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.cache; // NOSONAR: Needed to benchmark internal classes
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link ConcurrentLongObjectMap}, used for {@link VirtualNodeCache} path indexes, with
+ * {@link ConcurrentHashMap} with boxed keys, which was used before. Paths are generated around
+ * the last leaf rank of a virtual tree of the given size, similar to real node cache workloads.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class ConcurrentLongObjectMapBench {
+
+    @Param({"1000000"})
+    public long treeSize;
+
+    @Param({"100000"})
+    public int mapSize;
+
+    private static final Object VALUE = new Object();
+
+    private ConcurrentLongObjectMap<Object> longObjectMap;
+    private Map<Long, Object> concurrentHashMap;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        longObjectMap = new ConcurrentLongObjectMap<>();
+        concurrentHashMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < mapSize; i++) {
+            final long path = randomPath();
+            longObjectMap.put(path, VALUE);
+            concurrentHashMap.put(path, VALUE);
+        }
+    }
+
+    private long randomPath() {
+        return treeSize - 1 + ThreadLocalRandom.current().nextLong(treeSize);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object longObjectMapCompute() {
+        return longObjectMap.compute(randomPath(), (path, value) -> VALUE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object concurrentHashMapCompute() {
+        return concurrentHashMap.compute(randomPath(), (path, value) -> VALUE);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object longObjectMapGet() {
+        return longObjectMap.get(randomPath());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object concurrentHashMapGet() {
+        return concurrentHashMap.get(randomPath());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object longObjectMapMixed() {
+        final long path = randomPath();
+        if ((path & 7) == 0) {
+            return longObjectMap.compute(path, (p, value) -> VALUE);
+        }
+        return longObjectMap.get(path);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object concurrentHashMapMixed() {
+        final long path = randomPath();
+        if ((path & 7) == 0) {
+            return concurrentHashMap.compute(path, (p, value) -> VALUE);
+        }
+        return concurrentHashMap.get(path);
+    }
+}
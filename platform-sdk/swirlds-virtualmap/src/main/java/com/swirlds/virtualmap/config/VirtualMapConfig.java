@@ -35,11 +35,34 @@ import java.time.Duration;
  * @param percentHashThreads
  * 		Gets the percentage (from 0.0 to 100.0) of available processors to devote to hashing
  * 		threads. Ignored if an explicit number of threads is given via {@code virtualMap.numHashThreads}.
+ * @param numHashThreads
+ * 		The number of threads in the dedicated virtual hasher pool. If not set, defaults to the number of threads
+ * 		implied by {@code virtualMap.percentHashThreads} and {@link Runtime#availableProcessors()}. The dedicated
+ * 		pool is only used if {@link #virtualHasherAdaptiveChunkHeight} is enabled, otherwise hashing runs in the
+ * 		caller's fork-join pool or in the common pool.
  * @param virtualHasherChunkHeight
  *      The number of ranks minus one to handle in a single virtual hasher task. That is, when height is
- *      1, every task takes 2 inputs. Height 2 corresponds to tasks with 4 inputs. And so on.
+ *      1, every task takes 2 inputs. Height 2 corresponds to tasks with 4 inputs. And so on. Ignored if
+ *      {@link #virtualHasherAdaptiveChunkHeight} is enabled.
+ * @param virtualHasherAdaptiveChunkHeight
+ *      If true, virtual hasher chunk height is selected for every hashed copy based on the number of dirty
+ *      leaves in the copy and the number of leaves in the tree, between {@link #virtualHasherMinChunkHeight} and
+ *      {@link #virtualHasherMaxChunkHeight}. Chunks are made small enough to keep all hashing threads busy, but
+ *      no smaller than needed to give every dirty leaf, assuming dirty leaves are spread evenly, its own task.
+ * @param virtualHasherMinChunkHeight
+ *      Min virtual hasher chunk height, when adaptive chunk height is enabled.
+ * @param virtualHasherMaxChunkHeight
+ *      Max virtual hasher chunk height, when adaptive chunk height is enabled. This height is also used when
+ *      the number of dirty leaves isn't known in advance, e.g. during reconnects.
+ * @param virtualHasherTasksPerThread
+ *      The number of chunk tasks per hashing thread, at the lowest chunk rank, that adaptive chunk height
+ *      aims for.
  * @param reconnectMode
  *      Reconnect mode. For the list of accepted values, see {@link VirtualMapReconnectMode}.
+ * @param reconnectIncrementalFallbackPercent
+ *      In {@link VirtualMapReconnectMode#PULL_INCREMENTAL} reconnect mode, if the estimated number of
+ *      requests to traverse the rest of the virtual tree top to bottom exceeds this percentage of the
+ *      number of leaves, the learner falls back to two-phase pessimistic traversal.
  * @param reconnectFlushInterval
  *      During reconnect, virtual nodes are periodically flushed to disk after they are hashed. This
  *      interval indicates the number of nodes to hash before they are flushed to disk. If zero, all
@@ -89,8 +112,15 @@ import java.time.Duration;
 public record VirtualMapConfig(
         @Min(0) @Max(100) @ConfigProperty(defaultValue = "50.0")
                 double percentHashThreads, // FUTURE WORK: We need to add min/max support for double values
+        @Min(-1) @ConfigProperty(defaultValue = "-1") int numHashThreads,
         @Min(1) @Max(64) @ConfigProperty(defaultValue = "3") int virtualHasherChunkHeight,
+        @ConfigProperty(defaultValue = "false") boolean virtualHasherAdaptiveChunkHeight,
+        @Min(1) @Max(64) @ConfigProperty(defaultValue = "2") int virtualHasherMinChunkHeight,
+        @ConstraintMethod("virtualHasherMaxChunkHeightValidation") @Min(1) @Max(64) @ConfigProperty(defaultValue = "6")
+                int virtualHasherMaxChunkHeight,
+        @Min(1) @ConfigProperty(defaultValue = "4") int virtualHasherTasksPerThread,
         @ConfigProperty(defaultValue = PUSH) String reconnectMode,
+        @Min(0) @Max(100) @ConfigProperty(defaultValue = "25") int reconnectIncrementalFallbackPercent,
         @Min(0) @ConfigProperty(defaultValue = "500000") int reconnectFlushInterval,
         @Min(0) @Max(100) @ConfigProperty(defaultValue = "25.0")
                 double percentCleanerThreads, // FUTURE WORK: We need to add min/max support for double values
@@ -139,6 +169,28 @@ public record VirtualMapConfig(
         return null;
     }
 
+    public ConfigViolation virtualHasherMaxChunkHeightValidation(final Configuration configuration) {
+        final int minChunkHeight = configuration.getConfigData(VirtualMapConfig.class).virtualHasherMinChunkHeight();
+        final int maxChunkHeight = configuration.getConfigData(VirtualMapConfig.class).virtualHasherMaxChunkHeight();
+        if (maxChunkHeight < minChunkHeight) {
+            return new DefaultConfigViolation(
+                    "virtualMap.virtualHasherMaxChunkHeight",
+                    maxChunkHeight + "",
+                    true,
+                    "virtualHasherMaxChunkHeight must be >= virtualHasherMinChunkHeight");
+        }
+        return null;
+    }
+
+    public int getNumHashThreads() {
+        final int numProcessors = Runtime.getRuntime().availableProcessors();
+        final int threads = (numHashThreads() == -1)
+                ? (int) (numProcessors * (percentHashThreads() / UNIT_FRACTION_PERCENT))
+                : numHashThreads();
+
+        return Math.max(1, threads);
+    }
+
     public int getNumCleanerThreads() {
         final int numProcessors = Runtime.getRuntime().availableProcessors();
         final int threads = (numCleanerThreads() == -1)
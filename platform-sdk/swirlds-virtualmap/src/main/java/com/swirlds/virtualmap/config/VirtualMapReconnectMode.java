@@ -39,5 +39,13 @@ public final class VirtualMapReconnectMode {
      */
     public static final String PULL_TWO_PHASE_PESSIMISTIC = "pullTwoPhasePessimistic";
 
+    /**
+     * "Pull / incremental" reconnect mode, when learner sends requests to teacher top to bottom, like
+     * in {@link #PULL_TOP_TO_BOTTOM} mode, so only virtual nodes changed since the learner's state are
+     * transferred. If the learner's state appears to be too different from the teacher's, falls back
+     * to {@link #PULL_TWO_PHASE_PESSIMISTIC} traversal
+     */
+    public static final String PULL_INCREMENTAL = "pullIncremental";
+
     private VirtualMapReconnectMode() {}
 }
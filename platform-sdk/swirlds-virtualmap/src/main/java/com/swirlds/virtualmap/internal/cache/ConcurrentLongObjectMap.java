@@ -0,0 +1,363 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A concurrent map with primitive {@code long} keys, optimized for use by the {@link VirtualNodeCache}
+ * path indexes. Compared to a {@code ConcurrentHashMap<Long, V>}, this map doesn't allocate boxed
+ * keys or entry nodes on updates, which matters as path indexes are updated on the handle thread
+ * for every state write.
+ * <p>
+ * The map is split into a fixed number of stripes. Every stripe is an open-addressing hash table
+ * with linear probing, guarded by its own {@link StampedLock}. Updates take the stripe write lock.
+ * Reads are optimistic and don't write to shared memory at all, unless they run concurrently with
+ * an update in the same stripe, in which case they fall back to the stripe read lock.
+ * <p>
+ * Null values aren't allowed. Similar to {@link java.util.Map#compute}, if a remapping function
+ * returns null, the key is removed from the map.
+ *
+ * @param <V>
+ * 		the value type
+ */
+final class ConcurrentLongObjectMap<V> {
+
+    /**
+     * A function to compute a new value for a key, given the current value, which may be null.
+     *
+     * @param <V>
+     * 		the value type
+     */
+    @FunctionalInterface
+    interface RemappingFunction<V> {
+        V apply(long key, V value);
+    }
+
+    /**
+     * An action to run for every map entry.
+     *
+     * @param <V>
+     * 		the value type
+     * @param <E>
+     * 		the type of exception the action may throw
+     */
+    @FunctionalInterface
+    interface EntryConsumer<V, E extends Exception> {
+        void accept(long key, V value) throws E;
+    }
+
+    /**
+     * The default number of stripes. Must be a power of two
+     */
+    private static final int DEFAULT_STRIPES = 64;
+
+    /**
+     * Initial capacity of every stripe table. Must be a power of two
+     */
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    /**
+     * Stripe tables are doubled, when they are filled more than 2/3
+     */
+    private static final int MAX_FILL_NUMERATOR = 2;
+
+    private static final int MAX_FILL_DENOMINATOR = 3;
+
+    /**
+     * Keys and values arrays of a stripe. Both arrays are always of the same length, so they are
+     * kept in a single object to be read consistently by optimistic readers. A slot is empty, if
+     * its value is null.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+
+        Table(final int capacity) {
+            keys = new long[capacity];
+            values = new Object[capacity];
+        }
+    }
+
+    private static final class Stripe {
+        private final StampedLock lock = new StampedLock();
+        private Table table = new Table(INITIAL_STRIPE_CAPACITY);
+        private volatile int size = 0;
+    }
+
+    private final Stripe[] stripes;
+
+    /**
+     * Number of bits in a key hash used to select a stripe
+     */
+    private final int stripeBits;
+
+    /**
+     * Create a new map with the default number of stripes.
+     */
+    ConcurrentLongObjectMap() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Create a new map.
+     *
+     * @param numStripes
+     * 		the number of stripes, must be a positive power of two
+     */
+    ConcurrentLongObjectMap(final int numStripes) {
+        if ((numStripes <= 0) || (Integer.bitCount(numStripes) != 1)) {
+            throw new IllegalArgumentException("The number of stripes must be a positive power of two");
+        }
+        stripes = new Stripe[numStripes];
+        for (int i = 0; i < numStripes; i++) {
+            stripes[i] = new Stripe();
+        }
+        stripeBits = Integer.numberOfTrailingZeros(numStripes);
+    }
+
+    /**
+     * Get the value for the given key.
+     *
+     * @param key
+     * 		the key
+     * @return the value, or null if the key isn't in the map
+     */
+    V get(final long key) {
+        final long hash = hash(key);
+        final Stripe stripe = stripeFor(hash);
+        final StampedLock lock = stripe.lock;
+        final long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final Object value = find(stripe.table, key, hash);
+            if (lock.validate(stamp)) {
+                return cast(value);
+            }
+        }
+        final long readStamp = lock.readLock();
+        try {
+            return cast(find(stripe.table, key, hash));
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Put a value for the given key, replacing the old value, if any.
+     *
+     * @param key
+     * 		the key
+     * @param value
+     * 		the value, cannot be null
+     */
+    void put(final long key, final V value) {
+        requireNonNull(value);
+        compute(key, (k, v) -> value);
+    }
+
+    /**
+     * Remove the given key from the map.
+     *
+     * @param key
+     * 		the key
+     */
+    void remove(final long key) {
+        compute(key, (k, v) -> null);
+    }
+
+    /**
+     * Compute a new value for the given key. The remapping function is called with the current
+     * value, or null, if the key isn't in the map, and is run while the key stripe is locked, so
+     * it must be short and must not update this map. If the function returns null, the key is
+     * removed from the map.
+     *
+     * @param key
+     * 		the key
+     * @param remappingFunction
+     * 		the function to compute the new value
+     * @return the new value, or null if the key is removed
+     */
+    V compute(final long key, final RemappingFunction<V> remappingFunction) {
+        final long hash = hash(key);
+        final Stripe stripe = stripeFor(hash);
+        final long stamp = stripe.lock.writeLock();
+        try {
+            Table table = stripe.table;
+            int mask = table.keys.length - 1;
+            int slot = (int) hash & mask;
+            while ((table.values[slot] != null) && (table.keys[slot] != key)) {
+                slot = (slot + 1) & mask;
+            }
+            final V oldValue = cast(table.values[slot]);
+            final V newValue = remappingFunction.apply(key, oldValue);
+            if (newValue == null) {
+                if (oldValue != null) {
+                    delete(table, slot);
+                    stripe.size--;
+                }
+                return null;
+            }
+            if (oldValue != null) {
+                table.values[slot] = newValue;
+                return newValue;
+            }
+            if ((stripe.size + 1) * MAX_FILL_DENOMINATOR > table.keys.length * MAX_FILL_NUMERATOR) {
+                table = resize(table);
+                stripe.table = table;
+                mask = table.keys.length - 1;
+                slot = (int) hash & mask;
+                while (table.values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+            }
+            table.keys[slot] = key;
+            table.values[slot] = newValue;
+            stripe.size++;
+            return newValue;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Get the number of entries in the map. If the map is updated concurrently, the returned
+     * value is an estimate.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        int size = 0;
+        for (final Stripe stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /**
+     * Run the given action for every map entry. Entries are visited one stripe at a time, and
+     * every stripe is read locked while its entries are visited, so the action must not update
+     * this map. This method isn't atomic: entries in the stripes that are not locked yet may be
+     * updated concurrently.
+     *
+     * @param action
+     * 		the action to run
+     * @param <E>
+     * 		the type of exception the action may throw
+     * @throws E
+     * 		if the action throws
+     */
+    <E extends Exception> void forEach(final EntryConsumer<? super V, E> action) throws E {
+        for (final Stripe stripe : stripes) {
+            final long stamp = stripe.lock.readLock();
+            try {
+                final Table table = stripe.table;
+                for (int i = 0; i < table.values.length; i++) {
+                    final Object value = table.values[i];
+                    if (value != null) {
+                        action.accept(table.keys[i], cast(value));
+                    }
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private Stripe stripeFor(final long hash) {
+        return stripes[(int) (hash >>> (Long.SIZE - stripeBits))];
+    }
+
+    /**
+     * Spread key bits, so both the highest bits (used to select a stripe) and the lowest bits
+     * (used to select a slot in the stripe) depend on all key bits. Paths in the virtual node
+     * cache are often sequential numbers.
+     */
+    private static long hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * Find the value for the given key in the given table. This method may be called without a
+     * lock, while the table is modified. In this case, the result is incorrect, but the method
+     * must not fail or loop forever, and the caller must discard the result.
+     */
+    private static Object find(final Table table, final long key, final long hash) {
+        final long[] keys = table.keys;
+        final Object[] values = table.values;
+        final int mask = keys.length - 1;
+        int slot = (int) hash & mask;
+        for (int i = 0; i < keys.length; i++) {
+            final Object value = values[slot];
+            if (value == null) {
+                return null;
+            }
+            if (keys[slot] == key) {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Delete the entry in the given slot. Entries after the deleted slot in the same probe
+     * sequence are shifted back, so no tombstones are needed.
+     */
+    private static void delete(final Table table, int slot) {
+        final long[] keys = table.keys;
+        final Object[] values = table.values;
+        final int mask = keys.length - 1;
+        int next = (slot + 1) & mask;
+        while (values[next] != null) {
+            final int ideal = (int) hash(keys[next]) & mask;
+            // Check if the ideal slot of the next entry is cyclically outside (slot, next]
+            if (((next - ideal) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[slot] = null;
+    }
+
+    private static Table resize(final Table table) {
+        final Table newTable = new Table(table.keys.length * 2);
+        final int mask = newTable.keys.length - 1;
+        for (int i = 0; i < table.keys.length; i++) {
+            final Object value = table.values[i];
+            if (value != null) {
+                final long key = table.keys[i];
+                int slot = (int) hash(key) & mask;
+                while (newTable.values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                newTable.keys[slot] = key;
+                newTable.values[slot] = value;
+            }
+        }
+        return newTable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V cast(final Object value) {
+        return (V) value;
+    }
+}
@@ -43,6 +43,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -96,7 +97,8 @@ import org.apache.logging.log4j.Logger;
  * <p>
  * To fulfill these design requirements, each "chain" of caches share three different indexes:
  * {@link #keyToDirtyLeafIndex}, {@link #pathToDirtyLeafIndex}, and {@link #pathToDirtyHashIndex}.
- * Each of these is a map from either the leaf key or a path (long) to a custom linked list data structure. Each element
+ * Each of these is a map from either the leaf key or a path (long) to a custom linked list data structure. Path
+ * indexes are {@link ConcurrentLongObjectMap}s, which don't box paths on every update and lookup. Each element
  * in the list is a {@link Mutation} with a reference to the data item (either a {@link VirtualHashRecord}
  * or a {@link VirtualLeafRecord}, depending on the list), and a reference to the next {@link Mutation}
  * in the list. In this way, given a leaf key or path (based on the index), you can get the linked list and
@@ -229,14 +231,14 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, K>> pathToDirtyLeafIndex;
+    private final ConcurrentLongObjectMap<Mutation<Long, K>> pathToDirtyLeafIndex;
 
     /**
      * A shared index of paths to internals, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, Hash>> pathToDirtyHashIndex;
+    private final ConcurrentLongObjectMap<Mutation<Long, Hash>> pathToDirtyHashIndex;
 
     /**
      * Whether this instance is released. A released cache is often the last in the
@@ -348,8 +350,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      */
     public VirtualNodeCache(final @NonNull VirtualMapConfig virtualMapConfig, long fastCopyVersion) {
         this.keyToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyHashIndex = new ConcurrentHashMap<>();
+        this.pathToDirtyLeafIndex = new ConcurrentLongObjectMap<>();
+        this.pathToDirtyHashIndex = new ConcurrentLongObjectMap<>();
         this.releaseLock = new ReentrantLock();
         this.lastReleased = new AtomicLong(-1L);
         this.fastCopyVersion.set(fastCopyVersion);
@@ -465,8 +467,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // Fire off the cleaning threads to go and clear out data in the indexes that doesn't need
         // to be there anymore.
         purge(dirtyLeaves, keyToDirtyLeafIndex, virtualMapConfig);
-        purge(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
-        purge(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
+        purgePaths(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
+        purgePaths(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
 
         dirtyLeaves = null;
         dirtyLeafPaths = null;
@@ -1099,9 +1101,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     public VirtualNodeCache<K, V> snapshot() {
         synchronized (lastReleased) {
             final VirtualNodeCache<K, V> newSnapshot = new VirtualNodeCache<>(virtualMapConfig);
-            setMapSnapshotAndArray(
+            setPathMapSnapshotAndArray(
                     this.pathToDirtyHashIndex, newSnapshot.pathToDirtyHashIndex, newSnapshot.dirtyHashes);
-            setMapSnapshotAndArray(
+            setPathMapSnapshotAndArray(
                     this.pathToDirtyLeafIndex, newSnapshot.pathToDirtyLeafIndex, newSnapshot.dirtyLeafPaths);
             setMapSnapshotAndArray(this.keyToDirtyLeafIndex, newSnapshot.keyToDirtyLeafIndex, newSnapshot.dirtyLeaves);
             newSnapshot.snapshot.set(true);
@@ -1195,7 +1197,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     private <V1> void updatePaths(
             final V1 value,
             final long path,
-            final Map<Long, Mutation<Long, V1>> index,
+            final ConcurrentLongObjectMap<Mutation<Long, V1>> index,
             final ConcurrentArray<Mutation<Long, V1>> dirtyPaths) {
         index.compute(path, (key, mutation) -> {
             // If there is no mutation or the mutation isn't for this version, then we need to create a new mutation.
@@ -1333,6 +1335,38 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
                 }));
     }
 
+    /**
+     * Called by one of the purge threads to purge entries from a path index that no longer have a referent
+     * for the mutation list. This can be called concurrently. Works the same way as {@link #purge}.
+     *
+     * BE AWARE: this method is called from the other NON-static method with providing the configuration.
+     *
+     * @param index
+     * 		The path index to look through for entries to purge
+     * @param <V>
+     * 		The value type referenced by the mutation list
+     */
+    private static <V> void purgePaths(
+            final ConcurrentArray<Mutation<Long, V>> array,
+            final ConcurrentLongObjectMap<Mutation<Long, V>> index,
+            @NonNull final VirtualMapConfig virtualMapConfig) {
+        array.parallelTraverse(
+                getCleaningPool(virtualMapConfig),
+                element -> index.compute(element.key, (key, mutation) -> {
+                    if (mutation == null || element.equals(mutation)) {
+                        // Already removed for a more recent mutation
+                        return null;
+                    }
+                    for (Mutation<Long, V> m = mutation; m.next != null; m = m.next) {
+                        if (element.equals(m.next)) {
+                            m.next = null;
+                            break;
+                        }
+                    }
+                    return mutation;
+                }));
+    }
+
     /**
      * Node cache contains lists of hash and leaf mutations for every cache version. When caches
      * are merged, the lists are merged, too. To make merges very fast, duplicates aren't removed
@@ -1410,6 +1444,39 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         }
     }
 
+    /**
+     * Copies the mutations from {@code src} into {@code dst}, the same way as
+     * {@link #setMapSnapshotAndArray(Map, Map, ConcurrentArray)}, but for path indexes.
+     *
+     * @param src
+     * 		Path index that contains the original mutations
+     * @param dst
+     * 		Path index that acts as the destination of mutations
+     * @param <L2>
+     * 		Value type
+     */
+    private <L2> void setPathMapSnapshotAndArray(
+            final ConcurrentLongObjectMap<Mutation<Long, L2>> src,
+            final ConcurrentLongObjectMap<Mutation<Long, L2>> dst,
+            final ConcurrentArray<Mutation<Long, L2>> array) {
+        final long accepted = fastCopyVersion.get();
+        final long rejected = lastReleased.get();
+        src.forEach((path, value) -> {
+            Mutation<Long, L2> mutation = value;
+
+            while (mutation != null && mutation.version > accepted) {
+                mutation = mutation.next;
+            }
+
+            if (mutation == null || mutation.version <= rejected) {
+                return;
+            }
+
+            dst.put(path, mutation);
+            array.add(mutation);
+        });
+    }
+
     /**
      * Serialize the {@link #pathToDirtyHashIndex}.
      *
@@ -1421,12 +1488,12 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, Hash>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, Hash>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, Hash> mutation = entry.getValue();
+        map.forEach((path, mutation) -> {
+            out.writeLong(path);
             assert mutation != null : "Mutations cannot be null in a snapshot";
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyInternalIndex with a version ahead";
@@ -1435,7 +1502,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             if (!mutation.isDeleted()) {
                 out.writeSerializable(mutation.value, true);
             }
-        }
+        });
     }
 
     /**
@@ -1449,7 +1516,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataInputStream in, final int version)
+            final ConcurrentLongObjectMap<Mutation<Long, Hash>> map,
+            final SerializableDataInputStream in,
+            final int version)
             throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
@@ -1482,12 +1551,12 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, K>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, K>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, K>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, K> mutation = entry.getValue();
+        map.forEach((path, mutation) -> {
+            out.writeLong(path);
             assert mutation != null : "Mutations cannot be null in a snapshot";
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyLeafIndex with a version ahead";
@@ -1495,7 +1564,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             out.writeSerializable(mutation.value, true);
             out.writeLong(mutation.version);
             out.writeBoolean(mutation.isDeleted());
-        }
+        });
     }
 
     /**
@@ -1509,7 +1578,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, K>> map, final SerializableDataInputStream in) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, K>> map, final SerializableDataInputStream in)
+            throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
             final Long path = in.readLong();
@@ -1676,11 +1746,11 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringIndex(
-                        "pathToDirtyLeafIndex", (Map<Object, Mutation>) (Object) pathToDirtyLeafIndex))
+                        "pathToDirtyLeafIndex", (Map<Object, Mutation>) (Object) toMap(pathToDirtyLeafIndex)))
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringIndex(
-                        "pathToDirtyHashIndex", (Map<Object, Mutation>) (Object) pathToDirtyHashIndex))
+                        "pathToDirtyHashIndex", (Map<Object, Mutation>) (Object) toMap(pathToDirtyHashIndex)))
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringArray("dirtyLeaves", (ConcurrentArray<Mutation>) (Object) dirtyLeaves));
@@ -1713,6 +1783,12 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         return builder.toString();
     }
 
+    private static <V1> Map<Long, V1> toMap(final ConcurrentLongObjectMap<V1> index) {
+        final Map<Long, V1> map = new TreeMap<>();
+        index.forEach(map::put);
+        return map;
+    }
+
     private String toDebugStringIndex(
             final String indexName, @SuppressWarnings("rawtypes") final Map<Object, Mutation> index) {
         final StringBuilder builder = new StringBuilder();
@@ -33,8 +33,10 @@ import com.swirlds.virtualmap.config.VirtualMapConfig;
 import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.Path;
 import com.swirlds.virtualmap.internal.merkle.VirtualInternalNode;
+import com.swirlds.virtualmap.internal.merkle.VirtualMapStatistics;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -42,6 +44,7 @@ import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -70,6 +73,95 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
     private static final ThreadLocal<HashBuilder> HASH_BUILDER_THREAD_LOCAL =
             ThreadLocal.withInitial(() -> new HashBuilder(Cryptography.DEFAULT_DIGEST_TYPE));
 
+    /**
+     * Indicates the number of dirty leaves to hash isn't known in advance.
+     */
+    public static final long UNKNOWN_DIRTY_LEAVES_COUNT = -1;
+
+    /**
+     * Dedicated fork-join pool to run hashing tasks with adaptive chunk height, shared across
+     * all virtual maps.
+     */
+    private static volatile ForkJoinPool hashingPool = null;
+
+    /**
+     * Gets the pool to run hashing tasks in. If adaptive chunk height is disabled in the config,
+     * hashing tasks run in the caller's fork-join pool, or in the common pool, if the caller
+     * isn't a fork-join worker thread. Otherwise, a dedicated pool sized by {@link
+     * VirtualMapConfig#getNumHashThreads()} is used, so the selected chunk height matches the
+     * number of hashing threads.
+     */
+    static ForkJoinPool getHashingPool(final @NonNull VirtualMapConfig virtualMapConfig) {
+        requireNonNull(virtualMapConfig);
+        if (!virtualMapConfig.virtualHasherAdaptiveChunkHeight()) {
+            return Thread.currentThread() instanceof ForkJoinWorkerThread thread
+                    ? thread.getPool()
+                    : ForkJoinPool.commonPool();
+        }
+        return getDedicatedHashingPool(virtualMapConfig);
+    }
+
+    /**
+     * This method is invoked from a non-static method and uses the provided configuration.
+     * Consequently, the dedicated hashing pool will be initialized using the configuration
+     * provided by the first virtual hasher that hashes anything with adaptive chunk height.
+     * Subsequent calls will reuse the same pool, regardless of any new configurations provided.
+     */
+    private static ForkJoinPool getDedicatedHashingPool(final @NonNull VirtualMapConfig virtualMapConfig) {
+        ForkJoinPool pool = hashingPool;
+        if (pool == null) {
+            synchronized (VirtualHasher.class) {
+                pool = hashingPool;
+                if (pool == null) {
+                    final int hashingThreadCount = virtualMapConfig.getNumHashThreads();
+                    pool = new ForkJoinPool(hashingThreadCount);
+                    hashingPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Selects chunk height for a hashing round. If adaptive chunk height is disabled in the
+     * config, {@link VirtualMapConfig#virtualHasherChunkHeight()} is used. Otherwise, the
+     * height is selected, so the number of chunk tasks just above the leaf rank is about
+     * {@link VirtualMapConfig#virtualHasherTasksPerThread()} per hashing thread, or one task
+     * per dirty leaf, if there are fewer dirty leaves than that.
+     *
+     * <p>Dirty leaves are assumed to be spread evenly across the leaf rank, so a task is given
+     * an equal share of all leaf rank positions, and chunk height is the binary log of this
+     * share, clamped to {@link VirtualMapConfig#virtualHasherMinChunkHeight()} and {@link
+     * VirtualMapConfig#virtualHasherMaxChunkHeight()}. The height never increases, when the
+     * number of dirty leaves increases, and never decreases, when the number of leaves
+     * increases. Clustered dirty leaves result in fewer tasks than targeted.
+     *
+     * @param virtualMapConfig VirtualMap config
+     * @param dirtyLeavesCount estimated number of dirty leaves, or {@link #UNKNOWN_DIRTY_LEAVES_COUNT}
+     * @param leavesCount number of leaves in the tree, dirty or not
+     * @param parallelism number of hashing threads
+     * @return chunk height to use
+     */
+    static int selectChunkHeight(
+            final @NonNull VirtualMapConfig virtualMapConfig,
+            final long dirtyLeavesCount,
+            final long leavesCount,
+            final int parallelism) {
+        if (!virtualMapConfig.virtualHasherAdaptiveChunkHeight()) {
+            return virtualMapConfig.virtualHasherChunkHeight();
+        }
+        final int minHeight = virtualMapConfig.virtualHasherMinChunkHeight();
+        final int maxHeight = virtualMapConfig.virtualHasherMaxChunkHeight();
+        if (dirtyLeavesCount < 0) {
+            return maxHeight;
+        }
+        final long targetTasks = (long) Math.max(1, parallelism) * virtualMapConfig.virtualHasherTasksPerThread();
+        final long tasks = Math.max(1, Math.min(dirtyLeavesCount, targetTasks));
+        final long leavesPerTask = Math.max(1, leavesCount / tasks);
+        final int height = 63 - Long.numberOfLeadingZeros(leavesPerTask);
+        return Math.max(minHeight, Math.min(height, maxHeight));
+    }
+
     /**
      * A function to look up clean hashes by path during hashing. This function is stored in
      * a class field to avoid passing it as an arg to every hashing task.
@@ -92,6 +184,18 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
      */
     private Cryptography cryptography;
 
+    /**
+     * Number of chunk tasks created in the current hashing round. Tasks are only created on
+     * the thread that calls {@link #hash}, so no synchronization is needed.
+     */
+    private long chunkTasksCount;
+
+    /**
+     * Total time, in nanos, spent by hashing threads executing chunk tasks in the current
+     * hashing round. Used to estimate hashing pool utilization.
+     */
+    private final LongAdder chunkTasksBusyNanos = new LongAdder();
+
     /**
      * Tracks if this virtual hasher has been shut down. If true (indicating that the hasher
      * has been intentionally shut down), then don't log/throw if the rug is pulled from
@@ -172,6 +276,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
             super(pool, 1 + (1 << height), height > 0 ? 1 << height : 0);
             this.height = height;
             this.path = path;
+            chunkTasksCount++;
         }
 
         void setOut(final HashHoldingTask out) {
@@ -199,6 +304,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
 
         @Override
         protected boolean onExecute() {
+            final long start = System.nanoTime();
             final Hash hash;
             if (leaf != null) {
                 hash = cryptography.digestSync(leaf);
@@ -230,6 +336,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
                 }
                 hash = ins[0];
             }
+            chunkTasksBusyNanos.add(System.nanoTime() - start);
             out.setHash(getIndexInOut(), hash);
             return true;
         }
@@ -277,6 +384,43 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
             final long lastLeafPath,
             VirtualHashListener<K, V> listener,
             final @NonNull VirtualMapConfig virtualMapConfig) {
+        return hash(
+                hashReader,
+                sortedDirtyLeaves,
+                firstLeafPath,
+                lastLeafPath,
+                listener,
+                UNKNOWN_DIRTY_LEAVES_COUNT,
+                null,
+                virtualMapConfig);
+    }
+
+    /**
+     * If a dirty leaves stream is empty, returns {@code null}. If leaf path is empty, that
+     * is when {@code firstLeafPath} and/or {@code lastLeafPath} are zero or less, and
+     * dirty leaves stream is not empty, throws an {@link IllegalArgumentException}.
+     *
+     * <p>The estimated number of dirty leaves is used to select hashing chunk height, if
+     * adaptive chunk height is enabled in the config. It doesn't have to be exact.
+     *
+     * @param hashReader A function to read hashes for clean paths
+     * @param sortedDirtyLeaves A stream of leaf records, sorted by path
+     * @param firstLeafPath First leaf path
+     * @param lastLeafPath Last leaf path
+     * @param listener Hash listener. May be null
+     * @param dirtyLeavesCount Estimated number of dirty leaves, or {@link #UNKNOWN_DIRTY_LEAVES_COUNT}
+     * @param statistics Virtual map statistics to report hashing round stats to. May be null
+     * @param virtualMapConfig VirtualMap config
+     */
+    public Hash hash(
+            final LongFunction<Hash> hashReader,
+            final Iterator<VirtualLeafRecord<K, V>> sortedDirtyLeaves,
+            final long firstLeafPath,
+            final long lastLeafPath,
+            VirtualHashListener<K, V> listener,
+            final long dirtyLeavesCount,
+            @Nullable final VirtualMapStatistics statistics,
+            final @NonNull VirtualMapConfig virtualMapConfig) {
         requireNonNull(virtualMapConfig);
 
         // We don't want to include null checks everywhere, so let the listener be NoopListener if null
@@ -287,9 +431,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
                     };
         }
 
-        ForkJoinPool hashingPool = Thread.currentThread() instanceof ForkJoinWorkerThread thread
-                ? thread.getPool()
-                : ForkJoinPool.commonPool();
+        final ForkJoinPool hashingPool = getHashingPool(virtualMapConfig);
 
         // Let the listener know we have started hashing.
         listener.onHashingStarted();
@@ -308,10 +450,13 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         this.listener = listener;
         this.cryptography = CryptographyHolder.get();
         final Hash NULL_HASH = cryptography.getNullHash();
+        final long startNanos = System.nanoTime();
+        chunkTasksCount = 0;
+        chunkTasksBusyNanos.reset();
 
         // Algo v6. This version is task based, where every task is responsible for hashing a small
-        // chunk of the tree. Tasks are running in a fork-join pool, which is shared across all
-        // virtual maps.
+        // chunk of the tree. Tasks are running in a dedicated fork-join pool, which is shared
+        // across all virtual maps.
 
         // A chunk is a small sub-tree, which is identified by a path and a height. Chunks of
         // height 1 contain three nodes: one node and two its children. Chunks of height 2 contain
@@ -332,8 +477,9 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         // is calculated, it is set as an input dependency of that task. Output dependency value
         // may not be null.
 
-        // Default chunk height, from config
-        final int chunkHeight = virtualMapConfig.virtualHasherChunkHeight();
+        // Chunk height, either fixed from config or selected based on the number of dirty leaves
+        final int chunkHeight = selectChunkHeight(
+                virtualMapConfig, dirtyLeavesCount, lastLeafPath - firstLeafPath + 1, hashingPool.getParallelism());
         int firstLeafRank = Path.getRank(firstLeafPath);
         int lastLeafRank = Path.getRank(lastLeafPath);
 
@@ -378,8 +524,10 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         // For the created leaf task, set the leaf as an input. Together with the parent task
         // it completes all task dependencies, so the task is executed.
 
+        long hashedLeavesCount = 0;
         while (sortedDirtyLeaves.hasNext()) {
             VirtualLeafRecord<K, V> leaf = sortedDirtyLeaves.next();
+            hashedLeavesCount++;
             long curPath = leaf.getPath();
             ChunkHashTask curTask = map.remove(curPath);
             if (curTask == null) {
@@ -509,6 +657,14 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
 
         listener.onHashingCompleted();
 
+        if (statistics != null) {
+            final long durationNanos = Math.max(1, System.nanoTime() - startNanos);
+            final double poolUtilization =
+                    100.0 * chunkTasksBusyNanos.sum() / ((double) durationNanos * hashingPool.getParallelism());
+            statistics.recordHashRound(
+                    hashedLeavesCount, chunkTasksCount, chunkHeight, Math.min(100.0, poolUtilization));
+        }
+
         this.hashReader = null;
         this.listener = null;
 
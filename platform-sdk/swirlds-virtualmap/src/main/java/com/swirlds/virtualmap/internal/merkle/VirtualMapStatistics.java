@@ -17,6 +17,7 @@
 package com.swirlds.virtualmap.internal.merkle;
 
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.DoubleGauge;
 import com.swirlds.metrics.api.IntegerAccumulator;
 import com.swirlds.metrics.api.IntegerGauge;
 import com.swirlds.metrics.api.LongAccumulator;
@@ -69,6 +70,14 @@ public class VirtualMapStatistics {
     private Counter flushCount;
     /** The average time to hash virtual map copy, ms */
     private LongAccumulator hashDurationMs;
+    /** The number of dirty leaves hashed in virtual map copies */
+    private LongAccumulator hashDirtyLeaves;
+    /** The number of chunk tasks created to hash virtual map copies */
+    private LongAccumulator hashChunks;
+    /** Hashing chunk height used for the last hashed virtual map copy */
+    private IntegerGauge hashChunkHeight;
+    /** Hashing pool utilization during the last virtual map copy hashing, percent */
+    private DoubleGauge hashPoolUtilization;
 
     private static LongAccumulator buildLongAccumulator(
             final Metrics metrics, final String name, final String description) {
@@ -161,6 +170,21 @@ public class VirtualMapStatistics {
                 metrics,
                 VMAP_PREFIX + LIFECYCLE_PREFIX + "hashDurationMs_" + label,
                 "Virtual root copy hash duration, " + label + ", ms");
+        hashDirtyLeaves = buildLongAccumulator(
+                metrics,
+                VMAP_PREFIX + LIFECYCLE_PREFIX + "hashDirtyLeaves_" + label,
+                "Dirty leaves hashed in virtual root copies, " + label);
+        hashChunks = buildLongAccumulator(
+                metrics,
+                VMAP_PREFIX + LIFECYCLE_PREFIX + "hashChunks_" + label,
+                "Chunk tasks created to hash virtual root copies, " + label);
+        hashChunkHeight = metrics.getOrCreate(
+                new IntegerGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "hashChunkHeight_" + label)
+                        .withDescription("Hashing chunk height used for the last virtual root copy, " + label));
+        hashPoolUtilization = metrics.getOrCreate(new DoubleGauge.Config(
+                        STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "hashPoolUtilization_" + label)
+                .withDescription("Hashing pool utilization while hashing the last virtual root copy, " + label
+                        + ", percent"));
     }
 
     /**
@@ -289,4 +313,28 @@ public class VirtualMapStatistics {
             this.hashDurationMs.update(hashDurationMs);
         }
     }
+
+    /**
+     * Record stats of a single virtual root copy hashing round.
+     *
+     * @param dirtyLeaves number of dirty leaves hashed
+     * @param chunks number of chunk tasks created
+     * @param chunkHeight hashing chunk height
+     * @param poolUtilization hashing pool utilization, percent
+     */
+    public void recordHashRound(
+            final long dirtyLeaves, final long chunks, final int chunkHeight, final double poolUtilization) {
+        if (this.hashDirtyLeaves != null) {
+            this.hashDirtyLeaves.update(dirtyLeaves);
+        }
+        if (this.hashChunks != null) {
+            this.hashChunks.update(chunks);
+        }
+        if (this.hashChunkHeight != null) {
+            this.hashChunkHeight.set(chunkHeight);
+        }
+        if (this.hashPoolUtilization != null) {
+            this.hashPoolUtilization.set(poolUtilization);
+        }
+    }
 }
@@ -80,6 +80,7 @@ import com.swirlds.virtualmap.internal.hash.VirtualHasher;
 import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
 import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
 import com.swirlds.virtualmap.internal.reconnect.ConcurrentBlockingIterator;
+import com.swirlds.virtualmap.internal.reconnect.IncrementalTraversalOrder;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPushVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.NodeTraversalOrder;
@@ -1348,6 +1349,8 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 state.getFirstLeafPath(),
                 state.getLastLeafPath(),
                 hashListener,
+                cache.estimatedDirtyLeavesCount(),
+                statistics,
                 virtualMapConfig);
 
         if (virtualHash == null) {
@@ -1449,6 +1452,8 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                     getStaticThreadManager(), reconnectConfig, this, state, pipeline);
             case VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC -> new TeacherPullVirtualTreeView<>(
                     getStaticThreadManager(), reconnectConfig, this, state, pipeline);
+            case VirtualMapReconnectMode.PULL_INCREMENTAL -> new TeacherPullVirtualTreeView<>(
+                    getStaticThreadManager(), reconnectConfig, this, state, pipeline);
             default -> throw new UnsupportedOperationException(
                     "Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -1554,6 +1559,19 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                         twoPhasePessimistic,
                         mapStats);
             }
+            case VirtualMapReconnectMode.PULL_INCREMENTAL -> {
+                final NodeTraversalOrder incremental =
+                        new IncrementalTraversalOrder(virtualMapConfig.reconnectIncrementalFallbackPercent());
+                yield new LearnerPullVirtualTreeView<>(
+                        reconnectConfig,
+                        this,
+                        originalMap.records,
+                        originalState,
+                        reconnectState,
+                        nodeRemover,
+                        incremental,
+                        mapStats);
+            }
             default -> throw new UnsupportedOperationException(
                     "Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+
+import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
+import com.swirlds.virtualmap.internal.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Virtual node traversal policy for learners, which have a recent state, for example, nodes that
+ * restart after a short outage. Only a small part of the virtual tree is expected to be different
+ * on the teacher, so the tree is traversed {@link TopToBottomTraversalOrder top to bottom}, and only
+ * dirty sub-trees are requested: the teacher only sends leaves and internal nodes changed since
+ * the learner's state.
+ *
+ * <p>If the learner's state turns out to be too old, top to bottom traversal becomes more expensive
+ * than a full {@link TwoPhasePessimisticTraversalOrder two-phase} traversal, as it has to walk through
+ * every internal rank of dirty sub-trees. To detect this, internal ranks are traversed one at a time.
+ * Before the first request at the next rank is sent, all responses at the current rank are waited
+ * for, and the number of dirty nodes at the current rank is used to estimate the number of remaining
+ * requests. If this estimate exceeds a configured percentage of the number of leaves, this class falls
+ * back to two-phase traversal, with all clean nodes found so far skipped. The check is only done at
+ * internal ranks, before any leaves are requested, so leaves are always sent to the learner in
+ * ascending path order.
+ */
+public class IncrementalTraversalOrder implements NodeTraversalOrder {
+
+    private static final Logger logger = LogManager.getLogger(IncrementalTraversalOrder.class);
+
+    /**
+     * A value returned from {@link #getNextPathToSend()} to indicate that there is no path to send
+     * yet, and the sender should call the method again later. Any value less than {@link
+     * Path#INVALID_PATH} works this way in {@link LearnerPullVirtualTreeSendTask}.
+     */
+    static final long NO_PATH_YET = Path.INVALID_PATH - 1;
+
+    private final int fallbackPercent;
+
+    private final TopToBottomTraversalOrder topToBottom = new TopToBottomTraversalOrder();
+
+    private final TwoPhasePessimisticTraversalOrder twoPhase = new TwoPhasePessimisticTraversalOrder();
+
+    // Set on the sending thread, read on both sending and receiving threads
+    private volatile boolean fallbackStarted = false;
+
+    private ReconnectNodeCount nodeCount;
+
+    private long reconnectFirstLeafPath;
+    private long reconnectLastLeafPath;
+
+    // The rank of the first leaf path. This rank may contain both internal nodes and leaves, so
+    // no checks are done at this rank or below
+    private int firstLeafRank;
+
+    // The rank, at which requests are currently being sent. Updated on the sending thread, read on
+    // the receiving thread to update per-rank stats below
+    private volatile int currentRank = 0;
+
+    // Number of requests sent at the current rank. Only accessed on the sending thread
+    private long sentAtCurrentRank = 0;
+
+    // Number of responses received at the current rank, and how many of them were dirty
+    private final AtomicLong receivedAtCurrentRank = new AtomicLong(0);
+    private final AtomicLong dirtyAtCurrentRank = new AtomicLong(0);
+
+    /**
+     * Create a new incremental traversal order.
+     *
+     * @param fallbackPercent if the estimated number of remaining top to bottom requests exceeds
+     *                        this percentage of the number of leaves, fall back to two-phase traversal
+     */
+    public IncrementalTraversalOrder(final int fallbackPercent) {
+        if ((fallbackPercent < 0) || (fallbackPercent > 100)) {
+            throw new IllegalArgumentException("Fallback percent must be in 0-100 range");
+        }
+        this.fallbackPercent = fallbackPercent;
+    }
+
+    @Override
+    public void start(final long firstLeafPath, final long lastLeafPath, final ReconnectNodeCount nodeCount) {
+        this.reconnectFirstLeafPath = firstLeafPath;
+        this.reconnectLastLeafPath = lastLeafPath;
+        this.nodeCount = nodeCount;
+        this.firstLeafRank = Path.getRank(firstLeafPath);
+        topToBottom.start(firstLeafPath, lastLeafPath, nodeCount);
+        // The root node request has been sent already
+        currentRank = 0;
+        sentAtCurrentRank = 1;
+    }
+
+    @Override
+    public void nodeReceived(final long path, final boolean isClean) {
+        if (fallbackStarted) {
+            twoPhase.nodeReceived(path, isClean);
+            return;
+        }
+        topToBottom.nodeReceived(path, isClean);
+        if (Path.getRank(path) == currentRank) {
+            if (!isClean) {
+                dirtyAtCurrentRank.incrementAndGet();
+            }
+            // Must be incremented after the dirty counter, the sending thread relies on it
+            receivedAtCurrentRank.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long getNextPathToSend() throws InterruptedException {
+        if (fallbackStarted) {
+            return twoPhase.getNextPathToSend();
+        }
+        final long path = topToBottom.peekNextPathToSend();
+        if (path == Path.INVALID_PATH) {
+            topToBottom.pathSent(path);
+            return path;
+        }
+        final int rank = Path.getRank(path);
+        if ((rank > currentRank) && (currentRank < firstLeafRank)) {
+            if (receivedAtCurrentRank.get() < sentAtCurrentRank) {
+                // Wait for all responses at the current rank
+                return NO_PATH_YET;
+            }
+            if (isTopToBottomTooExpensive(dirtyAtCurrentRank.get())) {
+                startFallback();
+                return twoPhase.getNextPathToSend();
+            }
+            sentAtCurrentRank = 0;
+            receivedAtCurrentRank.set(0);
+            dirtyAtCurrentRank.set(0);
+            currentRank = rank;
+        }
+        if (rank == currentRank) {
+            sentAtCurrentRank++;
+        }
+        topToBottom.pathSent(path);
+        return path;
+    }
+
+    /**
+     * Indicates if this traversal order has fallen back to two-phase traversal.
+     *
+     * @return true if two-phase traversal is used
+     */
+    public boolean isFallbackStarted() {
+        return fallbackStarted;
+    }
+
+    /**
+     * Every dirty node at the current rank has at least two children to request at every remaining
+     * internal rank. If this number is larger than the given percentage of leaves, it's cheaper to
+     * check all leaf parents bottom up.
+     */
+    private boolean isTopToBottomTooExpensive(final long dirtyNodes) {
+        final long leafCount = reconnectLastLeafPath - reconnectFirstLeafPath + 1;
+        final long remainingRanks = firstLeafRank - currentRank;
+        final long estimatedRequests = 2 * dirtyNodes * remainingRanks;
+        return estimatedRequests * 100 > leafCount * fallbackPercent;
+    }
+
+    private void startFallback() {
+        logger.info(
+                RECONNECT.getMarker(),
+                "Too many dirty nodes at rank {}, falling back to two-phase traversal",
+                currentRank);
+        twoPhase.start(reconnectFirstLeafPath, reconnectLastLeafPath, nodeCount);
+        for (final long cleanPath : topToBottom.getCleanNodes()) {
+            twoPhase.markClean(cleanPath);
+        }
+        // All responses for sent requests have been received, the receiving thread can switch
+        fallbackStarted = true;
+    }
+}
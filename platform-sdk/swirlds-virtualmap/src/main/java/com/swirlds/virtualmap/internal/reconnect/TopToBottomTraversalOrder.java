@@ -79,6 +79,16 @@ public class TopToBottomTraversalOrder implements NodeTraversalOrder {
 
     @Override
     public long getNextPathToSend() {
+        return lastPath = peekNextPathToSend();
+    }
+
+    /**
+     * Returns the path that will be sent next, but doesn't mark it as sent. The path may change,
+     * if more clean nodes are received from the teacher before the next call to this method.
+     *
+     * @return the next virtual path to send to the teacher
+     */
+    long peekNextPathToSend() {
         assert lastPath != Path.INVALID_PATH;
         long path = lastPath + 1;
         long result = skipCleanPaths(path);
@@ -87,7 +97,25 @@ public class TopToBottomTraversalOrder implements NodeTraversalOrder {
             path = result;
             result = skipCleanPaths(path);
         }
-        return lastPath = result;
+        return result;
+    }
+
+    /**
+     * Marks the given path, previously returned by {@link #peekNextPathToSend()}, as sent.
+     *
+     * @param path the sent path
+     */
+    void pathSent(final long path) {
+        lastPath = path;
+    }
+
+    /**
+     * Returns clean internal node paths received from the teacher so far.
+     *
+     * @return clean internal node paths
+     */
+    Set<Long> getCleanNodes() {
+        return cleanNodes;
     }
 
     /**
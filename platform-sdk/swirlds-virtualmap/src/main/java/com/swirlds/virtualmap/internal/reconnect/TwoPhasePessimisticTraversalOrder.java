@@ -193,6 +193,18 @@ public class TwoPhasePessimisticTraversalOrder implements NodeTraversalOrder {
         }
     }
 
+    /**
+     * Marks the given internal node as clean, as if a response for it was received from the
+     * teacher, but without scheduling any further requests for its parent. Used when another
+     * traversal order has already checked some nodes before switching to this order.
+     *
+     * @param path the clean internal node path
+     */
+    void markClean(final long path) {
+        assert path < reconnectFirstLeafPath;
+        cleanNodes.add(path);
+    }
+
     @Override
     public long getNextPathToSend() {
         long result = -1;
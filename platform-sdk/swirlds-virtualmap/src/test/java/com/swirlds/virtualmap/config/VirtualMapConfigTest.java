@@ -178,4 +178,46 @@ class VirtualMapConfigTest {
 
         Assertions.assertEquals(1, exception.getViolations().size(), "We must exactly have 1 violation");
     }
+
+    @Test
+    public void testNumHashThreadsRangeMin() {
+        // given
+        final ConfigurationBuilder configurationBuilder = ConfigurationBuilder.create()
+                .withSources(new SimpleConfigSource("virtualMap.numHashThreads", -2))
+                .withConfigDataType(VirtualMapConfig.class);
+
+        // then
+        final ConfigViolationException exception = Assertions.assertThrows(
+                ConfigViolationException.class, () -> configurationBuilder.build(), "init must end in a violation");
+
+        Assertions.assertEquals(1, exception.getViolations().size(), "We must exactly have 1 violation");
+    }
+
+    @Test
+    public void testNumHashThreads() {
+        // given
+        final VirtualMapConfig config = ConfigurationBuilder.create()
+                .withSources(new SimpleConfigSource("virtualMap.numHashThreads", 3))
+                .withConfigDataType(VirtualMapConfig.class)
+                .build()
+                .getConfigData(VirtualMapConfig.class);
+
+        // then
+        Assertions.assertEquals(3, config.getNumHashThreads(), "Explicit number of hash threads must be used");
+    }
+
+    @Test
+    public void testVirtualHasherMaxChunkHeightLessThanMin() {
+        // given
+        final ConfigurationBuilder configurationBuilder = ConfigurationBuilder.create()
+                .withSources(new SimpleConfigSource("virtualMap.virtualHasherMinChunkHeight", 4))
+                .withSources(new SimpleConfigSource("virtualMap.virtualHasherMaxChunkHeight", 3))
+                .withConfigDataType(VirtualMapConfig.class);
+
+        // then
+        final ConfigViolationException exception = Assertions.assertThrows(
+                ConfigViolationException.class, () -> configurationBuilder.build(), "init must end in a violation");
+
+        Assertions.assertEquals(1, exception.getViolations().size(), "We must exactly have 1 violation");
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLongObjectMapTest {
+
+    @Test
+    @DisplayName("Number of stripes must be a positive power of two")
+    void invalidStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(3));
+    }
+
+    @Test
+    @DisplayName("Put, get, and remove")
+    void putGetRemove() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertNull(map.get(1));
+        map.put(1, "one");
+        map.put(-1, "minus one");
+        map.put(Long.MAX_VALUE, "max");
+        assertEquals("one", map.get(1));
+        assertEquals("minus one", map.get(-1));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertEquals(3, map.size());
+        map.put(1, "uno");
+        assertEquals("uno", map.get(1));
+        assertEquals(3, map.size());
+        map.remove(1);
+        assertNull(map.get(1));
+        assertEquals(2, map.size());
+        // Removing an absent key is a no-op
+        map.remove(1);
+        assertEquals(2, map.size());
+        assertThrows(NullPointerException.class, () -> map.put(2, null));
+    }
+
+    @Test
+    @DisplayName("Compute creates, updates, and removes entries")
+    void compute() {
+        final ConcurrentLongObjectMap<Integer> map = new ConcurrentLongObjectMap<>();
+        assertEquals(1, map.compute(5, (key, value) -> value == null ? 1 : value + 1));
+        assertEquals(2, map.compute(5, (key, value) -> value == null ? 1 : value + 1));
+        assertEquals(2, map.get(5));
+        assertNull(map.compute(5, (key, value) -> null));
+        assertNull(map.get(5));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("Random operations match HashMap")
+    void randomOperations() {
+        // A single stripe to test resizes and deletes with long probe sequences
+        final ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(1);
+        final Map<Long, Long> expected = new HashMap<>();
+        final Random random = new Random(12345);
+        for (int i = 0; i < 200_000; i++) {
+            final long key = random.nextInt(10_000);
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, (long) i);
+                expected.put(key, (long) i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 10_000; key++) {
+            assertEquals(expected.get(key), map.get(key), "Wrong value for key " + key);
+        }
+        final Map<Long, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Concurrent updates and reads")
+    void concurrentUpdates() throws Exception {
+        final ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(4);
+        final int threads = 4;
+        final int keysPerThread = 50_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        try {
+            final Future<?>[] futures = new Future<?>[threads * 2];
+            for (int t = 0; t < threads; t++) {
+                final long first = (long) t * keysPerThread;
+                futures[t * 2] = executor.submit(() -> {
+                    for (long key = first; key < first + keysPerThread; key++) {
+                        map.put(key, key);
+                    }
+                    for (long key = first; key < first + keysPerThread; key += 2) {
+                        map.remove(key);
+                    }
+                });
+                futures[t * 2 + 1] = executor.submit(() -> {
+                    for (long key = first; key < first + keysPerThread; key++) {
+                        final Long value = map.get(key);
+                        if ((value != null) && (value != key)) {
+                            throw new AssertionError("Wrong value for key " + key);
+                        }
+                    }
+                });
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * keysPerThread / 2, map.size());
+        for (long key = 0; key < (long) threads * keysPerThread; key++) {
+            assertEquals(key % 2 == 0 ? null : key, map.get(key));
+        }
+    }
+}
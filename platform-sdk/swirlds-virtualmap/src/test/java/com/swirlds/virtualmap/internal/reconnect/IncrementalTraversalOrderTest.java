@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
+import com.swirlds.virtualmap.internal.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+class IncrementalTraversalOrderTest {
+
+    private static final long LEAF_COUNT = 20_000;
+    private static final long FIRST_LEAF_PATH = LEAF_COUNT - 1;
+    private static final long LAST_LEAF_PATH = LEAF_COUNT * 2 - 2;
+
+    private static final ReconnectNodeCount NO_OP_NODE_COUNT = new ReconnectNodeCount() {
+        @Override
+        public void incrementLeafCount() {}
+
+        @Override
+        public void incrementRedundantLeafCount() {}
+
+        @Override
+        public void incrementInternalCount() {}
+
+        @Override
+        public void incrementRedundantInternalCount() {}
+    };
+
+    /**
+     * Simulates a teacher, which responds to learner requests with the given lag. Returns all
+     * leaf paths requested by the learner, in the order they were requested.
+     */
+    private static List<Long> traverse(
+            final IncrementalTraversalOrder order, final Set<Long> dirtyLeaves, final int responseLag)
+            throws InterruptedException {
+        // An internal node is dirty, if at least one leaf in its sub-tree is dirty
+        final Set<Long> dirtyNodes = new HashSet<>();
+        for (final long leaf : dirtyLeaves) {
+            long path = leaf;
+            while (path != Path.INVALID_PATH && dirtyNodes.add(path)) {
+                path = path == Path.ROOT_PATH ? Path.INVALID_PATH : Path.getParentPath(path);
+            }
+        }
+        final List<Long> sentLeaves = new ArrayList<>();
+        final Queue<Long> pendingResponses = new ArrayDeque<>();
+        order.start(FIRST_LEAF_PATH, LAST_LEAF_PATH, NO_OP_NODE_COUNT);
+        order.nodeReceived(Path.ROOT_PATH, !dirtyNodes.contains(Path.ROOT_PATH));
+        while (true) {
+            final long path = order.getNextPathToSend();
+            if (path == Path.INVALID_PATH) {
+                break;
+            }
+            if (path < Path.INVALID_PATH) {
+                assertFalse(pendingResponses.isEmpty(), "Waiting for responses, but none are pending");
+                final long response = pendingResponses.remove();
+                order.nodeReceived(response, !dirtyNodes.contains(response));
+                continue;
+            }
+            if (path >= FIRST_LEAF_PATH) {
+                sentLeaves.add(path);
+            }
+            pendingResponses.add(path);
+            while (pendingResponses.size() > responseLag) {
+                final long response = pendingResponses.remove();
+                order.nodeReceived(response, !dirtyNodes.contains(response));
+            }
+        }
+        return sentLeaves;
+    }
+
+    private static Set<Long> randomLeaves(final int count, final long seed) {
+        final Random random = new Random(seed);
+        final Set<Long> leaves = new TreeSet<>();
+        while (leaves.size() < count) {
+            leaves.add(FIRST_LEAF_PATH + (long) random.nextInt((int) LEAF_COUNT));
+        }
+        return leaves;
+    }
+
+    private static void assertAscendingAndComplete(final List<Long> sentLeaves, final Set<Long> dirtyLeaves) {
+        for (int i = 1; i < sentLeaves.size(); i++) {
+            assertTrue(sentLeaves.get(i - 1) < sentLeaves.get(i), "Leaves must be sent in ascending order");
+        }
+        assertTrue(sentLeaves.containsAll(dirtyLeaves), "All dirty leaves must be sent");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Fallback percent must be in 0-100 range")
+    void invalidFallbackPercent() {
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalTraversalOrder(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalTraversalOrder(101));
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Few dirty leaves are sent without fallback")
+    void fewDirtyLeaves() throws InterruptedException {
+        final Set<Long> dirtyLeaves = randomLeaves(10, 1);
+        for (final int lag : new int[] {0, 1, 16}) {
+            final IncrementalTraversalOrder order = new IncrementalTraversalOrder(25);
+            final List<Long> sentLeaves = traverse(order, dirtyLeaves, lag);
+            assertFalse(order.isFallbackStarted(), "Top to bottom traversal is expected");
+            assertAscendingAndComplete(sentLeaves, dirtyLeaves);
+            if (lag == 0) {
+                // Clean siblings of dirty leaves may be sent, but no other leaves
+                assertTrue(sentLeaves.size() <= dirtyLeaves.size() * 2, "Too many leaves sent");
+            }
+        }
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Many dirty leaves trigger fallback to two-phase traversal")
+    void manyDirtyLeaves() throws InterruptedException {
+        final Set<Long> dirtyLeaves = randomLeaves(5_000, 2);
+        for (final int lag : new int[] {0, 1, 16}) {
+            final IncrementalTraversalOrder order = new IncrementalTraversalOrder(25);
+            final List<Long> sentLeaves = traverse(order, dirtyLeaves, lag);
+            assertTrue(order.isFallbackStarted(), "Fallback to two-phase traversal is expected");
+            assertAscendingAndComplete(sentLeaves, dirtyLeaves);
+        }
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Fallback percent 100 disables fallback for moderate changes")
+    void noFallbackWithMaxPercent() throws InterruptedException {
+        final Set<Long> dirtyLeaves = randomLeaves(100, 3);
+        final IncrementalTraversalOrder order = new IncrementalTraversalOrder(100);
+        final List<Long> sentLeaves = traverse(order, dirtyLeaves, 4);
+        assertFalse(order.isFallbackStarted(), "Top to bottom traversal is expected");
+        assertAscendingAndComplete(sentLeaves, dirtyLeaves);
+    }
+}
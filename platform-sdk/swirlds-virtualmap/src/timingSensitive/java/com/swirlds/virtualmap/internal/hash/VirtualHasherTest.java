@@ -26,6 +26,9 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.test.fixtures.junit.tags.TestComponentTags;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
 import com.swirlds.virtualmap.datasource.VirtualHashRecord;
 import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.Path;
@@ -317,6 +320,92 @@ class VirtualHasherTest extends VirtualHasherTestBase {
         }
     }
 
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Adaptive chunk height selection")
+    void adaptiveChunkHeight() {
+        // Adaptive chunk height is disabled by default
+        assertEquals(
+                VIRTUAL_MAP_CONFIG.virtualHasherChunkHeight(),
+                VirtualHasher.selectChunkHeight(VIRTUAL_MAP_CONFIG, 1_000_000, 1_000_000, 8));
+
+        final VirtualMapConfig config = adaptiveConfig();
+        // min height 2, max height 6, 4 tasks per thread, 32 tasks in total for 8 threads
+        assertEquals(
+                6, VirtualHasher.selectChunkHeight(config, VirtualHasher.UNKNOWN_DIRTY_LEAVES_COUNT, 1_000_000, 8));
+        // A single task for all 128 leaves, clamped to max height
+        assertEquals(6, VirtualHasher.selectChunkHeight(config, 0, 128, 8));
+        assertEquals(6, VirtualHasher.selectChunkHeight(config, 1, 128, 8));
+        // 8 tasks, 16 leaves per task
+        assertEquals(4, VirtualHasher.selectChunkHeight(config, 8, 128, 8));
+        // 32 tasks, 4 leaves per task
+        assertEquals(2, VirtualHasher.selectChunkHeight(config, 32, 128, 8));
+        assertEquals(2, VirtualHasher.selectChunkHeight(config, 128, 128, 8));
+        // 32 tasks, 2 leaves per task, clamped to min height
+        assertEquals(2, VirtualHasher.selectChunkHeight(config, 64, 64, 8));
+        // 32 tasks, 31250 leaves per task, clamped to max height
+        assertEquals(6, VirtualHasher.selectChunkHeight(config, 1_000_000, 1_000_000, 8));
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Adaptive chunk height is monotonic")
+    void adaptiveChunkHeightIsMonotonic() {
+        final VirtualMapConfig config = adaptiveConfig();
+        final int parallelism = 8;
+        final int targetTasks = parallelism * config.virtualHasherTasksPerThread();
+        // Across the number of dirty leaves equal to the number of target tasks
+        assertEquals(
+                VirtualHasher.selectChunkHeight(config, targetTasks - 1, 4096, parallelism),
+                VirtualHasher.selectChunkHeight(config, targetTasks, 4096, parallelism));
+        for (final long leavesCount : new long[] {64, 128, 1024, 4096, 1 << 20}) {
+            int prevHeight = Integer.MAX_VALUE;
+            for (long dirtyLeavesCount = 0; dirtyLeavesCount <= 4L * targetTasks; dirtyLeavesCount++) {
+                final int height = VirtualHasher.selectChunkHeight(config, dirtyLeavesCount, leavesCount, parallelism);
+                assertTrue(height >= config.virtualHasherMinChunkHeight(), "Height must not be below min");
+                assertTrue(height <= config.virtualHasherMaxChunkHeight(), "Height must not be above max");
+                assertTrue(height <= prevHeight, "Height must not increase with more dirty leaves");
+                prevHeight = height;
+            }
+        }
+        for (final long dirtyLeavesCount : new long[] {0, 1, targetTasks - 1, targetTasks, 4L * targetTasks}) {
+            int prevHeight = Integer.MIN_VALUE;
+            for (long leavesCount = Math.max(1, dirtyLeavesCount); leavesCount <= 8192; leavesCount++) {
+                final int height = VirtualHasher.selectChunkHeight(config, dirtyLeavesCount, leavesCount, parallelism);
+                assertTrue(height >= prevHeight, "Height must not decrease with more leaves");
+                prevHeight = height;
+            }
+        }
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Hashing with adaptive chunk height")
+    void hashingWithAdaptiveChunkHeight() {
+        final VirtualMapConfig config = adaptiveConfig();
+        final TestDataSource ds = new TestDataSource(1023L, 2046L);
+        final VirtualHasher<TestKey, TestValue> hasher = new VirtualHasher<>();
+        final Hash expected = hashTree(ds);
+        final List<Long> dirtyLeafPaths =
+                LongStream.rangeClosed(1023L, 2046L).filter(p -> p % 3 != 0).boxed().toList();
+        // Different dirty leaves estimations result in different chunk heights, but must not
+        // affect the root hash
+        for (final long dirtyLeavesCount : new long[] {VirtualHasher.UNKNOWN_DIRTY_LEAVES_COUNT, 0, 128, 512, 4096}) {
+            final List<VirtualLeafRecord<TestKey, TestValue>> leaves = invalidateNodes(ds, dirtyLeafPaths.stream());
+            final Hash rootHash = hasher.hash(
+                    ds::loadHash, leaves.iterator(), 1023L, 2046L, null, dirtyLeavesCount, null, config);
+            assertEquals(expected, rootHash, "Hash value does not match expected");
+        }
+    }
+
+    private static VirtualMapConfig adaptiveConfig() {
+        return ConfigurationBuilder.create()
+                .withConfigDataType(VirtualMapConfig.class)
+                .withSources(new SimpleConfigSource("virtualMap.virtualHasherAdaptiveChunkHeight", true))
+                .build()
+                .getConfigData(VirtualMapConfig.class);
+    }
+
     /**
      * Test that the various callbacks on the listener are called the expected number of times.
      * For this test, I'm using our "canonical" example. I wish I could post the image directly